@@ -3,13 +3,31 @@ package com.rewear.admin.controller;
 import com.rewear.admin.dto.UserWithStatsDto;
 import com.rewear.admin.service.AdminServiceImpl;
 import com.rewear.admin.entity.Admin;
+import com.rewear.common.service.ContentAddressedStore;
+import com.rewear.common.service.OrphanUploadSweeper;
 import com.rewear.common.utils.ApiResponse;
+import com.rewear.donation.service.DonationEventWriter;
+import com.rewear.donation.service.DonationTimelineService;
+import com.rewear.donation.state.DonationStateMachine;
+import com.rewear.notification.service.NotificationWriter;
+import com.rewear.user.details.PrincipalCache;
+import com.rewear.user.login.LoginAttemptLimiter;
+import com.rewear.user.password.PasswordHashingService;
+import com.rewear.user.token.TokenRevocationList;
 import com.rewear.user.entity.User;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -17,12 +35,26 @@ import java.util.Map;
 /**
  * 관리자 로그인 전용 컨트롤러
  */
+@Slf4j
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/api/admin")
 public class AdminController {
 
     private final AdminServiceImpl adminService;
+    private final NotificationWriter notificationWriter;
+    private final ContentAddressedStore contentAddressedStore;
+    private final OrphanUploadSweeper orphanUploadSweeper;
+    private final DonationStateMachine donationStateMachine;
+    private final DonationEventWriter donationEventWriter;
+    private final DonationTimelineService donationTimelineService;
+    private final PrincipalCache principalCache;
+    private final TokenRevocationList tokenRevocationList;
+    private final PasswordHashingService passwordHashingService;
+    private final LoginAttemptLimiter loginAttemptLimiter;
+
+    private static final int DEFAULT_PAGE_SIZE = 50;
+    private static final int MAX_PAGE_SIZE = 200;
 
     /**
      * ✅ 관리자 로그인
@@ -36,21 +68,37 @@ public class AdminController {
         return ResponseEntity.ok(admin);
     }
 
+    /**
+     * 사용자 목록 API (페이지네이션 + 검색)
+     * 전체 건수/페이지 수는 X-Total-Count, X-Total-Pages 헤더로 반환
+     * page 기본값 0, size 기본값 DEFAULT_PAGE_SIZE (최대 MAX_PAGE_SIZE)
+     */
     @GetMapping("/users")
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<ApiResponse<List<User>>> getAllUsers() {
-        List<User> users = adminService.getAllUsers();
-        return ResponseEntity.ok(ApiResponse.ok(users));
+    public ResponseEntity<ApiResponse<List<User>>> getAllUsers(
+            @RequestParam(value = "keyword", required = false) String keyword,
+            @RequestParam(value = "page", required = false) Integer page,
+            @RequestParam(value = "size", required = false) Integer size) {
+        Page<User> users = adminService.getUsers(keyword, toPageRequest(page, size));
+        return ResponseEntity.ok()
+                .headers(pageHeaders(users))
+                .body(ApiResponse.ok(users.getContent()));
     }
 
     /**
-     * 사용자 목록과 통계 정보를 함께 반환하는 API
+     * 사용자 목록과 통계 정보를 함께 반환하는 API (페이지네이션 + 검색)
+     * page 기본값 0, size 기본값 DEFAULT_PAGE_SIZE (최대 MAX_PAGE_SIZE)
      */
     @GetMapping("/users/with-stats")
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<ApiResponse<List<UserWithStatsDto>>> getAllUsersWithStats() {
-        List<UserWithStatsDto> users = adminService.getAllUsersWithStats();
-        return ResponseEntity.ok(ApiResponse.ok(users));
+    public ResponseEntity<ApiResponse<List<UserWithStatsDto>>> getAllUsersWithStats(
+            @RequestParam(value = "keyword", required = false) String keyword,
+            @RequestParam(value = "page", required = false) Integer page,
+            @RequestParam(value = "size", required = false) Integer size) {
+        Page<UserWithStatsDto> users = adminService.getUsersWithStats(keyword, toPageRequest(page, size));
+        return ResponseEntity.ok()
+                .headers(pageHeaders(users))
+                .body(ApiResponse.ok(users.getContent()));
     }
 
     /**
@@ -98,4 +146,131 @@ public class AdminController {
             return ResponseEntity.status(500).body(response);
         }
     }
+
+    /**
+     * 알림 저장 큐 지표 API (큐 길이, 지연 시간, 저장·재시도·dead-letter 건수)
+     */
+    @GetMapping("/metrics/notifications")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getNotificationMetrics() {
+        return ResponseEntity.ok(ApiResponse.ok(notificationWriter.getMetrics()));
+    }
+
+    /**
+     * 업로드 저장소 지표 API (저장/중복 제거 건수, 미참조 파일 정리 현황)
+     */
+    @GetMapping("/metrics/uploads")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getUploadMetrics() {
+        Map<String, Object> metrics = new HashMap<>();
+        metrics.put("store", contentAddressedStore.getMetrics());
+        metrics.put("orphanSweeper", orphanUploadSweeper.getMetrics());
+        return ResponseEntity.ok(ApiResponse.ok(metrics));
+    }
+
+    /**
+     * 기부 상태 전이 지표 API (적용, 동시 변경 충돌, 허용되지 않는 전이 건수)
+     */
+    @GetMapping("/metrics/donation-transitions")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getDonationTransitionMetrics() {
+        return ResponseEntity.ok(ApiResponse.ok(donationStateMachine.getMetrics()));
+    }
+
+    /**
+     * 기부 상태 변경 이력 기록 지표 API (버퍼 길이, 지연 시간, 기록·재시도·dead-letter 건수)
+     */
+    @GetMapping("/metrics/donation-events")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getDonationEventMetrics() {
+        return ResponseEntity.ok(ApiResponse.ok(donationEventWriter.getMetrics()));
+    }
+
+    /**
+     * 기부 단계별 소요 시간 통계 API (최근 days일, 예: PENDING->IN_PROGRESS 평균/중앙값/90%)
+     */
+    @GetMapping("/metrics/donation-stages")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getDonationStageLatencies(
+            @RequestParam(defaultValue = "30") int days) {
+        int window = Math.max(1, Math.min(days, 365));
+        return ResponseEntity.ok(ApiResponse.ok(donationTimelineService.stageLatencies(window)));
+    }
+
+    /**
+     * 인증 지표 API (로그인 사용자 캐시 적중률, 폐기된 토큰 목록)
+     */
+    @GetMapping("/metrics/auth")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getAuthMetrics() {
+        Map<String, Object> metrics = new HashMap<>();
+        metrics.put("principalCache", principalCache.getMetrics());
+        metrics.put("tokenRevocation", tokenRevocationList.getMetrics());
+        metrics.put("passwordHashing", passwordHashingService.getMetrics());
+        metrics.put("loginThrottle", loginAttemptLimiter.getMetrics());
+        return ResponseEntity.ok(ApiResponse.ok(metrics));
+    }
+
+    /**
+     * BCrypt cost별 해싱 시간 측정 API (app.auth.password.bcrypt-cost 결정용, 로그인 해싱과 분리된 스레드에서 한 번에 하나만 실행)
+     */
+    @PostMapping("/password-hashing/benchmark")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> benchmarkPasswordHashing(
+            @RequestParam(value = "fromCost", defaultValue = "10") int fromCost,
+            @RequestParam(value = "toCost", defaultValue = "13") int toCost,
+            @RequestParam(value = "samples", defaultValue = "3") int samples) {
+        if (toCost - fromCost > 4 || toCost > 14 || samples < 1 || samples > 10) {
+            return ResponseEntity.badRequest().body(ApiResponse.error("cost는 14 이하 5단계, 반복 횟수는 1~10회까지 측정할 수 있습니다."));
+        }
+        Map<String, Object> result = new HashMap<>();
+        result.put("currentCost", passwordHashingService.getCost());
+        try {
+            result.put("msByCost", passwordHashingService.benchmark(fromCost, toCost, samples));
+        } catch (IllegalStateException e) {
+            log.warn("비밀번호 해싱 시간 측정 실패: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(ApiResponse.error(e.getMessage()));
+        }
+        return ResponseEntity.ok(ApiResponse.ok(result));
+    }
+
+    /**
+     * 참조되지 않는 업로드 blob 정리 API (dryRun=true이면 대상만 집계)
+     */
+    @PostMapping("/uploads/gc")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> collectUploadGarbage(
+            @RequestParam(value = "dryRun", defaultValue = "true") boolean dryRun) {
+        try {
+            // 미참조 파일 정리와 같은 유예 시간 적용 (작성 중인 두 단계 기부 신청의 업로드 보호)
+            return ResponseEntity.ok(ApiResponse.ok(
+                    contentAddressedStore.collectGarbage(dryRun, orphanUploadSweeper.getGracePeriod())));
+        } catch (IOException e) {
+            log.error("업로드 blob 정리 실패", e);
+            return ResponseEntity.internalServerError().body(ApiResponse.error("업로드 정리 중 오류가 발생했습니다: " + e.getMessage()));
+        }
+    }
+
+    /**
+     * 미참조 업로드 파일 정리 1회 실행 API (dryRun=true이면 대상만 집계, 다음 위치부터 이어서 처리)
+     */
+    @PostMapping("/uploads/orphans/sweep")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> sweepOrphanUploads(
+            @RequestParam(value = "dryRun", defaultValue = "true") boolean dryRun) {
+        return ResponseEntity.ok(ApiResponse.ok(orphanUploadSweeper.sweep(dryRun)));
+    }
+
+    private Pageable toPageRequest(Integer page, Integer size) {
+        Sort sort = Sort.by(Sort.Direction.ASC, "id");
+        int pageSize = Math.min(Math.max(size != null ? size : DEFAULT_PAGE_SIZE, 1), MAX_PAGE_SIZE);
+        return PageRequest.of(Math.max(page != null ? page : 0, 0), pageSize, sort);
+    }
+
+    private HttpHeaders pageHeaders(Page<?> page) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.add("X-Total-Count", String.valueOf(page.getTotalElements()));
+        headers.add("X-Total-Pages", String.valueOf(page.getTotalPages()));
+        return headers;
+    }
 }
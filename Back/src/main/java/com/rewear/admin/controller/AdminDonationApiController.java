@@ -1,25 +1,25 @@
 package com.rewear.admin.controller;
 
-import com.rewear.common.enums.AdminDecision;
 import com.rewear.common.enums.DonationStatus;
 import com.rewear.common.enums.MatchType;
 import com.rewear.common.enums.OrganStatus;
+import com.rewear.common.utils.CursorPage;
+import com.rewear.common.utils.UploadUrls;
 import com.rewear.donation.entity.Donation;
+import com.rewear.donation.repository.DonationSpecifications;
 import com.rewear.donation.service.DonationService;
 import com.rewear.donation.util.DonationStatusConverter;
 import com.rewear.organ.entity.Organ;
 import com.rewear.organ.service.OrganService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -35,34 +35,25 @@ public class AdminDonationApiController {
 
     private final DonationService donationService;
     private final OrganService organService;
-    private final com.rewear.donation.repository.DonationRepository donationRepository;
     private final com.rewear.delivery.repository.DeliveryRepository deliveryRepository;
-    
-    @Value("${app.upload.dir:uploads}")
-    private String uploadDir;
+    private final com.rewear.common.service.UploadFileIndex uploadFileIndex;
+    private final com.rewear.common.service.BlobStore blobStore;
+    private final com.rewear.donation.service.DonationTimelineService donationTimelineService;
+
+    private static final int DEFAULT_PAGE_SIZE = 50;
+    private static final int MAX_PAGE_SIZE = 200;
 
     /**
      * 승인 대기 기부 목록 조회 (PENDING 상태이면서 REJECTED가 아닌 것만)
      */
     @GetMapping("/pending")
-    public ResponseEntity<?> getPendingDonations() {
+    public ResponseEntity<?> getPendingDonations(
+            @RequestParam(value = "cursor", required = false) Long cursor,
+            @RequestParam(value = "size", required = false) Integer size,
+            @RequestParam(value = "sort", defaultValue = "asc") String sort) {
         try {
-            List<Donation> allPending = donationService.getDonationsByStatus(DonationStatus.PENDING);
-            
-            // AdminDecision이 PENDING인 것만 필터링 (REJECTED 제외)
-            List<Donation> pendingDonations = allPending.stream()
-                    .filter(d -> d.getAdminDecision() == AdminDecision.PENDING)
-                    .collect(Collectors.toList());
-            
-            List<Map<String, Object>> donationList = pendingDonations.stream()
-                    .map(this::convertToAdminDonationDto)
-                    .collect(Collectors.toList());
-            
-            Map<String, Object> response = new HashMap<>();
-            response.put("donations", donationList);
-            response.put("count", donationList.size());
-            
-            return ResponseEntity.ok(response);
+            CursorPage<Donation> page = fetchQueue(DonationSpecifications.adminPendingQueue(), cursor, size, sort);
+            return ResponseEntity.ok(toQueueResponse(page));
         } catch (Exception e) {
             log.error("승인 대기 기부 목록 조회 오류", e);
             Map<String, Object> errorResponse = new HashMap<>();
@@ -76,23 +67,13 @@ public class AdminDonationApiController {
      * 거절된 기부 목록 조회 (adminDecision이 REJECTED인 것들)
      */
     @GetMapping("/rejected")
-    public ResponseEntity<?> getRejectedDonations() {
+    public ResponseEntity<?> getRejectedDonations(
+            @RequestParam(value = "cursor", required = false) Long cursor,
+            @RequestParam(value = "size", required = false) Integer size,
+            @RequestParam(value = "sort", defaultValue = "asc") String sort) {
         try {
-            // 모든 기부를 가져와서 adminDecision이 REJECTED인 것만 필터링
-            List<Donation> allDonations = donationService.getAllDonations();
-            List<Donation> rejectedDonations = allDonations.stream()
-                    .filter(d -> d.getAdminDecision() == AdminDecision.REJECTED)
-                    .collect(Collectors.toList());
-            
-            List<Map<String, Object>> donationList = rejectedDonations.stream()
-                    .map(this::convertToAdminDonationDto)
-                    .collect(Collectors.toList());
-            
-            Map<String, Object> response = new HashMap<>();
-            response.put("donations", donationList);
-            response.put("count", donationList.size());
-            
-            return ResponseEntity.ok(response);
+            CursorPage<Donation> page = fetchQueue(DonationSpecifications.adminRejectedQueue(), cursor, size, sort);
+            return ResponseEntity.ok(toQueueResponse(page));
         } catch (Exception e) {
             log.error("거절된 기부 목록 조회 오류", e);
             Map<String, Object> errorResponse = new HashMap<>();
@@ -106,27 +87,14 @@ public class AdminDonationApiController {
      * 승인 완료된 기부 목록 조회 (매칭대기 이상)
      */
     @GetMapping("/approved")
-    public ResponseEntity<?> getApprovedDonations() {
+    public ResponseEntity<?> getApprovedDonations(
+            @RequestParam(value = "cursor", required = false) Long cursor,
+            @RequestParam(value = "size", required = false) Integer size,
+            @RequestParam(value = "sort", defaultValue = "asc") String sort) {
         try {
-            List<Donation> allInProgress = donationService.getDonationsByStatus(DonationStatus.IN_PROGRESS);
-            List<Donation> allCompleted = donationService.getDonationsByStatus(DonationStatus.COMPLETED);
-            List<Donation> allShipped = donationService.getDonationsByStatus(DonationStatus.SHIPPED);
-            
-            // 승인 완료된 것들 (매칭대기 이상) - PENDING이 아니고 REJECTED가 아닌 것들
-            List<Donation> approvedDonations = new ArrayList<>();
-            approvedDonations.addAll(allInProgress);
-            approvedDonations.addAll(allCompleted);
-            approvedDonations.addAll(allShipped);
-            
-            List<Map<String, Object>> donationList = approvedDonations.stream()
-                    .map(this::convertToAdminDonationDto)
-                    .collect(Collectors.toList());
-            
-            Map<String, Object> response = new HashMap<>();
-            response.put("donations", donationList);
-            response.put("count", donationList.size());
-            
-            return ResponseEntity.ok(response);
+            // 승인 완료된 것들 (매칭대기 이상) - IN_PROGRESS, SHIPPED, COMPLETED
+            CursorPage<Donation> page = fetchQueue(DonationSpecifications.adminApprovedQueue(), cursor, size, sort);
+            return ResponseEntity.ok(toQueueResponse(page));
         } catch (Exception e) {
             log.error("승인 완료된 기부 목록 조회 오류", e);
             Map<String, Object> errorResponse = new HashMap<>();
@@ -141,24 +109,14 @@ public class AdminDonationApiController {
      * 간접 매칭으로 신청되고, 승인이 완료되었으며, 아직 기관이 할당되지 않은 기부만 표시
      */
     @GetMapping("/auto-match")
-    public ResponseEntity<?> getAutoMatchDonations() {
+    public ResponseEntity<?> getAutoMatchDonations(
+            @RequestParam(value = "cursor", required = false) Long cursor,
+            @RequestParam(value = "size", required = false) Integer size,
+            @RequestParam(value = "sort", defaultValue = "asc") String sort) {
         try {
             // 기관이 할당되지 않은 기부만 표시 (기관 할당 대기)
-            List<Donation> unassignedDonations = donationService.getDonationsByStatus(DonationStatus.IN_PROGRESS).stream()
-                    .filter(d -> d.getMatchType() == MatchType.INDIRECT 
-                            && d.getAdminDecision() == AdminDecision.APPROVED 
-                            && d.getOrgan() == null)
-                    .collect(Collectors.toList());
-            
-            List<Map<String, Object>> donationList = unassignedDonations.stream()
-                    .map(this::convertToAdminDonationDto)
-                    .collect(Collectors.toList());
-            
-            Map<String, Object> response = new HashMap<>();
-            response.put("donations", donationList);
-            response.put("count", donationList.size());
-            
-            return ResponseEntity.ok(response);
+            CursorPage<Donation> page = fetchQueue(DonationSpecifications.adminAutoMatchQueue(), cursor, size, sort);
+            return ResponseEntity.ok(toQueueResponse(page));
         } catch (Exception e) {
             log.error("자동 매칭 대기 기부 목록 조회 오류", e);
             Map<String, Object> errorResponse = new HashMap<>();
@@ -173,42 +131,16 @@ public class AdminDonationApiController {
      * 기관이 할당되고 기관이 승인한 기부 중 택배 배송인 경우 (COMPLETED 상태, 배송 정보 없음)
      */
     @GetMapping("/delivery/input")
-    public ResponseEntity<?> getDeliveryInputDonations() {
+    public ResponseEntity<?> getDeliveryInputDonations(
+            @RequestParam(value = "cursor", required = false) Long cursor,
+            @RequestParam(value = "size", required = false) Integer size,
+            @RequestParam(value = "sort", defaultValue = "asc") String sort) {
         try {
-            // 기관이 할당되고 기관이 승인한 기부 (COMPLETED 상태, 택배 정보 입력 필요)
-            List<Donation> organApprovedDonations = donationService.getDonationsByStatus(DonationStatus.COMPLETED).stream()
-                    .filter(d -> {
-                        // 기본 조건 확인
-                        if (d.getMatchType() != MatchType.INDIRECT) {
-                            return false;
-                        }
-                        if (d.getOrgan() == null) {
-                            return false;
-                        }
-                        if (d.getDeliveryMethod() != com.rewear.common.enums.DeliveryMethod.PARCEL_DELIVERY) {
-                            return false;
-                        }
-                        // 배송 정보가 없거나 택배 정보가 없는 경우
-                        if (d.getDelivery() == null) {
-                            return true; // 배송 정보가 없으면 택배 정보 입력 필요
-                        }
-                        // 배송 정보는 있지만 택배사나 운송장 번호가 없는 경우
-                        return d.getDelivery().getCarrier() == null || 
-                               d.getDelivery().getCarrier().isEmpty() ||
-                               d.getDelivery().getTrackingNumber() == null || 
-                               d.getDelivery().getTrackingNumber().isEmpty();
-                    })
-                    .collect(Collectors.toList());
-            
-            List<Map<String, Object>> donationList = organApprovedDonations.stream()
-                    .map(this::convertToAdminDonationDto)
-                    .collect(Collectors.toList());
-            
-            Map<String, Object> response = new HashMap<>();
-            response.put("donations", donationList);
-            response.put("count", donationList.size());
-            
-            log.info("택배 정보 입력 대기 기부 목록 조회 성공 - 개수: {}", donationList.size());
+            // 배송 정보가 없거나 택배사/운송장 번호가 없는 경우만 DB에서 필터링
+            CursorPage<Donation> page = fetchQueue(DonationSpecifications.adminDeliveryInputQueue(), cursor, size, sort);
+            Map<String, Object> response = toQueueResponse(page);
+
+            log.info("택배 정보 입력 대기 기부 목록 조회 성공 - 개수: {}", page.getItems().size());
             return ResponseEntity.ok(response);
         } catch (Exception e) {
             log.error("택배 정보 입력 대기 기부 목록 조회 오류", e);
@@ -318,34 +250,15 @@ public class AdminDonationApiController {
      * 직접 매칭으로 신청되고, 승인 대기 중이거나 기관 확인을 기다리는 기부만 표시
      */
     @GetMapping("/direct-match")
-    public ResponseEntity<?> getDirectMatchDonations() {
+    public ResponseEntity<?> getDirectMatchDonations(
+            @RequestParam(value = "cursor", required = false) Long cursor,
+            @RequestParam(value = "size", required = false) Integer size,
+            @RequestParam(value = "sort", defaultValue = "asc") String sort) {
         try {
             // PENDING 상태의 직접 매칭 기부 (관리자 승인 대기)
-            List<Donation> pendingAdminDecision = donationService.getDonationsByStatus(DonationStatus.PENDING).stream()
-                    .filter(d -> d.getMatchType() == MatchType.DIRECT
-                            && d.getAdminDecision() == AdminDecision.PENDING)
-                    .collect(Collectors.toList());
-
-            // IN_PROGRESS 상태의 직접 매칭 기부 (기관이 할당되었고, 기관이 승인했지만 아직 관리자가 택배 정보를 입력하지 않은 상태)
-            List<Donation> inProgressOrganApproved = donationService.getDonationsByStatus(DonationStatus.IN_PROGRESS).stream()
-                    .filter(d -> d.getMatchType() == MatchType.DIRECT
-                            && d.getOrgan() != null
-                            && d.getAdminDecision() == AdminDecision.APPROVED) // 관리자 승인 완료
-                    .collect(Collectors.toList());
-
-            List<Donation> allDirectMatch = new ArrayList<>();
-            allDirectMatch.addAll(pendingAdminDecision);
-            allDirectMatch.addAll(inProgressOrganApproved);
-
-            List<Map<String, Object>> donationList = allDirectMatch.stream()
-                    .map(this::convertToAdminDonationDto)
-                    .collect(Collectors.toList());
-
-            Map<String, Object> response = new HashMap<>();
-            response.put("donations", donationList);
-            response.put("count", donationList.size());
-
-            return ResponseEntity.ok(response);
+            // + IN_PROGRESS 상태의 직접 매칭 기부 (기관이 할당되었고 관리자 승인 완료)
+            CursorPage<Donation> page = fetchQueue(DonationSpecifications.adminDirectMatchQueue(), cursor, size, sort);
+            return ResponseEntity.ok(toQueueResponse(page));
         } catch (Exception e) {
             log.error("직접 매칭 대기 기부 목록 조회 오류", e);
             Map<String, Object> errorResponse = new HashMap<>();
@@ -384,6 +297,37 @@ public class AdminDonationApiController {
         }
     }
 
+    /**
+     * 기부 상태 변경 이력 조회 (누가, 언제, 어떤 상태에서 어떤 상태로, 사유)
+     */
+    @GetMapping("/{id}/timeline")
+    public ResponseEntity<Map<String, Object>> getDonationTimeline(@PathVariable("id") Long id) {
+        Map<String, Object> response = new HashMap<>();
+        try {
+            List<Map<String, Object>> events = new ArrayList<>();
+            for (com.rewear.donation.service.DonationTimelineService.TimelineEntry entry : donationTimelineService.timeline(id)) {
+                Map<String, Object> event = new HashMap<>();
+                event.put("type", entry.type());
+                event.put("fromStatus", entry.fromStatus());
+                event.put("toStatus", entry.toStatus());
+                event.put("actor", entry.actor());
+                event.put("reason", entry.reason());
+                event.put("occurredAt", entry.occurredAt());
+                event.put("pending", entry.pending());
+                events.add(event);
+            }
+            response.put("success", true);
+            response.put("donationId", id);
+            response.put("events", events);
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            log.error("기부 상태 변경 이력 조회 오류", e);
+            response.put("success", false);
+            response.put("message", "기부 상태 변경 이력 조회 중 오류가 발생했습니다: " + e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
+        }
+    }
+
     /**
      * 승인된 기관 목록 조회
      */
@@ -481,28 +425,16 @@ public class AdminDonationApiController {
         Map<String, Object> response = new HashMap<>();
         
         try {
-            Donation donation = donationService.getDonationById(id);
-            if (donation == null) {
-                response.put("success", false);
-                response.put("message", "기부를 찾을 수 없습니다.");
-                return ResponseEntity.badRequest().body(response);
-            }
-            
-            // 상태를 PENDING으로 변경하고 adminDecision도 PENDING으로 변경
-            donation.setStatus(DonationStatus.PENDING);
-            donation.setAdminDecision(AdminDecision.PENDING);
-            donation.setCancelReason(null); // 거절 사유 제거
-            
-            // 간접 매칭인 경우 기관 할당 해제
-            if (donation.getMatchType() == com.rewear.common.enums.MatchType.INDIRECT) {
-                donation.setOrgan(null);
-            }
-            
-            donationRepository.save(donation);
+            // 상태와 adminDecision을 PENDING으로 변경 (거절 사유 제거, 간접 매칭은 기관 할당 해제)
+            donationService.resetDonationToPending(id);
             
             response.put("success", true);
             response.put("message", "기부 상태가 승인대기로 변경되었습니다.");
             return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            response.put("success", false);
+            response.put("message", e.getMessage());
+            return ResponseEntity.badRequest().body(response);
         } catch (Exception e) {
             log.error("기부 상태 변경 오류", e);
             response.put("success", false);
@@ -567,6 +499,57 @@ public class AdminDonationApiController {
         }
     }
 
+    /**
+     * 관리자 기부 큐 조회 (DB 필터링 + 키셋 페이지네이션)
+     * sort: asc(오래된 순, 기본값) / desc(최신 순)
+     * size가 없으면 DEFAULT_PAGE_SIZE, 최대 MAX_PAGE_SIZE (다음 페이지는 응답의 nextCursor로 조회)
+     */
+    private CursorPage<Donation> fetchQueue(Specification<Donation> queue, Long cursor, Integer size, String sort) {
+        Sort.Direction direction = "desc".equalsIgnoreCase(sort) ? Sort.Direction.DESC : Sort.Direction.ASC;
+        int pageSize = CursorPage.clampSize(size, DEFAULT_PAGE_SIZE, MAX_PAGE_SIZE);
+        return donationService.getDonationPage(queue, cursor, pageSize, direction);
+    }
+
+    /**
+     * 큐 조회 결과를 응답 형식으로 변환
+     * count는 커서와 무관한 전체 건수
+     */
+    private Map<String, Object> toQueueResponse(CursorPage<Donation> page) {
+        List<Map<String, Object>> donationList = page.getItems().stream()
+                .map(this::convertToAdminDonationDto)
+                .collect(Collectors.toList());
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("donations", donationList);
+        response.put("count", page.getTotalCount());
+        response.put("nextCursor", page.getNextCursor());
+        response.put("hasNext", page.isHasNext());
+        return response;
+    }
+
+    /**
+     * 업로드 파일 인덱스에 존재하는 이미지만 목록에 추가
+     */
+    private void addImageIfExists(List<Map<String, String>> images, Long donationId, String url) {
+        if (url.isEmpty()) {
+            return;
+        }
+        // 파일명만 추출 (이미 /uploads/가 포함되어 있을 수 있음)
+        String filename = url.contains("/") ? url.substring(url.lastIndexOf("/") + 1) : url;
+        // 원격 저장소는 다른 서버나 브라우저가 직접 올린 파일이 이 서버 인덱스에 없을 수 있으므로 확인하지 않음
+        if (!blobStore.isRemote() && !uploadFileIndex.exists(filename)) {
+            log.debug("기부 ID: {} - 이미지 파일이 존재하지 않음: {}", donationId, filename);
+            return;
+        }
+        // 이미 /uploads/로 시작하지 않으면 추가
+        String fullUrl = url.startsWith("/uploads/") ? url : "/uploads/" + filename;
+        Map<String, String> imageMap = new HashMap<>();
+        imageMap.put("url", fullUrl);
+        imageMap.put("dataUrl", fullUrl);
+        imageMap.put("thumbnailUrl", UploadUrls.thumbnail(filename));
+        images.add(imageMap);
+    }
+
     /**
      * Donation 엔티티를 Front의 AdminDonationDto로 변환
      */
@@ -588,73 +571,17 @@ public class AdminDonationApiController {
                     : (donation.getDonationItem().getMainCategory() != null ? donation.getDonationItem().getMainCategory().name() : "기부 물품"));
             dto.put("itemDescription", donation.getDonationItem().getDescription());
             
-            // 이미지 URL 처리 (imageUrls는 쉼표로 구분된 String)
+            // 이미지 URL 처리 (image_assets 행 우선, 변환 전 물품은 쉼표 구분 컬럼)
+            // 파일 존재 여부는 업로드 파일 인덱스로 확인 (디스크 접근 없음)
             List<Map<String, String>> images = new java.util.ArrayList<>();
-            if (donation.getDonationItem().getImageUrls() != null && !donation.getDonationItem().getImageUrls().isEmpty()) {
-                log.info("기부 ID: {} - imageUrls 값: {}", donation.getId(), donation.getDonationItem().getImageUrls());
-                String[] urlArray = donation.getDonationItem().getImageUrls().split(",");
-                for (String url : urlArray) {
-                    String trimmedUrl = url.trim();
-                    if (!trimmedUrl.isEmpty()) {
-                        // 파일명만 추출 (이미 /uploads/가 포함되어 있을 수 있음)
-                        String filename = trimmedUrl;
-                        if (trimmedUrl.contains("/")) {
-                            filename = trimmedUrl.substring(trimmedUrl.lastIndexOf("/") + 1);
-                        }
-                        
-                        // 이미지 파일 존재 여부 확인
-                        Path imagePath = Paths.get(uploadDir, filename);
-                        boolean fileExists = Files.exists(imagePath);
-                        
-                        if (fileExists) {
-                            // 이미 /uploads/로 시작하지 않으면 추가
-                            String fullUrl = trimmedUrl.startsWith("/uploads/") ? trimmedUrl : "/uploads/" + filename;
-                            log.info("기부 ID: {} - 이미지 파일 존재: {} -> {}", donation.getId(), filename, fullUrl);
-                            Map<String, String> imageMap = new HashMap<>();
-                            imageMap.put("url", fullUrl);
-                            imageMap.put("dataUrl", fullUrl);
-                            images.add(imageMap);
-                        } else {
-                            log.warn("기부 ID: {} - 이미지 파일이 존재하지 않음: {} (경로: {})", 
-                                donation.getId(), filename, imagePath.toAbsolutePath());
-                        }
-                    }
-                }
-            } else if (donation.getDonationItem().getImageUrl() != null && !donation.getDonationItem().getImageUrl().isEmpty()) {
-                log.info("기부 ID: {} - imageUrl 값: {}", donation.getId(), donation.getDonationItem().getImageUrl());
-                
-                // 파일명만 추출
-                String filename = donation.getDonationItem().getImageUrl();
-                if (filename.contains("/")) {
-                    filename = filename.substring(filename.lastIndexOf("/") + 1);
-                }
-                
-                // 이미지 파일 존재 여부 확인
-                Path imagePath = Paths.get(uploadDir, filename);
-                boolean fileExists = Files.exists(imagePath);
-                
-                if (fileExists) {
-                    // 이미 /uploads/로 시작하지 않으면 추가
-                    String fullUrl = donation.getDonationItem().getImageUrl().startsWith("/uploads/") 
-                        ? donation.getDonationItem().getImageUrl() 
-                        : "/uploads/" + filename;
-                    log.info("기부 ID: {} - 이미지 파일 존재: {} -> {}", donation.getId(), filename, fullUrl);
-                    Map<String, String> imageMap = new HashMap<>();
-                    imageMap.put("url", fullUrl);
-                    imageMap.put("dataUrl", fullUrl);
-                    images.add(imageMap);
-                } else {
-                    log.warn("기부 ID: {} - 이미지 파일이 존재하지 않음: {} (경로: {})", 
-                        donation.getId(), filename, imagePath.toAbsolutePath());
-                }
-            } else {
-                log.warn("기부 ID: {} - 이미지 URL이 없습니다. imageUrl: {}, imageUrls: {}", 
-                    donation.getId(), 
-                    donation.getDonationItem().getImageUrl(), 
-                    donation.getDonationItem().getImageUrls());
+            List<String> imageFilenames = donation.getDonationItem().imageFilenames();
+            for (String url : imageFilenames) {
+                addImageIfExists(images, donation.getId(), url);
+            }
+            if (imageFilenames.isEmpty()) {
+                log.debug("기부 ID: {} - 이미지 URL이 없습니다.", donation.getId());
             }
             dto.put("images", images);
-            log.info("기부 ID: {} - 최종 이미지 개수: {} (파일 존재하는 이미지만 포함)", donation.getId(), images.size());
         } else {
             dto.put("name", "등록한 기부 물품");
             dto.put("items", "기부 물품");
@@ -21,6 +21,9 @@ import com.rewear.post.service.PostService;
 import com.rewear.user.entity.User;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
@@ -45,6 +48,8 @@ public class AdminWebController {
     private final OrganService organService;
     private final PostService postService;
 
+    private static final int USER_PAGE_SIZE = 20;
+
     @GetMapping
     public String root() { return "redirect:/admin/dashboard"; }
 
@@ -52,13 +57,14 @@ public class AdminWebController {
     public String dashboard() { return "admin/dashboard"; }
 
     @GetMapping("/users")
-    public String showAllUsers(Model model) {
-        List<User> users = adminService.getAllUsers();
-        if (users == null || users.isEmpty()) {
-            model.addAttribute("users", List.of());  // 빈 리스트라도 넣기
-        } else {
-            model.addAttribute("users", users);
-        }
+    public String showAllUsers(@RequestParam(value = "keyword", required = false) String keyword,
+                               @RequestParam(value = "page", defaultValue = "0") int page,
+                               Model model) {
+        Page<User> users = adminService.getUsers(keyword,
+                PageRequest.of(Math.max(page, 0), USER_PAGE_SIZE, Sort.by(Sort.Direction.ASC, "id")));
+        model.addAttribute("users", users.getContent());
+        model.addAttribute("page", users);
+        model.addAttribute("keyword", keyword);
         return "admin/users-list";
     }
 
@@ -3,20 +3,24 @@ package com.rewear.admin.service;
 import com.rewear.admin.dto.UserWithStatsDto;
 import com.rewear.admin.entity.Admin;
 import com.rewear.admin.repository.AdminRepository;
+import com.rewear.common.dto.IdCount;
 import com.rewear.common.enums.OrganStatus;
+import com.rewear.common.enums.Role;
 import com.rewear.donation.repository.DonationRepository;
 import com.rewear.notification.repository.NotificationRepository;
-import com.rewear.organ.entity.Organ;
-import com.rewear.organ.repository.OrganRepository;
+import com.rewear.user.details.PrincipalCache;
 import com.rewear.user.entity.User;
 import com.rewear.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -26,11 +30,11 @@ import java.util.stream.Collectors;
 public class AdminServiceImpl {
 
     private final AdminRepository adminRepository;
-    private final BCryptPasswordEncoder passwordEncoder;
+    private final PasswordEncoder passwordEncoder;
     private final UserRepository userRepository;
-    private final OrganRepository organRepository;
     private final NotificationRepository notificationRepository;
     private final DonationRepository donationRepository;
+    private final PrincipalCache principalCache;
 
     public Admin login(String username, String password){
         Admin admin = adminRepository.findById(username)
@@ -41,62 +45,72 @@ public class AdminServiceImpl {
         return admin;
     }
 
-    public List<User> getAllUsers(){
-        List<User> allUsers = userRepository.findAll();
-        // 승인되지 않은 기관 계정(PENDING, REJECTED) 제외
-        return allUsers.stream()
-                .filter(user -> {
-                    // Organ이 있는 경우, APPROVED 상태인 경우만 포함
-                    return organRepository.findByUserId(user.getId())
-                            .map(organ -> organ.getStatus() == OrganStatus.APPROVED)
-                            .orElse(true); // Organ이 없으면 일반 사용자이므로 포함
-                })
-                .collect(Collectors.toList());
+    /**
+     * 관리자 회원 목록 조회 (승인되지 않은 기관 계정(PENDING, REJECTED) 제외)
+     * @param keyword 아이디/이름/이메일/닉네임 검색어 (null 또는 빈 문자열이면 전체)
+     */
+    public Page<User> getUsers(String keyword, Pageable pageable){
+        String normalizedKeyword = keyword == null ? "" : keyword.trim();
+        return userRepository.searchForAdmin(normalizedKeyword, OrganStatus.APPROVED, pageable);
     }
 
     /**
      * 사용자 목록과 통계 정보를 함께 반환
+     * 통계는 페이지에 포함된 사용자 id로 GROUP BY 집계 쿼리를 한 번씩만 실행
      */
-    public List<UserWithStatsDto> getAllUsersWithStats() {
-        List<User> users = getAllUsers();
-        
-        return users.stream().map(user -> {
-            // 읽지 않은 알림 수
-            Long unreadCount = notificationRepository.countByUserAndIsReadFalse(user);
-            
-            // 기부 횟수 계산
+    public Page<UserWithStatsDto> getUsersWithStats(String keyword, Pageable pageable) {
+        Page<User> users = getUsers(keyword, pageable);
+
+        List<Long> userIds = users.stream().map(User::getId).toList();
+        List<Long> donorIds = users.stream()
+                .filter(user -> user.hasRole(Role.USER))
+                .map(User::getId)
+                .toList();
+        List<Long> organUserIds = users.stream()
+                .filter(user -> !user.hasRole(Role.USER) && user.hasRole(Role.ORGAN))
+                .map(User::getId)
+                .toList();
+
+        // 읽지 않은 알림 수
+        Map<Long, Long> unreadCounts = userIds.isEmpty()
+                ? Map.of() : toCountMap(notificationRepository.countUnreadByUserIds(userIds));
+        // 일반 회원: 기부한 횟수
+        Map<Long, Long> donationCounts = donorIds.isEmpty()
+                ? Map.of() : toCountMap(donationRepository.countByDonorIds(donorIds));
+        // 기관 회원: 받은 기부 횟수
+        Map<Long, Long> receivedCounts = organUserIds.isEmpty()
+                ? Map.of() : toCountMap(donationRepository.countByOrganUserIds(organUserIds));
+
+        return users.map(user -> {
             Long donationCount = 0L;
-            
-            // 일반 회원: 기부한 횟수
-            if (user.getRoles() != null && user.getRoles().contains(com.rewear.common.enums.Role.USER)) {
-                donationCount = (long) donationRepository.findByDonor(user).size();
+            if (user.hasRole(Role.USER)) {
+                donationCount = donationCounts.getOrDefault(user.getId(), 0L);
+            } else if (user.hasRole(Role.ORGAN)) {
+                donationCount = receivedCounts.getOrDefault(user.getId(), 0L);
             }
-            // 기관 회원: 받은 기부 횟수
-            else if (user.getRoles() != null && user.getRoles().contains(com.rewear.common.enums.Role.ORGAN)) {
-                Organ organ = organRepository.findByUserId(user.getId()).orElse(null);
-                if (organ != null) {
-                    donationCount = (long) donationRepository.findByOrganId(organ.getId()).size();
-                }
-            }
-            
+
             // 역할 문자열 변환
             String roleStr = "일반 회원";
-            if (user.getRoles() != null && user.getRoles().contains(com.rewear.common.enums.Role.ADMIN)) {
+            if (user.hasRole(Role.ADMIN)) {
                 roleStr = "관리자 회원";
-            } else if (user.getRoles() != null && user.getRoles().contains(com.rewear.common.enums.Role.ORGAN)) {
+            } else if (user.hasRole(Role.ORGAN)) {
                 roleStr = "기관 회원";
             }
-            
+
             return UserWithStatsDto.builder()
                     .id(user.getId())
                     .username(user.getUsername())
                     .nickname(user.getNickname())
                     .email(user.getEmail())
                     .role(roleStr)
-                    .unreadNotificationCount(unreadCount)
+                    .unreadNotificationCount(unreadCounts.getOrDefault(user.getId(), 0L))
                     .donationCount(donationCount)
                     .build();
-        }).collect(Collectors.toList());
+        });
+    }
+
+    private Map<Long, Long> toCountMap(List<IdCount> counts) {
+        return counts.stream().collect(Collectors.toMap(IdCount::getId, IdCount::getCount));
     }
 
     @Transactional
@@ -105,6 +119,7 @@ public class AdminServiceImpl {
             throw new IllegalArgumentException("해당 사용자가 존재하지 않습니다.");
         }
         userRepository.deleteById(id);
+        principalCache.invalidate(id);
     }
 
     @Transactional
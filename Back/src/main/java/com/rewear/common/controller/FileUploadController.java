@@ -1,18 +1,22 @@
 package com.rewear.common.controller;
 
+import com.rewear.common.service.UploadStorageService;
+import com.rewear.user.details.CustomUserDetails;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
-import java.nio.file.StandardCopyOption;
+import java.io.UncheckedIOException;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
 
 @Slf4j
 @RestController
@@ -20,8 +24,9 @@ import java.util.*;
 @RequiredArgsConstructor
 public class FileUploadController {
 
-    @Value("${app.upload.dir:uploads}")
-    private String uploadDir;
+    private final UploadStorageService uploadStorageService;
+    @Qualifier("uploadExecutor")
+    private final ExecutorService uploadExecutor;
 
     /**
      * 이미지 업로드 API (단일 파일)
@@ -52,10 +57,12 @@ public class FileUploadController {
                 return ResponseEntity.badRequest().body(response);
             }
 
+            long startedAt = System.nanoTime();
             String filename = saveFile(file);
             String url = "/uploads/" + filename;
 
             response.put("success", true);
+            response.put("elapsedMs", elapsedMs(startedAt));
             response.put("url", url);
             response.put("filename", filename);
             response.put("message", "파일 업로드가 완료되었습니다.");
@@ -76,11 +83,12 @@ public class FileUploadController {
 
     /**
      * 이미지 업로드 API (다중 파일)
+     * 검증을 통과한 파일은 업로드 스레드 풀에서 병렬로 저장하고, 파일별 저장 시간(elapsedMs)을 함께 반환
      */
     @PostMapping("/multiple")
     public ResponseEntity<Map<String, Object>> uploadImages(@RequestParam("files") MultipartFile[] files) {
         Map<String, Object> response = new HashMap<>();
-        List<Map<String, String>> uploadedFiles = new ArrayList<>();
+        List<Map<String, Object>> uploadedFiles = new ArrayList<>();
         List<String> errors = new ArrayList<>();
 
         try {
@@ -90,42 +98,47 @@ public class FileUploadController {
                 return ResponseEntity.badRequest().body(response);
             }
 
+            long requestStartedAt = System.nanoTime();
+            List<MultipartFile> accepted = new ArrayList<>();
+            List<CompletableFuture<Map<String, Object>>> saves = new ArrayList<>();
             for (MultipartFile file : files) {
                 if (file == null || file.isEmpty()) {
                     continue;
                 }
 
+                // 이미지 파일만 허용
+                String contentType = file.getContentType();
+                if (contentType == null || !contentType.startsWith("image/")) {
+                    errors.add(file.getOriginalFilename() + ": 이미지 파일만 업로드할 수 있습니다.");
+                    continue;
+                }
+
+                // 파일 크기 제한 (10MB)
+                if (file.getSize() > 10 * 1024 * 1024) {
+                    errors.add(file.getOriginalFilename() + ": 파일 크기는 10MB를 초과할 수 없습니다.");
+                    continue;
+                }
+
+                accepted.add(file);
+                saves.add(CompletableFuture.supplyAsync(() -> saveWithTiming(file), uploadExecutor));
+            }
+
+            // 요청 순서대로 결과 수집
+            for (int i = 0; i < saves.size(); i++) {
+                MultipartFile file = accepted.get(i);
                 try {
-                    // 이미지 파일만 허용
-                    String contentType = file.getContentType();
-                    if (contentType == null || !contentType.startsWith("image/")) {
-                        errors.add(file.getOriginalFilename() + ": 이미지 파일만 업로드할 수 있습니다.");
-                        continue;
-                    }
-
-                    // 파일 크기 제한 (10MB)
-                    if (file.getSize() > 10 * 1024 * 1024) {
-                        errors.add(file.getOriginalFilename() + ": 파일 크기는 10MB를 초과할 수 없습니다.");
-                        continue;
-                    }
-
-                    String filename = saveFile(file);
-                    String url = "/uploads/" + filename;
-
-                    Map<String, String> fileInfo = new HashMap<>();
-                    fileInfo.put("url", url);
-                    fileInfo.put("filename", filename);
-                    fileInfo.put("originalName", file.getOriginalFilename());
-                    uploadedFiles.add(fileInfo);
-                } catch (Exception e) {
-                    log.error("파일 업로드 실패: {}", file.getOriginalFilename(), e);
-                    errors.add(file.getOriginalFilename() + ": " + e.getMessage());
+                    uploadedFiles.add(saves.get(i).join());
+                } catch (CompletionException e) {
+                    Throwable cause = e.getCause() != null ? e.getCause() : e;
+                    log.error("파일 업로드 실패: {}", file.getOriginalFilename(), cause);
+                    errors.add(file.getOriginalFilename() + ": " + cause.getMessage());
                 }
             }
 
             response.put("success", uploadedFiles.size() > 0);
             response.put("files", uploadedFiles);
             response.put("count", uploadedFiles.size());
+            response.put("elapsedMs", elapsedMs(requestStartedAt));
             if (!errors.isEmpty()) {
                 response.put("errors", errors);
             }
@@ -141,26 +154,97 @@ public class FileUploadController {
     }
 
     /**
-     * 파일 저장 메서드
+     * 직접 업로드 URL 발급 API
+     * 원격 저장소를 쓰면 브라우저가 uploadUrl로 파일을 headers와 함께 바로 PUT하고 /presign/complete로 완료를 알림
+     * (타입, 크기, 요청 사용자가 서명에 포함되므로 발급받은 파일과 다른 파일은 올릴 수 없음)
+     * supported=false이면 기존 멀티파트 업로드 사용
      */
-    private String saveFile(MultipartFile file) throws IOException {
-        Path uploadPath = Paths.get(uploadDir);
-        if (!Files.exists(uploadPath)) {
-            Files.createDirectories(uploadPath);
+    @PostMapping("/presign")
+    public ResponseEntity<Map<String, Object>> presignUpload(@AuthenticationPrincipal CustomUserDetails principal,
+                                                             @RequestParam("contentType") String contentType,
+                                                             @RequestParam("size") long size) {
+        Map<String, Object> response = new HashMap<>();
+        try {
+            Optional<UploadStorageService.DirectUpload> directUpload =
+                    uploadStorageService.presignUpload(contentType, size, principal.getId());
+            if (directUpload.isEmpty()) {
+                response.put("success", true);
+                response.put("supported", false);
+                return ResponseEntity.ok(response);
+            }
+            UploadStorageService.DirectUpload upload = directUpload.get();
+            response.put("success", true);
+            response.put("supported", true);
+            response.put("filename", upload.filename());
+            response.put("url", "/uploads/" + upload.filename());
+            response.put("uploadUrl", upload.request().url());
+            response.put("method", upload.request().method());
+            response.put("headers", upload.request().headers());
+            response.put("expiresAt", upload.request().expiresAt().toString());
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            response.put("success", false);
+            response.put("message", e.getMessage());
+            return ResponseEntity.badRequest().body(response);
+        } catch (Exception e) {
+            log.error("직접 업로드 URL 발급 실패", e);
+            response.put("success", false);
+            response.put("message", "업로드 URL 발급 중 오류가 발생했습니다: " + e.getMessage());
+            return ResponseEntity.status(500).body(response);
         }
+    }
 
-        String originalFilename = file.getOriginalFilename();
-        String extension = originalFilename != null && originalFilename.contains(".")
-                ? originalFilename.substring(originalFilename.lastIndexOf("."))
-                : ".jpg"; // 기본 확장자
-
-        String filename = UUID.randomUUID().toString() + extension;
-        Path filePath = uploadPath.resolve(filename);
+    /**
+     * 직접 업로드 완료 API (올라간 파일의 크기, 타입, 업로드한 사용자를 확인)
+     */
+    @PostMapping("/presign/complete")
+    public ResponseEntity<Map<String, Object>> completeDirectUpload(@AuthenticationPrincipal CustomUserDetails principal,
+                                                                    @RequestParam("filename") String filename) {
+        Map<String, Object> response = new HashMap<>();
+        try {
+            if (!uploadStorageService.completeDirectUpload(filename, principal.getId())) {
+                response.put("success", false);
+                response.put("message", "업로드된 파일을 확인할 수 없습니다.");
+                return ResponseEntity.badRequest().body(response);
+            }
+            response.put("success", true);
+            response.put("url", "/uploads/" + filename);
+            response.put("filename", filename);
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            log.error("직접 업로드 확인 실패: {}", filename, e);
+            response.put("success", false);
+            response.put("message", "업로드 확인 중 오류가 발생했습니다: " + e.getMessage());
+            return ResponseEntity.status(500).body(response);
+        }
+    }
 
-        Files.copy(file.getInputStream(), filePath, StandardCopyOption.REPLACE_EXISTING);
+    private Map<String, Object> saveWithTiming(MultipartFile file) {
+        long startedAt = System.nanoTime();
+        try {
+            String filename = saveFile(file);
+            Map<String, Object> fileInfo = new HashMap<>();
+            fileInfo.put("url", "/uploads/" + filename);
+            fileInfo.put("filename", filename);
+            fileInfo.put("originalName", file.getOriginalFilename());
+            fileInfo.put("size", file.getSize());
+            fileInfo.put("elapsedMs", elapsedMs(startedAt));
+            return fileInfo;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
 
+    /**
+     * 파일 저장 메서드 (임시 파일로 받은 파트를 업로드 디렉토리로 이동, 힙에 올리지 않음)
+     */
+    private String saveFile(MultipartFile file) throws IOException {
+        String filename = uploadStorageService.store(file, ".jpg"); // 기본 확장자
         log.info("파일 저장 완료: {}", filename);
         return filename;
     }
-}
 
+    private long elapsedMs(long startedAtNanos) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAtNanos);
+    }
+}
@@ -1,9 +1,6 @@
 package com.rewear.common.controller;
 
-import com.rewear.common.enums.DonationStatus;
-import com.rewear.common.enums.OrganStatus;
-import com.rewear.donation.repository.DonationRepository;
-import com.rewear.organ.repository.OrganRepository;
+import com.rewear.common.service.StatisticsService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
@@ -20,8 +17,7 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class StatisticsApiController {
 
-    private final DonationRepository donationRepository;
-    private final OrganRepository organRepository;
+    private final StatisticsService statisticsService;
 
     /**
      * 공개 통계 정보 조회 API
@@ -32,31 +28,14 @@ public class StatisticsApiController {
     @GetMapping("/public")
     public ResponseEntity<Map<String, Object>> getPublicStatistics() {
         try {
-            // 1. 기부된 옷 벌 수: COMPLETED 상태의 기부 아이템 개수
-            long completedDonationCount = donationRepository.findByStatus(DonationStatus.COMPLETED).stream()
-                    .mapToLong(donation -> {
-                        if (donation.getDonationItem() != null && donation.getDonationItem().getQuantity() != null) {
-                            return donation.getDonationItem().getQuantity();
-                        }
-                        return 1L; // quantity가 없으면 1로 계산
-                    })
-                    .sum();
-
-            // 2. 함께하는 기관: APPROVED 상태의 기관 개수
-            long approvedOrganCount = organRepository.findAllByStatus(OrganStatus.APPROVED).size();
-
-            // 3. 누적 참여자: 기부를 한 사용자 수 (고유 기부자 수)
-            long uniqueDonorCount = donationRepository.findAll().stream()
-                    .filter(donation -> donation.getDonor() != null)
-                    .map(donation -> donation.getDonor().getId())
-                    .distinct()
-                    .count();
+            // 집계 결과는 StatisticsService의 메모리 스냅샷에서 조회
+            StatisticsService.Snapshot snapshot = statisticsService.getSnapshot();
 
             Map<String, Object> response = new HashMap<>();
             response.put("success", true);
-            response.put("donationCount", completedDonationCount); // 기부된 옷 벌 수
-            response.put("organCount", approvedOrganCount); // 함께하는 기관 수
-            response.put("participantCount", uniqueDonorCount); // 누적 참여자 수
+            response.put("donationCount", snapshot.donationCount()); // 기부된 옷 벌 수
+            response.put("organCount", snapshot.organCount()); // 함께하는 기관 수
+            response.put("participantCount", snapshot.participantCount()); // 누적 참여자 수
 
             return ResponseEntity.ok(response);
         } catch (Exception e) {
@@ -0,0 +1,295 @@
+package com.rewear.common.controller;
+
+import com.rewear.common.enums.ImageVariant;
+import com.rewear.common.service.BlobStore;
+import com.rewear.common.service.ImageDerivativeService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 업로드 파일 제공 (/uploads/파일명, /uploads/thumb/파일명, /uploads/medium/파일명)
+ * - 파일명이 UUID라 내용이 바뀌지 않으므로 immutable Cache-Control과 파일명 기반 강한 ETag 사용 (If-None-Match → 304)
+ * - 단일 구간 Range 요청 지원 (206), 여러 구간 요청은 전체 전송
+ * - 큰 파일은 Tomcat sendfile로 전송하고, 지원하지 않으면 FileChannel.transferTo로 전송
+ * - app.upload.cache.enabled=false이면 개발용으로 캐시하지 않음 (no-store)
+ * - 파생본이 없으면 요청 시 생성하고, 만들 수 없는 형식이면 원본으로 리다이렉트
+ * - 원격 저장소(app.storage.type=s3)를 쓰면 이 서버에 없는 파일은 저장소의 서명된 URL로 리다이렉트
+ *   (응답 Content-Type/Content-Disposition도 아래 규칙대로 서명하여 저장소에 저장된 타입을 쓰지 않음)
+ * - 래스터 이미지(INLINE_TYPES)만 화면에 표시하고, 그 외 형식은 octet-stream 첨부 파일로 내려보냄 (nosniff와 함께 업로드된 HTML/SVG 실행 방지)
+ */
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+public class UploadServeController {
+
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+    private static final Set<MediaType> INLINE_TYPES = Set.of(
+            MediaType.IMAGE_JPEG, MediaType.IMAGE_PNG, MediaType.IMAGE_GIF, MediaType.parseMediaType("image/webp"));
+
+    private final ImageDerivativeService imageDerivativeService;
+    private final BlobStore blobStore;
+
+    @Value("${app.upload.dir:uploads}")
+    private String uploadDir;
+
+    @Value("${app.upload.cache.enabled:true}")
+    private boolean cacheEnabled;
+
+    @Value("${app.upload.cache.max-age-days:365}")
+    private long cacheMaxAgeDays;
+
+    @Value("${app.upload.sendfile-threshold-bytes:65536}")
+    private long sendfileThresholdBytes;
+
+    @Value("${app.storage.presign-ttl-minutes:10}")
+    private long presignTtlMinutes;
+
+    @GetMapping("/uploads/{filename:.+}")
+    public void getFile(@PathVariable String filename,
+                        HttpServletRequest request, HttpServletResponse response) throws IOException {
+        if (!isSafeFilename(filename)) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        Path path = Paths.get(uploadDir).resolve(filename);
+        if (!Files.isRegularFile(path) && redirectToBlobStore(filename, response)) {
+            return;
+        }
+        serve(path, filename, request, response);
+    }
+
+    @GetMapping("/uploads/{variant:thumb|medium}/{filename:.+}")
+    public void getVariant(@PathVariable String variant, @PathVariable String filename,
+                           HttpServletRequest request, HttpServletResponse response) throws IOException {
+        ImageVariant imageVariant = ImageVariant.fromPath(variant);
+        if (imageVariant == null || !isSafeFilename(filename)) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        if (!Files.isRegularFile(Paths.get(uploadDir).resolve(filename))) {
+            if (blobStore.isRemote()) {
+                // 원본이 이 서버에 없으면 (직접 업로드 등) 파생본 대신 원본 사용
+                response.sendRedirect("/uploads/" + filename);
+            } else {
+                response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            }
+            return;
+        }
+
+        Optional<Path> path = imageDerivativeService.resolve(imageVariant, filename);
+        if (path.isEmpty()) {
+            // 파생본을 만들 수 없으면 원본 사용
+            response.sendRedirect("/uploads/" + filename);
+            return;
+        }
+        serve(path.get(), variant + "/" + filename, request, response);
+    }
+
+    private void serve(Path file, String etagSeed, HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        if (!Files.isRegularFile(file)) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        long length = Files.size(file);
+        String etag = "\"" + etagSeed + "\"";
+
+        response.setHeader(HttpHeaders.ETAG, etag);
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        response.setHeader("X-Content-Type-Options", "nosniff");
+        response.setHeader(HttpHeaders.CACHE_CONTROL, cacheEnabled
+                ? "public, max-age=" + Duration.ofDays(cacheMaxAgeDays).toSeconds() + ", immutable"
+                : "no-store");
+        response.setDateHeader(HttpHeaders.LAST_MODIFIED, Files.getLastModifiedTime(file).toMillis());
+
+        if (matchesEtag(request.getHeader(HttpHeaders.IF_NONE_MATCH), etag)) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        long start = 0;
+        long end = length - 1;
+        String range = request.getHeader(HttpHeaders.RANGE);
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (range != null && (ifRange == null || ifRange.equals(etag))) {
+            long[] bounds = parseRange(range, length);
+            if (bounds == null) {
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                response.sendError(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                return;
+            }
+            if (bounds.length == 2) {
+                start = bounds[0];
+                end = bounds[1];
+                response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+            }
+        }
+
+        long count = end - start + 1;
+        String name = file.getFileName().toString();
+        MediaType mediaType = responseType(name);
+        response.setContentType(mediaType.toString());
+        String disposition = responseDisposition(name, mediaType);
+        if (disposition != null) {
+            response.setHeader(HttpHeaders.CONTENT_DISPOSITION, disposition);
+        }
+        response.setContentLengthLong(count);
+        if ("HEAD".equals(request.getMethod()) || count <= 0) {
+            return;
+        }
+
+        if (count >= sendfileThresholdBytes && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            // 커넥터가 응답 후 커널 sendfile로 전송 (애플리케이션 스레드에서 복사하지 않음)
+            request.setAttribute(SENDFILE_FILENAME, file.toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, end + 1);
+            return;
+        }
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = start;
+            long remaining = count;
+            while (remaining > 0) {
+                long transferred = channel.transferTo(position, remaining, out);
+                if (transferred <= 0) {
+                    break;
+                }
+                position += transferred;
+                remaining -= transferred;
+            }
+        }
+    }
+
+    /**
+     * 원격 저장소의 서명된 다운로드 URL로 리다이렉트 (바이트가 애플리케이션을 거치지 않음)
+     * @return 리다이렉트했는지 여부
+     */
+    private boolean redirectToBlobStore(String filename, HttpServletResponse response) throws IOException {
+        if (!blobStore.isRemote()) {
+            return false;
+        }
+        Duration ttl = Duration.ofMinutes(presignTtlMinutes);
+        MediaType mediaType = responseType(filename);
+        Optional<BlobStore.PresignedRequest> download = blobStore.presignDownload(filename,
+                mediaType.toString(), responseDisposition(filename, mediaType), ttl);
+        if (download.isEmpty()) {
+            return false;
+        }
+        // 서명된 URL은 만료되므로 리다이렉트는 유효 시간보다 짧게만 캐시
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "private, max-age=" + Math.max(0, ttl.toSeconds() - 60));
+        response.sendRedirect(download.get().url());
+        return true;
+    }
+
+    /**
+     * 파일명으로 정한 응답 타입 (래스터 이미지가 아니면 octet-stream)
+     */
+    static MediaType responseType(String name) {
+        MediaType mediaType = MediaTypeFactory.getMediaType(name).orElse(MediaType.APPLICATION_OCTET_STREAM);
+        return INLINE_TYPES.contains(mediaType) ? mediaType : MediaType.APPLICATION_OCTET_STREAM;
+    }
+
+    /**
+     * 래스터 이미지가 아니면 첨부 파일로 내려보내는 Content-Disposition (화면 표시 대상이면 null)
+     */
+    static String responseDisposition(String name, MediaType responseType) {
+        if (INLINE_TYPES.contains(responseType)) {
+            return null;
+        }
+        return ContentDisposition.attachment().filename(name).build().toString();
+    }
+
+    /**
+     * If-None-Match 헤더에 현재 ETag가 포함되어 있는지 (약한 비교)
+     */
+    private boolean matchesEtag(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String value = candidate.trim();
+            if (value.startsWith("W/")) {
+                value = value.substring(2);
+            }
+            if (value.equals("*") || value.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Range 헤더 파싱
+     * @return 단일 구간이면 {start, end}, 전체 전송이면 빈 배열, 만족할 수 없는 구간이면 null
+     */
+    static long[] parseRange(String range, long length) {
+        if (!range.startsWith("bytes=")) {
+            return new long[0];
+        }
+        String spec = range.substring("bytes=".length()).trim();
+        if (spec.contains(",")) {
+            // 여러 구간 요청은 전체 전송으로 응답
+            return new long[0];
+        }
+        int dash = spec.indexOf('-');
+        if (dash < 0) {
+            return new long[0];
+        }
+        try {
+            String first = spec.substring(0, dash).trim();
+            String last = spec.substring(dash + 1).trim();
+            long start;
+            long end;
+            if (first.isEmpty()) {
+                // bytes=-500 (마지막 500바이트)
+                long suffix = Long.parseLong(last);
+                if (suffix <= 0) {
+                    return null;
+                }
+                start = Math.max(0, length - suffix);
+                end = length - 1;
+            } else {
+                start = Long.parseLong(first);
+                end = last.isEmpty() ? length - 1 : Math.min(Long.parseLong(last), length - 1);
+            }
+            if (start >= length || start > end) {
+                return null;
+            }
+            return new long[]{start, end};
+        } catch (NumberFormatException e) {
+            return new long[0];
+        }
+    }
+
+    private boolean isSafeFilename(String filename) {
+        return filename != null && !filename.isEmpty()
+                && !filename.contains("/") && !filename.contains("\\") && !filename.contains("..");
+    }
+}
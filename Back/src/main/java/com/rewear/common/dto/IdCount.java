@@ -0,0 +1,10 @@
+package com.rewear.common.dto;
+
+/**
+ * GROUP BY 집계 결과 프로젝션 (id별 건수)
+ * 쿼리에서 "AS id", "AS count" 별칭으로 매핑
+ */
+public interface IdCount {
+    Long getId();
+    Long getCount();
+}
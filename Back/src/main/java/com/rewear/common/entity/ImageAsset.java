@@ -0,0 +1,108 @@
+package com.rewear.common.entity;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.rewear.donation.entity.DonationItem;
+import com.rewear.post.entity.Post;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 기부 물품 / 게시글 이미지
+ * - 기존 쉼표 구분 image_urls 컬럼 대신 이미지 한 장을 한 행으로 저장 (순서, 크기 정보 포함)
+ * - donation_item_id, post_id 중 하나만 값을 가짐
+ */
+@Entity
+@Table(name = "image_assets", indexes = {
+        // 파일명으로 참조 중인 기부 물품/게시글 조회 (업로드 정리 작업 등)
+        @Index(name = "idx_image_assets_filename", columnList = "filename"),
+        @Index(name = "idx_image_assets_item_ordinal", columnList = "donation_item_id, ordinal"),
+        @Index(name = "idx_image_assets_post_ordinal", columnList = "post_id, ordinal")
+})
+@Getter @Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ImageAsset {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @JsonIgnore
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "donation_item_id")
+    private DonationItem donationItem;
+
+    @JsonIgnore
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "post_id")
+    private Post post;
+
+    @Column(name = "filename", nullable = false, length = 255)
+    private String filename; // 업로드 파일명 (/uploads/ 접두사 없음)
+
+    @Column(name = "ordinal", nullable = false)
+    private Integer ordinal; // 표시 순서 (0부터)
+
+    @Column(name = "width")
+    private Integer width;
+
+    @Column(name = "height")
+    private Integer height;
+
+    @Column(name = "byte_size")
+    private Long byteSize;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    void onInsert() {
+        if (createdAt == null) {
+            createdAt = LocalDateTime.now();
+        }
+    }
+
+    /**
+     * 표시 순서대로 저장된 이미지 값 목록
+     * - 이미지 행이 있으면 행의 파일명, 아직 변환되지 않은 데이터면 image_urls(쉼표 구분) → image_url 순으로 사용
+     */
+    public static List<String> filenamesOf(List<ImageAsset> assets, String imageUrls, String imageUrl) {
+        List<String> filenames = new ArrayList<>();
+        if (assets != null && !assets.isEmpty()) {
+            for (ImageAsset asset : assets) {
+                filenames.add(asset.getFilename());
+            }
+            return filenames;
+        }
+        if (imageUrls != null && !imageUrls.trim().isEmpty()) {
+            for (String url : imageUrls.split(",")) {
+                String trimmed = url.trim();
+                if (!trimmed.isEmpty()) {
+                    filenames.add(trimmed);
+                }
+            }
+        } else if (imageUrl != null && !imageUrl.trim().isEmpty()) {
+            filenames.add(imageUrl.trim());
+        }
+        return filenames;
+    }
+
+    /**
+     * 쉼표 구분 하위 호환 컬럼 값 (이미지가 없으면 null)
+     */
+    public static String joinFilenames(List<ImageAsset> assets) {
+        if (assets.isEmpty()) {
+            return null;
+        }
+        List<String> filenames = new ArrayList<>(assets.size());
+        for (ImageAsset asset : assets) {
+            filenames.add(asset.getFilename());
+        }
+        return String.join(",", filenames);
+    }
+}
@@ -0,0 +1,28 @@
+package com.rewear.common.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 기동 시 데이터 변환 작업의 노드 간 잠금 (작업 이름당 한 행)
+ * - 여러 노드가 동시에 기동해도 locked_until이 지난 행을 UPDATE로 차지한 노드만 변환을 실행
+ * - JDBC로만 갱신하며, 엔티티는 테이블 생성용
+ */
+@Entity
+@Table(name = "migration_locks")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class MigrationLock {
+
+    @Id
+    @Column(name = "name", length = 100)
+    private String name;
+
+    @Column(name = "owner", length = 100)
+    private String owner; // 잠금을 가진 노드 (기동마다 새로 만든 임의 ID)
+
+    @Column(name = "locked_until")
+    private LocalDateTime lockedUntil; // 이 시각이 지나면 다른 노드가 차지할 수 있음 (변환 중 묶음마다 연장)
+}
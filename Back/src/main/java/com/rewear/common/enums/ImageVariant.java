@@ -0,0 +1,26 @@
+package com.rewear.common.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 업로드 이미지 파생본 크기 (/uploads/{path}/{filename}으로 제공)
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ImageVariant {
+    THUMB("thumb", 320),     // 목록/카드용 썸네일
+    MEDIUM("medium", 1024);  // 상세 화면용
+
+    private final String path;         // 업로드 디렉토리 아래 하위 디렉토리 이름
+    private final int maxDimension;    // 긴 변 최대 픽셀
+
+    public static ImageVariant fromPath(String path) {
+        for (ImageVariant variant : values()) {
+            if (variant.path.equals(path)) {
+                return variant;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,85 @@
+package com.rewear.common.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 업로드 파일 저장소 (app.storage.type으로 선택)
+ * - local: 업로드 디렉토리 (단일 서버)
+ * - s3: S3 API 호환 저장소 (AWS S3, MinIO 등) - 여러 서버가 같은 파일을 공유
+ * - 키는 업로드 파일명 (UUID.확장자)
+ */
+public interface BlobStore {
+
+    /**
+     * 파일 업로드 (같은 키가 있으면 덮어씀)
+     */
+    void put(String key, Path source, String contentType) throws IOException;
+
+    /**
+     * 파일 읽기
+     * @throws java.nio.file.NoSuchFileException 키가 없는 경우
+     */
+    InputStream open(String key) throws IOException;
+
+    boolean exists(String key) throws IOException;
+
+    /**
+     * 파일 크기, Content-Type, 사용자 메타데이터 조회
+     * @return 키가 없으면 empty
+     */
+    Optional<BlobInfo> stat(String key) throws IOException;
+
+    /**
+     * 파일 삭제 (없으면 무시)
+     */
+    void delete(String key) throws IOException;
+
+    /**
+     * 이 서버의 디스크에서 바로 읽을 수 있는 경로 (sendfile, 파생본 생성 등)
+     * @return 원격 저장소면 empty
+     */
+    Optional<Path> localPath(String key);
+
+    /**
+     * 브라우저가 저장소에 직접 올릴 수 있는 서명된 PUT 요청
+     * - Content-Type, Content-Length, 메타데이터가 서명에 포함되어 다른 값으로는 올릴 수 없음
+     * @param metadata 객체에 함께 저장할 사용자 메타데이터 (이름 소문자, stat()으로 확인)
+     * @return 직접 업로드를 지원하지 않으면 empty (멀티파트 업로드 사용)
+     */
+    Optional<PresignedRequest> presignUpload(String key, String contentType, long contentLength,
+                                             Map<String, String> metadata, Duration ttl);
+
+    /**
+     * 브라우저가 저장소에서 직접 받을 수 있는 서명된 GET URL
+     * - 응답 헤더는 객체에 저장된 값 대신 서명된 값으로 내려감 (업로드 시 요청 헤더로 저장된 타입을 쓰지 않도록)
+     * @param contentType 응답 Content-Type
+     * @param contentDisposition 응답 Content-Disposition (null이면 지정하지 않음)
+     * @return 지원하지 않으면 empty
+     */
+    Optional<PresignedRequest> presignDownload(String key, String contentType, String contentDisposition, Duration ttl);
+
+    /**
+     * 다른 서버와 공유되는 원격 저장소인지 여부
+     */
+    boolean isRemote();
+
+    /**
+     * 서명된 요청
+     * @param headers 요청 시 그대로 보내야 하는 헤더
+     */
+    record PresignedRequest(String url, String method, Map<String, String> headers, Instant expiresAt) {
+    }
+
+    /**
+     * 저장된 파일 정보
+     * @param metadata 사용자 메타데이터 (이름 소문자, x-amz-meta- 접두사 제외)
+     */
+    record BlobInfo(long size, String contentType, Map<String, String> metadata) {
+    }
+}
@@ -0,0 +1,304 @@
+package com.rewear.common.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.FileSystemException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * 내용 주소 기반(SHA-256) 업로드 저장소
+ * - 같은 내용의 파일은 blobs/{해시 앞 2자리}/{해시}에 한 번만 저장
+ * - 업로드 파일명(UUID.확장자)은 blob에 대한 하드 링크로 만들어 기존 URL과 개별 삭제 동작을 그대로 유지
+ *   (하드 링크를 지원하지 않는 파일시스템이면 복사)
+ * - collectGarbage(): DB(image_assets, donation_items, posts)에서 참조하는 파일명을 표시하고,
+ *   참조되는 링크가 하나도 없는 blob과 그 링크를 삭제 (mark-and-sweep)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ContentAddressedStore {
+
+    public static final String BLOB_DIR = "blobs";
+    private static final String TEMP_DIR = "tmp";
+
+    private final UploadReferenceScanner referenceScanner;
+    private final UploadFileIndex uploadFileIndex;
+    private final ImageDerivativeService imageDerivativeService;
+
+    @Value("${app.upload.dir:uploads}")
+    private String uploadDir;
+
+    // 업로드 직후 아직 DB에 저장되지 않은 파일을 지우지 않기 위한 유예 시간
+    @Value("${app.upload.blob.gc-grace-hours:24}")
+    private long gcGraceHours;
+
+    private final AtomicLong storedCount = new AtomicLong();
+    private final AtomicLong dedupHitCount = new AtomicLong();
+
+    /**
+     * 저장 결과
+     * @param deduplicated 같은 내용의 blob이 이미 있어 새로 저장하지 않았는지 여부
+     */
+    public record StoredBlob(String sha256, boolean deduplicated) {
+    }
+
+    /**
+     * 스트림을 해싱하면서 임시 파일로 기록한 뒤 blob으로 등록하고 logicalName 링크 생성
+     */
+    public StoredBlob store(InputStream in, String logicalName) throws IOException {
+        Path temp = newTempFile();
+        try {
+            MessageDigest digest = sha256();
+            try (DigestInputStream digestIn = new DigestInputStream(in, digest);
+                 FileChannel out = FileChannel.open(temp, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                byte[] buffer = new byte[64 * 1024];
+                int read;
+                while ((read = digestIn.read(buffer)) != -1) {
+                    ByteBuffer chunk = ByteBuffer.wrap(buffer, 0, read);
+                    while (chunk.hasRemaining()) {
+                        out.write(chunk);
+                    }
+                }
+            }
+            return commit(temp, HexFormat.of().formatHex(digest.digest()), logicalName);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * 이미 임시 파일로 받은 내용(멀티파트 transferTo 등)을 해싱하여 blob으로 등록
+     */
+    public StoredBlob storeFile(Path temp, String logicalName) throws IOException {
+        try {
+            MessageDigest digest = sha256();
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.READ)) {
+                ByteBuffer buffer = ByteBuffer.allocateDirect(64 * 1024);
+                while (channel.read(buffer) != -1) {
+                    buffer.flip();
+                    digest.update(buffer);
+                    buffer.clear();
+                }
+            }
+            return commit(temp, HexFormat.of().formatHex(digest.digest()), logicalName);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * blob 디렉토리 안의 임시 파일 (blob과 같은 파일시스템이어야 rename으로 등록 가능)
+     */
+    public Path newTempFile() throws IOException {
+        Path tempDir = blobRoot().resolve(TEMP_DIR);
+        Files.createDirectories(tempDir);
+        return Files.createTempFile(tempDir, "upload-", ".tmp");
+    }
+
+    public Map<String, Object> getMetrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("stored", storedCount.get());
+        metrics.put("deduplicated", dedupHitCount.get());
+        return metrics;
+    }
+
+    /**
+     * 참조되지 않는 blob 정리 (mark-and-sweep)
+     * - mark: DB에서 참조하는 파일명의 파일 키(inode)를 수집
+     * - sweep: 어떤 참조 파일명과도 연결되지 않고 유예 시간이 지난 blob과 그 링크를 삭제
+     * @param dryRun true이면 삭제하지 않고 대상만 집계
+     */
+    public Map<String, Object> collectGarbage(boolean dryRun) throws IOException {
+        return collectGarbage(dryRun, Duration.ZERO);
+    }
+
+    /**
+     * 참조되지 않는 blob 정리 - 링크의 유예 시간을 따로 지정
+     * - blob 수정 시각은 마지막 링크를 만든 시각이므로(중복 저장 시 갱신), minLinkAge보다 최근에 링크가 생긴 blob은 남김
+     *   (미참조 파일 정리의 grace-hours보다 먼저 링크를 지우지 않도록)
+     * @param minLinkAge 삭제할 링크의 최소 경과 시간 (gc-grace-hours보다 짧으면 gc-grace-hours)
+     */
+    public Map<String, Object> collectGarbage(boolean dryRun, Duration minLinkAge) throws IOException {
+        Path uploadPath = Paths.get(uploadDir);
+        Path blobRoot = blobRoot();
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("dryRun", dryRun);
+        if (!Files.isDirectory(blobRoot)) {
+            result.put("scannedBlobs", 0);
+            result.put("deletedBlobs", 0);
+            return result;
+        }
+
+        // 업로드 디렉토리의 파일을 파일 키별로 묶음 (하드 링크 = 같은 파일 키)
+        Map<Object, List<Path>> linksByKey = new HashMap<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(uploadPath, Files::isRegularFile)) {
+            for (Path path : stream) {
+                Object key = Files.readAttributes(path, BasicFileAttributes.class).fileKey();
+                if (key != null) {
+                    linksByKey.computeIfAbsent(key, k -> new ArrayList<>()).add(path);
+                }
+            }
+        }
+
+        // mark
+        Set<Object> liveKeys = new HashSet<>();
+        referenceScanner.forEachReferencedFilename(filename -> {
+            Path path = uploadPath.resolve(filename);
+            try {
+                if (Files.isRegularFile(path)) {
+                    Object key = Files.readAttributes(path, BasicFileAttributes.class).fileKey();
+                    if (key != null) {
+                        liveKeys.add(key);
+                    }
+                }
+            } catch (IOException e) {
+                log.debug("참조 파일 확인 실패: {}", filename);
+            }
+        });
+
+        // sweep
+        Duration gcGrace = Duration.ofHours(gcGraceHours);
+        Instant cutoff = Instant.now().minus(gcGrace);
+        Instant linkCutoff = Instant.now().minus(minLinkAge.compareTo(gcGrace) > 0 ? minLinkAge : gcGrace);
+        long scanned = 0;
+        long deletedBlobs = 0;
+        long deletedLinks = 0;
+        long reclaimedBytes = 0;
+        try (Stream<Path> blobs = Files.walk(blobRoot, 2)) {
+            for (Path blob : (Iterable<Path>) blobs.filter(this::isBlobFile)::iterator) {
+                scanned++;
+                BasicFileAttributes attributes = Files.readAttributes(blob, BasicFileAttributes.class);
+                Object key = attributes.fileKey();
+                if (key == null) {
+                    // 파일 키를 제공하지 않는 파일시스템에서는 링크를 추적할 수 없으므로 정리하지 않음
+                    result.put("unsupported", true);
+                    break;
+                }
+                if (liveKeys.contains(key) || attributes.lastModifiedTime().toInstant().isAfter(linkCutoff)) {
+                    continue;
+                }
+                List<Path> links = linksByKey.getOrDefault(key, List.of());
+                deletedBlobs++;
+                deletedLinks += links.size();
+                reclaimedBytes += attributes.size();
+                if (!dryRun) {
+                    for (Path link : links) {
+                        String filename = link.getFileName().toString();
+                        Files.deleteIfExists(link);
+                        uploadFileIndex.remove(filename);
+                        imageDerivativeService.delete(filename);
+                    }
+                    Files.deleteIfExists(blob);
+                }
+            }
+        }
+
+        // 비정상 종료로 남은 임시 파일 정리
+        long deletedTemps = 0;
+        Path tempDir = blobRoot.resolve(TEMP_DIR);
+        if (Files.isDirectory(tempDir)) {
+            try (DirectoryStream<Path> temps = Files.newDirectoryStream(tempDir)) {
+                for (Path temp : temps) {
+                    if (Files.getLastModifiedTime(temp).toInstant().isBefore(cutoff)) {
+                        deletedTemps++;
+                        if (!dryRun) {
+                            Files.deleteIfExists(temp);
+                        }
+                    }
+                }
+            }
+        }
+
+        result.put("scannedBlobs", scanned);
+        result.put("deletedBlobs", deletedBlobs);
+        result.put("deletedLinks", deletedLinks);
+        result.put("reclaimedBytes", reclaimedBytes);
+        result.put("deletedTempFiles", deletedTemps);
+        log.info("업로드 blob 정리{} - 검사: {}, 삭제 blob: {}, 삭제 링크: {}, 회수: {} bytes",
+                dryRun ? " (dry-run)" : "", scanned, deletedBlobs, deletedLinks, reclaimedBytes);
+        return result;
+    }
+
+    private StoredBlob commit(Path temp, String sha256, String logicalName) throws IOException {
+        Path blob = blobPath(sha256);
+        boolean deduplicated = Files.exists(blob);
+        if (deduplicated) {
+            // 유예 시간 기준을 갱신하여 새 링크가 DB에 저장되기 전에 정리되지 않도록 함
+            Files.setLastModifiedTime(blob, FileTime.from(Instant.now()));
+            dedupHitCount.incrementAndGet();
+        } else {
+            Files.createDirectories(blob.getParent());
+            try {
+                Files.move(temp, blob, StandardCopyOption.ATOMIC_MOVE);
+            } catch (FileAlreadyExistsException e) {
+                // 동시에 같은 내용이 저장된 경우
+                deduplicated = true;
+                dedupHitCount.incrementAndGet();
+            }
+        }
+        storedCount.incrementAndGet();
+
+        Path logical = Paths.get(uploadDir).resolve(logicalName);
+        try {
+            Files.createLink(logical, blob);
+        } catch (FileAlreadyExistsException e) {
+            throw e;
+        } catch (UnsupportedOperationException | FileSystemException e) {
+            log.debug("하드 링크 생성 불가 - 복사로 대체: {}", e.getMessage());
+            Files.copy(blob, logical);
+        }
+        return new StoredBlob(sha256, deduplicated);
+    }
+
+    private Path blobRoot() {
+        return Paths.get(uploadDir).resolve(BLOB_DIR);
+    }
+
+    private Path blobPath(String sha256) {
+        return blobRoot().resolve(sha256.substring(0, 2)).resolve(sha256);
+    }
+
+    private boolean isBlobFile(Path path) {
+        return Files.isRegularFile(path)
+                && !path.getParent().getFileName().toString().equals(TEMP_DIR)
+                && path.getFileName().toString().length() == 64;
+    }
+
+    private MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+}
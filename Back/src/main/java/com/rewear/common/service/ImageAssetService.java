@@ -0,0 +1,76 @@
+package com.rewear.common.service;
+
+import com.rewear.common.entity.ImageAsset;
+import com.rewear.common.utils.UploadUrls;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * 업로드 파일명으로 ImageAsset 생성
+ * - 파일 크기와 이미지 헤더의 가로/세로 크기만 읽음 (픽셀 데이터는 디코딩하지 않음)
+ * - 파일이 없거나 ImageIO가 읽을 수 없는 형식이면 크기 정보는 비워 둠
+ */
+@Slf4j
+@Service
+public class ImageAssetService {
+
+    @Value("${app.upload.dir:uploads}")
+    private String uploadDir;
+
+    /**
+     * 저장된 값(파일명 또는 /uploads/파일명) 목록을 순서대로 ImageAsset으로 변환 (ordinal은 엔티티에 연결할 때 지정)
+     */
+    public List<ImageAsset> describe(Collection<String> storedNames) {
+        List<ImageAsset> assets = new ArrayList<>(storedNames.size());
+        for (String stored : storedNames) {
+            String filename = UploadUrls.filename(stored);
+            if (filename != null) {
+                assets.add(describe(filename));
+            }
+        }
+        return assets;
+    }
+
+    public ImageAsset describe(String filename) {
+        ImageAsset asset = ImageAsset.builder()
+                .filename(filename)
+                .ordinal(0)
+                .build();
+        Path path = Paths.get(uploadDir).resolve(filename);
+        if (!Files.isRegularFile(path)) {
+            return asset;
+        }
+        try {
+            asset.setByteSize(Files.size(path));
+            try (ImageInputStream input = ImageIO.createImageInputStream(path.toFile())) {
+                Iterator<ImageReader> readers = input != null ? ImageIO.getImageReaders(input) : null;
+                if (readers != null && readers.hasNext()) {
+                    ImageReader reader = readers.next();
+                    try {
+                        reader.setInput(input, true, true);
+                        asset.setWidth(reader.getWidth(0));
+                        asset.setHeight(reader.getHeight(0));
+                    } finally {
+                        reader.dispose();
+                    }
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            log.debug("이미지 정보 확인 실패: {} - {}", filename, e.getMessage());
+        }
+        return asset;
+    }
+}
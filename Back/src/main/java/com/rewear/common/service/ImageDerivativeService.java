@@ -0,0 +1,243 @@
+package com.rewear.common.service;
+
+import com.rewear.common.enums.ImageVariant;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * 업로드 이미지 파생본(썸네일, 중간 크기) 생성
+ * - 업로드 직후 imageDerivativeExecutor에서 미리 생성하고, 없으면 첫 요청 시 생성 (기존 업로드 파일 포함)
+ * - 파생본은 업로드 디렉토리 아래 {variant}/{원본 파일명}으로 저장 (원본과 같은 형식)
+ * - 큰 원본은 디코딩 단계에서 서브샘플링하여 전체 해상도로 메모리에 올리지 않음
+ * - ImageIO가 읽거나 쓸 수 없는 형식(webp 등)은 파생본을 만들지 않음 (호출 측에서 원본 사용)
+ */
+@Slf4j
+@Service
+public class ImageDerivativeService {
+
+    private final ExecutorService executor;
+    private final Map<String, Object> locks = new ConcurrentHashMap<>();
+
+    @Value("${app.upload.dir:uploads}")
+    private String uploadDir;
+
+    @Value("${app.upload.derivative.jpeg-quality:0.82}")
+    private float jpegQuality;
+
+    public ImageDerivativeService(@Qualifier("imageDerivativeExecutor") ExecutorService executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * 모든 크기의 파생본을 백그라운드에서 생성 (업로드 직후 호출)
+     */
+    public void generateAsync(String filename) {
+        if (formatOf(filename) == null) {
+            return;
+        }
+        executor.execute(() -> {
+            for (ImageVariant variant : ImageVariant.values()) {
+                resolve(variant, filename);
+            }
+        });
+    }
+
+    /**
+     * 파생본 경로 반환 (없으면 생성)
+     * @return 파생본을 만들 수 없으면 (원본 없음, 지원하지 않는 형식) empty
+     */
+    public Optional<Path> resolve(ImageVariant variant, String filename) {
+        if (!isSafeFilename(filename) || formatOf(filename) == null) {
+            return Optional.empty();
+        }
+        Path target = variantPath(variant, filename);
+        if (Files.isRegularFile(target)) {
+            return Optional.of(target);
+        }
+        String key = variant.getPath() + "/" + filename;
+        Object lock = locks.computeIfAbsent(key, k -> new Object());
+        try {
+            synchronized (lock) {
+                if (Files.isRegularFile(target)) {
+                    return Optional.of(target);
+                }
+                return generate(variant, filename, target) ? Optional.of(target) : Optional.empty();
+            }
+        } finally {
+            locks.remove(key, lock);
+        }
+    }
+
+    /**
+     * 원본 삭제 시 파생본도 삭제
+     */
+    public void delete(String filename) {
+        if (!isSafeFilename(filename)) {
+            return;
+        }
+        for (ImageVariant variant : ImageVariant.values()) {
+            try {
+                Files.deleteIfExists(variantPath(variant, filename));
+            } catch (IOException e) {
+                log.warn("이미지 파생본 삭제 실패: {}/{} - {}", variant.getPath(), filename, e.getMessage());
+            }
+        }
+    }
+
+    public Path variantPath(ImageVariant variant, String filename) {
+        return Paths.get(uploadDir).resolve(variant.getPath()).resolve(filename);
+    }
+
+    private boolean generate(ImageVariant variant, String filename, Path target) {
+        Path original = Paths.get(uploadDir).resolve(filename);
+        if (!Files.isRegularFile(original)) {
+            return false;
+        }
+        String format = formatOf(filename);
+        Path temp = null;
+        try (ImageInputStream input = ImageIO.createImageInputStream(original.toFile())) {
+            ImageReader reader = firstReader(input);
+            if (reader == null) {
+                log.debug("이미지 파생본 생성 불가 (읽을 수 없는 형식): {}", filename);
+                return false;
+            }
+            Files.createDirectories(target.getParent());
+            temp = Files.createTempFile(target.getParent(), filename, ".tmp");
+            try {
+                reader.setInput(input, true, true);
+                int longest = Math.max(reader.getWidth(0), reader.getHeight(0));
+                if (longest <= variant.getMaxDimension()) {
+                    // 원본이 이미 작으면 그대로 복사
+                    Files.copy(original, temp, StandardCopyOption.REPLACE_EXISTING);
+                } else {
+                    // 목표 크기의 2배 이상은 유지하도록 서브샘플링하여 디코딩
+                    int subsampling = Math.max(1, longest / (variant.getMaxDimension() * 2));
+                    ImageReadParam param = reader.getDefaultReadParam();
+                    param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                    BufferedImage source = reader.read(0, param);
+                    write(resize(source, variant.getMaxDimension(), "jpeg".equals(format)), format, temp);
+                }
+            } finally {
+                reader.dispose();
+            }
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            temp = null;
+            log.debug("이미지 파생본 생성: {}/{}", variant.getPath(), filename);
+            return true;
+        } catch (IOException | RuntimeException e) {
+            log.warn("이미지 파생본 생성 실패: {}/{} - {}", variant.getPath(), filename, e.getMessage());
+            return false;
+        } finally {
+            if (temp != null) {
+                try {
+                    Files.deleteIfExists(temp);
+                } catch (IOException ignored) {
+                    // 임시 파일 정리 실패는 무시
+                }
+            }
+        }
+    }
+
+    private ImageReader firstReader(ImageInputStream input) {
+        if (input == null) {
+            return null;
+        }
+        Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+        return readers.hasNext() ? readers.next() : null;
+    }
+
+    /**
+     * 긴 변이 maxDimension이 되도록 축소 (절반씩 단계적으로 줄여 화질 유지)
+     */
+    private BufferedImage resize(BufferedImage source, int maxDimension, boolean opaque) {
+        int width = source.getWidth();
+        int height = source.getHeight();
+        double scale = Math.min(1.0, (double) maxDimension / Math.max(width, height));
+        int targetWidth = Math.max(1, (int) Math.round(width * scale));
+        int targetHeight = Math.max(1, (int) Math.round(height * scale));
+        int type = opaque ? BufferedImage.TYPE_INT_RGB : BufferedImage.TYPE_INT_ARGB;
+
+        BufferedImage current = source;
+        do {
+            width = Math.max(targetWidth, width / 2);
+            height = Math.max(targetHeight, height / 2);
+            BufferedImage next = new BufferedImage(width, height, type);
+            Graphics2D g = next.createGraphics();
+            try {
+                g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+                g.drawImage(current, 0, 0, width, height, null);
+            } finally {
+                g.dispose();
+            }
+            current = next;
+        } while (width != targetWidth || height != targetHeight);
+        return current;
+    }
+
+    private void write(BufferedImage image, String format, Path target) throws IOException {
+        Iterator<ImageWriter> writers = ImageIO.getImageWritersByFormatName(format);
+        if (!writers.hasNext()) {
+            throw new IOException("지원하지 않는 이미지 형식: " + format);
+        }
+        ImageWriter writer = writers.next();
+        try (ImageOutputStream output = ImageIO.createImageOutputStream(target.toFile())) {
+            writer.setOutput(output);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            if ("jpeg".equals(format)) {
+                param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+                param.setCompressionQuality(jpegQuality);
+            }
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+    }
+
+    /**
+     * 확장자로 출력 형식 결정 (ImageIO 기본 지원 형식만)
+     */
+    private String formatOf(String filename) {
+        if (filename == null || !filename.contains(".")) {
+            return null;
+        }
+        String extension = filename.substring(filename.lastIndexOf('.') + 1).toLowerCase(Locale.ROOT);
+        return switch (extension) {
+            case "jpg", "jpeg" -> "jpeg";
+            case "png" -> "png";
+            case "gif" -> "gif";
+            case "bmp" -> "bmp";
+            default -> null;
+        };
+    }
+
+    private boolean isSafeFilename(String filename) {
+        return filename != null && !filename.isEmpty()
+                && !filename.contains("/") && !filename.contains("\\") && !filename.contains("..");
+    }
+}
@@ -0,0 +1,89 @@
+package com.rewear.common.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 업로드 디렉토리 저장소 (기본값)
+ * - 업로드 파일은 UploadStorageService가 이미 업로드 디렉토리에 저장하므로 put은 다른 경로의 파일일 때만 복사
+ * - 직접 업로드 URL은 지원하지 않음 (멀티파트 업로드 사용)
+ */
+@Service
+@ConditionalOnProperty(name = "app.storage.type", havingValue = "local", matchIfMissing = true)
+public class LocalBlobStore implements BlobStore {
+
+    @Value("${app.upload.dir:uploads}")
+    private String uploadDir;
+
+    @Override
+    public void put(String key, Path source, String contentType) throws IOException {
+        Path target = resolve(key);
+        if (Files.exists(target) && Files.isSameFile(source, target)) {
+            return;
+        }
+        Files.createDirectories(target.getParent());
+        Files.copy(source, target, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    @Override
+    public InputStream open(String key) throws IOException {
+        return Files.newInputStream(resolve(key));
+    }
+
+    @Override
+    public boolean exists(String key) {
+        return Files.isRegularFile(resolve(key));
+    }
+
+    @Override
+    public Optional<BlobInfo> stat(String key) throws IOException {
+        Path path = resolve(key);
+        if (!Files.isRegularFile(path)) {
+            return Optional.empty();
+        }
+        return Optional.of(new BlobInfo(Files.size(path), Files.probeContentType(path), Map.of()));
+    }
+
+    @Override
+    public void delete(String key) throws IOException {
+        Files.deleteIfExists(resolve(key));
+    }
+
+    @Override
+    public Optional<Path> localPath(String key) {
+        Path path = resolve(key);
+        return Files.isRegularFile(path) ? Optional.of(path) : Optional.empty();
+    }
+
+    @Override
+    public Optional<PresignedRequest> presignUpload(String key, String contentType, long contentLength,
+                                                    Map<String, String> metadata, Duration ttl) {
+        return Optional.empty();
+    }
+
+    @Override
+    public Optional<PresignedRequest> presignDownload(String key, String contentType, String contentDisposition,
+                                                      Duration ttl) {
+        return Optional.empty();
+    }
+
+    @Override
+    public boolean isRemote() {
+        return false;
+    }
+
+    private Path resolve(String key) {
+        return Paths.get(uploadDir).toAbsolutePath().resolve(key);
+    }
+}
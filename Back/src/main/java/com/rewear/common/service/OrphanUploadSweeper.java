@@ -0,0 +1,265 @@
+package com.rewear.common.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 참조되지 않는 업로드 파일 정리 작업
+ * - 업로드 디렉토리를 DirectoryStream으로 훑으며 파일명 순으로 이전 실행 다음 위치부터 files-per-run개씩 처리 (증분)
+ * - 후보를 chunk-size개씩 묶어 image_assets와 donation_items, posts의 이미지 컬럼에서 참조 여부를 조회
+ * - 수정 시각이 grace-hours 이전이고 참조되지 않는 파일만 삭제 (두 단계 기부 신청 중인 업로드 보호)
+ * - 한 번에 max-deletes-per-run개까지만 삭제하고 묶음 사이에 chunk-pause-ms만큼 쉼 (DB/디스크 부하 제한)
+ * - dry-run이면 삭제하지 않고 대상만 집계
+ * - 디렉토리를 한 바퀴 다 돌면 링크가 모두 사라진 blob도 정리 (ContentAddressedStore, 같은 grace-hours 적용)
+ * - 묶음 사이 대기가 다른 @Scheduled 작업을 막지 않도록 스케줄러 풀(spring.task.scheduling.pool.size)을 여러 스레드로 둠
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrphanUploadSweeper {
+
+    private final UploadReferenceScanner referenceScanner;
+    private final UploadFileIndex uploadFileIndex;
+    private final ImageDerivativeService imageDerivativeService;
+    private final ContentAddressedStore contentStore;
+    private final BlobStore blobStore;
+
+    @Value("${app.upload.dir:uploads}")
+    private String uploadDir;
+
+    @Value("${app.upload.orphan-gc.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.upload.orphan-gc.dry-run:true}")
+    private boolean dryRun;
+
+    @Value("${app.upload.orphan-gc.grace-hours:72}")
+    private long graceHours;
+
+    @Value("${app.upload.orphan-gc.files-per-run:2000}")
+    private int filesPerRun;
+
+    @Value("${app.upload.orphan-gc.chunk-size:100}")
+    private int chunkSize;
+
+    @Value("${app.upload.orphan-gc.max-deletes-per-run:500}")
+    private int maxDeletesPerRun;
+
+    @Value("${app.upload.orphan-gc.chunk-pause-ms:200}")
+    private long chunkPauseMs;
+
+    // 다음 실행은 이 파일명 다음부터 처리 (빈 문자열이면 처음부터)
+    private volatile String cursor = "";
+
+    // 지표
+    private final AtomicLong runCount = new AtomicLong();
+    private final AtomicLong scannedCount = new AtomicLong();
+    private final AtomicLong orphanCount = new AtomicLong();
+    private final AtomicLong deletedCount = new AtomicLong();
+    private final AtomicLong reclaimedBytes = new AtomicLong();
+    private final AtomicLong failedCount = new AtomicLong();
+    private volatile long lastRunMs;
+    private volatile LocalDateTime lastRunAt;
+    private volatile LocalDateTime lastPassCompletedAt;
+
+    @Scheduled(cron = "${app.upload.orphan-gc.cron:0 15 * * * *}")
+    public void scheduledSweep() {
+        if (enabled) {
+            sweep(dryRun);
+        }
+    }
+
+    /**
+     * 한 번 실행 (관리자 수동 실행에서도 사용)
+     * @return 이번 실행 결과
+     */
+    public synchronized Map<String, Object> sweep(boolean dryRun) {
+        long startedAt = System.nanoTime();
+        Path uploadPath = Paths.get(uploadDir);
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("dryRun", dryRun);
+        result.put("from", cursor);
+        if (!Files.isDirectory(uploadPath)) {
+            return result;
+        }
+
+        long scanned = 0;
+        long orphans = 0;
+        long deleted = 0;
+        long bytes = 0;
+        boolean passCompleted;
+        try {
+            List<String> batch = nextBatch(uploadPath);
+            passCompleted = batch.size() < filesPerRun;
+            Instant cutoff = Instant.now().minus(getGracePeriod());
+
+            for (int from = 0; from < batch.size(); from += chunkSize) {
+                List<String> chunk = batch.subList(from, Math.min(from + chunkSize, batch.size()));
+                List<String> candidates = new ArrayList<>(chunk.size());
+                for (String filename : chunk) {
+                    scanned++;
+                    try {
+                        BasicFileAttributes attributes = Files.readAttributes(
+                                uploadPath.resolve(filename), BasicFileAttributes.class);
+                        if (attributes.isRegularFile() && attributes.lastModifiedTime().toInstant().isBefore(cutoff)) {
+                            candidates.add(filename);
+                        }
+                    } catch (IOException e) {
+                        // 스캔 이후 삭제된 파일
+                    }
+                }
+
+                Set<String> referenced = referenceScanner.findReferenced(candidates);
+                boolean limitReached = false;
+                for (String filename : candidates) {
+                    if (referenced.contains(filename)) {
+                        continue;
+                    }
+                    if (!dryRun && deleted >= maxDeletesPerRun) {
+                        // 남은 파일은 다음 실행에서 이 묶음부터 다시 처리
+                        limitReached = true;
+                        break;
+                    }
+                    orphans++;
+                    Path path = uploadPath.resolve(filename);
+                    try {
+                        long size = Files.size(path);
+                        if (!dryRun) {
+                            Files.deleteIfExists(path);
+                            uploadFileIndex.remove(filename);
+                            imageDerivativeService.delete(filename);
+                            if (blobStore.isRemote()) {
+                                blobStore.delete(filename);
+                            }
+                        }
+                        deleted++;
+                        bytes += size;
+                    } catch (IOException e) {
+                        failedCount.incrementAndGet();
+                        log.warn("업로드 파일 삭제 실패: {} - {}", filename, e.getMessage());
+                    }
+                }
+                if (limitReached) {
+                    passCompleted = false;
+                    break;
+                }
+                cursor = chunk.get(chunk.size() - 1);
+                pause();
+            }
+
+            if (passCompleted) {
+                // 한 바퀴 완료 - 다음 실행은 처음부터, 링크가 없어진 blob 정리
+                cursor = "";
+                lastPassCompletedAt = LocalDateTime.now();
+                result.put("blobs", contentStore.collectGarbage(dryRun, getGracePeriod()));
+            }
+        } catch (Exception e) {
+            failedCount.incrementAndGet();
+            log.warn("업로드 파일 정리 실패 - 위치: {}, 오류: {}", cursor, e.getMessage());
+            result.put("error", e.getMessage());
+        }
+
+        runCount.incrementAndGet();
+        scannedCount.addAndGet(scanned);
+        orphanCount.addAndGet(orphans);
+        if (!dryRun) {
+            deletedCount.addAndGet(deleted);
+            reclaimedBytes.addAndGet(bytes);
+        }
+        lastRunMs = Duration.ofNanos(System.nanoTime() - startedAt).toMillis();
+        lastRunAt = LocalDateTime.now();
+
+        result.put("scanned", scanned);
+        result.put("orphans", orphans);
+        result.put(dryRun ? "wouldDelete" : "deleted", deleted);
+        result.put(dryRun ? "wouldReclaimBytes" : "reclaimedBytes", bytes);
+        result.put("next", cursor);
+        result.put("elapsedMs", lastRunMs);
+        if (orphans > 0 || scanned > 0) {
+            log.info("업로드 파일 정리{} - 검사: {}, 미참조: {}, 삭제: {}, 회수: {} bytes, {}ms",
+                    dryRun ? " (dry-run)" : "", scanned, orphans, deleted, bytes, lastRunMs);
+        }
+        return result;
+    }
+
+    /**
+     * 업로드 후 참조되지 않아도 지우지 않는 기간 (blob 정리도 이보다 최근 링크는 남김)
+     */
+    public Duration getGracePeriod() {
+        return Duration.ofHours(graceHours);
+    }
+
+    public Map<String, Object> getMetrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("enabled", enabled);
+        metrics.put("dryRun", dryRun);
+        metrics.put("runs", runCount.get());
+        metrics.put("scanned", scannedCount.get());
+        metrics.put("orphansFound", orphanCount.get());
+        metrics.put("deleted", deletedCount.get());
+        metrics.put("reclaimedBytes", reclaimedBytes.get());
+        metrics.put("failed", failedCount.get());
+        metrics.put("cursor", cursor);
+        metrics.put("lastRunMs", lastRunMs);
+        metrics.put("lastRunAt", lastRunAt);
+        metrics.put("lastPassCompletedAt", lastPassCompletedAt);
+        return metrics;
+    }
+
+    /**
+     * 커서 다음 파일명 중 가장 작은 files-per-run개 (디렉토리 전체를 메모리에 올리지 않도록 크기 제한 힙 사용)
+     */
+    private List<String> nextBatch(Path uploadPath) throws IOException {
+        String from = cursor;
+        PriorityQueue<String> largestFirst = new PriorityQueue<>(Comparator.reverseOrder());
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(uploadPath)) {
+            for (Path path : stream) {
+                String filename = path.getFileName().toString();
+                if (filename.startsWith(".") || filename.compareTo(from) <= 0 || !Files.isRegularFile(path)) {
+                    continue;
+                }
+                if (largestFirst.size() < filesPerRun) {
+                    largestFirst.add(filename);
+                } else if (filename.compareTo(largestFirst.peek()) < 0) {
+                    largestFirst.poll();
+                    largestFirst.add(filename);
+                }
+            }
+        }
+        List<String> batch = new ArrayList<>(largestFirst);
+        batch.sort(null);
+        return batch;
+    }
+
+    private void pause() {
+        if (chunkPauseMs <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(chunkPauseMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
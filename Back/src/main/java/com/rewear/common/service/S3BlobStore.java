@@ -0,0 +1,261 @@
+package com.rewear.common.service;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+/**
+ * S3 API 호환 저장소 (AWS S3, MinIO 등)
+ * - SDK 없이 JDK HttpClient와 AWS Signature V4(S3RequestSigner)로 PUT/GET/HEAD/DELETE 요청
+ * - 서명된 URL(X-Amz-Signature 쿼리)로 브라우저가 저장소에 직접 업로드/다운로드 (바이트가 애플리케이션을 거치지 않음)
+ * - 직접 업로드 URL은 Content-Type, Content-Length, x-amz-meta-* 헤더까지 서명하므로 발급받은 값 그대로만 올릴 수 있음
+ * - 기본은 경로 방식(endpoint/bucket/key) 주소로 MinIO 등 로컬 호환 서버에서도 동작
+ * - 브라우저 직접 업로드를 쓰려면 버킷에 서비스 도메인의 PUT과 Content-Type, x-amz-meta-* 헤더를 허용하는 CORS 설정 필요
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "app.storage.type", havingValue = "s3")
+public class S3BlobStore implements BlobStore {
+
+    private static final long MAX_PRESIGN_SECONDS = 7 * 24 * 60 * 60; // S3 서명 URL 최대 유효 시간
+    private static final String META_PREFIX = "x-amz-meta-";
+
+    @Value("${app.storage.s3.endpoint}")
+    private String endpoint; // 서버에서 접근하는 주소 (예: http://minio:9000)
+
+    @Value("${app.storage.s3.public-endpoint:}")
+    private String publicEndpoint; // 브라우저가 접근하는 주소 (서명 URL용, 비어 있으면 endpoint)
+
+    @Value("${app.storage.s3.region:us-east-1}")
+    private String region;
+
+    @Value("${app.storage.s3.bucket}")
+    private String bucket;
+
+    @Value("${app.storage.s3.access-key}")
+    private String accessKey;
+
+    @Value("${app.storage.s3.secret-key}")
+    private String secretKey;
+
+    @Value("${app.storage.s3.prefix:uploads/}")
+    private String prefix;
+
+    @Value("${app.storage.s3.path-style:true}")
+    private boolean pathStyle;
+
+    @Value("${app.storage.s3.timeout-seconds:30}")
+    private long timeoutSeconds;
+
+    private HttpClient httpClient;
+    private S3RequestSigner signer;
+
+    @PostConstruct
+    void init() {
+        signer = new S3RequestSigner(accessKey, secretKey, region);
+        httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(timeoutSeconds))
+                .build();
+        log.info("S3 저장소 사용 - endpoint: {}, bucket: {}, prefix: {}", endpoint, bucket, prefix);
+    }
+
+    @Override
+    public void put(String key, Path source, String contentType) throws IOException {
+        HttpResponse<Void> response = send("PUT", key, HttpRequest.BodyPublishers.ofFile(source),
+                contentType, HttpResponse.BodyHandlers.discarding());
+        if (!isSuccess(response.statusCode())) {
+            throw new IOException("S3 업로드 실패 - key: " + key + ", status: " + response.statusCode());
+        }
+    }
+
+    @Override
+    public InputStream open(String key) throws IOException {
+        HttpResponse<InputStream> response = send("GET", key, HttpRequest.BodyPublishers.noBody(),
+                null, HttpResponse.BodyHandlers.ofInputStream());
+        if (isSuccess(response.statusCode())) {
+            return response.body();
+        }
+        response.body().close();
+        if (response.statusCode() == 404) {
+            throw new NoSuchFileException(key);
+        }
+        throw new IOException("S3 조회 실패 - key: " + key + ", status: " + response.statusCode());
+    }
+
+    @Override
+    public boolean exists(String key) throws IOException {
+        HttpResponse<Void> response = send("HEAD", key, HttpRequest.BodyPublishers.noBody(),
+                null, HttpResponse.BodyHandlers.discarding());
+        if (isSuccess(response.statusCode())) {
+            return true;
+        }
+        if (response.statusCode() == 404) {
+            return false;
+        }
+        throw new IOException("S3 확인 실패 - key: " + key + ", status: " + response.statusCode());
+    }
+
+    @Override
+    public Optional<BlobInfo> stat(String key) throws IOException {
+        HttpResponse<Void> response = send("HEAD", key, HttpRequest.BodyPublishers.noBody(),
+                null, HttpResponse.BodyHandlers.discarding());
+        if (response.statusCode() == 404) {
+            return Optional.empty();
+        }
+        if (!isSuccess(response.statusCode())) {
+            throw new IOException("S3 확인 실패 - key: " + key + ", status: " + response.statusCode());
+        }
+        Map<String, String> metadata = new HashMap<>();
+        for (Map.Entry<String, List<String>> header : response.headers().map().entrySet()) {
+            String name = header.getKey().toLowerCase(Locale.ROOT);
+            if (name.startsWith(META_PREFIX) && !header.getValue().isEmpty()) {
+                metadata.put(name.substring(META_PREFIX.length()), header.getValue().get(0));
+            }
+        }
+        return Optional.of(new BlobInfo(
+                response.headers().firstValueAsLong("Content-Length").orElse(-1),
+                response.headers().firstValue("Content-Type").orElse(null),
+                metadata));
+    }
+
+    @Override
+    public void delete(String key) throws IOException {
+        HttpResponse<Void> response = send("DELETE", key, HttpRequest.BodyPublishers.noBody(),
+                null, HttpResponse.BodyHandlers.discarding());
+        if (!isSuccess(response.statusCode()) && response.statusCode() != 404) {
+            throw new IOException("S3 삭제 실패 - key: " + key + ", status: " + response.statusCode());
+        }
+    }
+
+    @Override
+    public Optional<Path> localPath(String key) {
+        return Optional.empty();
+    }
+
+    @Override
+    public Optional<PresignedRequest> presignUpload(String key, String contentType, long contentLength,
+                                                    Map<String, String> metadata, Duration ttl) {
+        // 서명에 포함할 헤더 (Content-Length는 브라우저가 본문 크기로 채우므로 응답 headers에서 제외)
+        TreeMap<String, String> signed = new TreeMap<>();
+        Map<String, String> headers = new LinkedHashMap<>();
+        signed.put("content-length", String.valueOf(contentLength));
+        signed.put("content-type", contentType);
+        headers.put("Content-Type", contentType);
+        metadata.forEach((name, value) -> {
+            signed.put(META_PREFIX + name, value);
+            headers.put(META_PREFIX + name, value);
+        });
+        return Optional.of(presign("PUT", key, ttl, signed, headers, Map.of()));
+    }
+
+    @Override
+    public Optional<PresignedRequest> presignDownload(String key, String contentType, String contentDisposition,
+                                                      Duration ttl) {
+        // S3 응답 헤더 재정의 파라미터 (서명에 포함되어 URL을 받은 쪽이 바꿀 수 없음)
+        Map<String, String> parameters = new LinkedHashMap<>();
+        parameters.put("response-content-type", contentType);
+        if (contentDisposition != null) {
+            parameters.put("response-content-disposition", contentDisposition);
+        }
+        return Optional.of(presign("GET", key, ttl, new TreeMap<>(), Map.of(), parameters));
+    }
+
+    @Override
+    public boolean isRemote() {
+        return true;
+    }
+
+    private <T> HttpResponse<T> send(String method, String key, HttpRequest.BodyPublisher body,
+                                     String contentType, HttpResponse.BodyHandler<T> handler) throws IOException {
+        URI uri = objectUri(endpoint, key);
+        Instant now = Instant.now();
+        String amzDate = S3RequestSigner.amzDate(now);
+
+        // 서명 대상 헤더 (이름 소문자, 정렬)
+        TreeMap<String, String> signed = new TreeMap<>();
+        signed.put("host", hostHeader(uri));
+        signed.put("x-amz-content-sha256", S3RequestSigner.UNSIGNED_PAYLOAD);
+        signed.put("x-amz-date", amzDate);
+        if (contentType != null) {
+            signed.put("content-type", contentType);
+        }
+
+        HttpRequest.Builder builder = HttpRequest.newBuilder(uri)
+                .timeout(Duration.ofSeconds(timeoutSeconds))
+                .method(method, body)
+                .header("x-amz-content-sha256", S3RequestSigner.UNSIGNED_PAYLOAD)
+                .header("x-amz-date", amzDate)
+                .header("Authorization", signer.authorization(method, uri, signed, S3RequestSigner.UNSIGNED_PAYLOAD, now));
+        if (contentType != null) {
+            builder.header("Content-Type", contentType);
+        }
+        try {
+            return httpClient.send(builder.build(), handler);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("S3 요청 중단 - " + method + " " + key);
+        }
+    }
+
+    /**
+     * @param signed host 외에 서명할 헤더 (이름 소문자)
+     * @param headers 브라우저가 그대로 보내야 하는 헤더
+     * @param parameters 함께 서명할 쿼리 파라미터
+     */
+    private PresignedRequest presign(String method, String key, Duration ttl, TreeMap<String, String> signed,
+                                     Map<String, String> headers, Map<String, String> parameters) {
+        URI uri = objectUri(publicEndpoint == null || publicEndpoint.isBlank() ? endpoint : publicEndpoint, key);
+        Instant now = Instant.now();
+        long expiresSeconds = Math.max(1, Math.min(ttl.toSeconds(), MAX_PRESIGN_SECONDS));
+        signed.put("host", hostHeader(uri));
+        String url = signer.presignedUrl(method, uri, signed, parameters, expiresSeconds, now);
+        return new PresignedRequest(url, method, headers, now.plusSeconds(expiresSeconds));
+    }
+
+    /**
+     * 객체 URI (경로는 S3 규칙대로 인코딩된 상태)
+     */
+    private URI objectUri(String base, String key) {
+        URI baseUri = URI.create(base.endsWith("/") ? base.substring(0, base.length() - 1) : base);
+        String objectPath = "/" + S3RequestSigner.encode(prefix + key, false);
+        if (pathStyle) {
+            return URI.create(baseUri + "/" + S3RequestSigner.encode(bucket, true) + objectPath);
+        }
+        String authority = bucket + "." + baseUri.getHost() + (baseUri.getPort() != -1 ? ":" + baseUri.getPort() : "");
+        return URI.create(baseUri.getScheme() + "://" + authority + objectPath);
+    }
+
+    private String hostHeader(URI uri) {
+        int port = uri.getPort();
+        boolean defaultPort = port == -1
+                || ("http".equals(uri.getScheme()) && port == 80)
+                || ("https".equals(uri.getScheme()) && port == 443);
+        return defaultPort ? uri.getHost() : uri.getHost() + ":" + port;
+    }
+
+    private boolean isSuccess(int status) {
+        return status >= 200 && status < 300;
+    }
+}
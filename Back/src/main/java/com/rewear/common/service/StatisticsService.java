@@ -0,0 +1,108 @@
+package com.rewear.common.service;
+
+import com.rewear.common.enums.DonationStatus;
+import com.rewear.common.enums.OrganStatus;
+import com.rewear.donation.repository.DonationRepository;
+import com.rewear.organ.repository.OrganRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 공개 통계 스냅샷 서비스
+ * - 집계 쿼리(SUM, COUNT DISTINCT, COUNT)로 통계를 계산하여 메모리에 보관
+ * - 기부/기관 상태 변경 시 markDirty()로 갱신 요청 → 스케줄러가 다음 주기에 재계산
+ * - 변경이 없어도 max-age가 지나면 재계산 (스냅샷 외부에서 변경된 데이터 반영)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StatisticsService {
+
+    private final DonationRepository donationRepository;
+    private final OrganRepository organRepository;
+
+    @Value("${app.statistics.max-age-ms:300000}")
+    private long maxAgeMs;
+
+    private final AtomicBoolean dirty = new AtomicBoolean(false);
+    private volatile Snapshot snapshot;
+
+    /**
+     * 공개 통계 스냅샷
+     * @param donationCount 기부된 옷 벌 수 (COMPLETED 기부의 수량 합계)
+     * @param organCount 함께하는 기관 수 (APPROVED)
+     * @param participantCount 누적 참여자 수 (고유 기부자 수)
+     */
+    public record Snapshot(long donationCount, long organCount, long participantCount, LocalDateTime refreshedAt) {
+    }
+
+    /**
+     * 현재 스냅샷 반환 (최초 호출 시에만 계산)
+     */
+    public Snapshot getSnapshot() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            synchronized (this) {
+                if (snapshot == null) {
+                    snapshot = compute();
+                }
+                current = snapshot;
+            }
+        }
+        return current;
+    }
+
+    /**
+     * 통계에 영향을 주는 변경 발생 시 호출 (다음 스케줄 주기에 재계산)
+     * 트랜잭션 안에서 호출되면 커밋 이후에 표시하여 커밋 전 데이터로 재계산하지 않도록 함
+     */
+    public void markDirty() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    dirty.set(true);
+                }
+            });
+        } else {
+            dirty.set(true);
+        }
+    }
+
+    /**
+     * 변경 요청이 있거나 스냅샷이 오래된 경우 재계산
+     */
+    @Scheduled(fixedDelayString = "${app.statistics.refresh-interval-ms:5000}")
+    public void refreshIfNeeded() {
+        Snapshot current = snapshot;
+        boolean expired = current != null
+                && current.refreshedAt().plus(Duration.ofMillis(maxAgeMs)).isBefore(LocalDateTime.now());
+        if (!dirty.getAndSet(false) && !expired) {
+            return;
+        }
+        try {
+            snapshot = compute();
+        } catch (Exception e) {
+            // 실패 시 다음 주기에 다시 시도
+            dirty.set(true);
+            log.warn("통계 스냅샷 갱신 실패: {}", e.getMessage());
+        }
+    }
+
+    private Snapshot compute() {
+        long donationCount = donationRepository.sumItemQuantityByStatus(DonationStatus.COMPLETED);
+        long organCount = organRepository.countByStatus(OrganStatus.APPROVED);
+        long participantCount = donationRepository.countDistinctDonors();
+        log.debug("통계 스냅샷 갱신 - 기부 수량: {}, 기관: {}, 참여자: {}", donationCount, organCount, participantCount);
+        return new Snapshot(donationCount, organCount, participantCount, LocalDateTime.now());
+    }
+}
@@ -0,0 +1,166 @@
+package com.rewear.common.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 업로드 파일명 인덱스
+ * - 시작 시 업로드 디렉토리를 한 번 스캔하여 파일명을 메모리에 보관
+ * - 파일 저장/삭제 코드가 add()/remove()로 갱신하므로 목록 화면에서 파일 존재 여부를 디스크 접근 없이 확인
+ * - app.upload.watch.enabled=true이면 WatchService로 외부에서 추가/삭제된 파일도 반영
+ */
+@Slf4j
+@Service
+public class UploadFileIndex {
+
+    @Value("${app.upload.dir:uploads}")
+    private String uploadDir;
+
+    @Value("${app.upload.watch.enabled:false}")
+    private boolean watchEnabled;
+
+    private final Set<String> filenames = ConcurrentHashMap.newKeySet();
+    private WatchService watchService;
+
+    @PostConstruct
+    void init() {
+        rescan();
+        if (watchEnabled) {
+            startWatcher();
+        }
+    }
+
+    /**
+     * 파일 존재 여부 (URL 또는 경로가 전달되면 마지막 파일명만 사용)
+     */
+    public boolean exists(String filenameOrUrl) {
+        String filename = toFilename(filenameOrUrl);
+        return filename != null && filenames.contains(filename);
+    }
+
+    public void add(String filename) {
+        if (filename != null) {
+            filenames.add(filename);
+        }
+    }
+
+    public void remove(String filenameOrUrl) {
+        String filename = toFilename(filenameOrUrl);
+        if (filename != null) {
+            filenames.remove(filename);
+        }
+    }
+
+    public int size() {
+        return filenames.size();
+    }
+
+    /**
+     * 업로드 디렉토리를 다시 스캔하여 인덱스 재구성
+     */
+    public void rescan() {
+        Path uploadPath = Paths.get(uploadDir);
+        if (!Files.isDirectory(uploadPath)) {
+            log.info("업로드 디렉토리가 없어 빈 인덱스로 시작: {}", uploadPath.toAbsolutePath());
+            return;
+        }
+        Set<String> scanned = ConcurrentHashMap.newKeySet();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(uploadPath)) {
+            for (Path path : stream) {
+                if (Files.isRegularFile(path)) {
+                    scanned.add(path.getFileName().toString());
+                }
+            }
+        } catch (IOException e) {
+            log.error("업로드 디렉토리 스캔 실패: {}", uploadPath.toAbsolutePath(), e);
+            return;
+        }
+        filenames.addAll(scanned);
+        filenames.retainAll(scanned);
+        log.info("업로드 파일 인덱스 구성 완료 - {}개", filenames.size());
+    }
+
+    @PreDestroy
+    void stopWatcher() {
+        if (watchService != null) {
+            try {
+                watchService.close();
+            } catch (IOException e) {
+                log.warn("업로드 디렉토리 감시 종료 실패: {}", e.getMessage());
+            }
+        }
+    }
+
+    private void startWatcher() {
+        Path uploadPath = Paths.get(uploadDir);
+        try {
+            Files.createDirectories(uploadPath);
+            watchService = FileSystems.getDefault().newWatchService();
+            uploadPath.register(watchService,
+                    StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_DELETE);
+        } catch (IOException e) {
+            log.warn("업로드 디렉토리 감시 시작 실패 - 저장 코드의 갱신만 사용: {}", e.getMessage());
+            return;
+        }
+        Thread watcher = new Thread(this::watchLoop, "upload-index-watcher");
+        watcher.setDaemon(true);
+        watcher.start();
+    }
+
+    private void watchLoop() {
+        try {
+            while (true) {
+                WatchKey key = watchService.take();
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                        // 이벤트 유실 시 전체 재스캔
+                        rescan();
+                        continue;
+                    }
+                    String filename = event.context().toString();
+                    if (event.kind() == StandardWatchEventKinds.ENTRY_CREATE) {
+                        filenames.add(filename);
+                    } else if (event.kind() == StandardWatchEventKinds.ENTRY_DELETE) {
+                        filenames.remove(filename);
+                    }
+                }
+                if (!key.reset()) {
+                    log.warn("업로드 디렉토리 감시 중단 (디렉토리 접근 불가)");
+                    return;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ClosedWatchServiceException e) {
+            // 애플리케이션 종료
+        }
+    }
+
+    private String toFilename(String filenameOrUrl) {
+        if (filenameOrUrl == null) {
+            return null;
+        }
+        String trimmed = filenameOrUrl.trim();
+        if (trimmed.isEmpty()) {
+            return null;
+        }
+        return trimmed.contains("/") ? trimmed.substring(trimmed.lastIndexOf('/') + 1) : trimmed;
+    }
+}
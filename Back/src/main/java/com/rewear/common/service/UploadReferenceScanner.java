@@ -0,0 +1,125 @@
+package com.rewear.common.service;
+
+import com.rewear.common.utils.UploadUrls;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * DB에서 참조 중인 업로드 파일명 조회
+ * - image_assets.filename (인덱스 조회)
+ * - donation_items, posts의 image_url / image_urls(쉼표 구분) 컬럼 (image_assets로 변환되기 전 데이터 포함)
+ * - 엔티티를 로딩하지 않고 JDBC로 이미지 컬럼만 조회
+ */
+@Component
+@RequiredArgsConstructor
+public class UploadReferenceScanner {
+
+    private static final String[] REFERENCE_QUERIES = {
+            "SELECT image_url, image_urls FROM donation_items " +
+                    "WHERE image_url IS NOT NULL OR image_urls IS NOT NULL",
+            "SELECT image_url, image_urls FROM posts " +
+                    "WHERE image_url IS NOT NULL OR image_urls IS NOT NULL"
+    };
+
+    private static final String[] TABLES = {"donation_items", "posts"};
+
+    private static final String ASSET_QUERY = "SELECT filename FROM image_assets";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    /**
+     * 참조 중인 파일명 전체
+     */
+    public Set<String> findAllReferencedFilenames() {
+        Set<String> filenames = new HashSet<>();
+        forEachReferencedFilename(filenames::add);
+        return filenames;
+    }
+
+    public void forEachReferencedFilename(Consumer<String> consumer) {
+        jdbcTemplate.query(ASSET_QUERY, rs -> {
+            accept(rs.getString(1), consumer);
+        });
+        for (String sql : REFERENCE_QUERIES) {
+            jdbcTemplate.query(sql, rs -> {
+                accept(rs.getString(1), consumer);
+                String imageUrls = rs.getString(2);
+                if (imageUrls != null) {
+                    for (String url : imageUrls.split(",")) {
+                        accept(url, consumer);
+                    }
+                }
+            });
+        }
+    }
+
+    /**
+     * 후보 파일명 중 DB에서 참조 중인 파일명 (후보 묶음 단위로 조회)
+     * - image_url은 파일명 또는 /uploads/파일명과 일치 비교, image_urls는 쉼표 구분 문자열이라 LIKE로 후보 행을 찾은 뒤 정확히 비교
+     */
+    public Set<String> findReferenced(Collection<String> filenames) {
+        Set<String> referenced = new HashSet<>();
+        if (filenames.isEmpty()) {
+            return referenced;
+        }
+        Set<String> candidates = new HashSet<>(filenames);
+        List<String> exact = new ArrayList<>(candidates.size() * 2);
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        StringBuilder likes = new StringBuilder();
+        int index = 0;
+        for (String filename : candidates) {
+            exact.add(filename);
+            exact.add("/uploads/" + filename);
+            String name = "p" + index++;
+            likes.append(" OR image_urls LIKE :").append(name);
+            params.addValue(name, "%" + escapeLike(filename) + "%");
+        }
+        params.addValue("exact", exact);
+        params.addValue("filenames", candidates);
+
+        Consumer<String> collector = filename -> {
+            if (candidates.contains(filename)) {
+                referenced.add(filename);
+            }
+        };
+        namedParameterJdbcTemplate.query(ASSET_QUERY + " WHERE filename IN (:filenames)", params,
+                (RowCallbackHandler) rs -> accept(rs.getString(1), collector));
+        for (String table : TABLES) {
+            String sql = "SELECT image_url, image_urls FROM " + table +
+                    " WHERE image_url IN (:exact)" + likes;
+            namedParameterJdbcTemplate.query(sql, params, (RowCallbackHandler) rs -> {
+                accept(rs.getString(1), collector);
+                String imageUrls = rs.getString(2);
+                if (imageUrls != null) {
+                    for (String url : imageUrls.split(",")) {
+                        accept(url, collector);
+                    }
+                }
+            });
+        }
+        return referenced;
+    }
+
+    private String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
+    private void accept(String stored, Consumer<String> consumer) {
+        String filename = UploadUrls.filename(stored);
+        if (filename != null) {
+            consumer.accept(filename);
+        }
+    }
+}
@@ -0,0 +1,366 @@
+package com.rewear.common.service;
+
+import com.rewear.common.utils.UploadUrls;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 업로드 파일 저장
+ * - 멀티파트: 임시 파일로 받은 파트를 transferTo로 업로드 디렉토리에 이동 (힙에 올리지 않음)
+ * - base64 데이터 URL: 문자열을 byte[]로 디코딩하지 않고 Base64 디코더 스트림에서 파일 채널로 바로 기록
+ * - 내용은 ContentAddressedStore에 해시 기준으로 한 번만 저장하고, 업로드 파일명은 blob에 대한 링크로 생성
+ * - 저장한 파일명은 UploadFileIndex에 등록하고, 썸네일 등 파생본 생성을 요청
+ * - 저장 파일명의 확장자는 이미지 확장자(IMAGE_TYPES)로만 만듦 (원본 파일명의 확장자를 그대로 쓰지 않음)
+ * - 원격 저장소(BlobStore, app.storage.type=s3)를 쓰면 저장 직후 같은 파일명으로 올려 다른 서버와 공유
+ *   (업로드 디렉토리의 파일은 이 서버의 캐시 겸 파생본 생성 원본으로 유지)
+ * - 원격 저장소는 서명된 URL로 브라우저가 직접 업로드할 수 있음 (presignUpload → PUT → completeDirectUpload)
+ *   (타입, 크기, 요청한 사용자 ID를 서명에 포함하고, 완료 시 저장된 객체를 다시 확인하여 다르면 삭제)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UploadStorageService {
+
+    // transferFrom 한 번에 옮길 최대 바이트 수
+    private static final long TRANSFER_CHUNK = 1024 * 1024;
+
+    // 업로드 허용 이미지 타입 → 확장자
+    private static final Map<String, String> IMAGE_TYPES = Map.of(
+            "image/jpeg", ".jpg",
+            "image/png", ".png",
+            "image/gif", ".gif",
+            "image/webp", ".webp");
+
+    // 원본 파일명에서 그대로 쓸 수 있는 확장자
+    private static final Set<String> IMAGE_EXTENSIONS = Set.of(".jpg", ".jpeg", ".png", ".gif", ".webp");
+
+    // 직접 업로드 객체에 저장하는 요청 사용자 ID 메타데이터
+    private static final String UPLOADER_METADATA = "uploader";
+
+    private final UploadFileIndex uploadFileIndex;
+    private final ImageDerivativeService imageDerivativeService;
+    private final ContentAddressedStore contentStore;
+    private final BlobStore blobStore;
+
+    @Value("${app.upload.dir:uploads}")
+    private String uploadDir;
+
+    @Value("${app.storage.presign-ttl-minutes:10}")
+    private long presignTtlMinutes;
+
+    @Value("${app.storage.direct-upload-max-bytes:10485760}")
+    private long directUploadMaxBytes;
+
+    /**
+     * 멀티파트 파일 저장
+     * - 확장자는 원본 파일명의 이미지 확장자, 없으면 Content-Type의 이미지 확장자, 둘 다 아니면 defaultExtension
+     * @param defaultExtension 이미지 확장자를 정할 수 없을 때 사용할 확장자
+     * @return 저장된 파일명
+     */
+    public String store(MultipartFile file, String defaultExtension) throws IOException {
+        String extension = imageExtension(file.getOriginalFilename(), file.getContentType(), defaultExtension);
+
+        String filename = UUID.randomUUID().toString() + extension;
+        prepareUploadPath();
+        Path temp = contentStore.newTempFile().toAbsolutePath();
+        try {
+            file.transferTo(temp.toFile());
+        } catch (IllegalStateException e) {
+            // 이미 이동된 파트 등 transferTo를 사용할 수 없는 경우 채널로 복사
+            try (InputStream in = file.getInputStream()) {
+                writeStream(in, temp);
+            }
+        }
+        contentStore.storeFile(temp, filename);
+        publishOrDiscard(filename);
+        uploadFileIndex.add(filename);
+        imageDerivativeService.generateAsync(filename);
+        return filename;
+    }
+
+    /**
+     * base64 이미지 저장 (data:image/jpeg;base64,/9j/4AAQ... 형식 또는 base64 문자열만)
+     * - 디코딩된 바이트를 메모리에 모으지 않고 스트림으로 기록하므로 추가 메모리가 이미지 크기와 무관
+     * @return 저장된 파일명
+     * @throws IllegalArgumentException 데이터가 없거나 base64 형식이 아닌 경우
+     * @throws IOException 디스크 저장에 실패한 경우
+     */
+    public String storeBase64(String base64Image) throws IOException {
+        if (base64Image == null || base64Image.isEmpty()) {
+            throw new IllegalArgumentException("이미지 데이터가 없습니다.");
+        }
+
+        // 헤더(data:image/png;base64)와 데이터 구분 - split으로 데이터 사본을 만들지 않음
+        int comma = base64Image.indexOf(',');
+        String extension = comma >= 0 ? extensionOf(base64Image.substring(0, comma)) : ".jpg";
+        int dataStart = comma + 1;
+        if (dataStart >= base64Image.length()) {
+            throw new IllegalArgumentException("이미지 데이터가 없습니다.");
+        }
+
+        String filename = UUID.randomUUID().toString() + extension;
+        prepareUploadPath();
+        // 잘못된 base64는 IllegalArgumentException, 디스크 쓰기 실패는 IOException으로 구분되어 전달됨
+        try (InputStream in = new Base64DecodingInputStream(
+                Base64.getDecoder().wrap(new AsciiInputStream(base64Image, dataStart)))) {
+            contentStore.store(in, filename);
+        }
+        publishOrDiscard(filename);
+        uploadFileIndex.add(filename);
+        imageDerivativeService.generateAsync(filename);
+        return filename;
+    }
+
+    /**
+     * 업로드 파일 삭제 (업로드 디렉토리, 파생본, 원격 저장소)
+     * @param stored 파일명 또는 /uploads/파일명
+     */
+    public void delete(String stored) throws IOException {
+        String filename = UploadUrls.filename(stored);
+        if (filename == null) {
+            return;
+        }
+        Files.deleteIfExists(Paths.get(uploadDir).resolve(filename));
+        uploadFileIndex.remove(filename);
+        imageDerivativeService.delete(filename);
+        if (blobStore.isRemote()) {
+            blobStore.delete(filename);
+        }
+    }
+
+    /**
+     * 브라우저 직접 업로드용 서명된 PUT 요청 발급
+     * - 서명에 Content-Type, Content-Length, 요청 사용자 ID가 포함되어 다른 타입/크기/사용자로는 올릴 수 없음
+     * @param contentType 이미지 MIME 타입 (image/jpeg, image/png, image/gif, image/webp)
+     * @param size 올릴 파일 크기 (바이트)
+     * @param userId 요청 사용자 ID (완료 확인 시 같은 사용자인지 비교)
+     * @return 파일명과 서명된 요청, 직접 업로드를 지원하지 않는 저장소면 empty
+     * @throws IllegalArgumentException 허용하지 않는 타입이거나 크기가 제한을 넘는 경우
+     */
+    public Optional<DirectUpload> presignUpload(String contentType, long size, Long userId) {
+        String extension = contentType != null ? IMAGE_TYPES.get(contentType.toLowerCase()) : null;
+        if (extension == null) {
+            throw new IllegalArgumentException("이미지 파일(jpg, png, gif, webp)만 업로드할 수 있습니다.");
+        }
+        if (size <= 0 || size > directUploadMaxBytes) {
+            throw new IllegalArgumentException("파일 크기는 " + (directUploadMaxBytes / (1024 * 1024)) + "MB를 초과할 수 없습니다.");
+        }
+        String filename = UUID.randomUUID().toString() + extension;
+        return blobStore.presignUpload(filename, contentType.toLowerCase(), size,
+                        Map.of(UPLOADER_METADATA, String.valueOf(userId)), Duration.ofMinutes(presignTtlMinutes))
+                .map(request -> new DirectUpload(filename, request));
+    }
+
+    /**
+     * 직접 업로드 완료 확인
+     * - 저장된 객체의 크기, 타입, 업로드한 사용자를 확인하여 맞으면 업로드 파일 인덱스에 등록
+     * - 조건에 맞지 않는 객체는 저장소에서 삭제
+     * @return 등록 여부 (파일이 없거나 조건에 맞지 않으면 false)
+     */
+    public boolean completeDirectUpload(String filename, Long userId) throws IOException {
+        if (filename == null || filename.isEmpty() || filename.contains("/")
+                || filename.contains("\\") || filename.contains("..")) {
+            return false;
+        }
+        Optional<BlobStore.BlobInfo> info = blobStore.stat(filename);
+        if (info.isEmpty()) {
+            return false;
+        }
+        BlobStore.BlobInfo blob = info.get();
+        String contentType = blob.contentType() != null ? blob.contentType().toLowerCase() : null;
+        String expectedExtension = contentType != null ? IMAGE_TYPES.get(contentType) : null;
+        if (!String.valueOf(userId).equals(blob.metadata().get(UPLOADER_METADATA))) {
+            // 다른 사용자가 발급받은 키 - 삭제하지 않고 거부
+            log.warn("직접 업로드 완료 거부 (요청 사용자 불일치) - filename: {}, userId: {}", filename, userId);
+            return false;
+        }
+        if (expectedExtension == null || !filename.endsWith(expectedExtension)
+                || blob.size() <= 0 || blob.size() > directUploadMaxBytes) {
+            log.warn("직접 업로드 완료 거부 (타입/크기 불일치) - filename: {}, type: {}, size: {}",
+                    filename, blob.contentType(), blob.size());
+            blobStore.delete(filename);
+            return false;
+        }
+        uploadFileIndex.add(filename);
+        return true;
+    }
+
+    /**
+     * 직접 업로드 정보
+     * @param filename 업로드 후 이미지 값으로 사용할 파일명
+     */
+    public record DirectUpload(String filename, BlobStore.PresignedRequest request) {
+    }
+
+    /**
+     * BlobStore 등록에 실패하면 업로드 디렉토리의 파일도 지움 (다른 서버에서 보이지 않는 파일을 이 서버만 제공하지 않도록)
+     * - 내용 blob은 참조가 없어지므로 ContentAddressedStore 정리 작업이 회수
+     */
+    private void publishOrDiscard(String filename) throws IOException {
+        try {
+            publish(filename);
+        } catch (IOException e) {
+            Files.deleteIfExists(Paths.get(uploadDir).resolve(filename));
+            throw e;
+        }
+    }
+
+    /**
+     * 업로드 디렉토리에 저장한 파일을 BlobStore에 등록 (로컬 저장소면 같은 파일이라 복사하지 않음)
+     * - Content-Type은 요청 헤더가 아니라 저장 파일명의 허용 확장자로 정함 (원격 저장소가 그대로 응답에 사용)
+     */
+    private void publish(String filename) throws IOException {
+        Path path = Paths.get(uploadDir).resolve(filename);
+        blobStore.put(filename, path, contentTypeOf(filename));
+    }
+
+    /**
+     * 저장 파일명의 확장자에 해당하는 이미지 MIME 타입 (허용 확장자가 아니면 application/octet-stream)
+     */
+    static String contentTypeOf(String filename) {
+        int dot = filename.lastIndexOf('.');
+        if (dot >= 0) {
+            String extension = filename.substring(dot).toLowerCase(Locale.ROOT);
+            String normalized = ".jpeg".equals(extension) ? ".jpg" : extension;
+            for (Map.Entry<String, String> type : IMAGE_TYPES.entrySet()) {
+                if (type.getValue().equals(normalized)) {
+                    return type.getKey();
+                }
+            }
+        }
+        return MediaType.APPLICATION_OCTET_STREAM_VALUE;
+    }
+
+    private Path prepareUploadPath() throws IOException {
+        Path uploadPath = Paths.get(uploadDir);
+        if (!Files.exists(uploadPath)) {
+            Files.createDirectories(uploadPath);
+        }
+        return uploadPath;
+    }
+
+    private void writeStream(InputStream in, Path target) throws IOException {
+        try (ReadableByteChannel source = Channels.newChannel(in);
+             FileChannel out = FileChannel.open(target, StandardOpenOption.CREATE,
+                     StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            long position = 0;
+            long transferred;
+            while ((transferred = out.transferFrom(source, position, TRANSFER_CHUNK)) > 0) {
+                position += transferred;
+            }
+        }
+    }
+
+    private String imageExtension(String originalFilename, String contentType, String defaultExtension) {
+        if (originalFilename != null && originalFilename.contains(".")) {
+            String extension = originalFilename.substring(originalFilename.lastIndexOf('.')).toLowerCase(Locale.ROOT);
+            if (IMAGE_EXTENSIONS.contains(extension)) {
+                return extension;
+            }
+        }
+        if (contentType != null) {
+            // 매개변수(; charset=...) 제외
+            String extension = IMAGE_TYPES.get(contentType.split(";")[0].trim().toLowerCase(Locale.ROOT));
+            if (extension != null) {
+                return extension;
+            }
+        }
+        return defaultExtension;
+    }
+
+    private String extensionOf(String header) {
+        if (header.contains("image/png")) {
+            return ".png";
+        } else if (header.contains("image/gif")) {
+            return ".gif";
+        } else if (header.contains("image/webp")) {
+            return ".webp";
+        }
+        return ".jpg";
+    }
+
+    /**
+     * base64 디코더 스트림의 IOException(잘못된 base64 문자)을 IllegalArgumentException으로 변환
+     * - 저장 중 발생하는 디스크 IOException과 섞이지 않도록 디코딩 단계에서만 변환
+     */
+    private static final class Base64DecodingInputStream extends FilterInputStream {
+
+        private Base64DecodingInputStream(InputStream decoder) {
+            super(decoder);
+        }
+
+        @Override
+        public int read() {
+            try {
+                return super.read();
+            } catch (IOException e) {
+                throw new IllegalArgumentException("올바른 base64 이미지가 아닙니다: " + e.getMessage(), e);
+            }
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) {
+            try {
+                return super.read(buffer, offset, length);
+            } catch (IOException e) {
+                throw new IllegalArgumentException("올바른 base64 이미지가 아닙니다: " + e.getMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * 문자열의 ASCII 문자를 그대로 바이트로 읽는 스트림 (base64 문자열의 byte[] 사본을 만들지 않기 위함)
+     */
+    private static final class AsciiInputStream extends InputStream {
+        private final String source;
+        private int position;
+
+        private AsciiInputStream(String source, int offset) {
+            this.source = source;
+            this.position = offset;
+        }
+
+        @Override
+        public int read() {
+            return position < source.length() ? source.charAt(position++) & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) {
+            if (length == 0) {
+                return 0;
+            }
+            int remaining = source.length() - position;
+            if (remaining <= 0) {
+                return -1;
+            }
+            int count = Math.min(length, remaining);
+            for (int i = 0; i < count; i++) {
+                buffer[offset + i] = (byte) source.charAt(position++);
+            }
+            return count;
+        }
+    }
+}
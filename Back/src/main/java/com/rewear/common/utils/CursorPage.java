@@ -0,0 +1,52 @@
+package com.rewear.common.utils;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 키셋(커서) 기반 페이지 결과 래퍼
+ * - 조회 시 size + 1 건을 가져와 다음 페이지 존재 여부를 판단
+ * - nextCursor는 마지막 항목의 정렬 키 (다음 요청의 cursor 파라미터로 그대로 전달)
+ * @param <T> 항목 타입
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class CursorPage<T> {
+
+    private final List<T> items;
+    private final String nextCursor; // 다음 페이지가 없으면 null
+    private final boolean hasNext;
+    private final long totalCount;  // 커서와 무관한 전체 건수 (별도 COUNT 쿼리)
+
+    /**
+     * size + 1 건으로 조회한 결과로부터 페이지를 생성
+     * @param fetched size + 1 건까지 조회한 결과
+     * @param size 요청한 페이지 크기
+     * @param totalCount 전체 건수
+     * @param cursorOf 항목에서 커서 값을 추출하는 함수
+     */
+    public static <T> CursorPage<T> of(List<T> fetched, int size, long totalCount, Function<T, String> cursorOf) {
+        boolean hasNext = fetched.size() > size;
+        List<T> items = hasNext ? fetched.subList(0, size) : fetched;
+        String nextCursor = hasNext && !items.isEmpty() ? cursorOf.apply(items.get(items.size() - 1)) : null;
+        return new CursorPage<>(items, nextCursor, hasNext, totalCount);
+    }
+
+    public <R> CursorPage<R> map(Function<T, R> mapper) {
+        return new CursorPage<>(items.stream().map(mapper).toList(), nextCursor, hasNext, totalCount);
+    }
+
+    /**
+     * 요청 페이지 크기를 [1, max] 범위로 보정 (null이면 기본값)
+     */
+    public static int clampSize(Integer size, int defaultSize, int max) {
+        if (size == null || size < 1) {
+            return defaultSize;
+        }
+        return Math.min(size, max);
+    }
+}
@@ -0,0 +1,49 @@
+package com.rewear.common.utils;
+
+import com.rewear.common.enums.ImageVariant;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * 업로드 파일 URL 변환
+ * - DB에는 파일명 또는 /uploads/파일명 형태가 섞여 저장되어 있으므로 응답용 URL로 통일
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class UploadUrls {
+
+    private static final String PREFIX = "/uploads/";
+
+    /**
+     * 원본 URL (/uploads/파일명)
+     */
+    public static String original(String stored) {
+        String filename = filename(stored);
+        return filename != null ? PREFIX + filename : null;
+    }
+
+    /**
+     * 파생본 URL (/uploads/thumb/파일명 등)
+     */
+    public static String variant(String stored, ImageVariant variant) {
+        String filename = filename(stored);
+        return filename != null ? PREFIX + variant.getPath() + "/" + filename : null;
+    }
+
+    public static String thumbnail(String stored) {
+        return variant(stored, ImageVariant.THUMB);
+    }
+
+    /**
+     * 저장된 값에서 파일명만 추출
+     */
+    public static String filename(String stored) {
+        if (stored == null) {
+            return null;
+        }
+        String trimmed = stored.trim();
+        if (trimmed.isEmpty()) {
+            return null;
+        }
+        return trimmed.contains("/") ? trimmed.substring(trimmed.lastIndexOf('/') + 1) : trimmed;
+    }
+}
@@ -0,0 +1,161 @@
+package com.rewear.config;
+
+import com.rewear.common.entity.ImageAsset;
+import com.rewear.common.service.ImageAssetService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 쉼표 구분 이미지 컬럼(image_url, image_urls) → image_assets 행 변환
+ * - 아직 이미지 행이 없는 donation_items, posts만 id 순으로 chunk-size개씩 읽어 JDBC 배치로 삽입 (엔티티 로딩 없음)
+ * - 묶음마다 별도 트랜잭션이라 중간에 종료되어도 다음 기동 시 남은 행부터 이어서 처리 (이미 변환된 행은 건너뜀)
+ * - 기존 컬럼은 템플릿과 하위 호환을 위해 그대로 유지
+ * - 여러 노드가 동시에 기동하면 migration_locks 행을 차지한 노드만 실행 (같은 행을 중복 삽입하지 않도록)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@Order(10) // 계정 초기화(AdminConfig, UserConfig, OrganConfig) 이후 실행
+public class ImageAssetMigration implements ApplicationRunner {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ImageAssetService imageAssetService;
+
+    @Value("${app.image-asset.migration.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.image-asset.migration.chunk-size:500}")
+    private int chunkSize;
+
+    // 잠금 유지 시간 (묶음마다 연장, 노드가 중간에 종료되면 이 시간이 지난 뒤 다른 노드가 이어서 처리)
+    @Value("${app.image-asset.migration.lock-lease-ms:300000}")
+    private long lockLeaseMs;
+
+    private static final String LOCK_NAME = "image-asset-migration";
+
+    private record LegacyRow(long id, String imageUrl, String imageUrls) {
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!enabled) {
+            return;
+        }
+        String owner = UUID.randomUUID().toString();
+        try {
+            if (!acquireLock(owner)) {
+                log.info("다른 노드가 이미지 행 변환 중 - 이번 기동에서는 건너뜀");
+                return;
+            }
+            try {
+                migrate("donation_items", "donation_item_id", "donation_item_id", owner);
+                migrate("posts", "id", "post_id", owner);
+            } finally {
+                releaseLock(owner);
+            }
+        } catch (Exception e) {
+            // 변환 실패 시에도 기존 컬럼으로 조회되므로 기동은 계속
+            log.error("이미지 행 변환 실패", e);
+        }
+    }
+
+    /**
+     * 잠금 행을 차지 (행이 없으면 먼저 만들고, 만료된 잠금만 UPDATE로 가져옴)
+     * @return 이 노드가 잠금을 가졌으면 true
+     */
+    private boolean acquireLock(String owner) {
+        try {
+            jdbcTemplate.update("INSERT INTO migration_locks (name) VALUES (?)", LOCK_NAME);
+        } catch (DataIntegrityViolationException e) {
+            // 다른 노드가 이미 만든 행
+        }
+        LocalDateTime now = LocalDateTime.now();
+        int updated = jdbcTemplate.update(
+                "UPDATE migration_locks SET owner = ?, locked_until = ?" +
+                        " WHERE name = ? AND (locked_until IS NULL OR locked_until < ?)",
+                owner, Timestamp.valueOf(now.plus(Duration.ofMillis(lockLeaseMs))), LOCK_NAME, Timestamp.valueOf(now));
+        return updated == 1;
+    }
+
+    /**
+     * 잠금 만료 시각 연장 (만료되어 다른 노드가 가져갔으면 중단)
+     */
+    private void renewLock(String owner) {
+        LocalDateTime until = LocalDateTime.now().plus(Duration.ofMillis(lockLeaseMs));
+        int updated = jdbcTemplate.update(
+                "UPDATE migration_locks SET locked_until = ? WHERE name = ? AND owner = ?",
+                Timestamp.valueOf(until), LOCK_NAME, owner);
+        if (updated != 1) {
+            throw new IllegalStateException("이미지 행 변환 잠금을 다른 노드가 가져감");
+        }
+    }
+
+    private void releaseLock(String owner) {
+        jdbcTemplate.update("UPDATE migration_locks SET owner = NULL, locked_until = NULL WHERE name = ? AND owner = ?",
+                LOCK_NAME, owner);
+    }
+
+    private void migrate(String table, String idColumn, String ownerColumn, String lockOwner) {
+        String selectSql = "SELECT t." + idColumn + ", t.image_url, t.image_urls FROM " + table + " t" +
+                " WHERE t." + idColumn + " > ?" +
+                " AND (t.image_url IS NOT NULL OR t.image_urls IS NOT NULL)" +
+                " AND NOT EXISTS (SELECT 1 FROM image_assets a WHERE a." + ownerColumn + " = t." + idColumn + ")" +
+                " ORDER BY t." + idColumn + " LIMIT ?";
+        String insertSql = "INSERT INTO image_assets (" + ownerColumn +
+                ", filename, ordinal, width, height, byte_size, created_at) VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+        long lastId = 0;
+        long migratedRows = 0;
+        long insertedAssets = 0;
+        while (true) {
+            List<LegacyRow> chunk = jdbcTemplate.query(selectSql,
+                    (rs, rowNum) -> new LegacyRow(rs.getLong(1), rs.getString(2), rs.getString(3)),
+                    lastId, chunkSize);
+            if (chunk.isEmpty()) {
+                break;
+            }
+
+            renewLock(lockOwner);
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+            List<Object[]> batch = new ArrayList<>();
+            for (LegacyRow row : chunk) {
+                List<ImageAsset> assets = imageAssetService.describe(
+                        ImageAsset.filenamesOf(null, row.imageUrls(), row.imageUrl()));
+                for (int i = 0; i < assets.size(); i++) {
+                    ImageAsset asset = assets.get(i);
+                    batch.add(new Object[]{row.id(), asset.getFilename(), i,
+                            asset.getWidth(), asset.getHeight(), asset.getByteSize(), now});
+                }
+            }
+            if (!batch.isEmpty()) {
+                transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(insertSql, batch));
+            }
+
+            lastId = chunk.get(chunk.size() - 1).id();
+            migratedRows += chunk.size();
+            insertedAssets += batch.size();
+            if (chunk.size() < chunkSize) {
+                break;
+            }
+        }
+        if (migratedRows > 0) {
+            log.info("이미지 행 변환 완료 - {}: {}건, 이미지 {}개", table, migratedRows, insertedAssets);
+        }
+    }
+}
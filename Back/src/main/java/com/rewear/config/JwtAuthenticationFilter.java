@@ -0,0 +1,59 @@
+package com.rewear.config;
+
+import com.rewear.user.details.CustomUserDetails;
+import com.rewear.user.token.JwtTokenService;
+import com.rewear.user.token.TokenCookies;
+import com.rewear.user.token.TokenRevocationList;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * /api/** 요청의 access 토큰 인증 (app.auth.jwt.enabled=true일 때)
+ * - 토큰의 사용자 ID, 사용자명, 역할로 인증하며 DB와 세션을 사용하지 않음 (어느 서버로 가도 같은 결과)
+ * - 토큰이 없거나 유효하지 않으면 그대로 진행하여 기존 세션 인증 또는 401 처리
+ * - 서블릿 필터로 중복 등록되지 않도록 빈이 아닌 SecurityConfig에서 생성
+ */
+@RequiredArgsConstructor
+public class JwtAuthenticationFilter extends OncePerRequestFilter {
+
+    private final JwtTokenService jwtTokenService;
+    private final TokenRevocationList revocationList;
+    private final TokenCookies tokenCookies;
+    private final WebAuthenticationDetailsSource detailsSource = new WebAuthenticationDetailsSource();
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !jwtTokenService.isEnabled() || !request.getRequestURI().startsWith("/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String token = tokenCookies.resolveAccessToken(request);
+        if (token != null) {
+            jwtTokenService.verify(token, JwtTokenService.TYPE_ACCESS)
+                    .filter(claims -> !revocationList.isRevoked(claims.jti()))
+                    .ifPresent(claims -> {
+                        CustomUserDetails principal = claims.toUserDetails();
+                        UsernamePasswordAuthenticationToken authentication =
+                                UsernamePasswordAuthenticationToken.authenticated(principal, null, principal.getAuthorities());
+                        authentication.setDetails(detailsSource.buildDetails(request));
+                        SecurityContext context = SecurityContextHolder.createEmptyContext();
+                        context.setAuthentication(authentication);
+                        // 요청 범위에서만 사용 (세션에 저장하지 않음)
+                        SecurityContextHolder.setContext(context);
+                    });
+        }
+        chain.doFilter(request, response);
+    }
+}
@@ -0,0 +1,41 @@
+package com.rewear.config;
+
+import com.rewear.user.login.LoginAttemptLimiter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 폼 로그인(POST /login) 시도 제한 - 차단된 아이디/IP는 비밀번호 확인 전에 로그인 페이지로 돌려보냄
+ * - JSON 로그인(/api/users/login)은 UserController에서 같은 LoginAttemptLimiter로 확인
+ * - 서블릿 필터로 중복 등록되지 않도록 빈이 아닌 SecurityConfig에서 생성
+ */
+@RequiredArgsConstructor
+public class LoginThrottleFilter extends OncePerRequestFilter {
+
+    private final LoginAttemptLimiter loginAttemptLimiter;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !"POST".equals(request.getMethod()) || !"/login".equals(request.getServletPath());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        long blockedSeconds = loginAttemptLimiter.blockedSeconds(request.getParameter("username"), request.getRemoteAddr());
+        if (blockedSeconds > 0) {
+            String encodedMessage = URLEncoder.encode(LoginAttemptLimiter.blockedMessage(blockedSeconds), StandardCharsets.UTF_8);
+            response.sendRedirect(request.getContextPath() + "/login?error=" + encodedMessage);
+            return;
+        }
+        chain.doFilter(request, response);
+    }
+}
@@ -3,8 +3,6 @@ package com.rewear.config;
 import com.rewear.common.enums.Role;
 import com.rewear.notification.service.NotificationService;
 import com.rewear.user.details.CustomUserDetails;
-import com.rewear.user.entity.User;
-import com.rewear.user.service.UserServiceImpl;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -20,7 +18,6 @@ import jakarta.servlet.http.HttpServletResponse;
 public class NotificationModelAttribute implements HandlerInterceptor {
 
     private final NotificationService notificationService;
-    private final UserServiceImpl userService;
 
     @Override
     public void postHandle(HttpServletRequest request, HttpServletResponse response, 
@@ -30,11 +27,10 @@ public class NotificationModelAttribute implements HandlerInterceptor {
             if (authentication != null && authentication.isAuthenticated() 
                 && authentication.getPrincipal() instanceof CustomUserDetails) {
                 try {
+                    // 사용자를 다시 조회하지 않고 로그인 정보의 ID/역할로 캐시된 개수를 조회
                     CustomUserDetails userDetails = (CustomUserDetails) authentication.getPrincipal();
-                    User user = userService.findByUsername(userDetails.getUsername())
-                            .orElse(null);
-                    if (user != null && !user.hasRole(Role.ADMIN)) {
-                        Long unreadCount = notificationService.getUnreadCount(user);
+                    if (userDetails.getId() != null && !userDetails.getRoles().contains(Role.ADMIN)) {
+                        long unreadCount = notificationService.getUnreadCount(userDetails.getId());
                         modelAndView.addObject("unreadNotificationCount", unreadCount);
                     }
                 } catch (Exception e) {
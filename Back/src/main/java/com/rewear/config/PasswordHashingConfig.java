@@ -0,0 +1,62 @@
+package com.rewear.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 비밀번호 해싱 전용 스레드 풀
+ * - BCrypt 계산은 CPU를 오래 쓰므로 동시 실행 수를 parallelism으로 제한하여 로그인이 몰려도 다른 요청 처리 스레드가 CPU를 쓸 수 있게 함
+ * - 큐가 가득 차면 거절 (PasswordHashingService가 "요청이 많습니다" 응답으로 변환)
+ * - cost 측정(벤치마크)은 로그인 해싱 풀을 차지하지 않도록 별도 스레드 1개에서 실행
+ */
+@Configuration
+public class PasswordHashingConfig {
+
+    @Value("${app.auth.password.parallelism:0}")
+    private int parallelism;
+
+    @Value("${app.auth.password.queue-capacity:64}")
+    private int queueCapacity;
+
+    @Bean(name = "passwordHashingExecutor", destroyMethod = "shutdown")
+    public ExecutorService passwordHashingExecutor() {
+        // 0이면 CPU 코어의 절반
+        int threads = parallelism > 0 ? parallelism : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        AtomicInteger sequence = new AtomicInteger();
+        return new ThreadPoolExecutor(
+                threads, threads,
+                60L, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hashing-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @Bean(name = "passwordBenchmarkExecutor", destroyMethod = "shutdownNow")
+    public ExecutorService passwordBenchmarkExecutor() {
+        // 한 번에 하나만 측정 (대기열 없음 - 측정 중이면 거절)
+        AtomicInteger sequence = new AtomicInteger();
+        return new ThreadPoolExecutor(
+                0, 1,
+                60L, TimeUnit.SECONDS,
+                new SynchronousQueue<>(),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-benchmark-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    thread.setPriority(Thread.MIN_PRIORITY);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+}
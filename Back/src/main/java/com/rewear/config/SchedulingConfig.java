@@ -0,0 +1,13 @@
+package com.rewear.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 스케줄러 활성화 (@Scheduled 작업: 통계 스냅샷 갱신, 조회수 반영, 알림 정리 등)
+ * - 스레드 수는 spring.task.scheduling.pool.size (기본 1개면 업로드 정리처럼 오래 걸리는 작업이 조회수 반영, SSE heartbeat 등을 막음)
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
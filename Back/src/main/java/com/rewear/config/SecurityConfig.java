@@ -1,5 +1,10 @@
 package com.rewear.config;
 
+import com.rewear.user.login.LoginAttemptLimiter;
+import com.rewear.user.token.JwtTokenService;
+import com.rewear.user.token.TokenCookies;
+import com.rewear.user.token.TokenRevocationList;
+import jakarta.servlet.DispatcherType;
 import org.springframework.boot.autoconfigure.security.servlet.PathRequest;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -10,11 +15,14 @@ import org.springframework.security.config.annotation.method.configuration.Enabl
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.web.AuthenticationEntryPoint;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.access.AccessDeniedHandler;
 import org.springframework.security.web.authentication.AuthenticationFailureHandler;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.savedrequest.HttpSessionRequestCache;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+import org.springframework.security.web.util.matcher.NegatedRequestMatcher;
 import org.springframework.security.web.context.HttpSessionSecurityContextRepository;
 import org.springframework.security.web.context.SecurityContextRepository;
 
@@ -26,17 +34,29 @@ import java.nio.charset.StandardCharsets;
 @EnableMethodSecurity(prePostEnabled = true)
 public class SecurityConfig {
 
-    @Bean
-    public BCryptPasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
-    }
+    // PasswordEncoder 빈은 PasswordHashingService (cost 측정, 전용 스레드 풀, 로그인 시 재해싱)
 
     @Bean
-    public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain filterChain(HttpSecurity http, JwtTokenService jwtTokenService,
+                                           TokenRevocationList revocationList, TokenCookies tokenCookies,
+                                           LoginAttemptLimiter loginAttemptLimiter) throws Exception {
+        // /api/** 토큰 인증 시 인증 실패 요청을 세션에 저장하지 않음 (페이지 요청만 로그인 후 원래 페이지로 이동)
+        HttpSessionRequestCache requestCache = new HttpSessionRequestCache();
+        requestCache.setRequestMatcher(new NegatedRequestMatcher(new AntPathRequestMatcher("/api/**")));
+
         http
                 .csrf(csrf -> csrf.disable())
 
+                // app.auth.jwt.enabled=true이면 /api/**는 access 토큰으로 인증 (Thymeleaf 페이지는 기존 세션 인증)
+                .addFilterBefore(new JwtAuthenticationFilter(jwtTokenService, revocationList, tokenCookies),
+                        UsernamePasswordAuthenticationFilter.class)
+                // 폼 로그인 시도 제한 (잠긴 아이디/IP는 비밀번호 확인 전에 차단)
+                .addFilterBefore(new LoginThrottleFilter(loginAttemptLimiter), UsernamePasswordAuthenticationFilter.class)
+                .requestCache(cache -> cache.requestCache(requestCache))
+
                 .authorizeHttpRequests(auth -> auth
+                        // 비동기 디스패치 (SSE 연결 종료 등)는 최초 요청에서 이미 인가됨
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         .requestMatchers(PathRequest.toStaticResources().atCommonLocations()).permitAll()
                         .requestMatchers("/", "/main", "/login", "/signup",
                                 "/css/**", "/js/**", "/images/**", "/fragments/**", "/uploads/**").permitAll()
@@ -78,8 +98,8 @@ public class SecurityConfig {
                         .loginProcessingUrl("/login")
                         .usernameParameter("username")
                         .passwordParameter("password")
-                        .successHandler(authSuccessHandler())
-                        .failureHandler(authFailureHandler())
+                        .successHandler(authSuccessHandler(loginAttemptLimiter))
+                        .failureHandler(authFailureHandler(loginAttemptLimiter))
                         .permitAll()
                 )
 
@@ -134,8 +154,9 @@ public class SecurityConfig {
     }
 
     @Bean
-    public org.springframework.security.web.authentication.AuthenticationSuccessHandler authSuccessHandler() {
+    public org.springframework.security.web.authentication.AuthenticationSuccessHandler authSuccessHandler(LoginAttemptLimiter loginAttemptLimiter) {
         return (request, response, authentication) -> {
+            loginAttemptLimiter.recordSuccess(authentication.getName());
             boolean isAdmin = authentication.getAuthorities().stream()
                     .anyMatch(a -> "ROLE_ADMIN".equals(a.getAuthority()));
             String target = isAdmin ? "/admin" : "/";
@@ -144,7 +165,7 @@ public class SecurityConfig {
     }
 
     @Bean
-    public AuthenticationFailureHandler authFailureHandler() {
+    public AuthenticationFailureHandler authFailureHandler(LoginAttemptLimiter loginAttemptLimiter) {
         return (request, response, exception) -> {
             String errorMessage;
             
@@ -163,6 +184,8 @@ public class SecurityConfig {
                 // InternalAuthenticationServiceException으로 감싸진 DisabledException
                 errorMessage = cause.getMessage();
             } else if (exception instanceof org.springframework.security.authentication.BadCredentialsException) {
+                // 아이디/비밀번호 오류만 시도 제한에 집계
+                loginAttemptLimiter.recordFailure(request.getParameter("username"), request.getRemoteAddr());
                 errorMessage = "아이디 또는 비밀번호가 올바르지 않습니다.";
             } else if (exception instanceof org.springframework.security.core.userdetails.UsernameNotFoundException) {
                 errorMessage = "아이디 또는 비밀번호가 올바르지 않습니다.";
@@ -0,0 +1,62 @@
+package com.rewear.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 업로드 관련 스레드 풀
+ * - uploadExecutor: 다중 파일 업로드 시 파일을 병렬로 저장, 큐가 가득 차면 요청 스레드에서 직접 저장 (CallerRunsPolicy)
+ * - imageDerivativeExecutor: 썸네일 등 이미지 파생본 생성, 큐가 가득 차면 작업을 버리고 첫 요청 시 지연 생성으로 대체
+ */
+@Configuration
+public class UploadConfig {
+
+    @Value("${app.upload.parallelism:4}")
+    private int parallelism;
+
+    @Value("${app.upload.queue-capacity:64}")
+    private int queueCapacity;
+
+    @Value("${app.upload.derivative.parallelism:2}")
+    private int derivativeParallelism;
+
+    @Value("${app.upload.derivative.queue-capacity:256}")
+    private int derivativeQueueCapacity;
+
+    @Bean(name = "uploadExecutor", destroyMethod = "shutdown")
+    public ExecutorService uploadExecutor() {
+        AtomicInteger sequence = new AtomicInteger();
+        return new ThreadPoolExecutor(
+                parallelism, parallelism,
+                60L, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "upload-writer-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    @Bean(name = "imageDerivativeExecutor", destroyMethod = "shutdown")
+    public ExecutorService imageDerivativeExecutor() {
+        AtomicInteger sequence = new AtomicInteger();
+        return new ThreadPoolExecutor(
+                derivativeParallelism, derivativeParallelism,
+                60L, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(derivativeQueueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "image-derivative-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.DiscardPolicy());
+    }
+}
@@ -6,13 +6,13 @@ import com.rewear.delivery.entity.Delivery;
 import com.rewear.delivery.service.DeliveryService;
 import com.rewear.donation.entity.Donation;
 import com.rewear.donation.repository.DonationRepository;
-import com.rewear.organ.entity.Organ;
-import com.rewear.organ.service.OrganService;
 import com.rewear.user.details.CustomUserDetails;
-import com.rewear.user.entity.User;
-import com.rewear.user.service.UserServiceImpl;
+import com.rewear.user.details.PrincipalCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -21,7 +21,6 @@ import org.springframework.web.bind.annotation.*;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -33,79 +32,69 @@ public class DeliveryApiController {
 
     private final DeliveryService deliveryService;
     private final DonationRepository donationRepository;
-    private final UserServiceImpl userService;
-    private final OrganService organService;
+    private final PrincipalCache principalCache;
+
+    private static final int MAX_PAGE_SIZE = 200;
 
     /**
-     * 배송 목록 조회 API
+     * 배송 목록 조회 API (기부 생성일 내림차순 페이지)
      * - 기부자: 자신이 보낸 기부의 배송 정보
      * - 기관 회원: 자신이 받은 기부의 배송 정보
+     * - totalElements, page, totalPages, hasNext로 다음 페이지 여부 확인
      */
     @GetMapping
     public ResponseEntity<Map<String, Object>> getDeliveries(
-            @AuthenticationPrincipal CustomUserDetails principal) {
+            @AuthenticationPrincipal CustomUserDetails principal,
+            @RequestParam(value = "page", defaultValue = "0") int page,
+            @RequestParam(value = "size", defaultValue = "50") int size) {
         
-        User user = userService.findByUsername(principal.getUsername())
-                .orElseThrow(() -> new IllegalStateException("사용자를 찾을 수 없습니다."));
+        // 로그인 사용자 정보 (PrincipalCache - 사용자/기관 조회 없음)
+        PrincipalCache.PrincipalSnapshot current = principalCache.get(principal);
 
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
         List<Map<String, Object>> deliveryList;
+        Page<?> resultPage = Page.empty();
         
         // 기관 회원인 경우
-        if (user.getRoles() != null && user.getRoles().contains(Role.ORGAN)) {
-            // 기관 정보 가져오기
-            Optional<Organ> organOpt = organService.findByUserId(user.getId());
-            if (organOpt.isPresent()) {
-                Organ organ = organOpt.get();
-                log.info("기관 배송 목록 조회 시작 - 기관명: {}, organId: {}", organ.getOrgName(), organ.getId());
+        if (current.hasRole(Role.ORGAN)) {
+            if (current.organId() != null) {
+                log.info("기관 배송 목록 조회 시작 - 기관명: {}, organId: {}", current.organName(), current.organId());
                 
-                // 해당 기관에 할당된 기부 중 배송 정보가 있는 모든 기부 조회
-                // 상태 제한 없이 배송 정보가 있는 모든 기부를 조회
-                List<Donation> organDonations = donationRepository.findAllWithDetails().stream()
-                        .filter(d -> {
-                            boolean hasOrgan = d.getOrgan() != null;
-                            boolean isSameOrgan = hasOrgan && d.getOrgan().getId().equals(organ.getId());
-                            boolean hasDelivery = d.getDelivery() != null;
-                            // 취소된 기부는 제외
-                            boolean isNotCancelled = d.getStatus() != DonationStatus.CANCELLED;
-                            return isSameOrgan && hasDelivery && isNotCancelled;
-                        })
-                        .collect(Collectors.toList());
+                // 해당 기관에 할당된 기부 중 배송 정보가 있는 기부 조회 (취소된 기부 제외)
+                // 기부 생성일 기준 내림차순 (최신순)
+                Page<Donation> organDonations = donationRepository.findByOrganIdWithDeliveryExcludingStatus(
+                        current.organId(), DonationStatus.CANCELLED,
+                        PageRequest.of(Math.max(page, 0), pageSize, Sort.by(Sort.Direction.DESC, "createdAt")));
                 
-                log.info("기관에 할당된 배송 정보가 있는 기부 개수: {}", organDonations.size());
+                log.info("기관에 할당된 배송 정보가 있는 기부 개수: {}", organDonations.getTotalElements());
+                resultPage = organDonations;
                 
-                // 해당 기부들과 연결된 배송 정보만 조회 (기부 생성일 기준 내림차순 정렬)
-                deliveryList = organDonations.stream()
-                        .sorted((d1, d2) -> {
-                            // 기부 생성일 기준 내림차순 (최신순)
-                            if (d1.getCreatedAt() != null && d2.getCreatedAt() != null) {
-                                return d2.getCreatedAt().compareTo(d1.getCreatedAt());
-                            }
-                            return 0;
-                        })
-                        .map(donation -> {
-                            if (donation.getDelivery() != null) {
-                                return donation.getDelivery();
-                            }
-                            return null;
-                        })
-                        .filter(delivery -> delivery != null)
+                deliveryList = organDonations.getContent().stream()
+                        .map(Donation::getDelivery)
                         .map(this::convertToDeliveryDto)
                         .collect(Collectors.toList());
                 
-                log.info("기관 배송 목록 조회 완료 - 기관명: {}, 배송 개수: {}", organ.getOrgName(), deliveryList.size());
+                log.info("기관 배송 목록 조회 완료 - 기관명: {}, 배송 개수: {}", current.organName(), deliveryList.size());
             } else {
-                log.warn("기관 정보를 찾을 수 없습니다. userId: {}", user.getId());
+                log.warn("기관 정보를 찾을 수 없습니다. userId: {}", current.userId());
                 deliveryList = List.of();
             }
         } else {
             // 일반 사용자(기부자)인 경우: 자신이 보낸 기부의 배송 정보
-            deliveryList = deliveryService.getDeliveriesByDonor(user).stream()
+            Page<Delivery> donorDeliveries = deliveryService.getDeliveriesByDonor(
+                    principalCache.userReference(principal), PageRequest.of(Math.max(page, 0), pageSize));
+            resultPage = donorDeliveries;
+            deliveryList = donorDeliveries.getContent().stream()
                     .map(this::convertToDeliveryDto)
                     .collect(Collectors.toList());
         }
 
         Map<String, Object> response = new HashMap<>();
         response.put("deliveries", deliveryList);
+        response.put("totalElements", resultPage.getTotalElements());
+        response.put("page", Math.max(page, 0));
+        response.put("totalPages", resultPage.getTotalPages());
+        response.put("hasNext", resultPage.hasNext());
         
         return ResponseEntity.ok(response);
     }
@@ -118,8 +107,7 @@ public class DeliveryApiController {
             @PathVariable("deliveryId") Long deliveryId,
             @AuthenticationPrincipal CustomUserDetails principal) {
         
-        User user = userService.findByUsername(principal.getUsername())
-                .orElseThrow(() -> new IllegalStateException("사용자를 찾을 수 없습니다."));
+        PrincipalCache.PrincipalSnapshot current = principalCache.get(principal);
 
         Delivery delivery = deliveryService.getDeliveryById(deliveryId)
                 .orElseThrow(() -> new IllegalArgumentException("배송 정보를 찾을 수 없습니다."));
@@ -129,19 +117,15 @@ public class DeliveryApiController {
         
         // 기부자인지 확인
         if (delivery.getDonation() != null && delivery.getDonation().getDonor() != null) {
-            if (delivery.getDonation().getDonor().getId().equals(user.getId())) {
+            if (delivery.getDonation().getDonor().getId().equals(current.userId())) {
                 hasPermission = true;
             }
         }
         
         // 기관 회원인 경우 수령인인지 확인
-        if (!hasPermission && user.getRoles() != null && user.getRoles().contains(Role.ORGAN)) {
-            Optional<Organ> organOpt = organService.findByUserId(user.getId());
-            if (organOpt.isPresent()) {
-                String organName = organOpt.get().getOrgName();
-                if (delivery.getReceiverName() != null && delivery.getReceiverName().equals(organName)) {
-                    hasPermission = true;
-                }
+        if (!hasPermission && current.hasRole(Role.ORGAN) && current.organName() != null) {
+            if (current.organName().equals(delivery.getReceiverName())) {
+                hasPermission = true;
             }
         }
         
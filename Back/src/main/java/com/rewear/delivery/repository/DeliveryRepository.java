@@ -4,6 +4,8 @@ import com.rewear.common.enums.DeliveryStatus;
 import com.rewear.common.enums.DonationStatus;
 import com.rewear.delivery.entity.Delivery;
 import com.rewear.donation.entity.Donation;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -25,6 +27,19 @@ public interface DeliveryRepository extends JpaRepository<Delivery, Long> {
            "AND don.status <> :excludedStatus")
     List<Delivery> findByDonorIdExcludingStatus(@Param("donorId") Long donorId,
                                                 @Param("excludedStatus") DonationStatus excludedStatus);
+
+    // 기부자 배송 목록 페이지 (기부 생성일 내림차순)
+    @Query(value = "SELECT d FROM Delivery d " +
+           "JOIN FETCH d.donation don " +
+           "LEFT JOIN FETCH don.donationItem " +
+           "WHERE don.donor.id = :donorId " +
+           "AND don.status <> :excludedStatus " +
+           "ORDER BY don.createdAt DESC, d.id DESC",
+           countQuery = "SELECT COUNT(d) FROM Delivery d JOIN d.donation don " +
+                        "WHERE don.donor.id = :donorId AND don.status <> :excludedStatus")
+    Page<Delivery> findByDonorIdExcludingStatus(@Param("donorId") Long donorId,
+                                                @Param("excludedStatus") DonationStatus excludedStatus,
+                                                Pageable pageable);
     
     @Query("SELECT d FROM Delivery d " +
            "LEFT JOIN FETCH d.donation don " +
@@ -5,6 +5,8 @@ import com.rewear.delivery.DeliveryForm;
 import com.rewear.delivery.entity.Delivery;
 import com.rewear.donation.entity.Donation;
 import com.rewear.user.entity.User;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 
 import java.util.List;
 import java.util.Optional;
@@ -18,5 +20,6 @@ public interface DeliveryService {
     List<Delivery> getAllDeliveries();
     List<Delivery> getDeliveriesByStatus(DeliveryStatus status);
     List<Delivery> getDeliveriesByDonor(User user);
+    Page<Delivery> getDeliveriesByDonor(User user, Pageable pageable);
 }
 
@@ -2,14 +2,18 @@ package com.rewear.delivery.service;
 
 import com.rewear.common.enums.DeliveryStatus;
 import com.rewear.common.enums.DonationStatus;
+import com.rewear.common.service.StatisticsService;
 import com.rewear.delivery.DeliveryForm;
 import com.rewear.delivery.entity.Delivery;
 import com.rewear.delivery.repository.DeliveryRepository;
 import com.rewear.donation.entity.Donation;
-import com.rewear.donation.repository.DonationRepository;
+import com.rewear.donation.state.DonationStateMachine;
+import com.rewear.donation.state.DonationTransition;
 import com.rewear.user.entity.User;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -24,7 +28,8 @@ import java.util.Optional;
 public class DeliveryServiceImpl implements DeliveryService {
 
     private final DeliveryRepository deliveryRepository;
-    private final DonationRepository donationRepository;
+    private final StatisticsService statisticsService;
+    private final DonationStateMachine donationStateMachine;
 
     @Override
     public Delivery createDelivery(Donation donation, DeliveryForm form) {
@@ -104,8 +109,9 @@ public class DeliveryServiceImpl implements DeliveryService {
             if (delivery.getDonation() != null) {
                 Donation donation = delivery.getDonation();
                 if (donation.getStatus() != DonationStatus.COMPLETED) {
-                    donation.setStatus(DonationStatus.COMPLETED);
-                    donationRepository.save(donation);
+                    // 배송 트랜잭션에 참여하여 한 번만 시도 (동시 변경이면 배송 상태 변경도 함께 롤백)
+                    donationStateMachine.apply(donation.getId(), DonationTransition.DELIVERY_COMPLETE,
+                            (d, ctx) -> statisticsService.markDirty());
                     log.info("배송 완료로 인해 기부 상태가 COMPLETED로 변경되었습니다. 기부 ID: {}", donation.getId());
                 }
             }
@@ -134,5 +140,11 @@ public class DeliveryServiceImpl implements DeliveryService {
                 DonationStatus.CANCELLED
         );
     }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<Delivery> getDeliveriesByDonor(User user, Pageable pageable) {
+        return deliveryRepository.findByDonorIdExcludingStatus(user.getId(), DonationStatus.CANCELLED, pageable);
+    }
 }
 
@@ -1,6 +1,7 @@
 package com.rewear.donation.controller;
 
 import com.rewear.common.enums.MatchType;
+import com.rewear.common.service.UploadStorageService;
 import com.rewear.delivery.service.DeliveryService;
 import com.rewear.donation.DonationForm;
 import com.rewear.donation.DonationItemForm;
@@ -14,27 +15,24 @@ import com.rewear.organ.entity.Organ;
 import com.rewear.organ.repository.OrganRepository;
 import com.rewear.user.details.CustomUserDetails;
 import com.rewear.user.entity.User;
-import com.rewear.user.service.UserServiceImpl;
+import com.rewear.user.details.PrincipalCache;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
-import java.util.UUID;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -45,11 +43,9 @@ public class DonationApiController {
 
     private final DonationService donationService;
     private final OrganRepository organRepository;
-    private final UserServiceImpl userService;
+    private final PrincipalCache principalCache;
     private final DeliveryService deliveryService;
-
-    @Value("${app.upload.dir:uploads}")
-    private String uploadDir;
+    private final UploadStorageService uploadStorageService;
 
     /**
      * REST API: Front의 기부 신청 방식에 맞춘 엔드포인트
@@ -59,19 +55,40 @@ public class DonationApiController {
     public ResponseEntity<Map<String, Object>> createDonationApi(
             @AuthenticationPrincipal CustomUserDetails principal,
             @Valid @RequestBody DonationRequestDto requestDto) {
-        
+        return submitDonation(principal, requestDto, List.of());
+    }
+
+    /**
+     * REST API: 기부 신청 (multipart/form-data)
+     * - donation 파트: DonationRequestDto JSON, files 파트: 이미지 파일
+     * - 이미지를 base64로 보내지 않으므로 요청 처리 메모리가 이미지 크기와 무관
+     */
+    @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @PreAuthorize("hasRole('USER')")
+    public ResponseEntity<Map<String, Object>> createDonationMultipartApi(
+            @AuthenticationPrincipal CustomUserDetails principal,
+            @Valid @RequestPart("donation") DonationRequestDto requestDto,
+            @RequestPart(value = "files", required = false) List<MultipartFile> files) {
+        return submitDonation(principal, requestDto, files != null ? files : List.of());
+    }
+
+    private ResponseEntity<Map<String, Object>> submitDonation(CustomUserDetails principal,
+                                                               DonationRequestDto requestDto,
+                                                               List<MultipartFile> files) {
         Map<String, Object> response = new HashMap<>();
+        // 이 요청에서 새로 저장한 파일 (기부 생성까지 끝나지 않으면 삭제)
+        List<String> storedInRequest = new ArrayList<>();
+        boolean created = false;
         
         try {
             // 요청 데이터 로깅 (디버깅용)
-            log.info("기부 신청 API - 요청 데이터: itemType={}, itemDetail={}, itemSize={}, itemCondition={}, itemDescription={}, donationMethod={}, donationOrganizationId={}, images={}",
+            log.info("기부 신청 API - 요청 데이터: itemType={}, itemDetail={}, itemSize={}, itemCondition={}, itemDescription={}, donationMethod={}, donationOrganizationId={}, images={}, files={}",
                     requestDto.getItemType(), requestDto.getItemDetail(), requestDto.getItemSize(), 
                     requestDto.getItemCondition(), requestDto.getItemDescription(), 
                     requestDto.getDonationMethod(), requestDto.getDonationOrganizationId(),
-                    requestDto.getImages() != null ? requestDto.getImages().size() : 0);
+                    requestDto.getImages() != null ? requestDto.getImages().size() : 0, files.size());
             // 사용자 조회
-            User donor = userService.findByUsername(principal.getUsername())
-                    .orElseThrow(() -> new IllegalStateException("사용자를 찾을 수 없습니다."));
+            User donor = principalCache.userReference(principal);
             
             // 직접 매칭인 경우 기관 조회
             Organ organ = null;
@@ -86,6 +103,19 @@ public class DonationApiController {
                         .orElseThrow(() -> new IllegalStateException("선택한 기관을 찾을 수 없습니다."));
             }
             
+            // 파일을 저장하기 전에 모든 파트의 형식부터 확인
+            for (MultipartFile file : files) {
+                if (file == null || file.isEmpty()) {
+                    continue;
+                }
+                String contentType = file.getContentType();
+                if (contentType == null || !contentType.startsWith("image/")) {
+                    response.put("success", false);
+                    response.put("message", "이미지 파일만 업로드할 수 있습니다: " + file.getOriginalFilename());
+                    return ResponseEntity.badRequest().body(response);
+                }
+            }
+
             // 이미지 처리: base64 또는 이미 업로드된 파일명
             List<String> savedImageUrls = new ArrayList<>();
             if (requestDto.getImages() != null && !requestDto.getImages().isEmpty()) {
@@ -102,8 +132,9 @@ public class DonationApiController {
                             }
                             log.info("기부 신청 API - 이미 업로드된 이미지 사용: {}", imageUrl);
                         } else {
-                            // base64 이미지면 디코딩해서 저장
-                            imageUrl = saveBase64Image(imageData);
+                            // base64 이미지면 스트림으로 디코딩해서 저장
+                            imageUrl = uploadStorageService.storeBase64(imageData);
+                            storedInRequest.add(imageUrl);
                             log.info("기부 신청 API - base64 이미지 저장 완료: {}", imageUrl);
                         }
                         savedImageUrls.add(imageUrl);
@@ -120,6 +151,22 @@ public class DonationApiController {
                     }
                 }
             }
+            for (MultipartFile file : files) {
+                if (file == null || file.isEmpty()) {
+                    continue;
+                }
+                try {
+                    String imageUrl = uploadStorageService.store(file, ".jpg");
+                    storedInRequest.add(imageUrl);
+                    log.info("기부 신청 API - 이미지 파일 저장 완료: {}", imageUrl);
+                    savedImageUrls.add(imageUrl);
+                } catch (IOException e) {
+                    log.error("이미지 저장 실패", e);
+                    response.put("success", false);
+                    response.put("message", "이미지 저장에 실패했습니다: " + e.getMessage());
+                    return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
+                }
+            }
             
             // DonationItemForm 생성
             DonationItemForm itemForm = new DonationItemForm();
@@ -164,6 +211,7 @@ public class DonationApiController {
             
             // 기부 생성
             Donation donation = donationService.createDonation(donor, form, itemForm, organ);
+            created = true;
             
             response.put("success", true);
             response.put("message", "기부 신청이 완료되었습니다.");
@@ -181,6 +229,23 @@ public class DonationApiController {
             response.put("success", false);
             response.put("message", "기부 신청 중 오류가 발생했습니다: " + e.getMessage());
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
+        } finally {
+            if (!created) {
+                deleteStoredImages(storedInRequest);
+            }
+        }
+    }
+
+    /**
+     * 기부 신청이 실패한 요청에서 저장한 이미지 삭제 (참조하는 기부가 없으므로)
+     */
+    private void deleteStoredImages(List<String> filenames) {
+        for (String filename : filenames) {
+            try {
+                uploadStorageService.delete(filename);
+            } catch (IOException e) {
+                log.warn("기부 신청 실패 후 이미지 삭제 실패: {}", filename, e);
+            }
         }
     }
     
@@ -194,10 +259,9 @@ public class DonationApiController {
         
         try {
             // 사용자 조회
-            User user = userService.findByUsername(principal.getUsername())
-                    .orElseThrow(() -> new IllegalStateException("사용자를 찾을 수 없습니다."));
+            User user = principalCache.userReference(principal);
             
-            log.info("기부 상태 조회 API - 사용자: {}", user.getUsername());
+            log.info("기부 상태 조회 API - 사용자: {}", principal.getUsername());
             
             // 사용자의 모든 기부 조회
             List<Donation> donations = donationService.getDonationsByUser(user);
@@ -451,8 +515,7 @@ public class DonationApiController {
         
         try {
             // 사용자 조회
-            User user = userService.findByUsername(principal.getUsername())
-                    .orElseThrow(() -> new IllegalStateException("사용자를 찾을 수 없습니다."));
+            User user = principalCache.userReference(principal);
             
             // 기부 조회
             Donation donation = donationService.getDonationById(id);
@@ -489,32 +552,12 @@ public class DonationApiController {
                 item.put("size", donation.getDonationItem().getSize() != null ? donation.getDonationItem().getSize().name() : null);
                 item.put("genderType", donation.getDonationItem().getGenderType() != null ? donation.getDonationItem().getGenderType().name() : null);
                 item.put("description", donation.getDonationItem().getDescription());
-                String singleImageUrl = donation.getDonationItem().getImageUrl();
-                String multipleImageUrls = donation.getDonationItem().getImageUrls();
-                
-                log.info("기부 상세 조회 - 이미지 URL 정보: imageUrl={}, imageUrls={}", singleImageUrl, multipleImageUrls);
-                
-                item.put("imageUrl", singleImageUrl);
+                item.put("imageUrl", donation.getDonationItem().getImageUrl());
                 
-                // 이미지 URL 리스트 (여러 이미지 처리)
-                List<String> imageUrls = new ArrayList<>();
-                if (multipleImageUrls != null && !multipleImageUrls.isEmpty()) {
-                    // 쉼표로 구분된 이미지 URL 파싱
-                    String[] urlArray = multipleImageUrls.split(",");
-                    for (String url : urlArray) {
-                        String trimmedUrl = url.trim();
-                        if (!trimmedUrl.isEmpty()) {
-                            imageUrls.add(trimmedUrl);
-                        }
-                    }
-                    log.info("기부 상세 조회 - 파싱된 이미지 URL 개수: {}", imageUrls.size());
-                } else if (singleImageUrl != null && !singleImageUrl.isEmpty()) {
-                    // 단일 이미지 URL 사용
-                    imageUrls.add(singleImageUrl);
-                    log.info("기부 상세 조회 - 단일 이미지 URL 사용: {}", singleImageUrl);
-                }
+                // 이미지 URL 리스트 (image_assets 행 우선, 변환 전 물품은 쉼표 구분 컬럼)
+                List<String> imageUrls = donation.getDonationItem().imageFilenames();
                 item.put("imageUrls", imageUrls);
-                log.info("기부 상세 조회 - 최종 imageUrls: {}", imageUrls);
+                log.debug("기부 상세 조회 - imageUrls: {}", imageUrls);
                 
                 detail.put("item", item);
             }
@@ -570,8 +613,7 @@ public class DonationApiController {
         
         try {
             // 사용자 조회
-            User user = userService.findByUsername(principal.getUsername())
-                    .orElseThrow(() -> new IllegalStateException("사용자를 찾을 수 없습니다."));
+            User user = principalCache.userReference(principal);
             
             // 기부 조회 및 권한 확인
             Donation donation = donationService.getDonationById(id);
@@ -637,68 +679,8 @@ public class DonationApiController {
         
         // base64 문자열은 보통 매우 길고 (수백~수천 자) 특정 문자만 포함 (A-Z, a-z, 0-9, +, /, =)
         // 파일명은 상대적으로 짧고 (보통 100자 미만) 확장자를 가짐
-        if (imageData.length() < 200 && imageData.contains(".")) {
-            // base64 디코딩 시도해서 실패하면 파일명으로 간주
-            try {
-                // base64 데이터 URL 형식인지 확인
-                String testData = imageData;
-                if (imageData.contains(",")) {
-                    testData = imageData.split(",")[1];
-                }
-                // base64 디코딩 시도
-                java.util.Base64.getDecoder().decode(testData);
-                return false; // 디코딩 성공하면 base64
-            } catch (IllegalArgumentException e) {
-                return true; // 디코딩 실패하면 파일명으로 간주
-            }
-        }
-        
-        return false;
-    }
-    
-    /**
-     * base64 이미지를 파일로 저장
-     */
-    private String saveBase64Image(String base64Image) throws IOException {
-        if (base64Image == null || base64Image.isEmpty()) {
-            throw new IllegalArgumentException("이미지 데이터가 없습니다.");
-        }
-        
-        // base64 데이터 URL 파싱 (data:image/jpeg;base64,/9j/4AAQ... 형식)
-        String base64Data = base64Image;
-        String extension = ".jpg"; // 기본 확장자
-        
-        if (base64Image.contains(",")) {
-            String[] parts = base64Image.split(",");
-            base64Data = parts[1];
-            
-            // MIME 타입에서 확장자 추출
-            String mimeType = parts[0];
-            if (mimeType.contains("image/png")) {
-                extension = ".png";
-            } else if (mimeType.contains("image/jpeg") || mimeType.contains("image/jpg")) {
-                extension = ".jpg";
-            } else if (mimeType.contains("image/gif")) {
-                extension = ".gif";
-            } else if (mimeType.contains("image/webp")) {
-                extension = ".webp";
-            }
-        }
-        
-        // base64 디코딩
-        byte[] imageBytes = java.util.Base64.getDecoder().decode(base64Data);
-        
-        // 파일 저장
-        Path uploadPath = Paths.get(uploadDir);
-        if (!Files.exists(uploadPath)) {
-            Files.createDirectories(uploadPath);
-        }
-        
-        String filename = UUID.randomUUID().toString() + extension;
-        Path filePath = uploadPath.resolve(filename);
-        Files.write(filePath, imageBytes);
-        
-        return filename;
+        // '.'은 base64 문자가 아니므로 디코딩해 보지 않고 파일명으로 판단
+        return imageData.length() < 200 && imageData.contains(".");
     }
     
     /**
@@ -1,6 +1,7 @@
 package com.rewear.donation.controller;
 
 import com.rewear.common.enums.MatchType;
+import com.rewear.common.service.UploadStorageService;
 import com.rewear.delivery.service.DeliveryService;
 import com.rewear.donation.DonationForm;
 import com.rewear.donation.DonationItemForm;
@@ -15,7 +16,6 @@ import jakarta.servlet.http.HttpSession;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.stereotype.Controller;
@@ -26,12 +26,7 @@ import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
 import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
-import java.nio.file.StandardCopyOption;
 import java.util.List;
-import java.util.UUID;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -46,9 +41,7 @@ public class DonationController {
     private final OrganRepository organRepository;
     private final UserServiceImpl userService;
     private final DeliveryService deliveryService;
-
-    @Value("${app.upload.dir:uploads}")
-    private String uploadDir;
+    private final UploadStorageService uploadStorageService;
 
     // 1단계: 물품 정보 입력
     @GetMapping("/apply/item")
@@ -220,20 +213,7 @@ public class DonationController {
     }
 
     private String saveImage(MultipartFile image) throws IOException {
-        Path uploadPath = Paths.get(uploadDir);
-        if (!Files.exists(uploadPath)) {
-            Files.createDirectories(uploadPath);
-        }
-
-        String originalFilename = image.getOriginalFilename();
-        String extension = originalFilename != null && originalFilename.contains(".")
-                ? originalFilename.substring(originalFilename.lastIndexOf("."))
-                : "";
-        String filename = UUID.randomUUID().toString() + extension;
-        Path filePath = uploadPath.resolve(filename);
-
-        Files.copy(image.getInputStream(), filePath, StandardCopyOption.REPLACE_EXISTING);
-        return filename;
+        return uploadStorageService.store(image, "");
     }
 
     // REST API 엔드포인트는 DonationApiController로 이동됨
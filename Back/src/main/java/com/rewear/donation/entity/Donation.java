@@ -15,7 +15,10 @@ import org.hibernate.annotations.UpdateTimestamp;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "donations")
+@Table(name = "donations", indexes = {
+        @Index(name = "idx_donations_organ_status", columnList = "organ_id, status"),
+        @Index(name = "idx_donations_donor_status", columnList = "donor_id, status")
+})
 @Getter @Setter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -76,6 +79,11 @@ public class Donation {
     @OneToOne(mappedBy = "donation", fetch = FetchType.LAZY, cascade = CascadeType.ALL)
     private Delivery delivery;
 
+    // 낙관적 잠금 버전 (상태 전이 충돌 감지, 기존 행은 0으로 채워짐)
+    @Version
+    @Column(name = "version", nullable = false, columnDefinition = "BIGINT NOT NULL DEFAULT 0")
+    private long version;
+
     @CreationTimestamp
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
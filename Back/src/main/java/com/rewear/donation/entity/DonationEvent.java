@@ -0,0 +1,56 @@
+package com.rewear.donation.entity;
+
+import com.rewear.common.enums.DonationStatus;
+import com.rewear.donation.event.DonationStateChangedEvent;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDateTime;
+
+/**
+ * 기부 상태 변경 이력 (추가 전용)
+ * - DonationEventWriter가 JDBC 배치 INSERT로만 기록하고 수정/삭제하지 않음
+ * - 기부가 삭제되어도 이력이 남도록 donations 외래 키 없이 기부 ID만 보관
+ */
+@Entity
+@Immutable
+@Table(name = "donation_events", indexes = {
+        // 기부별 이력 조회, 기간별 단계 소요 시간 집계
+        @Index(name = "idx_donation_events_donation", columnList = "donation_id, occurred_at"),
+        @Index(name = "idx_donation_events_occurred", columnList = "occurred_at")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class DonationEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "donation_id", nullable = false)
+    private Long donationId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_type", nullable = false, length = 30)
+    private DonationStateChangedEvent.Type eventType;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "from_status", length = 20)
+    private DonationStatus fromStatus;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "to_status", length = 20)
+    private DonationStatus toStatus;
+
+    @Column(name = "actor", nullable = false, length = 100)
+    private String actor; // 변경한 사용자명 (스케줄러 등은 system)
+
+    @Column(name = "reason", length = 500)
+    private String reason;
+
+    @Column(name = "occurred_at", nullable = false)
+    private LocalDateTime occurredAt;
+}
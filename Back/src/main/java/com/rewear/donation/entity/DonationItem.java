@@ -4,12 +4,17 @@ import com.rewear.common.enums.ClothType;
 import com.rewear.common.enums.GenderType;
 import com.rewear.common.enums.Size;
 import com.rewear.user.entity.User;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.rewear.common.entity.ImageAsset;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 
 @Entity
 @Table(name = "donation_items")
@@ -50,7 +55,15 @@ public class DonationItem {
     private String imageUrl; // 단일 이미지 (하위 호환성)
 
     @Column(name = "image_urls", columnDefinition = "TEXT")
-    private String imageUrls; // 여러 이미지 (쉼표로 구분)
+    private String imageUrls; // 여러 이미지 (쉼표로 구분, 하위 호환성 - images와 함께 갱신)
+
+    // 이미지 (표시 순서대로, 목록 조회 시 여러 물품의 이미지를 IN 조회 한 번으로 로딩)
+    @JsonIgnore
+    @OneToMany(mappedBy = "donationItem", cascade = CascadeType.ALL, orphanRemoval = true)
+    @OrderBy("ordinal ASC")
+    @BatchSize(size = 100)
+    @Builder.Default
+    private List<ImageAsset> images = new ArrayList<>();
 
     @Column(name = "quantity", nullable = false)
     @Builder.Default
@@ -63,5 +76,26 @@ public class DonationItem {
     @UpdateTimestamp
     @Column(name = "updated_at", nullable = false)
     private LocalDateTime updatedAt;
-}
 
+    /**
+     * 이미지 교체 (순서는 목록 순서, 하위 호환 컬럼 image_url / image_urls도 함께 갱신)
+     */
+    public void replaceImages(List<ImageAsset> assets) {
+        images.clear();
+        for (int i = 0; i < assets.size(); i++) {
+            ImageAsset asset = assets.get(i);
+            asset.setDonationItem(this);
+            asset.setOrdinal(i);
+            images.add(asset);
+        }
+        imageUrls = ImageAsset.joinFilenames(images);
+        imageUrl = images.isEmpty() ? null : images.get(0).getFilename();
+    }
+
+    /**
+     * 표시 순서대로 이미지 파일명 (변환 전 데이터는 쉼표 구분 컬럼 사용)
+     */
+    public List<String> imageFilenames() {
+        return ImageAsset.filenamesOf(images, imageUrls, imageUrl);
+    }
+}
@@ -0,0 +1,73 @@
+package com.rewear.donation.event;
+
+import com.rewear.common.enums.DonationStatus;
+import com.rewear.donation.entity.Donation;
+import com.rewear.organ.entity.Organ;
+
+import java.time.LocalDateTime;
+
+/**
+ * 기부 상태 변경 도메인 이벤트
+ * - 트랜잭션 안에서 발행되고, 커밋 이후 리스너(알림 등)가 처리
+ * - 리스너가 영속성 컨텍스트 없이 처리할 수 있도록 엔티티 대신 ID와 표시용 값만 보관
+ *
+ * @param donationId 기부 ID
+ * @param type 상태 변경 종류
+ * @param fromStatus 변경 전 상태
+ * @param toStatus 변경 후 상태
+ * @param donorUserId 기부자 사용자 ID
+ * @param organUserId 관련 기관의 사용자 ID (없으면 null)
+ * @param organName 관련 기관명 (없으면 null)
+ * @param itemCategory 기부 물품 분류 (표시용)
+ * @param reason 반려/취소 사유
+ * @param actor 변경한 사용자명 (요청 사용자가 없으면 system)
+ */
+public record DonationStateChangedEvent(
+        Long donationId,
+        Type type,
+        DonationStatus fromStatus,
+        DonationStatus toStatus,
+        Long donorUserId,
+        Long organUserId,
+        String organName,
+        String itemCategory,
+        String reason,
+        String actor,
+        LocalDateTime occurredAt) {
+
+    public enum Type {
+        ADMIN_APPROVED,  // 관리자 승인
+        ADMIN_REJECTED,  // 관리자 반려
+        ORGAN_MATCHED,   // 기관이 기부 선택
+        CANCELLED,       // 기부 취소
+        ORGAN_APPROVED,  // 기관 최종 승인
+        ORGAN_REJECTED,  // 기관 반려
+        RESET_TO_PENDING, // 관리자가 승인대기로 되돌림
+        DELIVERY_COMPLETED // 배송 완료로 기부 완료
+    }
+
+    /**
+     * 기부 엔티티로부터 이벤트 생성 (organ 연관이 해제되기 전에 호출해야 함)
+     * @param organ 관련 기관 (없으면 null)
+     * @param actor 변경한 사용자명
+     */
+    public static DonationStateChangedEvent of(Donation donation, Type type, DonationStatus fromStatus,
+                                               Organ organ, String reason, String actor) {
+        Long organUserId = organ != null && organ.getUser() != null ? organ.getUser().getId() : null;
+        String itemCategory = donation.getDonationItem() != null && donation.getDonationItem().getMainCategory() != null
+                ? String.valueOf(donation.getDonationItem().getMainCategory())
+                : "기부물품";
+        return new DonationStateChangedEvent(
+                donation.getId(),
+                type,
+                fromStatus,
+                donation.getStatus(),
+                donation.getDonor() != null ? donation.getDonor().getId() : null,
+                organUserId,
+                organ != null ? organ.getOrgName() : null,
+                itemCategory,
+                reason,
+                actor,
+                LocalDateTime.now());
+    }
+}
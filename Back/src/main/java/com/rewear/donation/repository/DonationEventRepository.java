@@ -0,0 +1,16 @@
+package com.rewear.donation.repository;
+
+import com.rewear.donation.entity.DonationEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface DonationEventRepository extends JpaRepository<DonationEvent, Long> {
+
+    @Query("SELECT e FROM DonationEvent e WHERE e.donationId = :donationId ORDER BY e.occurredAt ASC, e.id ASC")
+    List<DonationEvent> findTimeline(@Param("donationId") Long donationId);
+}
@@ -1,18 +1,25 @@
 package com.rewear.donation.repository;
 
+import com.rewear.common.dto.IdCount;
 import com.rewear.common.enums.DonationStatus;
 import com.rewear.donation.entity.Donation;
 import com.rewear.user.entity.User;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
-public interface DonationRepository extends JpaRepository<Donation, Long> {
+public interface DonationRepository extends JpaRepository<Donation, Long>, JpaSpecificationExecutor<Donation> {
     @Query("SELECT DISTINCT d FROM Donation d " +
            "LEFT JOIN FETCH d.donationItem " +
            "LEFT JOIN FETCH d.organ " +
@@ -38,6 +45,59 @@ public interface DonationRepository extends JpaRepository<Donation, Long> {
            "WHERE d.id = :id")
     java.util.Optional<Donation> findByIdWithDetails(@Param("id") Long id);
     
+    // 상태 전이용 조회 - 커밋 시 버전을 항상 올려 동시에 처리된 전이를 충돌로 감지 (DonationStateMachine)
+    @Lock(LockModeType.OPTIMISTIC_FORCE_INCREMENT)
+    @Query("SELECT d FROM Donation d WHERE d.id = :id")
+    java.util.Optional<Donation> findForTransition(@Param("id") Long id);
+
     List<Donation> findByOrganId(Long organId);
     List<Donation> findByOrganIdAndStatus(Long organId, DonationStatus status);
+
+    // 통계용 집계 쿼리 (수량이 없으면 1벌로 계산)
+    @Query("SELECT COALESCE(SUM(COALESCE(i.quantity, 1)), 0) FROM Donation d " +
+           "JOIN d.donationItem i " +
+           "WHERE d.status = :status")
+    long sumItemQuantityByStatus(@Param("status") DonationStatus status);
+
+    @Query("SELECT COUNT(DISTINCT d.donor.id) FROM Donation d")
+    long countDistinctDonors();
+
+    // 기부자별 기부 횟수 (관리자 회원 목록 일괄 조회용)
+    @Query("SELECT d.donor.id AS id, COUNT(d) AS count FROM Donation d " +
+           "WHERE d.donor.id IN :donorIds " +
+           "GROUP BY d.donor.id")
+    List<IdCount> countByDonorIds(@Param("donorIds") Collection<Long> donorIds);
+
+    // 기관 회원(user id)별 받은 기부 횟수 (관리자 회원 목록 일괄 조회용)
+    @Query("SELECT o.user.id AS id, COUNT(d) AS count FROM Donation d " +
+           "JOIN d.organ o " +
+           "WHERE o.user.id IN :organUserIds " +
+           "GROUP BY o.user.id")
+    List<IdCount> countByOrganUserIds(@Param("organUserIds") Collection<Long> organUserIds);
+
+    // 기관별 기부 목록 (기관 대시보드용, donations(organ_id, status) 인덱스 사용)
+    @Query(value = "SELECT d FROM Donation d " +
+           "JOIN FETCH d.organ o " +
+           "LEFT JOIN FETCH o.user " +
+           "LEFT JOIN FETCH d.donationItem " +
+           "LEFT JOIN FETCH d.donor " +
+           "LEFT JOIN FETCH d.delivery " +
+           "WHERE o.id = :organId AND d.status = :status",
+           countQuery = "SELECT COUNT(d) FROM Donation d WHERE d.organ.id = :organId AND d.status = :status")
+    Page<Donation> findByOrganIdAndStatusWithDetails(@Param("organId") Long organId,
+                                                     @Param("status") DonationStatus status,
+                                                     Pageable pageable);
+
+    // 기관별 배송 정보가 있는 기부 목록 (특정 상태 제외)
+    @Query(value = "SELECT d FROM Donation d " +
+           "JOIN FETCH d.organ o " +
+           "JOIN FETCH d.delivery " +
+           "LEFT JOIN FETCH d.donationItem " +
+           "LEFT JOIN FETCH d.donor " +
+           "WHERE o.id = :organId AND d.status <> :excludedStatus",
+           countQuery = "SELECT COUNT(d) FROM Donation d JOIN d.delivery " +
+                        "WHERE d.organ.id = :organId AND d.status <> :excludedStatus")
+    Page<Donation> findByOrganIdWithDeliveryExcludingStatus(@Param("organId") Long organId,
+                                                            @Param("excludedStatus") DonationStatus excludedStatus,
+                                                            Pageable pageable);
 }
\ No newline at end of file
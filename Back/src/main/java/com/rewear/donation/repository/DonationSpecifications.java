@@ -0,0 +1,143 @@
+package com.rewear.donation.repository;
+
+import com.rewear.common.enums.AdminDecision;
+import com.rewear.common.enums.DeliveryMethod;
+import com.rewear.common.enums.DonationStatus;
+import com.rewear.common.enums.MatchType;
+import com.rewear.delivery.entity.Delivery;
+import com.rewear.donation.entity.Donation;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Donation 조회 조건 (DB에서 필터링하기 위한 Specification 모음)
+ * 관리자 기부 큐 조건은 하단의 큐별 조합 메서드를 사용
+ */
+public final class DonationSpecifications {
+
+    private DonationSpecifications() {
+    }
+
+    public static Specification<Donation> hasStatus(DonationStatus status) {
+        return (root, query, cb) -> cb.equal(root.get("status"), status);
+    }
+
+    public static Specification<Donation> hasStatusIn(Collection<DonationStatus> statuses) {
+        return (root, query, cb) -> root.get("status").in(statuses);
+    }
+
+    public static Specification<Donation> hasAdminDecision(AdminDecision adminDecision) {
+        return (root, query, cb) -> cb.equal(root.get("adminDecision"), adminDecision);
+    }
+
+    public static Specification<Donation> hasMatchType(MatchType matchType) {
+        return (root, query, cb) -> cb.equal(root.get("matchType"), matchType);
+    }
+
+    public static Specification<Donation> hasDeliveryMethod(DeliveryMethod deliveryMethod) {
+        return (root, query, cb) -> cb.equal(root.get("deliveryMethod"), deliveryMethod);
+    }
+
+    public static Specification<Donation> organIsNull() {
+        return (root, query, cb) -> cb.isNull(root.get("organ"));
+    }
+
+    public static Specification<Donation> organIsNotNull() {
+        return (root, query, cb) -> cb.isNotNull(root.get("organ"));
+    }
+
+    /**
+     * 배송 정보가 없거나 택배사/운송장 번호가 비어 있는 기부
+     */
+    public static Specification<Donation> deliveryMissingCarrierOrTracking() {
+        return (root, query, cb) -> {
+            Join<Donation, Delivery> delivery = root.join("delivery", JoinType.LEFT);
+            return cb.or(
+                    cb.isNull(delivery.get("id")),
+                    cb.isNull(delivery.get("carrier")),
+                    cb.equal(delivery.get("carrier"), ""),
+                    cb.isNull(delivery.get("trackingNumber")),
+                    cb.equal(delivery.get("trackingNumber"), "")
+            );
+        };
+    }
+
+    /**
+     * 키셋 페이지네이션 조건 (cursor가 null이면 조건 없음)
+     * 내림차순이면 id < cursor, 오름차순이면 id > cursor
+     */
+    public static Specification<Donation> idAfterCursor(Long cursor, Sort.Direction direction) {
+        return (root, query, cb) -> {
+            if (cursor == null) {
+                return null;
+            }
+            return direction.isDescending()
+                    ? cb.lessThan(root.get("id"), cursor)
+                    : cb.greaterThan(root.get("id"), cursor);
+        };
+    }
+
+    // === 관리자 기부 큐 ===
+
+    /**
+     * 승인 대기: PENDING 상태이면서 관리자 결정이 PENDING
+     */
+    public static Specification<Donation> adminPendingQueue() {
+        return hasStatus(DonationStatus.PENDING)
+                .and(hasAdminDecision(AdminDecision.PENDING));
+    }
+
+    /**
+     * 거절됨: 관리자 결정이 REJECTED
+     */
+    public static Specification<Donation> adminRejectedQueue() {
+        return hasAdminDecision(AdminDecision.REJECTED);
+    }
+
+    /**
+     * 승인 완료 (매칭대기 이상): IN_PROGRESS, SHIPPED, COMPLETED
+     */
+    public static Specification<Donation> adminApprovedQueue() {
+        return hasStatusIn(List.of(
+                DonationStatus.IN_PROGRESS, DonationStatus.SHIPPED, DonationStatus.COMPLETED));
+    }
+
+    /**
+     * 자동 매칭 대기: 간접 매칭, 관리자 승인 완료, 기관 미할당
+     */
+    public static Specification<Donation> adminAutoMatchQueue() {
+        return hasStatus(DonationStatus.IN_PROGRESS)
+                .and(hasMatchType(MatchType.INDIRECT))
+                .and(hasAdminDecision(AdminDecision.APPROVED))
+                .and(organIsNull());
+    }
+
+    /**
+     * 택배 정보 입력 대기: 기관이 승인한 간접 매칭 택배 기부 중 택배 정보 미입력
+     */
+    public static Specification<Donation> adminDeliveryInputQueue() {
+        return hasStatus(DonationStatus.COMPLETED)
+                .and(hasMatchType(MatchType.INDIRECT))
+                .and(organIsNotNull())
+                .and(hasDeliveryMethod(DeliveryMethod.PARCEL_DELIVERY))
+                .and(deliveryMissingCarrierOrTracking());
+    }
+
+    /**
+     * 직접 매칭 대기: 관리자 승인 대기 중이거나, 승인 후 기관 확인을 기다리는 직접 매칭 기부
+     */
+    public static Specification<Donation> adminDirectMatchQueue() {
+        Specification<Donation> pendingAdminDecision = hasStatus(DonationStatus.PENDING)
+                .and(hasAdminDecision(AdminDecision.PENDING));
+        Specification<Donation> inProgressOrganAssigned = hasStatus(DonationStatus.IN_PROGRESS)
+                .and(organIsNotNull())
+                .and(hasAdminDecision(AdminDecision.APPROVED));
+        return hasMatchType(MatchType.DIRECT)
+                .and(pendingAdminDecision.or(inProgressOrganAssigned));
+    }
+}
@@ -0,0 +1,311 @@
+package com.rewear.donation.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rewear.donation.event.DonationStateChangedEvent;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 기부 상태 변경 이력 비동기 일괄 기록기 (donation_events)
+ * - 기부 트랜잭션 커밋 후 이벤트를 고정 크기 링 버퍼(ArrayBlockingQueue)에 넣기만 하고,
+ *   전용 스레드가 모아서 JDBC 배치 INSERT로 기록 (승인 등 요청 경로에서 추가 쿼리 없음)
+ * - 버퍼가 가득 차면 호출 스레드에서 바로 기록 (이력 유실 방지)
+ * - 배치 기록이 실패하면 retry-attempts회까지 간격을 늘려 재시도하고, 제약 조건 위반이면 한 건씩 나누어 기록
+ * - 끝내 기록하지 못한 이벤트는 dead-letter 파일(JSON 한 줄씩)에 남기고 dropped 지표로 집계 (조용히 버리지 않음)
+ * - 아직 기록되지 않은 이벤트는 pendingFor()로 조회하여 타임라인에 포함
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DonationEventWriter {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO donation_events (donation_id, event_type, from_status, to_status, actor, reason, occurred_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    private static final int MAX_REASON_LENGTH = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Value("${app.donation.event.buffer-capacity:4096}")
+    private int bufferCapacity;
+
+    @Value("${app.donation.event.batch-size:200}")
+    private int batchSize;
+
+    @Value("${app.donation.event.retry-attempts:3}")
+    private int retryAttempts;
+
+    @Value("${app.donation.event.retry-backoff-ms:500}")
+    private long retryBackoffMs;
+
+    @Value("${app.donation.event.dead-letter-file:logs/donation-events-dead-letter.jsonl}")
+    private String deadLetterFile;
+
+    private BlockingQueue<PendingEvent> buffer;
+    private Thread worker;
+    private volatile boolean running;
+
+    // 지표
+    private final AtomicLong enqueuedCount = new AtomicLong();
+    private final AtomicLong writtenCount = new AtomicLong();
+    private final AtomicLong retriedCount = new AtomicLong();
+    private final AtomicLong droppedCount = new AtomicLong();
+    private final AtomicLong overflowCount = new AtomicLong();
+    private volatile long lastBatchLagMs;
+    private volatile LocalDateTime lastFlushedAt;
+
+    /**
+     * 기록 대기 중인 이벤트
+     * @param enqueuedAtNanos 버퍼에 들어간 시각 (지연 시간 계산용)
+     */
+    public record PendingEvent(DonationStateChangedEvent event, long enqueuedAtNanos) {
+    }
+
+    @PostConstruct
+    void start() {
+        buffer = new ArrayBlockingQueue<>(bufferCapacity);
+        running = true;
+        worker = new Thread(this::runLoop, "donation-event-writer");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    /**
+     * 기부 트랜잭션이 커밋된 상태 변경만 기록 (롤백된 전이 시도는 기록되지 않음)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onDonationStateChanged(DonationStateChangedEvent event) {
+        if (event.donationId() == null) {
+            return;
+        }
+        PendingEvent pending = new PendingEvent(event, System.nanoTime());
+        enqueuedCount.incrementAndGet();
+        if (!running || !buffer.offer(pending)) {
+            // 버퍼가 가득 찼거나 종료 중이면 호출 스레드에서 바로 기록
+            overflowCount.incrementAndGet();
+            log.warn("기부 이력 버퍼가 가득 차 동기 기록 - 버퍼 길이: {}", buffer.size());
+            write(List.of(pending), 1);
+        }
+    }
+
+    /**
+     * 아직 기록되지 않은 해당 기부의 이벤트 (발생 순)
+     */
+    public List<DonationStateChangedEvent> pendingFor(Long donationId) {
+        List<DonationStateChangedEvent> events = new ArrayList<>();
+        for (PendingEvent pending : buffer) {
+            if (donationId.equals(pending.event().donationId())) {
+                events.add(pending.event());
+            }
+        }
+        return events;
+    }
+
+    /**
+     * 버퍼 길이, 지연 시간, 처리 건수 지표
+     */
+    public Map<String, Object> getMetrics() {
+        PendingEvent oldest = buffer.peek();
+        long oldestAgeMs = oldest != null
+                ? TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - oldest.enqueuedAtNanos())
+                : 0;
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("bufferDepth", buffer.size());
+        metrics.put("bufferCapacity", bufferCapacity);
+        metrics.put("oldestPendingAgeMs", oldestAgeMs);
+        metrics.put("lastBatchLagMs", lastBatchLagMs);
+        metrics.put("enqueued", enqueuedCount.get());
+        metrics.put("written", writtenCount.get());
+        metrics.put("retried", retriedCount.get());
+        metrics.put("dropped", droppedCount.get());
+        metrics.put("deadLetterFile", deadLetterFile);
+        metrics.put("overflow", overflowCount.get());
+        metrics.put("lastFlushedAt", lastFlushedAt);
+        return metrics;
+    }
+
+    @PreDestroy
+    void stop() {
+        running = false;
+        worker.interrupt();
+        try {
+            worker.join(Duration.ofSeconds(5).toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // 남은 이벤트 기록
+        List<PendingEvent> remaining = new ArrayList<>();
+        buffer.drainTo(remaining);
+        if (!remaining.isEmpty()) {
+            log.info("애플리케이션 종료 - 남은 기부 이력 기록: {}건", remaining.size());
+            write(remaining, 1);
+        }
+    }
+
+    private void runLoop() {
+        List<PendingEvent> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                PendingEvent first = buffer.take();
+                batch.add(first);
+                buffer.drainTo(batch, batchSize - 1);
+                write(batch, retryAttempts);
+            } catch (InterruptedException e) {
+                // 종료 시 stop()에서 남은 이벤트를 기록
+                break;
+            } catch (Exception e) {
+                log.error("기부 이력 기록 스레드 오류", e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * 배치 기록 (실패 시 attempts회까지 재시도, 그래도 실패한 이벤트는 dead-letter 파일로)
+     */
+    private void write(List<PendingEvent> batch, int attempts) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                insert(batch);
+                return;
+            } catch (DataIntegrityViolationException e) {
+                // 특정 행의 제약 조건 위반은 재시도해도 같으므로 한 건씩 나누어 기록
+                log.error("기부 이력 일괄 기록 실패 (제약 조건) - {}건, 한 건씩 다시 기록", batch.size(), e);
+                deadLetter(insertEach(batch));
+                return;
+            } catch (Exception e) {
+                if (attempt >= attempts) {
+                    log.error("기부 이력 일괄 기록 실패 - {}건, {}회 시도", batch.size(), attempt, e);
+                    deadLetter(batch);
+                    return;
+                }
+                long backoffMs = retryBackoffMs * attempt;
+                retriedCount.addAndGet(batch.size());
+                log.warn("기부 이력 일괄 기록 실패 - {}건, {}ms 후 재시도 ({}/{}): {}",
+                        batch.size(), backoffMs, attempt, attempts, e.getMessage());
+                if (!sleep(backoffMs)) {
+                    // 종료 중이면 재시도하지 않고 dead-letter로 보존
+                    deadLetter(batch);
+                    return;
+                }
+            }
+        }
+    }
+
+    private void insert(List<PendingEvent> batch) {
+        List<Object[]> rows = new ArrayList<>(batch.size());
+        for (PendingEvent pending : batch) {
+            DonationStateChangedEvent e = pending.event();
+            rows.add(new Object[]{
+                    e.donationId(),
+                    e.type().name(),
+                    e.fromStatus() != null ? e.fromStatus().name() : null,
+                    e.toStatus() != null ? e.toStatus().name() : null,
+                    e.actor() != null ? e.actor() : "system",
+                    truncate(e.reason()),
+                    Timestamp.valueOf(e.occurredAt())
+            });
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, rows);
+        writtenCount.addAndGet(rows.size());
+        lastBatchLagMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - batch.get(0).enqueuedAtNanos());
+        lastFlushedAt = LocalDateTime.now();
+        log.debug("기부 이력 일괄 기록 - {}건, 지연: {}ms", rows.size(), lastBatchLagMs);
+    }
+
+    /**
+     * 한 건씩 기록
+     * @return 기록하지 못한 이벤트
+     */
+    private List<PendingEvent> insertEach(List<PendingEvent> batch) {
+        List<PendingEvent> failed = new ArrayList<>();
+        for (PendingEvent pending : batch) {
+            try {
+                insert(List.of(pending));
+            } catch (Exception e) {
+                log.warn("기부 이력 기록 실패 - 기부 ID: {}, 종류: {}: {}",
+                        pending.event().donationId(), pending.event().type(), e.getMessage());
+                failed.add(pending);
+            }
+        }
+        return failed;
+    }
+
+    /**
+     * 기록하지 못한 이벤트를 dead-letter 파일에 JSON 한 줄씩 추가 (파일도 쓸 수 없으면 오류 로그에 내용을 남김)
+     * - 요청 스레드(버퍼 가득 참)와 기록 스레드가 동시에 호출할 수 있어 동기화
+     */
+    private synchronized void deadLetter(List<PendingEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        droppedCount.addAndGet(events.size());
+        Path path = Paths.get(deadLetterFile);
+        try {
+            if (path.getParent() != null) {
+                Files.createDirectories(path.getParent());
+            }
+            try (BufferedWriter writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+                for (PendingEvent pending : events) {
+                    writer.write(objectMapper.writeValueAsString(pending.event()));
+                    writer.newLine();
+                }
+            }
+            log.error("기부 이력 {}건을 dead-letter 파일에 기록: {}", events.size(), path.toAbsolutePath());
+        } catch (IOException e) {
+            log.error("기부 이력 dead-letter 기록 실패 - 유실된 이력: {}",
+                    events.stream().map(PendingEvent::event).toList(), e);
+        }
+    }
+
+    /**
+     * @return 중단(종료) 없이 기다렸으면 true
+     */
+    private boolean sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private String truncate(String reason) {
+        if (reason == null || reason.length() <= MAX_REASON_LENGTH) {
+            return reason;
+        }
+        return reason.substring(0, MAX_REASON_LENGTH);
+    }
+}
@@ -1,11 +1,14 @@
 package com.rewear.donation.service;
 
 import com.rewear.common.enums.DonationStatus;
+import com.rewear.common.utils.CursorPage;
 import com.rewear.donation.DonationForm;
 import com.rewear.donation.DonationItemForm;
 import com.rewear.donation.entity.Donation;
 import com.rewear.organ.entity.Organ;
 import com.rewear.user.entity.User;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 
 import java.util.List;
 
@@ -14,6 +17,7 @@ public interface DonationService {
     List<Donation> getDonationsByUser(User user);
     List<Donation> getAllDonations();
     List<Donation> getDonationsByStatus(DonationStatus status);
+    CursorPage<Donation> getDonationPage(Specification<Donation> filter, Long cursor, int size, Sort.Direction direction);
     Donation matchDonation(Long donationId, Organ organ);
     Donation assignDonationToOrgan(Long donationId, Organ organ, String carrier, String trackingNumber);
     List<Donation> getMatchedDonationsByOrgan(Organ organ);
@@ -23,4 +27,5 @@ public interface DonationService {
     Donation cancelDonation(Long donationId, String reason);
     Donation organApproveDonation(Long donationId, Organ organ, String carrier, String trackingNumber);
     Donation organRejectDonation(Long donationId, Organ organ);
+    Donation resetDonationToPending(Long donationId);
 }
\ No newline at end of file
@@ -3,19 +3,29 @@ package com.rewear.donation.service;
 import com.rewear.common.enums.AdminDecision;
 import com.rewear.common.enums.DonationStatus;
 import com.rewear.common.enums.MatchType;
+import com.rewear.common.service.ImageAssetService;
+import com.rewear.common.service.StatisticsService;
+import com.rewear.common.utils.CursorPage;
 import com.rewear.donation.DonationForm;
 import com.rewear.donation.DonationItemForm;
 import com.rewear.donation.entity.Donation;
 import com.rewear.donation.entity.DonationItem;
 import com.rewear.donation.repository.DonationRepository;
+import com.rewear.donation.repository.DonationSpecifications;
+import com.rewear.donation.state.DonationStateMachine;
+import com.rewear.donation.state.DonationTransition;
 import com.rewear.organ.entity.Organ;
 import com.rewear.user.entity.User;
 import com.rewear.user.service.UserService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -25,31 +35,31 @@ import java.util.Optional;
 @Transactional
 public class DonationServiceImpl implements DonationService {
 
+    // 목록 화면에서 함께 사용하는 연관 엔티티 (fetch graph로 한 번에 로드)
+    private static final String[] LIST_FETCH_ATTRIBUTES = {"donationItem", "organ", "donor", "delivery"};
+
     private final DonationRepository donationRepository;
-    private final com.rewear.notification.service.NotificationService notificationService;
+    private final DonationStateMachine donationStateMachine;
     private final com.rewear.delivery.repository.DeliveryRepository deliveryRepository;
     private final UserService userService;
+    private final StatisticsService statisticsService;
+    private final ImageAssetService imageAssetService;
 
     @Override
     public Donation createDonation(User donor, DonationForm form, DonationItemForm itemForm, Organ organ) {
         // DonationItem 생성 (아직 저장하지 않음 - cascade로 자동 저장됨)
-        // 이미지는 첫 번째 단계에서 이미 저장되었으므로 imageUrl/imageUrls을 직접 사용
-        String imageUrl = itemForm.getImageUrl();
-        String imageUrls = null;
-        
-        // 여러 이미지 URL 처리
+        // 이미지는 첫 번째 단계에서 이미 저장되었으므로 imageUrl/imageUrls의 파일명을 직접 사용
+        List<String> imageFilenames = new ArrayList<>();
         if (itemForm.getImageUrls() != null && !itemForm.getImageUrls().isEmpty()) {
-            imageUrls = String.join(",", itemForm.getImageUrls());
-            // 첫 번째 이미지를 imageUrl에도 설정 (하위 호환성)
-            if (imageUrl == null) {
-                imageUrl = itemForm.getImageUrls().get(0);
-            }
+            imageFilenames.addAll(itemForm.getImageUrls());
+        } else if (itemForm.getImageUrl() != null) {
+            imageFilenames.add(itemForm.getImageUrl());
         }
         
-        log.info("기부 생성 시작 - DonationItemForm에서 가져온 이미지 URL: {}, 여러 이미지: {}", imageUrl, imageUrls);
+        log.info("기부 생성 시작 - DonationItemForm에서 가져온 이미지: {}", imageFilenames);
         
         // 이미지 URL 검증
-        if (imageUrl == null && (itemForm.getImageUrls() == null || itemForm.getImageUrls().isEmpty())) {
+        if (imageFilenames.isEmpty()) {
             throw new IllegalArgumentException("물품 이미지를 최소 1개 이상 업로드해주세요.");
         }
 
@@ -60,10 +70,10 @@ public class DonationServiceImpl implements DonationService {
                 .detailCategory(itemForm.getDetailCategory())
                 .size(itemForm.getSize())
                 .description(itemForm.getDescription())
-                .imageUrl(imageUrl)
-                .imageUrls(imageUrls)
                 .quantity(itemForm.getQuantity() != null ? itemForm.getQuantity() : 1)
                 .build();
+        // 이미지 행과 하위 호환 컬럼(image_url, image_urls)을 함께 설정 (Donation 저장 시 cascade로 저장)
+        item.replaceImages(imageAssetService.describe(imageFilenames));
         
         log.info("기부 생성 - DonationItem 생성 완료, 이미지 URL: {}, 여러 이미지: {}", item.getImageUrl(), item.getImageUrls());
 
@@ -83,7 +93,9 @@ public class DonationServiceImpl implements DonationService {
                 .build();
 
         // Donation 저장 시 cascade로 DonationItem도 자동 저장됨
-        return donationRepository.save(donation);
+        Donation savedDonation = donationRepository.save(donation);
+        statisticsService.markDirty(); // 누적 참여자 수 변경 가능
+        return savedDonation;
     }
 
     @Override
@@ -105,39 +117,34 @@ public class DonationServiceImpl implements DonationService {
     }
 
     @Override
-    public Donation matchDonation(Long donationId, Organ organ) {
-        Donation donation = donationRepository.findById(donationId)
-                .orElseThrow(() -> new IllegalArgumentException("기부 정보를 찾을 수 없습니다."));
-
-        if (donation.getStatus() == DonationStatus.SHIPPED || donation.getStatus() == DonationStatus.COMPLETED) {
-            throw new IllegalStateException("이미 배송 중이거나 완료된 기부입니다.");
-        }
+    @Transactional(readOnly = true)
+    public CursorPage<Donation> getDonationPage(Specification<Donation> filter, Long cursor, int size, Sort.Direction direction) {
+        Specification<Donation> pageFilter = filter.and(DonationSpecifications.idAfterCursor(cursor, direction));
 
-        if (donation.getOrgan() != null && donation.getOrgan().getId().equals(organ.getId())) {
-            throw new IllegalStateException("이미 선택한 기부입니다.");
-        }
+        // size + 1 건을 조회하여 다음 페이지 존재 여부 판단
+        List<Donation> fetched = donationRepository.findBy(pageFilter, query -> query
+                .sortBy(Sort.by(direction, "id"))
+                .limit(size + 1)
+                .project(LIST_FETCH_ATTRIBUTES)
+                .all());
 
-        donation.setOrgan(organ);
-        donation.setStatus(DonationStatus.IN_PROGRESS);
+        // 전체 건수는 커서 조건 없이 별도 COUNT 쿼리로 조회
+        long totalCount = donationRepository.count(filter);
 
-        Donation savedDonation = donationRepository.save(donation);
-        
-        try {
-            String title = "기부 매칭 완료";
-            String message = String.format("'%s' 기관이 귀하의 기부 물품을 선택했습니다.", organ.getOrgName());
-            notificationService.createNotification(
-                donation.getDonor(),
-                com.rewear.common.enums.NotificationType.DONATION_MATCHED,
-                title,
-                message,
-                savedDonation.getId(),
-                "donation"
-            );
-        } catch (Exception e) {
-            log.warn("알림 생성 실패: {}", e.getMessage());
-        }
+        return CursorPage.of(fetched, size, totalCount, d -> String.valueOf(d.getId()));
+    }
 
-        return savedDonation;
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED) // 전이마다 DonationStateMachine이 트랜잭션 관리 (충돌 시 재시도)
+    public Donation matchDonation(Long donationId, Organ organ) {
+        // 기부자 알림은 커밋 이후 이벤트 리스너에서 처리
+        return donationStateMachine.apply(donationId, DonationTransition.ORGAN_MATCH, (donation, context) -> {
+            if (donation.getOrgan() != null && donation.getOrgan().getId().equals(organ.getId())) {
+                throw new IllegalStateException("이미 선택한 기부입니다.");
+            }
+            donation.setOrgan(organ);
+            context.eventOrgan(organ);
+        });
     }
 
     @Override
@@ -205,351 +212,217 @@ public class DonationServiceImpl implements DonationService {
     }
 
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED) // 전이마다 DonationStateMachine이 트랜잭션 관리 (충돌 시 재시도)
     public Donation approveDonation(Long donationId) {
-        Donation donation = donationRepository.findById(donationId)
-                .orElseThrow(() -> new IllegalArgumentException("기부 정보를 찾을 수 없습니다."));
-
-        // 기존 제약 제거: 모든 상태에서 승인 가능
-        // if (donation.getAdminDecision() != AdminDecision.PENDING) {
-        //     throw new IllegalStateException("대기 상태인 기부만 승인할 수 있습니다.");
-        // }
-
-        // 간접 매칭인 경우 기관 할당 제약 제거: 먼저 승인하고 나중에 기관 할당 가능
-        // if (donation.getMatchType() == MatchType.INDIRECT && donation.getOrgan() == null) {
-        //     throw new IllegalStateException("간접 매칭 기부는 관리자가 기관을 할당한 후에만 승인할 수 있습니다.");
-        // }
-
-        donation.setAdminDecision(AdminDecision.APPROVED);
-        donation.setStatus(DonationStatus.IN_PROGRESS);
-        
-        Donation savedDonation = donationRepository.save(donation);
-        
-        // 기부자에게 알림
-        try {
-            String title = "기부 승인 완료";
-            String message = "귀하의 기부 신청이 승인되었습니다.";
-            notificationService.createNotification(
-                donation.getDonor(),
-                com.rewear.common.enums.NotificationType.DONATION_APPROVED,
-                title,
-                message,
-                savedDonation.getId(),
-                "donation"
-            );
-        } catch (Exception e) {
-            log.warn("기부자 알림 생성 실패: {}", e.getMessage());
-        }
-        
-        // 기관이 할당되어 있으면 기관에게도 알림
-        if (savedDonation.getOrgan() != null && savedDonation.getOrgan().getUser() != null) {
-            try {
-                String organTitle = "기부 매칭 승인";
-                String organMessage = String.format("관리자가 '%s' 기부를 승인하여 귀하의 기관에 할당되었습니다.", 
-                    savedDonation.getDonationItem() != null ? savedDonation.getDonationItem().getMainCategory() : "기부물품");
-                notificationService.createNotification(
-                    savedDonation.getOrgan().getUser(),
-                    com.rewear.common.enums.NotificationType.DONATION_MATCHED,
-                    organTitle,
-                    organMessage,
-                    savedDonation.getId(),
-                    "donation"
-                );
-            } catch (Exception e) {
-                log.warn("기관 알림 생성 실패: {}", e.getMessage());
-            }
-        }
-
-        return savedDonation;
+        // 완료/취소되지 않은 기부만 승인 가능 (간접 매칭도 먼저 승인하고 나중에 기관 할당 가능)
+        // 기부자 (기관이 할당되어 있으면 기관에게도) 알림은 커밋 이후 이벤트 리스너에서 처리
+        return donationStateMachine.apply(donationId, DonationTransition.ADMIN_APPROVE,
+                (donation, context) -> context.eventOrgan(donation.getOrgan()));
     }
 
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED) // 전이마다 DonationStateMachine이 트랜잭션 관리 (충돌 시 재시도)
     public Donation rejectDonation(Long donationId, String reason) {
-        Donation donation = donationRepository.findById(donationId)
-                .orElseThrow(() -> new IllegalArgumentException("기부 정보를 찾을 수 없습니다."));
-
-        // 기존 제약 제거: 모든 상태에서 거절 가능
-        // if (donation.getAdminDecision() != AdminDecision.PENDING) {
-        //     throw new IllegalStateException("대기 상태인 기부만 반려할 수 있습니다.");
-        // }
-
-        donation.setAdminDecision(AdminDecision.REJECTED);
-        donation.setCancelReason(reason);
-        
-        // 간접 매칭인 경우 기관 할당 해제
-        if (donation.getMatchType() == com.rewear.common.enums.MatchType.INDIRECT) {
-            donation.setOrgan(null);
-        }
-        
-        try {
-            String title = "기부 반려";
-            String message = "귀하의 기부 신청이 반려되었습니다. 사유: " + reason;
-            notificationService.createNotification(
-                donation.getDonor(),
-                com.rewear.common.enums.NotificationType.DONATION_REJECTED,
-                title,
-                message,
-                donation.getId(),
-                "donation"
-            );
-        } catch (Exception e) {
-            log.warn("알림 생성 실패: {}", e.getMessage());
-        }
-
-        return donationRepository.save(donation);
+        // 완료/취소되지 않은 기부만 반려 가능
+        return donationStateMachine.apply(donationId, DonationTransition.ADMIN_REJECT, (donation, context) -> {
+            donation.setCancelReason(reason);
+            // 간접 매칭인 경우 기관 할당 해제
+            if (donation.getMatchType() == MatchType.INDIRECT) {
+                donation.setOrgan(null);
+            }
+            context.reason(reason);
+        });
     }
 
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED) // 전이마다 DonationStateMachine이 트랜잭션 관리 (충돌 시 재시도)
     public Donation cancelDonation(Long donationId, String reason) {
-        Donation donation = donationRepository.findById(donationId)
-                .orElseThrow(() -> new IllegalArgumentException("기부 정보를 찾을 수 없습니다."));
-
-        if (donation.getStatus() == DonationStatus.COMPLETED) {
-            throw new IllegalStateException("완료된 기부는 취소할 수 없습니다.");
-        }
-
-        donation.setStatus(DonationStatus.CANCELLED);
-        donation.setCancelReason(reason);
-        
-        try {
-            String title = "기부 취소";
-            String message = "기부가 취소되었습니다. 사유: " + reason;
-            notificationService.createNotification(
-                donation.getDonor(),
-                com.rewear.common.enums.NotificationType.DONATION_REJECTED,
-                title,
-                message,
-                donation.getId(),
-                "donation"
-            );
-        } catch (Exception e) {
-            log.warn("알림 생성 실패: {}", e.getMessage());
-        }
-
-        return donationRepository.save(donation);
+        return donationStateMachine.apply(donationId, DonationTransition.CANCEL, (donation, context) -> {
+            donation.setCancelReason(reason);
+            context.reason(reason);
+        });
     }
 
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED) // 전이마다 DonationStateMachine이 트랜잭션 관리 (충돌 시 재시도)
     public Donation organApproveDonation(Long donationId, Organ organ, String carrier, String trackingNumber) {
-        Donation donation = donationRepository.findById(donationId)
-                .orElseThrow(() -> new IllegalArgumentException("기부 정보를 찾을 수 없습니다."));
-
-        if (donation.getOrgan() == null || !donation.getOrgan().getId().equals(organ.getId())) {
-            throw new IllegalStateException("해당 기관에 할당된 기부만 승인할 수 있습니다.");
-        }
-
         // 기관이 수락한 기부는 모두 COMPLETED 상태로 변경하여 "기부 내역 조회"에 표시
         // (직접 매칭과 간접 매칭 모두 동일하게 처리)
-        donation.setStatus(DonationStatus.COMPLETED);
-
-        Donation savedDonation = donationRepository.save(donation);
-
-        // 배송 정보가 없으면 기본 배송 정보 생성 (배송 상태: 대기)
-        if (savedDonation.getDelivery() == null) {
-            // 기관의 User 정보 가져오기 (LAZY 로딩 문제 해결을 위해 명시적으로 조회)
-            User organUser = null;
-            try {
-                // organ을 다시 조회하여 User 정보를 확실히 로드
-                if (organ.getUser() != null && organ.getUser().getId() != null) {
-                    organUser = userService.getUserById(organ.getUser().getId());
-                    log.info("기관 User 정보 조회 성공 - organId: {}, userId: {}, phone: {}, address: {}", 
-                        organ.getId(), organUser.getId(), organUser.getPhone(), organUser.getAddress());
-                }
-            } catch (Exception e) {
-                log.warn("기관 User 정보 조회 실패: {}", e.getMessage());
+        // 기부자와 기관 알림은 커밋 이후 이벤트 리스너에서 처리
+        return donationStateMachine.apply(donationId, DonationTransition.ORGAN_APPROVE, (donation, context) -> {
+            if (donation.getOrgan() == null || !donation.getOrgan().getId().equals(organ.getId())) {
+                throw new IllegalStateException("해당 기관에 할당된 기부만 승인할 수 있습니다.");
             }
+            context.eventOrgan(organ);
+            statisticsService.markDirty(); // 기부된 옷 벌 수 변경
+
+            // 배송 정보가 없으면 기본 배송 정보 생성 (배송 상태: 대기)
+            if (donation.getDelivery() == null) {
+                // 기관의 User 정보 가져오기 (LAZY 로딩 문제 해결을 위해 명시적으로 조회)
+                User organUser = null;
+                try {
+                    // organ을 다시 조회하여 User 정보를 확실히 로드
+                    if (organ.getUser() != null && organ.getUser().getId() != null) {
+                        organUser = userService.getUserById(organ.getUser().getId());
+                        log.info("기관 User 정보 조회 성공 - organId: {}, userId: {}, phone: {}, address: {}", 
+                            organ.getId(), organUser.getId(), organUser.getPhone(), organUser.getAddress());
+                    }
+                } catch (Exception e) {
+                    log.warn("기관 User 정보 조회 실패: {}", e.getMessage());
+                }
             
-            String receiverPhone = "010-0000-0000";
-            String receiverAddress = "주소 미정";
-            String receiverPostalCode = null;
+                String receiverPhone = "010-0000-0000";
+                String receiverAddress = "주소 미정";
+                String receiverPostalCode = null;
             
-            if (organUser != null) {
-                // 전화번호 포맷팅 (01012345678 -> 010-1234-5678)
-                if (organUser.getPhone() != null && !organUser.getPhone().isEmpty()) {
-                    String phoneDigits = organUser.getPhone().replaceAll("\\D", "");
-                    if (phoneDigits.length() == 11) {
-                        receiverPhone = phoneDigits.substring(0, 3) + "-" + 
-                                      phoneDigits.substring(3, 7) + "-" + 
-                                      phoneDigits.substring(7);
-                    } else if (phoneDigits.length() == 10) {
-                        receiverPhone = phoneDigits.substring(0, 3) + "-" + 
-                                      phoneDigits.substring(3, 6) + "-" + 
-                                      phoneDigits.substring(6);
-                    } else {
-                        receiverPhone = organUser.getPhone();
+                if (organUser != null) {
+                    // 전화번호 포맷팅 (01012345678 -> 010-1234-5678)
+                    if (organUser.getPhone() != null && !organUser.getPhone().isEmpty()) {
+                        String phoneDigits = organUser.getPhone().replaceAll("\\D", "");
+                        if (phoneDigits.length() == 11) {
+                            receiverPhone = phoneDigits.substring(0, 3) + "-" + 
+                                          phoneDigits.substring(3, 7) + "-" + 
+                                          phoneDigits.substring(7);
+                        } else if (phoneDigits.length() == 10) {
+                            receiverPhone = phoneDigits.substring(0, 3) + "-" + 
+                                          phoneDigits.substring(3, 6) + "-" + 
+                                          phoneDigits.substring(6);
+                        } else {
+                            receiverPhone = organUser.getPhone();
+                        }
                     }
-                }
                 
-                // 주소 정보 가져오기
-                if (organUser.getAddress() != null && !organUser.getAddress().isEmpty() && !organUser.getAddress().equals("주소 미입력")) {
-                    receiverAddress = organUser.getAddress();
-                }
-                if (organUser.getAddressPostcode() != null && !organUser.getAddressPostcode().isEmpty()) {
-                    receiverPostalCode = organUser.getAddressPostcode();
-                }
+                    // 주소 정보 가져오기
+                    if (organUser.getAddress() != null && !organUser.getAddress().isEmpty() && !organUser.getAddress().equals("주소 미입력")) {
+                        receiverAddress = organUser.getAddress();
+                    }
+                    if (organUser.getAddressPostcode() != null && !organUser.getAddressPostcode().isEmpty()) {
+                        receiverPostalCode = organUser.getAddressPostcode();
+                    }
                 
-                log.info("기관 배송 정보 설정 - 기관명: {}, 전화번호: {}, 주소: {}, 우편번호: {}", 
-                    organ.getOrgName(), receiverPhone, receiverAddress, receiverPostalCode);
-            } else {
-                log.warn("기관 User 정보를 찾을 수 없습니다. organId: {}", organ.getId());
-            }
-            
-            com.rewear.delivery.entity.Delivery.DeliveryBuilder deliveryBuilder = com.rewear.delivery.entity.Delivery.builder()
-                    .donation(savedDonation)
-                    .senderName(savedDonation.getDonor() != null && savedDonation.getDonor().getName() != null ? savedDonation.getDonor().getName() : "미정")
-                    .senderPhone(savedDonation.getDonor() != null && savedDonation.getDonor().getPhone() != null ? savedDonation.getDonor().getPhone() : "010-0000-0000")
-                    .senderAddress(savedDonation.getDonor() != null && savedDonation.getDonor().getAddress() != null ? savedDonation.getDonor().getAddress() : "주소 미정")
-                    .receiverName(organ.getOrgName() != null ? organ.getOrgName() : "미정")
-                    .receiverPhone(receiverPhone)
-                    .receiverAddress(receiverAddress)
-                    .receiverPostalCode(receiverPostalCode)
-                    .status(com.rewear.common.enums.DeliveryStatus.PENDING);
+                    log.info("기관 배송 정보 설정 - 기관명: {}, 전화번호: {}, 주소: {}, 우편번호: {}", 
+                        organ.getOrgName(), receiverPhone, receiverAddress, receiverPostalCode);
+                } else {
+                    log.warn("기관 User 정보를 찾을 수 없습니다. organId: {}", organ.getId());
+                }
             
-            // 택배 정보가 있으면 추가
-            if (carrier != null && !carrier.isEmpty()) {
-                deliveryBuilder.carrier(carrier);
-            }
-            if (trackingNumber != null && !trackingNumber.isEmpty()) {
-                deliveryBuilder.trackingNumber(trackingNumber);
-            }
+                com.rewear.delivery.entity.Delivery.DeliveryBuilder deliveryBuilder = com.rewear.delivery.entity.Delivery.builder()
+                        .donation(donation)
+                        .senderName(donation.getDonor() != null && donation.getDonor().getName() != null ? donation.getDonor().getName() : "미정")
+                        .senderPhone(donation.getDonor() != null && donation.getDonor().getPhone() != null ? donation.getDonor().getPhone() : "010-0000-0000")
+                        .senderAddress(donation.getDonor() != null && donation.getDonor().getAddress() != null ? donation.getDonor().getAddress() : "주소 미정")
+                        .receiverName(organ.getOrgName() != null ? organ.getOrgName() : "미정")
+                        .receiverPhone(receiverPhone)
+                        .receiverAddress(receiverAddress)
+                        .receiverPostalCode(receiverPostalCode)
+                        .status(com.rewear.common.enums.DeliveryStatus.PENDING);
             
-            com.rewear.delivery.entity.Delivery delivery = deliveryBuilder.build();
-            deliveryRepository.save(delivery);
-        } else {
-            // 배송 정보가 이미 있으면 기관 정보로 업데이트
-            User organUser = null;
-            try {
-                // organ을 다시 조회하여 User 정보를 확실히 로드
-                if (organ.getUser() != null && organ.getUser().getId() != null) {
-                    organUser = userService.getUserById(organ.getUser().getId());
-                    log.info("기관 User 정보 조회 성공 (업데이트) - organId: {}, userId: {}, phone: {}, address: {}", 
-                        organ.getId(), organUser.getId(), organUser.getPhone(), organUser.getAddress());
+                // 택배 정보가 있으면 추가
+                if (carrier != null && !carrier.isEmpty()) {
+                    deliveryBuilder.carrier(carrier);
+                }
+                if (trackingNumber != null && !trackingNumber.isEmpty()) {
+                    deliveryBuilder.trackingNumber(trackingNumber);
                 }
-            } catch (Exception e) {
-                log.warn("기관 User 정보 조회 실패 (업데이트): {}", e.getMessage());
-            }
             
-            if (organUser != null) {
-                // 전화번호 업데이트
-                if (organUser.getPhone() != null && !organUser.getPhone().isEmpty()) {
-                    String phoneDigits = organUser.getPhone().replaceAll("\\D", "");
-                    if (phoneDigits.length() == 11) {
-                        savedDonation.getDelivery().setReceiverPhone(
-                            phoneDigits.substring(0, 3) + "-" + 
-                            phoneDigits.substring(3, 7) + "-" + 
-                            phoneDigits.substring(7)
-                        );
-                    } else if (phoneDigits.length() == 10) {
-                        savedDonation.getDelivery().setReceiverPhone(
-                            phoneDigits.substring(0, 3) + "-" + 
-                            phoneDigits.substring(3, 6) + "-" + 
-                            phoneDigits.substring(6)
-                        );
-                    } else {
-                        savedDonation.getDelivery().setReceiverPhone(organUser.getPhone());
+                com.rewear.delivery.entity.Delivery delivery = deliveryBuilder.build();
+                deliveryRepository.save(delivery);
+            } else {
+                // 배송 정보가 이미 있으면 기관 정보로 업데이트
+                User organUser = null;
+                try {
+                    // organ을 다시 조회하여 User 정보를 확실히 로드
+                    if (organ.getUser() != null && organ.getUser().getId() != null) {
+                        organUser = userService.getUserById(organ.getUser().getId());
+                        log.info("기관 User 정보 조회 성공 (업데이트) - organId: {}, userId: {}, phone: {}, address: {}", 
+                            organ.getId(), organUser.getId(), organUser.getPhone(), organUser.getAddress());
                     }
+                } catch (Exception e) {
+                    log.warn("기관 User 정보 조회 실패 (업데이트): {}", e.getMessage());
                 }
+            
+                if (organUser != null) {
+                    // 전화번호 업데이트
+                    if (organUser.getPhone() != null && !organUser.getPhone().isEmpty()) {
+                        String phoneDigits = organUser.getPhone().replaceAll("\\D", "");
+                        if (phoneDigits.length() == 11) {
+                            donation.getDelivery().setReceiverPhone(
+                                phoneDigits.substring(0, 3) + "-" + 
+                                phoneDigits.substring(3, 7) + "-" + 
+                                phoneDigits.substring(7)
+                            );
+                        } else if (phoneDigits.length() == 10) {
+                            donation.getDelivery().setReceiverPhone(
+                                phoneDigits.substring(0, 3) + "-" + 
+                                phoneDigits.substring(3, 6) + "-" + 
+                                phoneDigits.substring(6)
+                            );
+                        } else {
+                            donation.getDelivery().setReceiverPhone(organUser.getPhone());
+                        }
+                    }
                 
-                // 주소 업데이트
-                if (organUser.getAddress() != null && !organUser.getAddress().isEmpty() && !organUser.getAddress().equals("주소 미입력")) {
-                    savedDonation.getDelivery().setReceiverAddress(organUser.getAddress());
-                }
-                if (organUser.getAddressPostcode() != null && !organUser.getAddressPostcode().isEmpty()) {
-                    savedDonation.getDelivery().setReceiverPostalCode(organUser.getAddressPostcode());
-                }
+                    // 주소 업데이트
+                    if (organUser.getAddress() != null && !organUser.getAddress().isEmpty() && !organUser.getAddress().equals("주소 미입력")) {
+                        donation.getDelivery().setReceiverAddress(organUser.getAddress());
+                    }
+                    if (organUser.getAddressPostcode() != null && !organUser.getAddressPostcode().isEmpty()) {
+                        donation.getDelivery().setReceiverPostalCode(organUser.getAddressPostcode());
+                    }
                 
-                log.info("기관 배송 정보 업데이트 - 기관명: {}, 전화번호: {}, 주소: {}, 우편번호: {}", 
-                    organ.getOrgName(), savedDonation.getDelivery().getReceiverPhone(), 
-                    savedDonation.getDelivery().getReceiverAddress(), savedDonation.getDelivery().getReceiverPostalCode());
-            } else {
-                log.warn("기관 User 정보를 찾을 수 없습니다. organId: {}", organ.getId());
-            }
+                    log.info("기관 배송 정보 업데이트 - 기관명: {}, 전화번호: {}, 주소: {}, 우편번호: {}", 
+                        organ.getOrgName(), donation.getDelivery().getReceiverPhone(), 
+                        donation.getDelivery().getReceiverAddress(), donation.getDelivery().getReceiverPostalCode());
+                } else {
+                    log.warn("기관 User 정보를 찾을 수 없습니다. organId: {}", organ.getId());
+                }
             
-            // 택배 정보가 있으면 업데이트
-            if (carrier != null && !carrier.isEmpty()) {
-                savedDonation.getDelivery().setCarrier(carrier);
-            }
-            if (trackingNumber != null && !trackingNumber.isEmpty()) {
-                savedDonation.getDelivery().setTrackingNumber(trackingNumber);
-            }
+                // 택배 정보가 있으면 업데이트
+                if (carrier != null && !carrier.isEmpty()) {
+                    donation.getDelivery().setCarrier(carrier);
+                }
+                if (trackingNumber != null && !trackingNumber.isEmpty()) {
+                    donation.getDelivery().setTrackingNumber(trackingNumber);
+                }
             
-            if (carrier != null || trackingNumber != null) {
-                deliveryRepository.save(savedDonation.getDelivery());
-            }
+                if (carrier != null || trackingNumber != null) {
+                    deliveryRepository.save(donation.getDelivery());
+                }
             
-            // 상태를 대기로 설정
-            savedDonation.getDelivery().setStatus(com.rewear.common.enums.DeliveryStatus.PENDING);
-            deliveryRepository.save(savedDonation.getDelivery());
-        }
-
-        // 기부자에게 알림
-        try {
-            String title = "기부 승인 완료";
-            String message = String.format("'%s' 기관이 기부를 최종 승인하여 완료되었습니다.", organ.getOrgName());
-            notificationService.createNotification(
-                donation.getDonor(),
-                com.rewear.common.enums.NotificationType.DONATION_APPROVED,
-                title,
-                message,
-                savedDonation.getId(),
-                "donation"
-            );
-        } catch (Exception e) {
-            log.warn("기부자 알림 생성 실패: {}", e.getMessage());
-        }
-        
-        // 기관에게도 알림
-        if (organ.getUser() != null) {
-            try {
-                String organTitle = "기부 승인 완료";
-                String organMessage = String.format("귀하의 기관이 기부를 승인하여 완료되었습니다.");
-                notificationService.createNotification(
-                    organ.getUser(),
-                    com.rewear.common.enums.NotificationType.DONATION_APPROVED,
-                    organTitle,
-                    organMessage,
-                    savedDonation.getId(),
-                    "donation"
-                );
-            } catch (Exception e) {
-                log.warn("기관 알림 생성 실패: {}", e.getMessage());
+                // 상태를 대기로 설정
+                donation.getDelivery().setStatus(com.rewear.common.enums.DeliveryStatus.PENDING);
+                deliveryRepository.save(donation.getDelivery());
             }
-        }
 
-        return savedDonation;
+        });
     }
 
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED) // 전이마다 DonationStateMachine이 트랜잭션 관리 (충돌 시 재시도)
     public Donation organRejectDonation(Long donationId, Organ organ) {
-        Donation donation = donationRepository.findById(donationId)
-                .orElseThrow(() -> new IllegalArgumentException("기부 정보를 찾을 수 없습니다."));
-
-        if (donation.getOrgan() == null || !donation.getOrgan().getId().equals(organ.getId())) {
-            throw new IllegalStateException("해당 기관에 할당된 기부만 거부할 수 있습니다.");
-        }
-
         // 반려 시 기부 요청 삭제 (CANCELLED 상태로 변경)
-        donation.setStatus(DonationStatus.CANCELLED);
-        donation.setCancelReason("기관이 기부를 반려했습니다.");
-
-        try {
-            String title = "기부 반려";
-            String message = String.format("'%s' 기관이 기부를 반려했습니다.", organ.getOrgName());
-            notificationService.createNotification(
-                donation.getDonor(),
-                com.rewear.common.enums.NotificationType.DONATION_REJECTED,
-                title,
-                message,
-                donation.getId(),
-                "donation"
-            );
-        } catch (Exception e) {
-            log.warn("알림 생성 실패: {}", e.getMessage());
-        }
+        return donationStateMachine.apply(donationId, DonationTransition.ORGAN_REJECT, (donation, context) -> {
+            if (donation.getOrgan() == null || !donation.getOrgan().getId().equals(organ.getId())) {
+                throw new IllegalStateException("해당 기관에 할당된 기부만 거부할 수 있습니다.");
+            }
+            donation.setCancelReason("기관이 기부를 반려했습니다.");
+            // 기관 할당 해제 (이벤트에는 기관명 표시용으로 기관 지정)
+            context.eventOrgan(organ);
+            donation.setOrgan(null);
+        });
+    }
 
-        // 기관 할당 해제
-        donation.setOrgan(null);
-        
-        return donationRepository.save(donation);
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Donation resetDonationToPending(Long donationId) {
+        return donationStateMachine.apply(donationId, DonationTransition.RESET_TO_PENDING, (donation, context) -> {
+            donation.setCancelReason(null); // 거절 사유 제거
+            // 간접 매칭인 경우 기관 할당 해제
+            if (donation.getMatchType() == MatchType.INDIRECT) {
+                donation.setOrgan(null);
+            }
+            statisticsService.markDirty(); // 취소된 기부가 다시 열릴 수 있음
+        });
     }
 
 }
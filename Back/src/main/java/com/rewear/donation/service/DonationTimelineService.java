@@ -0,0 +1,142 @@
+package com.rewear.donation.service;
+
+import com.rewear.common.enums.DonationStatus;
+import com.rewear.donation.entity.DonationEvent;
+import com.rewear.donation.event.DonationStateChangedEvent;
+import com.rewear.donation.repository.DonationEventRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 기부 상태 변경 이력 조회 (donation_events)
+ * - timeline(): 한 기부의 상태 변경 이력 (아직 기록되지 않은 버퍼의 이벤트 포함)
+ * - stageLatencies(): 상태별 머문 시간 통계 (예: PENDING → IN_PROGRESS까지 걸린 시간)
+ */
+@Service
+@RequiredArgsConstructor
+public class DonationTimelineService {
+
+    // 기간 안에 이벤트가 있는 기부의 전체 이력 (상태 진입 시각을 알기 위해 기간 이전 이벤트도 포함)
+    private static final String STAGE_SQL =
+            "SELECT e.donation_id, e.from_status, e.to_status, e.occurred_at, d.created_at " +
+            "FROM donation_events e LEFT JOIN donations d ON d.donation_id = e.donation_id " +
+            "WHERE e.donation_id IN (SELECT DISTINCT donation_id FROM donation_events WHERE occurred_at >= ?) " +
+            "ORDER BY e.donation_id, e.occurred_at, e.id";
+
+    private final DonationEventRepository donationEventRepository;
+    private final DonationEventWriter donationEventWriter;
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 이력 항목
+     * @param pending 아직 donation_events에 기록되지 않은 이벤트인지 여부
+     */
+    public record TimelineEntry(DonationStateChangedEvent.Type type, DonationStatus fromStatus,
+                                DonationStatus toStatus, String actor, String reason,
+                                LocalDateTime occurredAt, boolean pending) {
+    }
+
+    /**
+     * 기부 상태 변경 이력 (발생 순)
+     */
+    public List<TimelineEntry> timeline(Long donationId) {
+        List<TimelineEntry> entries = new ArrayList<>();
+        for (DonationEvent e : donationEventRepository.findTimeline(donationId)) {
+            entries.add(new TimelineEntry(e.getEventType(), e.getFromStatus(), e.getToStatus(),
+                    e.getActor(), e.getReason(), e.getOccurredAt(), false));
+        }
+        for (DonationStateChangedEvent e : donationEventWriter.pendingFor(donationId)) {
+            entries.add(new TimelineEntry(e.type(), e.fromStatus(), e.toStatus(),
+                    e.actor(), e.reason(), e.occurredAt(), true));
+        }
+        return entries;
+    }
+
+    /**
+     * 최근 days일 동안 일어난 상태 변경별 소요 시간 통계
+     * - 소요 시간 = 이전 상태에 들어간 시각부터 변경 시각까지
+     * - 기록된 첫 변경은 PENDING에서 시작한 경우에만 기부 신청 시각부터 계산
+     *   (이력 기록 이전에 생성된 기부는 이전 상태 진입 시각을 알 수 없으므로 첫 변경을 제외)
+     * - 상태가 바뀌지 않은 이벤트(관리자 반려 등)는 집계하지 않음
+     * @return "PENDING->IN_PROGRESS" 등 단계별 건수, 평균/중앙값/90%/최대 소요 시간(초)
+     */
+    public Map<String, Object> stageLatencies(int days) {
+        LocalDateTime since = LocalDateTime.now().minusDays(days);
+        Map<String, List<Long>> durationsByStage = new TreeMap<>();
+        StageCursor cursor = new StageCursor();
+
+        jdbcTemplate.query(STAGE_SQL, (RowCallbackHandler) rs -> {
+            long donationId = rs.getLong(1);
+            String fromStatus = rs.getString(2);
+            String toStatus = rs.getString(3);
+            LocalDateTime occurredAt = rs.getTimestamp(4).toLocalDateTime();
+            if (cursor.donationId == null || cursor.donationId != donationId) {
+                // 다음 기부 - PENDING 진입 시각은 기부 신청 시각
+                Timestamp createdAt = rs.getTimestamp(5);
+                cursor.donationId = donationId;
+                cursor.createdAt = createdAt != null ? createdAt.toLocalDateTime() : null;
+                cursor.enteredAt = null;
+            }
+            if (fromStatus == null || fromStatus.equals(toStatus)) {
+                return;
+            }
+            if (cursor.enteredAt == null && DonationStatus.PENDING.name().equals(fromStatus)) {
+                cursor.enteredAt = cursor.createdAt;
+            }
+            if (cursor.enteredAt != null && !occurredAt.isBefore(since)) {
+                durationsByStage.computeIfAbsent(fromStatus + "->" + toStatus, k -> new ArrayList<>())
+                        .add(Duration.between(cursor.enteredAt, occurredAt).toSeconds());
+            }
+            cursor.enteredAt = occurredAt;
+        }, since);
+
+        Map<String, Object> stages = new LinkedHashMap<>();
+        durationsByStage.forEach((stage, durations) -> stages.put(stage, summarize(durations)));
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("days", days);
+        result.put("since", since);
+        result.put("stages", stages);
+        return result;
+    }
+
+    private Map<String, Object> summarize(List<Long> durations) {
+        Collections.sort(durations);
+        long total = 0;
+        for (long duration : durations) {
+            total += duration;
+        }
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("count", durations.size());
+        summary.put("avgSeconds", total / durations.size());
+        summary.put("p50Seconds", percentile(durations, 50));
+        summary.put("p90Seconds", percentile(durations, 90));
+        summary.put("maxSeconds", durations.get(durations.size() - 1));
+        return summary;
+    }
+
+    private long percentile(List<Long> sorted, int percent) {
+        int index = (int) Math.ceil(percent / 100.0 * sorted.size()) - 1;
+        return sorted.get(Math.max(0, Math.min(index, sorted.size() - 1)));
+    }
+
+    /**
+     * 행 단위 집계 중 현재 기부와 그 상태에 들어간 시각
+     */
+    private static final class StageCursor {
+        private Long donationId;
+        private LocalDateTime createdAt;
+        private LocalDateTime enteredAt;
+    }
+}
@@ -0,0 +1,158 @@
+package com.rewear.donation.state;
+
+import com.rewear.common.enums.DonationStatus;
+import com.rewear.donation.entity.Donation;
+import com.rewear.donation.event.DonationStateChangedEvent;
+import com.rewear.donation.repository.DonationRepository;
+import com.rewear.organ.entity.Organ;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 기부 상태 전이 실행
+ * - 모든 상태 변경은 이 클래스를 거쳐 DonationTransition 표로 검증하고, 상태 변경 이벤트도 여기서만 발행
+ * - Donation.version 낙관적 잠금 (조회 시 OPTIMISTIC_FORCE_INCREMENT) - 상태 값이 같아도 동시에 처리된 전이는 충돌로 감지
+ * - 호출 측 트랜잭션이 없으면 시도마다 새 트랜잭션에서 실행하고, 충돌 시 최신 상태를 다시 읽어 검증부터 재시도
+ *   (재시도에서 조건을 만족하지 않으면 IllegalStateException - 예: 관리자가 먼저 반려한 기부를 기관이 승인)
+ * - 호출 측 트랜잭션 안에서 호출되면 그 트랜잭션에 참여하며, 충돌 시 재시도하지 않고 예외를 전달
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DonationStateMachine {
+
+    private static final String SYSTEM_ACTOR = "system";
+
+    private final DonationRepository donationRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${app.donation.transition.max-attempts:3}")
+    private int maxAttempts;
+
+    @Value("${app.donation.transition.retry-backoff-ms:30}")
+    private long retryBackoffMs;
+
+    private final AtomicLong appliedCount = new AtomicLong();
+    private final AtomicLong conflictCount = new AtomicLong();
+    private final AtomicLong rejectedCount = new AtomicLong();
+
+    /**
+     * 전이와 함께 처리할 작업 (추가 검증, 기관 할당, 배송 정보 등)
+     * - 상태 변경 직전에 같은 트랜잭션에서 실행되고, 충돌로 재시도하면 다시 실행됨
+     */
+    @FunctionalInterface
+    public interface TransitionAction {
+        void apply(Donation donation, TransitionContext context);
+    }
+
+    /**
+     * 이벤트에 기록할 값 (기관 할당 해제 전에 기관을 지정해야 하는 경우 등)
+     */
+    public static final class TransitionContext {
+        private Organ eventOrgan;
+        private String reason;
+
+        public TransitionContext eventOrgan(Organ organ) {
+            this.eventOrgan = organ;
+            return this;
+        }
+
+        public TransitionContext reason(String reason) {
+            this.reason = reason;
+            return this;
+        }
+    }
+
+    public Donation apply(Long donationId, DonationTransition transition) {
+        return apply(donationId, transition, (donation, context) -> { });
+    }
+
+    public Donation apply(Long donationId, DonationTransition transition, TransitionAction action) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return attempt(donationId, transition, action);
+        }
+        for (int attemptNo = 1; ; attemptNo++) {
+            try {
+                return transactionTemplate.execute(status -> attempt(donationId, transition, action));
+            } catch (OptimisticLockingFailureException e) {
+                conflictCount.incrementAndGet();
+                if (attemptNo >= maxAttempts) {
+                    log.warn("기부 상태 변경 충돌 - 기부 ID: {}, 전이: {}, 시도: {}회", donationId, transition, attemptNo);
+                    throw new IllegalStateException("다른 요청이 기부 상태를 변경하고 있습니다. 잠시 후 다시 시도해주세요.", e);
+                }
+                log.debug("기부 상태 변경 충돌, 재시도 - 기부 ID: {}, 전이: {}, 시도: {}회", donationId, transition, attemptNo);
+                backoff(attemptNo);
+            }
+        }
+    }
+
+    public Map<String, Object> getMetrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("applied", appliedCount.get());
+        metrics.put("conflicts", conflictCount.get());
+        metrics.put("rejected", rejectedCount.get());
+        return metrics;
+    }
+
+    private Donation attempt(Long donationId, DonationTransition transition, TransitionAction action) {
+        Donation donation = donationRepository.findForTransition(donationId)
+                .orElseThrow(() -> new IllegalArgumentException("기부 정보를 찾을 수 없습니다."));
+        if (!transition.allows(donation.getStatus(), donation.getAdminDecision())) {
+            rejectedCount.incrementAndGet();
+            throw new IllegalStateException(transition.getRejectMessage());
+        }
+
+        DonationStatus fromStatus = donation.getStatus();
+        TransitionContext context = new TransitionContext();
+        action.apply(donation, context);
+        if (transition.getTargetStatus() != null) {
+            donation.setStatus(transition.getTargetStatus());
+        }
+        if (transition.getTargetDecision() != null) {
+            donation.setAdminDecision(transition.getTargetDecision());
+        }
+
+        // 이 시점에 버전 확인 (충돌 시 OptimisticLockingFailureException)
+        Donation saved = donationRepository.saveAndFlush(donation);
+        // 알림 등 리스너는 커밋 이후 처리 (롤백된 시도의 이벤트는 전달되지 않음)
+        eventPublisher.publishEvent(DonationStateChangedEvent.of(
+                saved, transition.getEventType(), fromStatus, context.eventOrgan, context.reason, currentActor()));
+        appliedCount.incrementAndGet();
+        return saved;
+    }
+
+    /**
+     * 요청 사용자명 (스케줄러 등 인증 정보가 없으면 system)
+     */
+    private String currentActor() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()
+                || authentication instanceof AnonymousAuthenticationToken) {
+            return SYSTEM_ACTOR;
+        }
+        return authentication.getName();
+    }
+
+    private void backoff(int attemptNo) {
+        try {
+            Thread.sleep(retryBackoffMs * attemptNo);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("기부 상태 변경이 중단되었습니다.", e);
+        }
+    }
+}
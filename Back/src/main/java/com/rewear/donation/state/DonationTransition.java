@@ -0,0 +1,97 @@
+package com.rewear.donation.state;
+
+import com.rewear.common.enums.AdminDecision;
+import com.rewear.common.enums.DonationStatus;
+import com.rewear.donation.event.DonationStateChangedEvent;
+import lombok.Getter;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * 기부 상태 전이표
+ * - 전이마다 허용되는 현재 상태(DonationStatus × AdminDecision)와 변경 후 상태, 발행할 이벤트를 한 곳에 정의
+ * - 변경 후 값이 null이면 해당 값은 유지
+ * - 배송 상태(DeliveryStatus)는 DELIVERY_COMPLETED 전이의 발생 조건 (배송 완료 시 DeliveryServiceImpl에서 요청)
+ * - 완료(COMPLETED)는 되돌릴 수 없고, 취소(CANCELLED)된 기부는 RESET_TO_PENDING으로만 다시 열 수 있음
+ */
+@Getter
+public enum DonationTransition {
+
+    // 관리자 승인 (진행 중인 기부만 - 반려 건 재승인 포함, 취소 건은 RESET_TO_PENDING 이후 승인)
+    ADMIN_APPROVE(Active.STATUSES, EnumSet.allOf(AdminDecision.class),
+            DonationStatus.IN_PROGRESS, AdminDecision.APPROVED,
+            DonationStateChangedEvent.Type.ADMIN_APPROVED, "승인할 수 없는 기부입니다."),
+
+    // 관리자 반려 (진행 중인 기부만, 진행 상태는 유지)
+    ADMIN_REJECT(Active.STATUSES, EnumSet.allOf(AdminDecision.class),
+            null, AdminDecision.REJECTED,
+            DonationStateChangedEvent.Type.ADMIN_REJECTED, "반려할 수 없는 기부입니다."),
+
+    // 기관이 기부 선택
+    ORGAN_MATCH(EnumSet.of(DonationStatus.PENDING, DonationStatus.IN_PROGRESS),
+            EnumSet.of(AdminDecision.PENDING, AdminDecision.APPROVED),
+            DonationStatus.IN_PROGRESS, null,
+            DonationStateChangedEvent.Type.ORGAN_MATCHED, "이미 배송 중이거나 완료, 취소 또는 반려된 기부입니다."),
+
+    // 기부 취소
+    CANCEL(EnumSet.complementOf(EnumSet.of(DonationStatus.COMPLETED)), EnumSet.allOf(AdminDecision.class),
+            DonationStatus.CANCELLED, null,
+            DonationStateChangedEvent.Type.CANCELLED, "완료된 기부는 취소할 수 없습니다."),
+
+    // 기관 최종 승인
+    ORGAN_APPROVE(EnumSet.of(DonationStatus.PENDING, DonationStatus.IN_PROGRESS),
+            EnumSet.of(AdminDecision.PENDING, AdminDecision.APPROVED),
+            DonationStatus.COMPLETED, null,
+            DonationStateChangedEvent.Type.ORGAN_APPROVED, "이미 처리되었거나 반려된 기부는 승인할 수 없습니다."),
+
+    // 기관 반려
+    ORGAN_REJECT(EnumSet.of(DonationStatus.PENDING, DonationStatus.IN_PROGRESS),
+            EnumSet.of(AdminDecision.PENDING, AdminDecision.APPROVED),
+            DonationStatus.CANCELLED, null,
+            DonationStateChangedEvent.Type.ORGAN_REJECTED, "이미 처리되었거나 반려된 기부는 거부할 수 없습니다."),
+
+    // 관리자가 승인대기로 되돌림 (취소된 기부를 다시 여는 유일한 전이, 완료된 기부는 불가)
+    RESET_TO_PENDING(EnumSet.complementOf(EnumSet.of(DonationStatus.COMPLETED)), EnumSet.allOf(AdminDecision.class),
+            DonationStatus.PENDING, AdminDecision.PENDING,
+            DonationStateChangedEvent.Type.RESET_TO_PENDING, "승인대기로 변경할 수 없는 기부입니다."),
+
+    // 배송 완료로 기부 완료 (취소된 기부는 완료 처리하지 않음)
+    DELIVERY_COMPLETE(Active.STATUSES, EnumSet.allOf(AdminDecision.class),
+            DonationStatus.COMPLETED, null,
+            DonationStateChangedEvent.Type.DELIVERY_COMPLETED, "이미 완료되었거나 취소된 기부입니다.");
+
+    private final Set<DonationStatus> fromStatuses;
+    private final Set<AdminDecision> fromDecisions;
+    private final DonationStatus targetStatus;
+    private final AdminDecision targetDecision;
+    private final DonationStateChangedEvent.Type eventType;
+    private final String rejectMessage;
+
+    DonationTransition(Set<DonationStatus> fromStatuses, Set<AdminDecision> fromDecisions,
+                       DonationStatus targetStatus, AdminDecision targetDecision,
+                       DonationStateChangedEvent.Type eventType, String rejectMessage) {
+        this.fromStatuses = fromStatuses;
+        this.fromDecisions = fromDecisions;
+        this.targetStatus = targetStatus;
+        this.targetDecision = targetDecision;
+        this.eventType = eventType;
+        this.rejectMessage = rejectMessage;
+    }
+
+    /**
+     * 종료되지 않은 (완료/취소가 아닌) 상태
+     * - enum 상수 초기화에서 참조하므로 중첩 클래스에 둠
+     */
+    private static final class Active {
+        static final Set<DonationStatus> STATUSES =
+                EnumSet.of(DonationStatus.PENDING, DonationStatus.IN_PROGRESS, DonationStatus.SHIPPED);
+    }
+
+    /**
+     * 현재 상태에서 이 전이가 허용되는지 여부
+     */
+    public boolean allows(DonationStatus status, AdminDecision decision) {
+        return fromStatuses.contains(status) && fromDecisions.contains(decision);
+    }
+}
@@ -6,7 +6,7 @@ import com.rewear.faq.entity.FAQ;
 import com.rewear.faq.service.FAQService;
 import com.rewear.user.details.CustomUserDetails;
 import com.rewear.user.entity.User;
-import com.rewear.user.service.UserServiceImpl;
+import com.rewear.user.details.PrincipalCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
@@ -27,7 +27,7 @@ import java.util.stream.Collectors;
 public class FAQApiController {
 
     private final FAQService faqService;
-    private final UserServiceImpl userService;
+    private final PrincipalCache principalCache;
 
     // 공개 FAQ 목록 조회 (모든 사용자 접근 가능)
     @GetMapping
@@ -108,8 +108,7 @@ public class FAQApiController {
                 return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
             }
 
-            User user = userService.findByUsername(principal.getUsername())
-                    .orElseThrow(() -> new IllegalStateException("사용자를 찾을 수 없습니다."));
+            User user = principalCache.userReference(principal);
 
             FAQ faq = faqService.createUserQuestion(user, requestDto.getQuestion().trim());
             FAQResponseDto responseDto = convertToFAQResponseDto(faq);
@@ -143,8 +142,7 @@ public class FAQApiController {
                 return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(error);
             }
 
-            User user = userService.findByUsername(principal.getUsername())
-                    .orElseThrow(() -> new IllegalStateException("사용자를 찾을 수 없습니다."));
+            User user = principalCache.userReference(principal);
 
             List<FAQ> myQuestions = faqService.getUserQuestions(user);
             List<FAQResponseDto> questionDtos = myQuestions.stream()
@@ -1,15 +1,19 @@
 package com.rewear.notification.controller;
 
+import com.rewear.common.utils.CursorPage;
 import com.rewear.notification.entity.Notification;
+import com.rewear.notification.service.NotificationPushService;
 import com.rewear.notification.service.NotificationService;
 import com.rewear.user.details.CustomUserDetails;
 import com.rewear.user.entity.User;
-import com.rewear.user.service.UserServiceImpl;
+import com.rewear.user.details.PrincipalCache;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.HashMap;
 import java.util.List;
@@ -23,20 +27,34 @@ import java.util.stream.Collectors;
 public class NotificationApiController {
 
     private final NotificationService notificationService;
-    private final UserServiceImpl userService;
+    private final NotificationPushService pushService;
+    private final PrincipalCache principalCache;
+
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
 
     /**
-     * 알림 목록 조회 API
+     * 알림 목록 조회 API (최신순 커서 페이지네이션)
+     * 다음 페이지는 응답의 nextCursor를 cursor 파라미터로 전달
      */
     @GetMapping
     public ResponseEntity<Map<String, Object>> getNotifications(
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false) Integer size,
+            @RequestParam(value = "unreadOnly", defaultValue = "false") boolean unreadOnly,
             @AuthenticationPrincipal CustomUserDetails principal) {
-        
-        User user = userService.findByUsername(principal.getUsername())
-                .orElseThrow(() -> new IllegalStateException("사용자를 찾을 수 없습니다."));
 
-        List<Notification> notifications = notificationService.getUserNotifications(user);
-        Long unreadCount = notificationService.getUnreadCount(user);
+        CursorPage<Notification> page;
+        try {
+            page = notificationService.getNotificationPage(principal.getId(), unreadOnly, cursor,
+                    CursorPage.clampSize(size, DEFAULT_PAGE_SIZE, MAX_PAGE_SIZE));
+        } catch (IllegalArgumentException e) {
+            Map<String, Object> error = new HashMap<>();
+            error.put("error", e.getMessage());
+            return ResponseEntity.badRequest().body(error);
+        }
+        List<Notification> notifications = page.getItems();
+        long unreadCount = notificationService.getUnreadCount(principal.getId());
 
         // Notification 엔티티를 프론트엔드에서 사용할 수 있는 형태로 변환
         List<Map<String, Object>> notificationList = notifications.stream()
@@ -57,10 +75,25 @@ public class NotificationApiController {
         Map<String, Object> response = new HashMap<>();
         response.put("notifications", notificationList);
         response.put("unreadCount", unreadCount);
+        response.put("nextCursor", page.getNextCursor());
+        response.put("hasNext", page.isHasNext());
+        response.put("totalCount", page.getTotalCount());
         
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * 실시간 알림 구독 API (Server-Sent Events)
+     * - notification: 새 알림 (이벤트 ID = 알림 ID), unread-count: 읽지 않은 알림 수
+     * - 재연결 시 브라우저가 보내는 Last-Event-ID 이후의 알림을 다시 전송
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId,
+            @AuthenticationPrincipal CustomUserDetails principal) {
+        return pushService.subscribe(principal.getId(), lastEventId);
+    }
+
     /**
      * 개별 알림 읽음 처리 API
      */
@@ -69,12 +102,9 @@ public class NotificationApiController {
             @PathVariable("notificationId") Long notificationId,
             @AuthenticationPrincipal CustomUserDetails principal) {
         
-        User user = userService.findByUsername(principal.getUsername())
-                .orElseThrow(() -> new IllegalStateException("사용자를 찾을 수 없습니다."));
-
         notificationService.markAsRead(notificationId);
         
-        Long unreadCount = notificationService.getUnreadCount(user);
+        long unreadCount = notificationService.getUnreadCount(principal.getId());
         
         Map<String, Object> response = new HashMap<>();
         response.put("success", true);
@@ -89,8 +119,7 @@ public class NotificationApiController {
     public ResponseEntity<Map<String, Object>> markAllAsRead(
             @AuthenticationPrincipal CustomUserDetails principal) {
         
-        User user = userService.findByUsername(principal.getUsername())
-                .orElseThrow(() -> new IllegalStateException("사용자를 찾을 수 없습니다."));
+        User user = principalCache.userReference(principal);
 
         notificationService.markAllAsRead(user);
         
@@ -107,10 +136,7 @@ public class NotificationApiController {
     public ResponseEntity<Map<String, Object>> getUnreadCount(
             @AuthenticationPrincipal CustomUserDetails principal) {
         
-        User user = userService.findByUsername(principal.getUsername())
-                .orElseThrow(() -> new IllegalStateException("사용자를 찾을 수 없습니다."));
-
-        Long unreadCount = notificationService.getUnreadCount(user);
+        long unreadCount = notificationService.getUnreadCount(principal.getId());
         
         Map<String, Object> response = new HashMap<>();
         response.put("unreadCount", unreadCount);
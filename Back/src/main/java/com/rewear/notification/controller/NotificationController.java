@@ -1,5 +1,6 @@
 package com.rewear.notification.controller;
 
+import com.rewear.common.utils.CursorPage;
 import com.rewear.notification.entity.Notification;
 import com.rewear.notification.service.NotificationService;
 import com.rewear.user.details.CustomUserDetails;
@@ -14,7 +15,6 @@ import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 
 @Controller
@@ -26,18 +26,27 @@ public class NotificationController {
     private final NotificationService notificationService;
     private final UserServiceImpl userService;
 
+    private static final int PAGE_SIZE = 20;
+
     @GetMapping
     public String notificationList(
+            @RequestParam(value = "cursor", required = false) String cursor,
             @AuthenticationPrincipal CustomUserDetails principal,
             Model model) {
-        
-        User user = userService.findByUsername(principal.getUsername())
-                .orElseThrow(() -> new IllegalStateException("사용자를 찾을 수 없습니다."));
 
-        List<Notification> notifications = notificationService.getUserNotifications(user);
-        Long unreadCount = notificationService.getUnreadCount(user);
+        CursorPage<Notification> page;
+        try {
+            page = notificationService.getNotificationPage(principal.getId(), false, cursor, PAGE_SIZE);
+        } catch (IllegalArgumentException e) {
+            // 잘못된 커서는 첫 페이지로
+            page = notificationService.getNotificationPage(principal.getId(), false, null, PAGE_SIZE);
+            cursor = null;
+        }
+        long unreadCount = notificationService.getUnreadCount(principal.getId());
 
-        model.addAttribute("notifications", notifications);
+        model.addAttribute("notifications", page.getItems());
+        model.addAttribute("nextCursor", page.getNextCursor());
+        model.addAttribute("isFirstPage", cursor == null || cursor.isBlank());
         model.addAttribute("unreadCount", unreadCount);
         return "notification/list";
     }
@@ -48,12 +57,9 @@ public class NotificationController {
             @PathVariable("notificationId") Long notificationId,
             @AuthenticationPrincipal CustomUserDetails principal) {
         
-        User user = userService.findByUsername(principal.getUsername())
-                .orElseThrow(() -> new IllegalStateException("사용자를 찾을 수 없습니다."));
-
         notificationService.markAsRead(notificationId);
         
-        Long unreadCount = notificationService.getUnreadCount(user);
+        long unreadCount = notificationService.getUnreadCount(principal.getId());
         
         Map<String, Object> response = new HashMap<>();
         response.put("success", true);
@@ -82,10 +88,7 @@ public class NotificationController {
     public ResponseEntity<Map<String, Object>> getUnreadCount(
             @AuthenticationPrincipal CustomUserDetails principal) {
         
-        User user = userService.findByUsername(principal.getUsername())
-                .orElseThrow(() -> new IllegalStateException("사용자를 찾을 수 없습니다."));
-
-        Long unreadCount = notificationService.getUnreadCount(user);
+        long unreadCount = notificationService.getUnreadCount(principal.getId());
         
         Map<String, Object> response = new HashMap<>();
         response.put("unreadCount", unreadCount);
@@ -8,7 +8,11 @@ import lombok.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "notifications")
+@Table(name = "notifications", indexes = {
+        // 알림함 조회 (전체 / 읽지 않은 알림) 최신순 키셋 페이지네이션, 읽은 알림 정리 작업용
+        @Index(name = "idx_notifications_user_read_created", columnList = "user_id, is_read, created_at"),
+        @Index(name = "idx_notifications_user_created", columnList = "user_id, created_at, id")
+})
 @Getter @Setter
 @NoArgsConstructor
 @AllArgsConstructor
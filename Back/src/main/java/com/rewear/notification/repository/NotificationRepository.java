@@ -1,13 +1,17 @@
 package com.rewear.notification.repository;
 
+import com.rewear.common.dto.IdCount;
 import com.rewear.notification.entity.Notification;
 import com.rewear.user.entity.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -15,6 +19,39 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
     List<Notification> findByUserOrderByCreatedAtDesc(User user);
     List<Notification> findByUserAndIsReadFalseOrderByCreatedAtDesc(User user);
     Long countByUserAndIsReadFalse(User user);
+    long countByUserIdAndIsReadFalse(Long userId);
+    long countByUserId(Long userId);
+
+    // 실시간 전송/재연결 시 마지막으로 받은 알림 이후 건 조회
+    List<Notification> findByUserIdAndIdGreaterThanOrderByIdAsc(Long userId, Long id, Pageable pageable);
+
+    @Query("SELECT COALESCE(MAX(n.id), 0) FROM Notification n WHERE n.user.id = :userId")
+    long findMaxIdByUserId(@Param("userId") Long userId);
+
+    // 알림함 첫 페이지 (최신순, Pageable은 조회 건수 제한용)
+    @Query("SELECT n FROM Notification n " +
+           "WHERE n.user.id = :userId AND (:unreadOnly = false OR n.isRead = false) " +
+           "ORDER BY n.createdAt DESC, n.id DESC")
+    List<Notification> findInboxFirstPage(@Param("userId") Long userId,
+                                          @Param("unreadOnly") boolean unreadOnly,
+                                          Pageable pageable);
+
+    // 알림함 다음 페이지 ((createdAt, id) 키셋 커서 이후)
+    @Query("SELECT n FROM Notification n " +
+           "WHERE n.user.id = :userId AND (:unreadOnly = false OR n.isRead = false) " +
+           "AND (n.createdAt < :createdAt OR (n.createdAt = :createdAt AND n.id < :id)) " +
+           "ORDER BY n.createdAt DESC, n.id DESC")
+    List<Notification> findInboxPageAfter(@Param("userId") Long userId,
+                                          @Param("unreadOnly") boolean unreadOnly,
+                                          @Param("createdAt") LocalDateTime createdAt,
+                                          @Param("id") Long id,
+                                          Pageable pageable);
+
+    // 사용자별 읽지 않은 알림 수 (관리자 회원 목록 등 일괄 조회용)
+    @Query("SELECT n.user.id AS id, COUNT(n) AS count FROM Notification n " +
+           "WHERE n.user.id IN :userIds AND n.isRead = false " +
+           "GROUP BY n.user.id")
+    List<IdCount> countUnreadByUserIds(@Param("userIds") Collection<Long> userIds);
     
     @Modifying
     @Query("UPDATE Notification n SET n.isRead = true WHERE n.user = :user AND n.isRead = false")
@@ -0,0 +1,76 @@
+package com.rewear.notification.service;
+
+import com.rewear.common.enums.NotificationType;
+import com.rewear.donation.event.DonationStateChangedEvent;
+import com.rewear.notification.service.NotificationWriter.PendingNotification;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 기부 상태 변경 이벤트 → 알림 변환
+ * 기부 트랜잭션이 커밋된 후에만 실행되며, 저장은 NotificationWriter가 비동기로 처리
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DonationNotificationListener {
+
+    private static final String RELATED_TYPE = "donation";
+
+    private final NotificationWriter notificationWriter;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onDonationStateChanged(DonationStateChangedEvent event) {
+        try {
+            notificationWriter.enqueueAll(toNotifications(event));
+        } catch (Exception e) {
+            log.warn("알림 생성 실패 - 기부 ID: {}, 이벤트: {}, 오류: {}", event.donationId(), event.type(), e.getMessage());
+        }
+    }
+
+    private List<PendingNotification> toNotifications(DonationStateChangedEvent event) {
+        List<PendingNotification> notifications = new ArrayList<>(2);
+        switch (event.type()) {
+            case ADMIN_APPROVED -> {
+                notifications.add(toDonor(event, NotificationType.DONATION_APPROVED,
+                        "기부 승인 완료", "귀하의 기부 신청이 승인되었습니다."));
+                // 기관이 할당되어 있으면 기관에게도 알림
+                if (event.organUserId() != null) {
+                    notifications.add(toOrgan(event, NotificationType.DONATION_MATCHED, "기부 매칭 승인",
+                            String.format("관리자가 '%s' 기부를 승인하여 귀하의 기관에 할당되었습니다.", event.itemCategory())));
+                }
+            }
+            case ADMIN_REJECTED -> notifications.add(toDonor(event, NotificationType.DONATION_REJECTED,
+                    "기부 반려", "귀하의 기부 신청이 반려되었습니다. 사유: " + event.reason()));
+            case ORGAN_MATCHED -> notifications.add(toDonor(event, NotificationType.DONATION_MATCHED,
+                    "기부 매칭 완료", String.format("'%s' 기관이 귀하의 기부 물품을 선택했습니다.", event.organName())));
+            case CANCELLED -> notifications.add(toDonor(event, NotificationType.DONATION_REJECTED,
+                    "기부 취소", "기부가 취소되었습니다. 사유: " + event.reason()));
+            case ORGAN_APPROVED -> {
+                notifications.add(toDonor(event, NotificationType.DONATION_APPROVED, "기부 승인 완료",
+                        String.format("'%s' 기관이 기부를 최종 승인하여 완료되었습니다.", event.organName())));
+                if (event.organUserId() != null) {
+                    notifications.add(toOrgan(event, NotificationType.DONATION_APPROVED,
+                            "기부 승인 완료", "귀하의 기관이 기부를 승인하여 완료되었습니다."));
+                }
+            }
+            case ORGAN_REJECTED -> notifications.add(toDonor(event, NotificationType.DONATION_REJECTED,
+                    "기부 반려", String.format("'%s' 기관이 기부를 반려했습니다.", event.organName())));
+        }
+        return notifications;
+    }
+
+    private PendingNotification toDonor(DonationStateChangedEvent event, NotificationType type, String title, String message) {
+        return PendingNotification.of(event.donorUserId(), type, title, message, event.donationId(), RELATED_TYPE);
+    }
+
+    private PendingNotification toOrgan(DonationStateChangedEvent event, NotificationType type, String title, String message) {
+        return PendingNotification.of(event.organUserId(), type, title, message, event.donationId(), RELATED_TYPE);
+    }
+}
@@ -0,0 +1,219 @@
+package com.rewear.notification.service;
+
+import com.rewear.notification.entity.Notification;
+import com.rewear.notification.repository.NotificationRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 알림 실시간 전송 (Server-Sent Events)
+ * - 사용자별 SSE 연결 목록을 보관하고, 새 알림이 커밋되면 해당 사용자의 연결에만 전송
+ * - 전송할 알림은 notifications 테이블에서 연결별 마지막 이벤트 ID 이후 건을 조회 (재연결 시 Last-Event-ID 재전송과 동일한 경로)
+ * - 연결은 비동기 서블릿(SseEmitter)으로 유지되어 대기 중에는 스레드를 점유하지 않고, 전송은 가상 스레드에서 처리
+ * - 사용자당 최대 연결 수를 넘으면 가장 오래된 연결을 종료
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NotificationPushService {
+
+    // 한 번에 재전송할 최대 알림 수
+    private static final int MAX_REPLAY = 100;
+
+    private final NotificationRepository notificationRepository;
+    private final UnreadNotificationCounter unreadCounter;
+
+    @Value("${app.notification.sse.timeout-ms:1800000}")
+    private long timeoutMs;
+
+    @Value("${app.notification.sse.max-connections-per-user:5}")
+    private int maxConnectionsPerUser;
+
+    private final Map<Long, List<Connection>> connections = new ConcurrentHashMap<>();
+    private final ExecutorService dispatcher = Executors.newVirtualThreadPerTaskExecutor();
+
+    private static final class Connection {
+        private final SseEmitter emitter;
+        private volatile long lastEventId;
+
+        private Connection(SseEmitter emitter, long lastEventId) {
+            this.emitter = emitter;
+            this.lastEventId = lastEventId;
+        }
+    }
+
+    /**
+     * SSE 연결 등록
+     * @param lastEventId 재연결 시 브라우저가 보낸 Last-Event-ID (마지막으로 받은 알림 ID), 없으면 null
+     */
+    public SseEmitter subscribe(Long userId, String lastEventId) {
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        Long replayFrom = parseEventId(lastEventId);
+        long startId = replayFrom != null ? replayFrom : notificationRepository.findMaxIdByUserId(userId);
+        Connection connection = new Connection(emitter, startId);
+
+        List<Connection> userConnections = connections.computeIfAbsent(userId, id -> new CopyOnWriteArrayList<>());
+        userConnections.add(connection);
+        while (userConnections.size() > maxConnectionsPerUser) {
+            // 가장 오래된 연결 종료
+            Connection oldest = userConnections.remove(0);
+            oldest.emitter.complete();
+        }
+
+        emitter.onCompletion(() -> remove(userId, connection));
+        emitter.onTimeout(() -> remove(userId, connection));
+        emitter.onError(e -> remove(userId, connection));
+
+        // 연결 직후 현재 읽지 않은 개수 전송 (프록시 버퍼링 방지 겸용)
+        send(userId, connection, SseEmitter.event()
+                .name("unread-count")
+                .data(Map.of("unreadCount", unreadCounter.get(userId))));
+        if (replayFrom != null) {
+            dispatcher.execute(() -> deliverNew(userId));
+        }
+        return emitter;
+    }
+
+    /**
+     * 새 알림 저장 후 호출 (트랜잭션 안이면 커밋 이후 전송)
+     */
+    public void notifyCreated(Long userId) {
+        if (userId == null || !connections.containsKey(userId)) {
+            return;
+        }
+        Runnable push = () -> dispatcher.execute(() -> deliverNew(userId));
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    push.run();
+                }
+            });
+        } else {
+            push.run();
+        }
+    }
+
+    /**
+     * 연결 유지용 heartbeat (프록시/로드밸런서의 유휴 연결 종료 방지)
+     */
+    @Scheduled(fixedDelayString = "${app.notification.sse.heartbeat-interval-ms:25000}")
+    public void heartbeat() {
+        connections.forEach((userId, userConnections) ->
+                userConnections.forEach(connection ->
+                        send(userId, connection, SseEmitter.event().comment("heartbeat"))));
+    }
+
+    public int getConnectionCount() {
+        return connections.values().stream().mapToInt(List::size).sum();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        connections.values().forEach(userConnections ->
+                userConnections.forEach(connection -> connection.emitter.complete()));
+        connections.clear();
+        dispatcher.shutdown();
+    }
+
+    /**
+     * 연결별 마지막 이벤트 ID 이후의 알림과 읽지 않은 개수 전송
+     */
+    private void deliverNew(Long userId) {
+        List<Connection> userConnections = connections.get(userId);
+        if (userConnections == null || userConnections.isEmpty()) {
+            return;
+        }
+        try {
+            long fromId = userConnections.stream().mapToLong(c -> c.lastEventId).min().orElse(0);
+            List<Notification> notifications = notificationRepository
+                    .findByUserIdAndIdGreaterThanOrderByIdAsc(userId, fromId, PageRequest.of(0, MAX_REPLAY));
+            if (notifications.isEmpty()) {
+                return;
+            }
+            long unreadCount = unreadCounter.get(userId);
+            for (Connection connection : userConnections) {
+                synchronized (connection) {
+                    for (Notification notification : notifications) {
+                        if (notification.getId() <= connection.lastEventId) {
+                            continue;
+                        }
+                        boolean sent = send(userId, connection, SseEmitter.event()
+                                .id(String.valueOf(notification.getId()))
+                                .name("notification")
+                                .data(toPayload(notification)));
+                        if (!sent) {
+                            break;
+                        }
+                        connection.lastEventId = notification.getId();
+                    }
+                    send(userId, connection, SseEmitter.event()
+                            .name("unread-count")
+                            .data(Map.of("unreadCount", unreadCount)));
+                }
+            }
+        } catch (Exception e) {
+            log.warn("알림 실시간 전송 실패 - 사용자 ID: {}, 오류: {}", userId, e.getMessage());
+        }
+    }
+
+    private boolean send(Long userId, Connection connection, SseEmitter.SseEventBuilder event) {
+        try {
+            connection.emitter.send(event);
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            // 클라이언트 연결 종료
+            remove(userId, connection);
+            return false;
+        }
+    }
+
+    private void remove(Long userId, Connection connection) {
+        connections.computeIfPresent(userId, (id, userConnections) -> {
+            userConnections.remove(connection);
+            return userConnections.isEmpty() ? null : userConnections;
+        });
+    }
+
+    private Long parseEventId(String lastEventId) {
+        if (lastEventId == null || lastEventId.isBlank()) {
+            return null;
+        }
+        try {
+            return Long.parseLong(lastEventId.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    // NotificationApiController 목록 응답과 같은 형태
+    private Map<String, Object> toPayload(Notification notification) {
+        Map<String, Object> item = new HashMap<>();
+        item.put("id", notification.getId());
+        item.put("title", notification.getTitle());
+        item.put("description", notification.getMessage());
+        item.put("read", notification.getIsRead());
+        item.put("date", notification.getCreatedAt().toString());
+        item.put("type", notification.getType() != null ? notification.getType().name().toLowerCase() : "info");
+        item.put("relatedId", notification.getRelatedId());
+        item.put("relatedType", notification.getRelatedType());
+        return item;
+    }
+}
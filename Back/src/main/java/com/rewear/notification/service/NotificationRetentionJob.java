@@ -0,0 +1,67 @@
+package com.rewear.notification.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+/**
+ * 오래된 읽은 알림 정리 작업
+ * - 생성(created_at) 후 max-age-days가 지난 읽은 알림을 batch-size 건씩 나누어 삭제 (긴 잠금 방지)
+ *   (읽은 시각은 저장하지 않으므로 기준은 생성 시각 - 오래전에 만들어져 최근에 읽은 알림도 다음 실행에서 삭제될 수 있음)
+ * - 한 번 실행에 max-batches-per-run 배치까지만 처리하고 나머지는 다음 실행에서 이어서 처리
+ * - 읽지 않은 알림은 삭제하지 않음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationRetentionJob {
+
+    private static final String PURGE_SQL =
+            "DELETE FROM notifications WHERE is_read = true AND created_at < ? ORDER BY id LIMIT ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${app.notification.retention.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.notification.retention.max-age-days:90}")
+    private int maxAgeDays;
+
+    @Value("${app.notification.retention.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${app.notification.retention.max-batches-per-run:100}")
+    private int maxBatchesPerRun;
+
+    @Scheduled(cron = "${app.notification.retention.cron:0 30 4 * * *}")
+    public void purgeReadNotifications() {
+        if (!enabled) {
+            return;
+        }
+        Timestamp cutoff = Timestamp.valueOf(LocalDateTime.now().minusDays(maxAgeDays));
+        long totalDeleted = 0;
+        int batches = 0;
+        try {
+            while (batches < maxBatchesPerRun) {
+                int deleted = jdbcTemplate.update(PURGE_SQL, cutoff, batchSize);
+                totalDeleted += deleted;
+                batches++;
+                if (deleted < batchSize) {
+                    break;
+                }
+            }
+        } catch (Exception e) {
+            log.warn("읽은 알림 정리 실패 - 삭제된 건수: {}, 오류: {}", totalDeleted, e.getMessage());
+            return;
+        }
+        if (totalDeleted > 0) {
+            log.info("읽은 알림 정리 완료 - 기준일: {}, 삭제: {}건, 배치: {}회", cutoff, totalDeleted, batches);
+        }
+    }
+}
@@ -1,17 +1,16 @@
 package com.rewear.notification.service;
 
 import com.rewear.common.enums.NotificationType;
+import com.rewear.common.utils.CursorPage;
 import com.rewear.notification.entity.Notification;
 import com.rewear.user.entity.User;
 
-import java.util.List;
-
 public interface NotificationService {
     Notification createNotification(User user, NotificationType type, String title, String message);
     Notification createNotification(User user, NotificationType type, String title, String message, Long relatedId, String relatedType);
-    List<Notification> getUserNotifications(User user);
-    List<Notification> getUnreadNotifications(User user);
+    CursorPage<Notification> getNotificationPage(Long userId, boolean unreadOnly, String cursor, int size); // 알림함 (최신순 커서 페이지)
     Long getUnreadCount(User user);
+    long getUnreadCount(Long userId); // 캐시된 값 (로그인 정보의 사용자 ID로 조회)
     void markAsRead(Long notificationId);
     void markAllAsRead(User user);
     void deleteNotification(Long notificationId);
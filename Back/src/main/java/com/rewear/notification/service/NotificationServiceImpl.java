@@ -2,13 +2,17 @@ package com.rewear.notification.service;
 
 import com.rewear.common.enums.NotificationType;
 import com.rewear.common.enums.Role;
+import com.rewear.common.utils.CursorPage;
 import com.rewear.notification.entity.Notification;
 import com.rewear.notification.repository.NotificationRepository;
 import com.rewear.user.entity.User;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
 import java.util.List;
 
 @Service
@@ -16,7 +20,12 @@ import java.util.List;
 @Transactional
 public class NotificationServiceImpl implements NotificationService {
 
+    // 커서 형식: "{createdAt ISO-8601}_{id}"
+    private static final String CURSOR_SEPARATOR = "_";
+
     private final NotificationRepository notificationRepository;
+    private final UnreadNotificationCounter unreadCounter;
+    private final NotificationPushService pushService;
 
     @Override
     public Notification createNotification(User user, NotificationType type, String title, String message) {
@@ -38,43 +47,78 @@ public class NotificationServiceImpl implements NotificationService {
                 .relatedType(relatedType)
                 .isRead(false)
                 .build();
-        return notificationRepository.save(notification);
+        Notification saved = notificationRepository.save(notification);
+        unreadCounter.increment(user.getId(), 1);
+        pushService.notifyCreated(user.getId());
+        return saved;
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<Notification> getUserNotifications(User user) {
-        return notificationRepository.findByUserOrderByCreatedAtDesc(user);
+    public CursorPage<Notification> getNotificationPage(Long userId, boolean unreadOnly, String cursor, int size) {
+        // size + 1 건을 조회하여 다음 페이지 존재 여부 판단
+        PageRequest limit = PageRequest.of(0, size + 1);
+        List<Notification> fetched;
+        if (cursor == null || cursor.isBlank()) {
+            fetched = notificationRepository.findInboxFirstPage(userId, unreadOnly, limit);
+        } else {
+            int separator = cursor.lastIndexOf(CURSOR_SEPARATOR);
+            if (separator < 0) {
+                throw new IllegalArgumentException("잘못된 커서 형식입니다.");
+            }
+            LocalDateTime createdAt;
+            Long id;
+            try {
+                createdAt = LocalDateTime.parse(cursor.substring(0, separator));
+                id = Long.parseLong(cursor.substring(separator + 1));
+            } catch (DateTimeParseException | NumberFormatException e) {
+                throw new IllegalArgumentException("잘못된 커서 형식입니다.");
+            }
+            fetched = notificationRepository.findInboxPageAfter(userId, unreadOnly, createdAt, id, limit);
+        }
+        long totalCount = unreadOnly ? unreadCounter.get(userId) : notificationRepository.countByUserId(userId);
+        return CursorPage.of(fetched, size, totalCount,
+                n -> n.getCreatedAt() + CURSOR_SEPARATOR + n.getId());
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<Notification> getUnreadNotifications(User user) {
-        return notificationRepository.findByUserAndIsReadFalseOrderByCreatedAtDesc(user);
+    public Long getUnreadCount(User user) {
+        return unreadCounter.get(user.getId());
     }
 
     @Override
     @Transactional(readOnly = true)
-    public Long getUnreadCount(User user) {
-        return notificationRepository.countByUserAndIsReadFalse(user);
+    public long getUnreadCount(Long userId) {
+        return unreadCounter.get(userId);
     }
 
     @Override
     public void markAsRead(Long notificationId) {
         Notification notification = notificationRepository.findById(notificationId)
                 .orElseThrow(() -> new IllegalArgumentException("알림을 찾을 수 없습니다."));
+        boolean wasUnread = !Boolean.TRUE.equals(notification.getIsRead());
         notification.setIsRead(true);
         notificationRepository.save(notification);
+        if (wasUnread) {
+            unreadCounter.decrement(notification.getUser().getId());
+        }
     }
 
     @Override
     public void markAllAsRead(User user) {
         notificationRepository.markAllAsReadByUser(user);
+        unreadCounter.reset(user.getId());
     }
 
     @Override
     public void deleteNotification(Long notificationId) {
-        notificationRepository.deleteById(notificationId);
+        notificationRepository.findById(notificationId).ifPresent(notification -> {
+            notificationRepository.delete(notification);
+            if (!Boolean.TRUE.equals(notification.getIsRead())) {
+                unreadCounter.decrement(notification.getUser().getId());
+            }
+        });
     }
 }
 
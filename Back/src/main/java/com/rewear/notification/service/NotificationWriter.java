@@ -0,0 +1,325 @@
+package com.rewear.notification.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rewear.common.enums.NotificationType;
+import com.rewear.common.enums.Role;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 알림 비동기 일괄 저장기
+ * - 요청 스레드는 큐에 넣기만 하고, 전용 스레드가 모아서 JDBC 배치 INSERT로 저장
+ * - 큐가 가득 차면 호출 스레드에서 바로 저장 (알림 유실 방지)
+ * - 관리자 수신자는 저장하지 않음 (NotificationServiceImpl.createNotification과 동일한 규칙)
+ * - 배치 저장이 실패하면 retry-attempts회까지 간격을 늘려 재시도하고, 제약 조건 위반(삭제된 수신자 등)이면 한 건씩 나누어 저장
+ * - 끝내 저장하지 못한 알림은 dead-letter 파일(JSON 한 줄씩)에 남기고 dropped 지표로 집계
+ * - 큐 길이, 지연 시간 등 지표는 getMetrics()로 조회
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NotificationWriter {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO notifications (user_id, type, title, message, is_read, related_id, related_type, created_at) " +
+            "VALUES (?, ?, ?, ?, false, ?, ?, ?)";
+
+    private static final String ADMIN_USER_SQL =
+            "SELECT user_id FROM user_roles WHERE role = :role AND user_id IN (:userIds)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final UnreadNotificationCounter unreadCounter;
+    private final NotificationPushService pushService;
+    private final ObjectMapper objectMapper;
+
+    @Value("${app.notification.queue-capacity:10000}")
+    private int queueCapacity;
+
+    @Value("${app.notification.batch-size:200}")
+    private int batchSize;
+
+    @Value("${app.notification.retry-attempts:3}")
+    private int retryAttempts;
+
+    @Value("${app.notification.retry-backoff-ms:500}")
+    private long retryBackoffMs;
+
+    @Value("${app.notification.dead-letter-file:logs/notifications-dead-letter.jsonl}")
+    private String deadLetterFile;
+
+    private BlockingQueue<PendingNotification> queue;
+    private Thread worker;
+    private volatile boolean running;
+
+    // 지표
+    private final AtomicLong enqueuedCount = new AtomicLong();
+    private final AtomicLong writtenCount = new AtomicLong();
+    private final AtomicLong retriedCount = new AtomicLong();
+    private final AtomicLong droppedCount = new AtomicLong();
+    private final AtomicLong overflowCount = new AtomicLong();
+    private volatile long lastBatchLagMs;
+    private volatile LocalDateTime lastFlushedAt;
+
+    /**
+     * 저장 대기 중인 알림
+     * @param enqueuedAtNanos 큐에 들어간 시각 (지연 시간 계산용)
+     */
+    public record PendingNotification(Long userId, NotificationType type, String title, String message,
+                                      Long relatedId, String relatedType, LocalDateTime createdAt,
+                                      long enqueuedAtNanos) {
+
+        public static PendingNotification of(Long userId, NotificationType type, String title, String message,
+                                             Long relatedId, String relatedType) {
+            return new PendingNotification(userId, type, title, message, relatedId, relatedType,
+                    LocalDateTime.now(), System.nanoTime());
+        }
+    }
+
+    @PostConstruct
+    void start() {
+        queue = new LinkedBlockingQueue<>(queueCapacity);
+        running = true;
+        worker = new Thread(this::runLoop, "notification-writer");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    /**
+     * 알림 저장 요청 (비동기)
+     */
+    public void enqueue(PendingNotification notification) {
+        if (notification.userId() == null) {
+            return;
+        }
+        enqueuedCount.incrementAndGet();
+        if (!running || !queue.offer(notification)) {
+            // 큐가 가득 찼거나 종료 중이면 호출 스레드에서 바로 저장
+            overflowCount.incrementAndGet();
+            log.warn("알림 큐가 가득 차 동기 저장 - 큐 길이: {}", queue.size());
+            write(List.of(notification), 1);
+        }
+    }
+
+    public void enqueueAll(List<PendingNotification> notifications) {
+        notifications.forEach(this::enqueue);
+    }
+
+    /**
+     * 큐 길이, 지연 시간, 처리 건수 지표
+     */
+    public Map<String, Object> getMetrics() {
+        PendingNotification oldest = queue.peek();
+        long oldestAgeMs = oldest != null
+                ? TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - oldest.enqueuedAtNanos())
+                : 0;
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("queueDepth", queue.size());
+        metrics.put("queueCapacity", queueCapacity);
+        metrics.put("oldestPendingAgeMs", oldestAgeMs);
+        metrics.put("lastBatchLagMs", lastBatchLagMs);
+        metrics.put("enqueued", enqueuedCount.get());
+        metrics.put("written", writtenCount.get());
+        metrics.put("retried", retriedCount.get());
+        metrics.put("dropped", droppedCount.get());
+        metrics.put("deadLetterFile", deadLetterFile);
+        metrics.put("overflow", overflowCount.get());
+        metrics.put("lastFlushedAt", lastFlushedAt);
+        return metrics;
+    }
+
+    @PreDestroy
+    void stop() {
+        running = false;
+        worker.interrupt();
+        try {
+            worker.join(Duration.ofSeconds(5).toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // 남은 알림 저장
+        List<PendingNotification> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        if (!remaining.isEmpty()) {
+            log.info("애플리케이션 종료 - 남은 알림 저장: {}건", remaining.size());
+            write(remaining, 1);
+        }
+    }
+
+    private void runLoop() {
+        List<PendingNotification> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                PendingNotification first = queue.take();
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                write(batch, retryAttempts);
+            } catch (InterruptedException e) {
+                // 종료 시 stop()에서 남은 알림을 저장
+                break;
+            } catch (Exception e) {
+                log.error("알림 저장 스레드 오류", e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * 배치 저장 (실패 시 attempts회까지 재시도, 그래도 실패한 알림은 dead-letter 파일로)
+     */
+    private void write(List<PendingNotification> batch, int attempts) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                insert(batch);
+                return;
+            } catch (DataIntegrityViolationException e) {
+                // 특정 행의 제약 조건 위반(그 사이 삭제된 수신자 등)은 재시도해도 같으므로 한 건씩 나누어 저장
+                log.error("알림 일괄 저장 실패 (제약 조건) - {}건, 한 건씩 다시 저장", batch.size(), e);
+                deadLetter(insertEach(batch));
+                return;
+            } catch (Exception e) {
+                if (attempt >= attempts) {
+                    log.error("알림 일괄 저장 실패 - {}건, {}회 시도", batch.size(), attempt, e);
+                    deadLetter(batch);
+                    return;
+                }
+                long backoffMs = retryBackoffMs * attempt;
+                retriedCount.addAndGet(batch.size());
+                log.warn("알림 일괄 저장 실패 - {}건, {}ms 후 재시도 ({}/{}): {}",
+                        batch.size(), backoffMs, attempt, attempts, e.getMessage());
+                if (!sleep(backoffMs)) {
+                    // 종료 중이면 재시도하지 않고 dead-letter로 보존
+                    deadLetter(batch);
+                    return;
+                }
+            }
+        }
+    }
+
+    private void insert(List<PendingNotification> batch) {
+        Set<Long> adminIds = findAdminUserIds(batch);
+        List<Object[]> rows = new ArrayList<>(batch.size());
+        List<Long> recipientIds = new ArrayList<>(batch.size());
+        for (PendingNotification n : batch) {
+            if (adminIds.contains(n.userId())) {
+                continue;
+            }
+            recipientIds.add(n.userId());
+            rows.add(new Object[]{
+                    n.userId(), n.type().name(), n.title(), n.message(),
+                    n.relatedId(), n.relatedType(), Timestamp.valueOf(n.createdAt())
+            });
+        }
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_SQL, rows);
+            try {
+                recipientIds.forEach(userId -> unreadCounter.increment(userId, 1));
+                new HashSet<>(recipientIds).forEach(pushService::notifyCreated);
+            } catch (Exception e) {
+                // 이미 저장되었으므로 재시도하지 않음 (읽지 않은 수 캐시는 TTL이 지나면 DB 값으로 다시 맞춰짐)
+                log.warn("알림 저장 후 읽지 않은 수 갱신/전송 실패: {}", e.getMessage());
+            }
+        }
+        writtenCount.addAndGet(rows.size());
+        lastBatchLagMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - batch.get(0).enqueuedAtNanos());
+        lastFlushedAt = LocalDateTime.now();
+        log.debug("알림 일괄 저장 - {}건, 지연: {}ms", rows.size(), lastBatchLagMs);
+    }
+
+    /**
+     * 한 건씩 저장
+     * @return 저장하지 못한 알림
+     */
+    private List<PendingNotification> insertEach(List<PendingNotification> batch) {
+        List<PendingNotification> failed = new ArrayList<>();
+        for (PendingNotification notification : batch) {
+            try {
+                insert(List.of(notification));
+            } catch (Exception e) {
+                log.warn("알림 저장 실패 - 수신자 ID: {}, 종류: {}: {}",
+                        notification.userId(), notification.type(), e.getMessage());
+                failed.add(notification);
+            }
+        }
+        return failed;
+    }
+
+    /**
+     * 저장하지 못한 알림을 dead-letter 파일에 JSON 한 줄씩 추가 (파일도 쓸 수 없으면 오류 로그에 내용을 남김)
+     * - 요청 스레드(큐 가득 참)와 저장 스레드가 동시에 호출할 수 있어 동기화
+     */
+    private synchronized void deadLetter(List<PendingNotification> notifications) {
+        if (notifications.isEmpty()) {
+            return;
+        }
+        droppedCount.addAndGet(notifications.size());
+        Path path = Paths.get(deadLetterFile);
+        try {
+            if (path.getParent() != null) {
+                Files.createDirectories(path.getParent());
+            }
+            try (BufferedWriter writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+                for (PendingNotification notification : notifications) {
+                    writer.write(objectMapper.writeValueAsString(notification));
+                    writer.newLine();
+                }
+            }
+            log.error("알림 {}건을 dead-letter 파일에 기록: {}", notifications.size(), path.toAbsolutePath());
+        } catch (IOException e) {
+            log.error("알림 dead-letter 기록 실패 - 유실된 알림: {}", notifications, e);
+        }
+    }
+
+    /**
+     * @return 중단(종료) 없이 기다렸으면 true
+     */
+    private boolean sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private Set<Long> findAdminUserIds(List<PendingNotification> batch) {
+        Set<Long> userIds = new HashSet<>();
+        batch.forEach(n -> userIds.add(n.userId()));
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("role", Role.ADMIN.name())
+                .addValue("userIds", userIds);
+        return new HashSet<>(namedParameterJdbcTemplate.queryForList(ADMIN_USER_SQL, params, Long.class));
+    }
+}
@@ -0,0 +1,106 @@
+package com.rewear.notification.service;
+
+import com.rewear.notification.repository.NotificationRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * 사용자별 읽지 않은 알림 수 캐시 (키: 사용자 ID)
+ * - 캐시에 없거나 TTL이 지나면 COUNT 쿼리로 다시 읽음
+ * - 알림 생성/읽음/삭제 시 캐시 값을 직접 증감 (트랜잭션 안이면 커밋 이후 반영)
+ * - 최대 개수를 넘으면 만료된 항목을 정리하고, 그래도 가득 차 있으면 캐시하지 않고 조회 값만 반환
+ */
+@Component
+@RequiredArgsConstructor
+public class UnreadNotificationCounter {
+
+    private final NotificationRepository notificationRepository;
+
+    @Value("${app.notification.unread-cache.ttl-ms:60000}")
+    private long ttlMs;
+
+    @Value("${app.notification.unread-cache.max-size:10000}")
+    private int maxSize;
+
+    private final Map<Long, Entry> cache = new ConcurrentHashMap<>();
+
+    private static final class Entry {
+        private final AtomicLong count;
+        private final long loadedAt;
+
+        private Entry(long count, long loadedAt) {
+            this.count = new AtomicLong(count);
+            this.loadedAt = loadedAt;
+        }
+    }
+
+    /**
+     * 읽지 않은 알림 수 (캐시 미스 시 DB 조회)
+     */
+    public long get(Long userId) {
+        long now = System.currentTimeMillis();
+        Entry entry = cache.get(userId);
+        if (entry != null && now - entry.loadedAt < ttlMs) {
+            return entry.count.get();
+        }
+        long count = notificationRepository.countByUserIdAndIsReadFalse(userId);
+        if (cache.size() >= maxSize) {
+            cache.values().removeIf(e -> now - e.loadedAt >= ttlMs);
+        }
+        if (entry != null || cache.size() < maxSize) {
+            cache.put(userId, new Entry(count, now));
+        }
+        return count;
+    }
+
+    /**
+     * 새 알림 생성 시 (캐시에 없으면 다음 조회 시 DB에서 읽음)
+     */
+    public void increment(Long userId, long delta) {
+        afterCommit(userId, entry -> entry.count.addAndGet(delta));
+    }
+
+    /**
+     * 읽지 않은 알림을 읽음 처리하거나 삭제한 경우
+     */
+    public void decrement(Long userId) {
+        afterCommit(userId, entry -> entry.count.updateAndGet(c -> Math.max(c - 1, 0)));
+    }
+
+    /**
+     * 전체 읽음 처리한 경우
+     */
+    public void reset(Long userId) {
+        afterCommit(userId, entry -> entry.count.set(0));
+    }
+
+    private void afterCommit(Long userId, Consumer<Entry> update) {
+        if (userId == null) {
+            return;
+        }
+        Runnable apply = () -> {
+            Entry entry = cache.get(userId);
+            if (entry != null) {
+                update.accept(entry);
+            }
+        };
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply.run();
+                }
+            });
+        } else {
+            apply.run();
+        }
+    }
+}
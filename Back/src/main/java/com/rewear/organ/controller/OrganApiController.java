@@ -3,15 +3,18 @@ package com.rewear.organ.controller;
 import com.rewear.common.enums.MatchType;
 import com.rewear.common.enums.OrganStatus;
 import com.rewear.common.enums.DonationStatus;
+import com.rewear.common.utils.UploadUrls;
 import com.rewear.donation.entity.Donation;
 import com.rewear.donation.repository.DonationRepository;
 import com.rewear.organ.entity.Organ;
 import com.rewear.organ.service.OrganService;
 import com.rewear.user.details.CustomUserDetails;
-import com.rewear.user.entity.User;
-import com.rewear.user.service.UserServiceImpl;
+import com.rewear.user.details.PrincipalCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -31,9 +34,11 @@ public class OrganApiController {
 
     private final OrganService organService;
     private final DonationRepository donationRepository;
-    private final UserServiceImpl userService;
+    private final PrincipalCache principalCache;
     private final com.rewear.donation.service.DonationService donationService;
 
+    private static final int MAX_PAGE_SIZE = 200;
+
     /**
      * 승인된 기관 목록 조회 API
      */
@@ -74,12 +79,12 @@ public class OrganApiController {
     @GetMapping("/donations")
     @PreAuthorize("hasRole('ORGAN')")
     public ResponseEntity<Map<String, Object>> getOrganDonations(
-            @AuthenticationPrincipal CustomUserDetails principal) {
+            @AuthenticationPrincipal CustomUserDetails principal,
+            @RequestParam(value = "page", defaultValue = "0") int page,
+            @RequestParam(value = "size", defaultValue = "50") int size) {
         try {
-            User user = userService.findByUsername(principal.getUsername())
-                    .orElseThrow(() -> new IllegalStateException("사용자를 찾을 수 없습니다."));
-
-            Optional<Organ> organOpt = organService.findByUserId(user.getId());
+            // 로그인 사용자의 기관 (PrincipalCache의 기관 ID로 참조 - 사용자/기관 조회 없음)
+            Optional<Organ> organOpt = principalCache.organReference(principal);
             if (organOpt.isEmpty()) {
                 Map<String, Object> errorResponse = new HashMap<>();
                 errorResponse.put("error", true);
@@ -89,31 +94,20 @@ public class OrganApiController {
 
             Organ organ = organOpt.get();
             
-            // IN_PROGRESS 상태인 기부 목록 조회
-            List<Donation> allDonations = donationRepository.findAllWithDetails();
-            List<Donation> donations = allDonations.stream()
-                    .filter(d -> d.getStatus() == DonationStatus.IN_PROGRESS)
-                    .filter(d -> d.getStatus() != DonationStatus.CANCELLED)
-                    .filter(d -> {
-                        // 직접 매칭인 경우
-                        if (d.getMatchType() == MatchType.DIRECT) {
-                            return d.getOrgan() != null && d.getOrgan().getId().equals(organ.getId());
-                        }
-                        // 간접 매칭인 경우
-                        if (d.getMatchType() == MatchType.INDIRECT) {
-                            return d.getOrgan() != null && d.getOrgan().getId().equals(organ.getId());
-                        }
-                        return false;
-                    })
-                    .collect(Collectors.toList());
+            // 해당 기관에 할당된 IN_PROGRESS 상태 기부 목록 조회 (직접/간접 매칭 공통)
+            Page<Donation> donations = donationRepository.findByOrganIdAndStatusWithDetails(
+                    organ.getId(), DonationStatus.IN_PROGRESS, toPageRequest(page, size));
             
-            List<Map<String, Object>> donationList = donations.stream()
+            List<Map<String, Object>> donationList = donations.getContent().stream()
                     .map(this::convertToOrganDonationDto)
                     .collect(Collectors.toList());
             
             Map<String, Object> response = new HashMap<>();
             response.put("donations", donationList);
-            response.put("count", donationList.size());
+            response.put("count", donations.getTotalElements());
+            response.put("page", donations.getNumber());
+            response.put("totalPages", donations.getTotalPages());
+            response.put("hasNext", donations.hasNext());
             
             return ResponseEntity.ok(response);
         } catch (Exception e) {
@@ -125,6 +119,14 @@ public class OrganApiController {
         }
     }
 
+    /**
+     * 페이지 요청 생성 (최신 기부 순, 페이지 크기는 MAX_PAGE_SIZE로 제한)
+     */
+    private PageRequest toPageRequest(int page, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        return PageRequest.of(Math.max(page, 0), pageSize, Sort.by(Sort.Direction.DESC, "createdAt"));
+    }
+
     /**
      * Donation 엔티티를 기관용 DTO로 변환 (매칭 제안 형식)
      */
@@ -153,25 +155,15 @@ public class OrganApiController {
             
             // 이미지 URL 처리
             List<Map<String, String>> images = new java.util.ArrayList<>();
-            if (donation.getDonationItem().getImageUrls() != null && !donation.getDonationItem().getImageUrls().isEmpty()) {
-                String[] imageUrlArray = donation.getDonationItem().getImageUrls().split(",");
-                for (String url : imageUrlArray) {
-                    if (url != null && !url.trim().isEmpty()) {
-                        String trimmedUrl = url.trim();
-                        String imageUrl = trimmedUrl.startsWith("/uploads/") ? trimmedUrl : "/uploads/" + trimmedUrl;
-                        Map<String, String> imageMap = new HashMap<>();
-                        imageMap.put("url", imageUrl);
-                        imageMap.put("dataUrl", imageUrl);
-                        images.add(imageMap);
-                    }
+            for (String stored : donation.getDonationItem().imageFilenames()) {
+                String imageUrl = UploadUrls.original(stored);
+                if (imageUrl == null) {
+                    continue;
                 }
-            } else if (donation.getDonationItem().getImageUrl() != null && !donation.getDonationItem().getImageUrl().isEmpty()) {
-                String imageUrl = donation.getDonationItem().getImageUrl().startsWith("/uploads/") 
-                        ? donation.getDonationItem().getImageUrl() 
-                        : "/uploads/" + donation.getDonationItem().getImageUrl();
                 Map<String, String> imageMap = new HashMap<>();
                 imageMap.put("url", imageUrl);
                 imageMap.put("dataUrl", imageUrl);
+                imageMap.put("thumbnailUrl", UploadUrls.thumbnail(imageUrl));
                 images.add(imageMap);
             }
             dto.put("images", images);
@@ -212,12 +204,12 @@ public class OrganApiController {
     @GetMapping("/donations/completed")
     @PreAuthorize("hasRole('ORGAN')")
     public ResponseEntity<Map<String, Object>> getCompletedDonations(
-            @AuthenticationPrincipal CustomUserDetails principal) {
+            @AuthenticationPrincipal CustomUserDetails principal,
+            @RequestParam(value = "page", defaultValue = "0") int page,
+            @RequestParam(value = "size", defaultValue = "50") int size) {
         try {
-            User user = userService.findByUsername(principal.getUsername())
-                    .orElseThrow(() -> new IllegalStateException("사용자를 찾을 수 없습니다."));
-
-            Optional<Organ> organOpt = organService.findByUserId(user.getId());
+            // 로그인 사용자의 기관 (PrincipalCache의 기관 ID로 참조 - 사용자/기관 조회 없음)
+            Optional<Organ> organOpt = principalCache.organReference(principal);
             if (organOpt.isEmpty()) {
                 Map<String, Object> errorResponse = new HashMap<>();
                 errorResponse.put("error", true);
@@ -228,19 +220,19 @@ public class OrganApiController {
             Organ organ = organOpt.get();
             
             // COMPLETED 상태인 기부 목록 조회
-            List<Donation> allDonations = donationRepository.findAllWithDetails();
-            List<Donation> completedDonations = allDonations.stream()
-                    .filter(d -> d.getOrgan() != null && d.getOrgan().getId().equals(organ.getId()))
-                    .filter(d -> d.getStatus() == DonationStatus.COMPLETED)
-                    .collect(Collectors.toList());
+            Page<Donation> completedDonations = donationRepository.findByOrganIdAndStatusWithDetails(
+                    organ.getId(), DonationStatus.COMPLETED, toPageRequest(page, size));
             
-            List<Map<String, Object>> donationList = completedDonations.stream()
+            List<Map<String, Object>> donationList = completedDonations.getContent().stream()
                     .map(donation -> convertToCompletedDonationDto(donation))
                     .collect(Collectors.toList());
             
             Map<String, Object> response = new HashMap<>();
             response.put("donations", donationList);
-            response.put("count", donationList.size());
+            response.put("count", completedDonations.getTotalElements());
+            response.put("page", completedDonations.getNumber());
+            response.put("totalPages", completedDonations.getTotalPages());
+            response.put("hasNext", completedDonations.hasNext());
             
             return ResponseEntity.ok(response);
         } catch (Exception e) {
@@ -320,10 +312,8 @@ public class OrganApiController {
         Map<String, Object> response = new HashMap<>();
         
         try {
-            User user = userService.findByUsername(principal.getUsername())
-                    .orElseThrow(() -> new IllegalStateException("사용자를 찾을 수 없습니다."));
-
-            Optional<Organ> organOpt = organService.findByUserId(user.getId());
+            // 로그인 사용자의 기관 (PrincipalCache의 기관 ID로 참조 - 사용자/기관 조회 없음)
+            Optional<Organ> organOpt = principalCache.organReference(principal);
             if (organOpt.isEmpty()) {
                 response.put("success", false);
                 response.put("message", "기관 정보를 찾을 수 없습니다.");
@@ -369,10 +359,8 @@ public class OrganApiController {
         Map<String, Object> response = new HashMap<>();
         
         try {
-            User user = userService.findByUsername(principal.getUsername())
-                    .orElseThrow(() -> new IllegalStateException("사용자를 찾을 수 없습니다."));
-
-            Optional<Organ> organOpt = organService.findByUserId(user.getId());
+            // 로그인 사용자의 기관 (PrincipalCache의 기관 ID로 참조 - 사용자/기관 조회 없음)
+            Optional<Organ> organOpt = principalCache.organReference(principal);
             if (organOpt.isEmpty()) {
                 response.put("success", false);
                 response.put("message", "기관 정보를 찾을 수 없습니다.");
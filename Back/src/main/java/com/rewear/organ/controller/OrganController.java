@@ -1,6 +1,5 @@
 package com.rewear.organ.controller;
 
-import com.rewear.common.enums.MatchType;
 import com.rewear.common.enums.DonationStatus;
 import com.rewear.donation.entity.Donation;
 import com.rewear.donation.repository.DonationRepository;
@@ -12,6 +11,9 @@ import com.rewear.user.entity.User;
 import com.rewear.user.service.UserServiceImpl;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.stereotype.Controller;
@@ -19,7 +21,6 @@ import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
-import java.util.List;
 import java.util.Optional;
 
 @Slf4j
@@ -34,9 +35,12 @@ public class OrganController {
     private final OrganService organService;
     private final UserServiceImpl userService;
 
+    private static final int PAGE_SIZE = 20;
+
     @GetMapping("/donations")
     public String availableDonations(
             @AuthenticationPrincipal CustomUserDetails principal,
+            @RequestParam(value = "page", defaultValue = "0") int page,
             Model model) {
         
         User user = userService.findByUsername(principal.getUsername())
@@ -53,36 +57,12 @@ public class OrganController {
         // IN_PROGRESS 상태인 기부 목록 조회
         // 관리자 승인 완료된 기부만 기관에게 표시
         // CANCELLED 상태는 제외 (반려된 기부)
-        List<Donation> allDonations = donationRepository.findAllWithDetails();
-        List<Donation> donations = allDonations.stream()
-                .filter(d -> d.getStatus() == DonationStatus.IN_PROGRESS)
-                .filter(d -> d.getStatus() != DonationStatus.CANCELLED) // 반려된 기부 제외
-                .filter(d -> {
-                    // 직접 매칭인 경우
-                    if (d.getMatchType() == MatchType.DIRECT) {
-                        // 해당 기관에 할당된 경우: 표시 (이미 매칭된 기부)
-                        if (d.getOrgan() != null && d.getOrgan().getId().equals(organ.getId())) {
-                            return true;
-                        }
-                        // 아직 할당되지 않은 경우: 표시하지 않음 (직접 매칭은 사용자가 기관을 선택했으므로)
-                        // 다른 기관에 할당된 경우: 표시하지 않음
-                        return false;
-                    }
-                    // 간접 매칭인 경우
-                    if (d.getMatchType() == MatchType.INDIRECT) {
-                        // 해당 기관에 할당된 경우: 표시 (승인/거부 가능)
-                        if (d.getOrgan() != null && d.getOrgan().getId().equals(organ.getId())) {
-                            return true;
-                        }
-                        // 아직 할당되지 않은 경우: 표시하지 않음 (관리자가 할당해야 함)
-                        // 다른 기관에 할당된 경우: 표시하지 않음
-                        return false;
-                    }
-                    return false;
-                })
-                .toList();
+        // 직접/간접 매칭 모두 해당 기관에 할당된 경우만 표시 (미할당, 타 기관 할당 제외)
+        Page<Donation> donations = donationRepository.findByOrganIdAndStatusWithDetails(
+                organ.getId(), DonationStatus.IN_PROGRESS, toPageRequest(page));
         
-        model.addAttribute("donations", donations);
+        model.addAttribute("donations", donations.getContent());
+        model.addAttribute("page", donations);
         return "organ/donations";
     }
 
@@ -225,6 +205,7 @@ public class OrganController {
     @GetMapping("/matched")
     public String matchedDonations(
             @AuthenticationPrincipal CustomUserDetails principal,
+            @RequestParam(value = "page", defaultValue = "0") int page,
             Model model) {
         
         User user = userService.findByUsername(principal.getUsername())
@@ -239,14 +220,16 @@ public class OrganController {
         Organ organ = organOpt.get();
         
         // 받은 기부는 COMPLETED 상태만 표시 (히스토리)
-        List<Donation> allDonations = donationRepository.findAllWithDetails();
-        List<Donation> matchedDonations = allDonations.stream()
-                .filter(d -> d.getOrgan() != null && d.getOrgan().getId().equals(organ.getId()))
-                .filter(d -> d.getStatus() == DonationStatus.COMPLETED)
-                .toList();
+        Page<Donation> matchedDonations = donationRepository.findByOrganIdAndStatusWithDetails(
+                organ.getId(), DonationStatus.COMPLETED, toPageRequest(page));
         
-        model.addAttribute("donations", matchedDonations);
+        model.addAttribute("donations", matchedDonations.getContent());
+        model.addAttribute("page", matchedDonations);
         return "organ/matched";
     }
+
+    private PageRequest toPageRequest(int page) {
+        return PageRequest.of(Math.max(page, 0), PAGE_SIZE, Sort.by(Sort.Direction.DESC, "createdAt"));
+    }
 }
 
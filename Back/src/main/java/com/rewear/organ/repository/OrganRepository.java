@@ -17,6 +17,8 @@ public interface OrganRepository extends JpaRepository<Organ, Long> {
 
     List<Organ> findAllByStatus(OrganStatus status);
 
+    long countByStatus(OrganStatus status);
+
     List<Organ> findAllByStatusOrderByIdDesc(OrganStatus status);
 
     List<Organ> findByStatusOrderByCreatedAtDesc(OrganStatus status);
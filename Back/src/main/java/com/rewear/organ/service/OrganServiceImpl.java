@@ -2,8 +2,10 @@ package com.rewear.organ.service;
 
 import com.rewear.common.enums.OrganStatus;
 import com.rewear.common.enums.Role;
+import com.rewear.common.service.StatisticsService;
 import com.rewear.organ.entity.Organ;
 import com.rewear.organ.repository.OrganRepository;
+import com.rewear.user.details.PrincipalCache;
 import com.rewear.user.entity.User;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
@@ -18,6 +20,8 @@ import java.util.Optional;
 public class OrganServiceImpl implements OrganService {
 
     private final OrganRepository organRepository;
+    private final StatisticsService statisticsService;
+    private final PrincipalCache principalCache;
 
     @Override
     public Organ createPending(User user, String businessNoDigits, String orgName) {
@@ -48,7 +52,9 @@ public class OrganServiceImpl implements OrganService {
                 .status(OrganStatus.PENDING)
                 .build();
 
-        return organRepository.save(organ);
+        Organ saved = organRepository.save(organ);
+        principalCache.invalidate(user.getId());
+        return saved;
     }
 
     @Override
@@ -64,6 +70,8 @@ public class OrganServiceImpl implements OrganService {
                 .orElseThrow(() -> new IllegalArgumentException("기관 정보가 존재하지 않습니다."));
         organ.setStatus(OrganStatus.APPROVED);
         // 변경감지로 updateAt 갱신됨
+        principalCache.invalidate(organ.getUser().getId());
+        statisticsService.markDirty();
     }
 
     @Override
@@ -71,6 +79,8 @@ public class OrganServiceImpl implements OrganService {
         Organ organ = organRepository.findById(organId)
                 .orElseThrow(() -> new IllegalArgumentException("기관 정보가 존재하지 않습니다."));
         organ.setStatus(OrganStatus.REJECTED);
+        principalCache.invalidate(organ.getUser().getId());
+        statisticsService.markDirty();
         // 필요하면 별도의 사유 로그를 남기세요.
     }
 
@@ -1,30 +1,31 @@
 package com.rewear.post.controller;
 
+import com.rewear.common.enums.ImageVariant;
 import com.rewear.common.enums.PostType;
+import com.rewear.common.service.ImageAssetService;
+import com.rewear.common.service.UploadStorageService;
+import com.rewear.common.utils.UploadUrls;
 import com.rewear.post.dto.PostRequestDto;
 import com.rewear.post.dto.PostResponseDto;
 import com.rewear.post.entity.Post;
 import com.rewear.post.repository.PostRepository;
 import com.rewear.post.service.PostService;
+import com.rewear.post.service.PostViewCountService;
 import com.rewear.user.details.CustomUserDetails;
 import com.rewear.user.entity.User;
-import com.rewear.user.service.UserServiceImpl;
+import com.rewear.user.details.PrincipalCache;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -35,11 +36,13 @@ import java.util.stream.Collectors;
 public class PostApiController {
 
     private final PostService postService;
-    private final UserServiceImpl userService;
+    private final PrincipalCache principalCache;
     private final PostRepository postRepository;
+    private final PostViewCountService viewCountService;
+    private final UploadStorageService uploadStorageService;
+    private final ImageAssetService imageAssetService;
 
-    @Value("${app.upload.dir:uploads}")
-    private String uploadDir;
+    private static final int MAX_PAGE_SIZE = 100;
 
     // 게시글 목록 조회
     @GetMapping
@@ -60,107 +63,13 @@ public class PostApiController {
                 }
             }
 
-            Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createdAt"));
-            Page<Post> posts;
-            
-            if (postType != null) {
-                Page<Post> typedPosts;
-                if (postType == PostType.ORGAN_REQUEST) {
-                    // 요청 게시판: 모든 기관의 요청 게시물 조회
-                    typedPosts = postService.getPostsByType(postType, pageable);
-                    log.debug("요청 게시판 조회 완료 - 모든 기관의 요청 게시물, 개수: {}", typedPosts.getTotalElements());
-                } else {
-                    // 기부 후기 등 다른 타입은 전체 조회
-                    typedPosts = postService.getPostsByType(postType, pageable);
-                }
-                
-                // 관리자가 작성한 게시글 추가 (모든 타입의 목록에 표시)
-                List<Post> adminPosts = postRepository.findAll().stream()
-                        .filter(post -> post.getAuthorUser() != null 
-                                && post.getAuthorUser().hasRole(com.rewear.common.enums.Role.ADMIN)
-                                && post.getPostType() == PostType.DONATION_REVIEW)
-                        .filter(post -> {
-                            // 이미 목록에 포함된 게시글은 제외
-                            return typedPosts.getContent().stream()
-                                    .noneMatch(p -> p.getId().equals(post.getId()));
-                        })
-                        .collect(java.util.stream.Collectors.toList());
-                
-                // 관리자 게시글을 기존 목록에 추가
-                List<Post> combinedPosts = new ArrayList<>(typedPosts.getContent());
-                combinedPosts.addAll(adminPosts);
-                
-                // 타입별 조회에서도 고정된 게시글이 먼저 오도록 정렬
-                combinedPosts.sort((a, b) -> {
-                    Boolean aPinned = a.getIsPinned() != null && a.getIsPinned();
-                    Boolean bPinned = b.getIsPinned() != null && b.getIsPinned();
-                    if (aPinned && !bPinned) {
-                        return -1; // a가 고정됨
-                    } else if (!aPinned && bPinned) {
-                        return 1; // b가 고정됨
-                    } else {
-                        // 둘 다 고정되거나 둘 다 고정되지 않은 경우 최신순
-                        return b.getCreatedAt().compareTo(a.getCreatedAt());
-                    }
-                });
-                
-                // 페이지네이션 재적용
-                int start = (int) pageable.getOffset();
-                int end = Math.min((start + pageable.getPageSize()), combinedPosts.size());
-                List<Post> pagedPosts = start < combinedPosts.size() ? combinedPosts.subList(start, end) : new ArrayList<>();
-                
-                posts = new org.springframework.data.domain.PageImpl<>(
-                        pagedPosts,
-                        pageable,
-                        combinedPosts.size()
-                );
-            } else {
-                // 전체 게시물 조회: 모든 타입의 게시글을 조회
-                List<Post> allPosts = postService.getAllPosts();
-                // 고정된 게시글이 먼저 오도록 정렬 (고정된 게시글은 최신순, 일반 게시글은 최신순)
-                allPosts.sort((a, b) -> {
-                    Boolean aPinned = a.getIsPinned() != null && a.getIsPinned();
-                    Boolean bPinned = b.getIsPinned() != null && b.getIsPinned();
-                    if (aPinned && !bPinned) {
-                        return -1; // a가 고정됨
-                    } else if (!aPinned && bPinned) {
-                        return 1; // b가 고정됨
-                    } else {
-                        // 둘 다 고정되거나 둘 다 고정되지 않은 경우 최신순
-                        return b.getCreatedAt().compareTo(a.getCreatedAt());
-                    }
-                });
-                
-                // 페이지네이션 처리
-                int start = (int) pageable.getOffset();
-                int end = Math.min((start + pageable.getPageSize()), allPosts.size());
-                List<Post> pagedPosts = start < allPosts.size() ? allPosts.subList(start, end) : new ArrayList<>();
-                
-                posts = new org.springframework.data.domain.PageImpl<>(
-                        pagedPosts,
-                        pageable,
-                        allPosts.size()
-                );
-                log.debug("전체 게시물 조회 완료 - 개수: {}", allPosts.size());
-            }
+            // 정렬(고정 우선, 최신순)은 쿼리에서 처리
+            Pageable pageable = PageRequest.of(Math.max(page, 0), Math.min(Math.max(size, 1), MAX_PAGE_SIZE));
+            Page<Post> posts = postService.getBoardPosts(postType, pageable);
 
             List<PostResponseDto> postDtos = posts.getContent().stream()
                     .map(post -> convertToPostResponseDto(post, principal))
                     .collect(Collectors.toList());
-            
-            // 고정된 게시글이 먼저 오도록 다시 정렬 (페이지네이션 후에도 고정 게시글이 상단에 오도록)
-            postDtos.sort((a, b) -> {
-                Boolean aPinned = a.getIsPinned() != null && a.getIsPinned();
-                Boolean bPinned = b.getIsPinned() != null && b.getIsPinned();
-                if (aPinned && !bPinned) {
-                    return -1; // a가 고정됨
-                } else if (!aPinned && bPinned) {
-                    return 1; // b가 고정됨
-                } else {
-                    // 둘 다 고정되거나 둘 다 고정되지 않은 경우 최신순
-                    return b.getCreatedAt().compareTo(a.getCreatedAt());
-                }
-            });
 
             Map<String, Object> response = new HashMap<>();
             response.put("content", postDtos);
@@ -251,8 +160,7 @@ public class PostApiController {
                 }
             }
 
-            User author = userService.findByUsername(principal.getUsername())
-                    .orElseThrow(() -> new IllegalStateException("사용자를 찾을 수 없습니다."));
+            User author = principalCache.userReference(principal);
 
             // PostForm으로 변환
             com.rewear.post.PostForm form = new com.rewear.post.PostForm();
@@ -298,10 +206,7 @@ public class PostApiController {
             
             // 이미지 URL 업데이트
             if (!savedImageUrls.isEmpty()) {
-                post.setImageUrls(String.join(",", savedImageUrls));
-                if (post.getImageUrl() == null || post.getImageUrl().isEmpty()) {
-                    post.setImageUrl(savedImageUrls.get(0));
-                }
+                post.replaceImages(imageAssetService.describe(savedImageUrls));
                 post = postRepository.save(post);
             }
 
@@ -339,8 +244,7 @@ public class PostApiController {
                 return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(error);
             }
 
-            User author = userService.findByUsername(principal.getUsername())
-                    .orElseThrow(() -> new IllegalStateException("사용자를 찾을 수 없습니다."));
+            User author = principalCache.userReference(principal);
 
             Post post = postService.getPostById(postId);
             
@@ -403,10 +307,7 @@ public class PostApiController {
             
             // 이미지 URL 업데이트 (Base64로 저장한 이미지)
             if (!savedImageUrls.isEmpty()) {
-                updatedPost.setImageUrls(String.join(",", savedImageUrls));
-                if (updatedPost.getImageUrl() == null || updatedPost.getImageUrl().isEmpty()) {
-                    updatedPost.setImageUrl(savedImageUrls.get(0));
-                }
+                updatedPost.replaceImages(imageAssetService.describe(savedImageUrls));
                 updatedPost = postRepository.save(updatedPost);
             }
 
@@ -447,8 +348,7 @@ public class PostApiController {
                 return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(error);
             }
 
-            User author = userService.findByUsername(principal.getUsername())
-                    .orElseThrow(() -> new IllegalStateException("사용자를 찾을 수 없습니다."));
+            User author = principalCache.userReference(principal);
 
             // 관리자 권한 확인
             boolean hasAdminRole = principal.getAuthorities().stream()
@@ -484,16 +384,27 @@ public class PostApiController {
         }
     }
 
-    // 조회수 증가
+    // 조회수 증가 (메모리에 누적 후 주기적으로 DB 반영)
     @PutMapping("/{postId}/view")
-    public ResponseEntity<?> incrementViewCount(@PathVariable("postId") Long postId) {
+    public ResponseEntity<?> incrementViewCount(
+            @PathVariable("postId") Long postId,
+            @AuthenticationPrincipal CustomUserDetails principal,
+            HttpServletRequest request) {
         try {
             log.debug("조회수 증가 요청 - ID: {}", postId);
-            Post post = postService.getPostById(postId);
-            post.setViewCount((post.getViewCount() != null ? post.getViewCount() : 0) + 1);
-            post = postRepository.save(post);
+            Optional<Integer> persisted = postRepository.findViewCountById(postId);
+            if (persisted.isEmpty()) {
+                Map<String, Object> error = new HashMap<>();
+                error.put("error", "게시글을 찾을 수 없습니다.");
+                return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
+            }
+            String viewerKey = PostViewCountService.viewerKey(
+                    principal != null ? principal.getId() : null,
+                    request.getRemoteAddr(),
+                    request.getHeader("User-Agent"));
+            viewCountService.increment(postId, viewerKey);
             Map<String, Object> response = new HashMap<>();
-            response.put("viewCount", post.getViewCount());
+            response.put("viewCount", viewCountService.getViewCount(postId, persisted.get()));
             return ResponseEntity.ok(response);
         } catch (Exception e) {
             log.error("조회수 증가 실패 - ID: {}", postId, e);
@@ -572,39 +483,22 @@ public class PostApiController {
             }
         }
 
-        // 이미지 처리
+        // 이미지 처리 (image_assets 행 우선, 변환 전 게시글은 쉼표 구분 컬럼)
         List<PostResponseDto.ImageDto> images = new ArrayList<>();
-        if (post.getImageUrls() != null && !post.getImageUrls().isEmpty()) {
-            log.info("기부 ID: {} - imageUrls 값: {}", post.getId(), post.getImageUrls());
-            String[] urlArray = post.getImageUrls().split(",");
-            for (String url : urlArray) {
-                String trimmedUrl = url.trim();
-                if (!trimmedUrl.isEmpty()) {
-                    String fullUrl = trimmedUrl.startsWith("/uploads/") ? trimmedUrl : "/uploads/" + trimmedUrl;
-                    log.info("기부 ID: {} - 이미지 URL 변환: {} -> {}", post.getId(), trimmedUrl, fullUrl);
-                    PostResponseDto.ImageDto imageDto = PostResponseDto.ImageDto.builder()
-                            .url(fullUrl)
-                            .dataUrl(fullUrl)
-                            .build();
-                    images.add(imageDto);
-                }
+        for (String stored : post.imageFilenames()) {
+            String fullUrl = UploadUrls.original(stored);
+            if (fullUrl == null) {
+                continue;
             }
-        } else if (post.getImageUrl() != null && !post.getImageUrl().isEmpty()) {
-            log.info("기부 ID: {} - imageUrl 값: {}", post.getId(), post.getImageUrl());
-            String fullUrl = post.getImageUrl().startsWith("/uploads/") 
-                ? post.getImageUrl() 
-                : "/uploads/" + post.getImageUrl();
-            log.info("기부 ID: {} - 이미지 URL 변환: {} -> {}", post.getId(), post.getImageUrl(), fullUrl);
             PostResponseDto.ImageDto imageDto = PostResponseDto.ImageDto.builder()
                     .url(fullUrl)
                     .dataUrl(fullUrl)
+                    .thumbnailUrl(UploadUrls.thumbnail(fullUrl))
+                    .mediumUrl(UploadUrls.variant(fullUrl, ImageVariant.MEDIUM))
                     .build();
             images.add(imageDto);
-        } else {
-            log.warn("기부 ID: {} - 이미지 URL이 없습니다. imageUrl: {}, imageUrls: {}", 
-                post.getId(), post.getImageUrl(), post.getImageUrls());
         }
-        log.info("기부 ID: {} - 최종 이미지 개수: {}", post.getId(), images.size());
+        log.debug("게시글 ID: {} - 이미지 개수: {}", post.getId(), images.size());
 
         return PostResponseDto.builder()
                 .id(post.getId())
@@ -620,7 +514,7 @@ public class PostApiController {
                 .reqMainCategory(post.getReqMainCategory())
                 .reqDetailCategory(post.getReqDetailCategory())
                 .reqSize(post.getReqSize())
-                .viewCount(post.getViewCount())
+                .viewCount(viewCountService.getViewCount(post.getId(), post.getViewCount()))
                 .isPinned(post.getIsPinned() != null ? post.getIsPinned() : false)
                 .createdAt(post.getCreatedAt())
                 .updatedAt(post.getUpdatedAt())
@@ -628,42 +522,18 @@ public class PostApiController {
                 .build();
     }
 
-    // Base64 이미지를 파일로 저장
+    // Base64 이미지를 파일로 저장 (내용이 같은 이미지는 저장소에서 한 번만 보관)
     private String saveBase64Image(String base64Image) {
+        if (base64Image == null || base64Image.isEmpty()) {
+            return null;
+        }
+        // Base64 데이터 URL 형식: data:image/png;base64,iVBORw0KGgo...
+        if (base64Image.indexOf(',') < 0) {
+            log.warn("잘못된 Base64 이미지 형식");
+            return null;
+        }
         try {
-            if (base64Image == null || base64Image.isEmpty()) {
-                return null;
-            }
-
-            // Base64 데이터 URL 형식: data:image/png;base64,iVBORw0KGgo...
-            String[] parts = base64Image.split(",");
-            if (parts.length != 2) {
-                log.warn("잘못된 Base64 이미지 형식");
-                return null;
-            }
-
-            String base64Data = parts[1];
-            String header = parts[0];
-            String extension = ".jpg";
-            if (header.contains("image/png")) {
-                extension = ".png";
-            } else if (header.contains("image/gif")) {
-                extension = ".gif";
-            }
-
-            byte[] imageBytes = Base64.getDecoder().decode(base64Data);
-            String filename = UUID.randomUUID().toString() + extension;
-
-            // 업로드 디렉토리 확인 및 생성
-            Path uploadPath = Paths.get(uploadDir);
-            if (!Files.exists(uploadPath)) {
-                Files.createDirectories(uploadPath);
-            }
-
-            // 파일 저장
-            Path filePath = uploadPath.resolve(filename);
-            Files.write(filePath, imageBytes);
-
+            String filename = uploadStorageService.storeBase64(base64Image);
             log.info("Base64 이미지 저장 완료: {}", filename);
             return filename;
         } catch (Exception e) {
@@ -43,6 +43,8 @@ public class PostResponseDto {
     public static class ImageDto {
         private String url;
         private String dataUrl;
+        private String thumbnailUrl; // 목록용 썸네일 (/uploads/thumb/파일명)
+        private String mediumUrl;    // 상세용 중간 크기 (/uploads/medium/파일명)
     }
 }
 
@@ -6,13 +6,22 @@ import com.rewear.common.enums.PostType;
 import com.rewear.common.enums.Size;
 import com.rewear.organ.entity.Organ;
 import com.rewear.user.entity.User;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.rewear.common.entity.ImageAsset;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 
 @Entity
-@Table(name = "posts")
+@Table(name = "posts", indexes = {
+        // 게시판 목록 (타입별 / 전체) 고정 우선 최신순 정렬용
+        @Index(name = "idx_posts_type_pinned_created", columnList = "post_type, is_pinned, created_at"),
+        @Index(name = "idx_posts_pinned_created", columnList = "is_pinned, created_at")
+})
 @Getter @Setter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -49,7 +58,15 @@ public class Post {
     private String imageUrl; // 단일 이미지 (하위 호환성)
 
     @Column(name = "image_urls", columnDefinition = "TEXT")
-    private String imageUrls; // 여러 이미지 (쉼표로 구분)
+    private String imageUrls; // 여러 이미지 (쉼표로 구분, 하위 호환성 - images와 함께 갱신)
+
+    // 이미지 (표시 순서대로, 목록 조회 시 여러 게시글의 이미지를 IN 조회 한 번으로 로딩)
+    @JsonIgnore
+    @OneToMany(mappedBy = "post", cascade = CascadeType.ALL, orphanRemoval = true)
+    @OrderBy("ordinal ASC")
+    @BatchSize(size = 100)
+    @Builder.Default
+    private List<ImageAsset> images = new ArrayList<>();
 
     @Column(name = "is_anonymous", nullable = false)
     @Builder.Default
@@ -96,4 +113,26 @@ public class Post {
     void onUpdate() {
         updatedAt = LocalDateTime.now();
     }
-}
\ No newline at end of file
+
+    /**
+     * 이미지 교체 (순서는 목록 순서, 하위 호환 컬럼 image_url / image_urls도 함께 갱신)
+     */
+    public void replaceImages(List<ImageAsset> assets) {
+        images.clear();
+        for (int i = 0; i < assets.size(); i++) {
+            ImageAsset asset = assets.get(i);
+            asset.setPost(this);
+            asset.setOrdinal(i);
+            images.add(asset);
+        }
+        imageUrls = ImageAsset.joinFilenames(images);
+        imageUrl = images.isEmpty() ? null : images.get(0).getFilename();
+    }
+
+    /**
+     * 표시 순서대로 이미지 파일명 (변환 전 데이터는 쉼표 구분 컬럼 사용)
+     */
+    public List<String> imageFilenames() {
+        return ImageAsset.filenamesOf(images, imageUrls, imageUrl);
+    }
+}
@@ -2,6 +2,7 @@ package com.rewear.post.repository;
 
 import com.rewear.common.enums.ClothType;
 import com.rewear.common.enums.PostType;
+import com.rewear.common.enums.Role;
 import com.rewear.organ.entity.Organ;
 import com.rewear.post.entity.Post;
 import com.rewear.user.entity.User;
@@ -50,4 +51,35 @@ public interface PostRepository extends JpaRepository<Post, Long> {
            "LEFT JOIN FETCH o.user " +
            "WHERE p.id = :postId")
     Optional<Post> findByIdWithAuthors(@Param("postId") Long postId);
-}
\ No newline at end of file
+
+    // 조회수만 조회 (엔티티 전체를 불러오지 않음)
+    @Query("SELECT p.viewCount FROM Post p WHERE p.id = :postId")
+    Optional<Integer> findViewCountById(@Param("postId") Long postId);
+
+    // 게시판 목록: 고정 게시글 우선, 최신순 (정렬과 페이지네이션을 DB에서 처리)
+    @Query(value = "SELECT p FROM Post p " +
+                   "LEFT JOIN FETCH p.authorUser " +
+                   "LEFT JOIN FETCH p.authorOrgan o " +
+                   "LEFT JOIN FETCH o.user " +
+                   "ORDER BY p.isPinned DESC, p.createdAt DESC, p.id DESC",
+           countQuery = "SELECT COUNT(p) FROM Post p")
+    Page<Post> findAllPinnedFirst(Pageable pageable);
+
+    // 타입별 게시판 목록: 해당 타입 게시글 + 관리자가 작성한 기부 후기 (고정 게시글 우선, 최신순)
+    @Query(value = "SELECT p FROM Post p " +
+                   "LEFT JOIN FETCH p.authorUser au " +
+                   "LEFT JOIN FETCH p.authorOrgan o " +
+                   "LEFT JOIN FETCH o.user " +
+                   "WHERE p.postType = :postType " +
+                   "OR (p.postType = :reviewType AND EXISTS (" +
+                   "    SELECT 1 FROM User u JOIN u.roles r WHERE u.id = au.id AND r = :adminRole)) " +
+                   "ORDER BY p.isPinned DESC, p.createdAt DESC, p.id DESC",
+           countQuery = "SELECT COUNT(p) FROM Post p " +
+                        "WHERE p.postType = :postType " +
+                        "OR (p.postType = :reviewType AND EXISTS (" +
+                        "    SELECT 1 FROM User u JOIN u.roles r WHERE u.id = p.authorUser.id AND r = :adminRole))")
+    Page<Post> findBoardPostsPinnedFirst(@Param("postType") PostType postType,
+                                         @Param("reviewType") PostType reviewType,
+                                         @Param("adminRole") Role adminRole,
+                                         Pageable pageable);
+}
@@ -20,6 +20,7 @@ public interface PostService {
     List<Post> getAllPosts(); // 모든 게시물 조회 (관리자용)
     List<Post> getPostsByType(PostType postType);
     Page<Post> getPostsByType(PostType postType, Pageable pageable);
+    Page<Post> getBoardPosts(PostType postType, Pageable pageable); // 게시판 목록 (고정 우선, 최신순 / postType이 null이면 전체)
     List<Post> getPostsByAuthorUser(User authorUser);
     List<Post> getPostsByAuthorOrgan(Long organId);
 }
\ No newline at end of file
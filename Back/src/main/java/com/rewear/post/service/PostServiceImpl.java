@@ -1,6 +1,9 @@
 package com.rewear.post.service;
 
 import com.rewear.common.enums.PostType;
+import com.rewear.common.enums.Role;
+import com.rewear.common.service.ImageAssetService;
+import com.rewear.common.service.UploadStorageService;
 import com.rewear.organ.entity.Organ;
 import com.rewear.organ.service.OrganService;
 import com.rewear.post.PostForm;
@@ -9,7 +12,6 @@ import com.rewear.post.repository.PostRepository;
 import com.rewear.user.entity.User;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -17,12 +19,7 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
-import java.nio.file.StandardCopyOption;
 import java.util.List;
-import java.util.UUID;
 
 @Slf4j
 @Service
@@ -32,15 +29,12 @@ public class PostServiceImpl implements PostService {
 
     private final PostRepository postRepository;
     private final OrganService organService;
-
-    @Value("${app.upload.dir:uploads}")
-    private String uploadDir;
+    private final UploadStorageService uploadStorageService;
+    private final ImageAssetService imageAssetService;
 
     @Override
     public Post createPost(User author, PostForm form, MultipartFile image) {
         // 여러 이미지 저장
-        String imageUrl = null;
-        String imageUrls = null;
         List<String> savedImageUrls = new java.util.ArrayList<>();
         
         // 여러 이미지 처리 (우선)
@@ -56,17 +50,11 @@ public class PostServiceImpl implements PostService {
                     }
                 }
             }
-            if (!savedImageUrls.isEmpty()) {
-                imageUrls = String.join(",", savedImageUrls);
-                imageUrl = savedImageUrls.get(0); // 첫 번째 이미지를 imageUrl에도 설정 (하위 호환성)
-            }
         }
         // 단일 이미지 처리 (하위 호환성)
         else if (image != null && !image.isEmpty()) {
             try {
-                imageUrl = saveImage(image);
-                savedImageUrls.add(imageUrl);
-                imageUrls = imageUrl;
+                savedImageUrls.add(saveImage(image));
             } catch (IOException e) {
                 log.error("이미지 저장 실패", e);
                 throw new RuntimeException("이미지 저장에 실패했습니다.", e);
@@ -76,9 +64,7 @@ public class PostServiceImpl implements PostService {
         Post.PostBuilder postBuilder = Post.builder()
                 .postType(form.getPostType())
                 .title(form.getTitle())
-                .content(form.getContent())
-                .imageUrl(imageUrl)
-                .imageUrls(imageUrls);
+                .content(form.getContent());
 
         // 관리자 여부 확인
         boolean isAdmin = author.getRoles() != null && author.getRoles().stream()
@@ -109,7 +95,10 @@ public class PostServiceImpl implements PostService {
             }
         }
 
-        return postRepository.save(postBuilder.build());
+        // 이미지 행과 하위 호환 컬럼(image_url, image_urls)을 함께 설정
+        Post post = postBuilder.build();
+        post.replaceImages(imageAssetService.describe(savedImageUrls));
+        return postRepository.save(post);
     }
 
     @Override
@@ -134,15 +123,8 @@ public class PostServiceImpl implements PostService {
         // 여러 이미지 업데이트
         if (form.getImages() != null && !form.getImages().isEmpty()) {
             // 기존 이미지 삭제
-            if (post.getImageUrls() != null && !post.getImageUrls().isEmpty()) {
-                String[] existingUrls = post.getImageUrls().split(",");
-                for (String url : existingUrls) {
-                    if (url != null && !url.trim().isEmpty()) {
-                        deleteImage(url.trim());
-                    }
-                }
-            } else if (post.getImageUrl() != null) {
-                deleteImage(post.getImageUrl());
+            for (String url : post.imageFilenames()) {
+                deleteImage(url);
             }
             
             // 새 이미지 저장
@@ -159,28 +141,19 @@ public class PostServiceImpl implements PostService {
                 }
             }
             if (!savedImageUrls.isEmpty()) {
-                post.setImageUrls(String.join(",", savedImageUrls));
-                post.setImageUrl(savedImageUrls.get(0)); // 첫 번째 이미지를 imageUrl에도 설정 (하위 호환성)
+                post.replaceImages(imageAssetService.describe(savedImageUrls));
             }
         }
         // 단일 이미지 업데이트 (하위 호환성)
         else if (image != null && !image.isEmpty()) {
             // 기존 이미지 삭제
-            if (post.getImageUrls() != null && !post.getImageUrls().isEmpty()) {
-                String[] existingUrls = post.getImageUrls().split(",");
-                for (String url : existingUrls) {
-                    if (url != null && !url.trim().isEmpty()) {
-                        deleteImage(url.trim());
-                    }
-                }
-            } else if (post.getImageUrl() != null) {
-                deleteImage(post.getImageUrl());
+            for (String url : post.imageFilenames()) {
+                deleteImage(url);
             }
             // 새 이미지 저장
             try {
                 String savedUrl = saveImage(image);
-                post.setImageUrl(savedUrl);
-                post.setImageUrls(savedUrl);
+                post.replaceImages(imageAssetService.describe(List.of(savedUrl)));
             } catch (IOException e) {
                 log.error("이미지 저장 실패", e);
                 throw new RuntimeException("이미지 저장에 실패했습니다.", e);
@@ -214,15 +187,8 @@ public class PostServiceImpl implements PostService {
         // 여러 이미지 업데이트
         if (form.getImages() != null && !form.getImages().isEmpty()) {
             // 기존 이미지 삭제
-            if (post.getImageUrls() != null && !post.getImageUrls().isEmpty()) {
-                String[] existingUrls = post.getImageUrls().split(",");
-                for (String url : existingUrls) {
-                    if (url != null && !url.trim().isEmpty()) {
-                        deleteImage(url.trim());
-                    }
-                }
-            } else if (post.getImageUrl() != null) {
-                deleteImage(post.getImageUrl());
+            for (String url : post.imageFilenames()) {
+                deleteImage(url);
             }
             
             // 새 이미지 저장
@@ -239,28 +205,19 @@ public class PostServiceImpl implements PostService {
                 }
             }
             if (!savedImageUrls.isEmpty()) {
-                post.setImageUrls(String.join(",", savedImageUrls));
-                post.setImageUrl(savedImageUrls.get(0)); // 첫 번째 이미지를 imageUrl에도 설정 (하위 호환성)
+                post.replaceImages(imageAssetService.describe(savedImageUrls));
             }
         }
         // 단일 이미지 업데이트 (하위 호환성)
         else if (image != null && !image.isEmpty()) {
             // 기존 이미지 삭제
-            if (post.getImageUrls() != null && !post.getImageUrls().isEmpty()) {
-                String[] existingUrls = post.getImageUrls().split(",");
-                for (String url : existingUrls) {
-                    if (url != null && !url.trim().isEmpty()) {
-                        deleteImage(url.trim());
-                    }
-                }
-            } else if (post.getImageUrl() != null) {
-                deleteImage(post.getImageUrl());
+            for (String url : post.imageFilenames()) {
+                deleteImage(url);
             }
             // 새 이미지 저장
             try {
                 String savedUrl = saveImage(image);
-                post.setImageUrl(savedUrl);
-                post.setImageUrls(savedUrl);
+                post.replaceImages(imageAssetService.describe(List.of(savedUrl)));
             } catch (IOException e) {
                 log.error("이미지 저장 실패", e);
                 throw new RuntimeException("이미지 저장에 실패했습니다.", e);
@@ -304,15 +261,8 @@ public class PostServiceImpl implements PostService {
         }
 
         // 이미지 삭제
-        if (post.getImageUrls() != null && !post.getImageUrls().isEmpty()) {
-            String[] imageUrls = post.getImageUrls().split(",");
-            for (String url : imageUrls) {
-                if (url != null && !url.trim().isEmpty()) {
-                    deleteImage(url.trim());
-                }
-            }
-        } else if (post.getImageUrl() != null) {
-            deleteImage(post.getImageUrl());
+        for (String url : post.imageFilenames()) {
+            deleteImage(url);
         }
 
         postRepository.delete(post);
@@ -324,15 +274,8 @@ public class PostServiceImpl implements PostService {
                 .orElseThrow(() -> new IllegalArgumentException("게시물을 찾을 수 없습니다."));
 
         // 이미지 삭제
-        if (post.getImageUrls() != null && !post.getImageUrls().isEmpty()) {
-            String[] imageUrls = post.getImageUrls().split(",");
-            for (String url : imageUrls) {
-                if (url != null && !url.trim().isEmpty()) {
-                    deleteImage(url.trim());
-                }
-            }
-        } else if (post.getImageUrl() != null) {
-            deleteImage(post.getImageUrl());
+        for (String url : post.imageFilenames()) {
+            deleteImage(url);
         }
 
         postRepository.delete(post);
@@ -363,6 +306,16 @@ public class PostServiceImpl implements PostService {
         return postRepository.findByPostType(postType, pageable);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Page<Post> getBoardPosts(PostType postType, Pageable pageable) {
+        if (postType == null) {
+            return postRepository.findAllPinnedFirst(pageable);
+        }
+        // 관리자가 작성한 기부 후기는 모든 타입의 목록에 함께 표시
+        return postRepository.findBoardPostsPinnedFirst(postType, PostType.DONATION_REVIEW, Role.ADMIN, pageable);
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<Post> getPostsByAuthorUser(User authorUser) {
@@ -376,28 +329,12 @@ public class PostServiceImpl implements PostService {
     }
 
     private String saveImage(MultipartFile image) throws IOException {
-        Path uploadPath = Paths.get(uploadDir);
-        if (!Files.exists(uploadPath)) {
-            Files.createDirectories(uploadPath);
-        }
-
-        String originalFilename = image.getOriginalFilename();
-        String extension = originalFilename != null && originalFilename.contains(".")
-                ? originalFilename.substring(originalFilename.lastIndexOf("."))
-                : "";
-        String filename = UUID.randomUUID().toString() + extension;
-        Path filePath = uploadPath.resolve(filename);
-
-        Files.copy(image.getInputStream(), filePath, StandardCopyOption.REPLACE_EXISTING);
-        return filename;
+        return uploadStorageService.store(image, "");
     }
 
     private void deleteImage(String imagePath) {
         try {
-            Path filePath = Paths.get(uploadDir).resolve(imagePath);
-            if (Files.exists(filePath)) {
-                Files.delete(filePath);
-            }
+            uploadStorageService.delete(imagePath);
         } catch (IOException e) {
             log.error("이미지 삭제 실패: " + imagePath, e);
         }
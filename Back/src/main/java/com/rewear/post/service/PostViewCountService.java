@@ -0,0 +1,158 @@
+package com.rewear.post.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 게시글 조회수 쓰기 지연(write-behind) 카운터
+ * - 조회 시 게시글별 LongAdder만 증가시키고, 스케줄러가 주기적으로 누적분을 DB에 일괄 반영
+ * - 반영은 UPDATE posts SET view_count = view_count + ? 배치로 처리하여 동시 조회 시에도 유실 없음
+ * - 증가와 반영/항목 제거는 같은 게시글 키의 compute 안에서 실행 (제거된 카운터에 증가분이 남아 유실되지 않도록)
+ * - 조회 결과는 DB 값 + 아직 반영되지 않은 누적분
+ * - 같은 조회자(로그인 사용자 ID 또는 IP + User-Agent)가 dedupe 윈도우 안에서 다시 조회하면 집계하지 않음 (0이면 비활성화)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PostViewCountService {
+
+    private static final String FLUSH_SQL = "UPDATE posts SET view_count = view_count + ? WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${app.post.view.dedupe-window-ms:600000}")
+    private long dedupeWindowMs;
+
+    @Value("${app.post.view.dedupe-max-entries:100000}")
+    private int dedupeMaxEntries;
+
+    // 게시글 ID → 아직 DB에 반영되지 않은 조회수
+    private final Map<Long, LongAdder> pending = new ConcurrentHashMap<>();
+
+    // "조회자 키:게시글ID" → 마지막으로 집계한 시각 (ms)
+    private final Map<String, Long> recentViews = new ConcurrentHashMap<>();
+
+    /**
+     * 조회수 1 증가
+     * @param postId 게시글 ID
+     * @param viewerKey 중복 조회 판단용 조회자 키 (null이면 중복 판단 없이 집계)
+     * @return 집계되었으면 true, 중복 조회로 무시되었으면 false
+     */
+    public boolean increment(Long postId, String viewerKey) {
+        if (isDuplicate(postId, viewerKey)) {
+            return false;
+        }
+        add(postId, 1);
+        return true;
+    }
+
+    /**
+     * DB에 저장된 조회수와 아직 반영되지 않은 누적분을 합친 값
+     */
+    public int getViewCount(Long postId, Integer persistedViewCount) {
+        long persisted = persistedViewCount != null ? persistedViewCount : 0;
+        LongAdder adder = pending.get(postId);
+        long total = persisted + (adder != null ? adder.sum() : 0);
+        return (int) Math.min(total, Integer.MAX_VALUE);
+    }
+
+    /**
+     * 누적된 조회수를 DB에 일괄 반영
+     */
+    @Scheduled(fixedDelayString = "${app.post.view.flush-interval-ms:10000}")
+    public void flush() {
+        List<Object[]> batch = new ArrayList<>();
+        for (Long postId : pending.keySet()) {
+            // 같은 키의 increment()와 직렬화되므로 비우는 사이에 들어온 증가분은 남은 카운터에 쌓여 다음 주기에 반영됨
+            pending.computeIfPresent(postId, (id, adder) -> {
+                long delta = adder.sumThenReset();
+                if (delta > 0) {
+                    batch.add(new Object[]{delta, id});
+                    return adder;
+                }
+                // 한 주기 동안 조회가 없던 게시글은 항목을 제거 (조회된 게시글 수만큼 맵이 계속 커지지 않도록)
+                return null;
+            });
+        }
+        purgeExpiredViews();
+
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            jdbcTemplate.batchUpdate(FLUSH_SQL, batch);
+            log.debug("조회수 반영 완료 - 게시글 수: {}", batch.size());
+        } catch (Exception e) {
+            // 실패한 누적분은 되돌려 다음 주기에 다시 시도
+            for (Object[] row : batch) {
+                add((Long) row[1], (Long) row[0]);
+            }
+            log.warn("조회수 반영 실패 - 다음 주기에 재시도: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 애플리케이션 종료 시 남은 누적분 반영
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        log.info("애플리케이션 종료 - 남은 조회수 반영");
+        flush();
+    }
+
+    /**
+     * 중복 조회 판단용 조회자 키
+     * - 로그인 사용자는 사용자 ID (세션/토큰 인증 모두 동일)
+     * - 비로그인 사용자는 클라이언트 IP + User-Agent (세션이 없는 API 호출도 구분)
+     */
+    public static String viewerKey(Long userId, String clientIp, String userAgent) {
+        if (userId != null) {
+            return "user:" + userId;
+        }
+        return "anon:" + clientIp + ":" + Integer.toHexString(userAgent != null ? userAgent.hashCode() : 0);
+    }
+
+    private void add(Long postId, long delta) {
+        pending.compute(postId, (id, adder) -> {
+            LongAdder counter = adder != null ? adder : new LongAdder();
+            counter.add(delta);
+            return counter;
+        });
+    }
+
+    private boolean isDuplicate(Long postId, String viewerKey) {
+        if (dedupeWindowMs <= 0 || viewerKey == null) {
+            return false;
+        }
+        long now = System.currentTimeMillis();
+        String key = viewerKey + ":" + postId;
+        Long last = recentViews.get(key);
+        if (last != null && now - last < dedupeWindowMs) {
+            return true;
+        }
+        // 최대 개수를 넘으면 기록하지 않음 (메모리 보호, 중복 판단만 생략)
+        if (last != null || recentViews.size() < dedupeMaxEntries) {
+            recentViews.put(key, now);
+        }
+        return false;
+    }
+
+    private void purgeExpiredViews() {
+        if (recentViews.isEmpty()) {
+            return;
+        }
+        long threshold = System.currentTimeMillis() - dedupeWindowMs;
+        recentViews.values().removeIf(viewedAt -> viewedAt < threshold);
+    }
+}
@@ -0,0 +1,114 @@
+package com.rewear.user.controller;
+
+import com.rewear.user.details.CustomUserDetails;
+import com.rewear.user.details.CustomUserDetailsService;
+import com.rewear.user.token.JwtTokenService;
+import com.rewear.user.token.TokenCookies;
+import com.rewear.user.token.TokenRevocationList;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * access/refresh 토큰 재발급 및 폐기 (app.auth.jwt.enabled=true일 때)
+ * - refresh 토큰은 쿠키 또는 요청 본문의 refreshToken으로 전달
+ * - 본문으로 받은 경우 새 refresh 토큰도 본문으로만 돌려줌 (로그인 시 "tokenDelivery": "body"로 받은 클라이언트)
+ */
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/auth/token")
+public class AuthTokenController {
+
+    private final JwtTokenService jwtTokenService;
+    private final TokenRevocationList revocationList;
+    private final TokenCookies tokenCookies;
+    private final CustomUserDetailsService userDetailsService;
+
+    /**
+     * access 토큰 재발급
+     * - 계정 상태(정지, 기관 승인)를 다시 확인하고, 사용한 refresh 토큰은 폐기하여 새 토큰으로 교체
+     */
+    @PostMapping("/refresh")
+    public ResponseEntity<?> refresh(@RequestBody(required = false) Map<String, String> request,
+                                     HttpServletRequest httpRequest,
+                                     HttpServletResponse httpResponse) {
+        if (!jwtTokenService.isEnabled()) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body(Map.of("ok", false, "message", "토큰 인증을 사용하지 않습니다."));
+        }
+        String bodyToken = request != null ? request.get("refreshToken") : null;
+        String token = bodyToken != null ? bodyToken : tokenCookies.resolveRefreshToken(httpRequest);
+
+        Optional<JwtTokenService.TokenClaims> claims = jwtTokenService.verify(token, JwtTokenService.TYPE_REFRESH);
+        if (claims.isEmpty() || revocationList.isRevoked(claims.get().jti())) {
+            tokenCookies.clear(httpResponse);
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                    .body(Map.of("ok", false, "message", "다시 로그인해주세요."));
+        }
+
+        CustomUserDetails user;
+        try {
+            user = (CustomUserDetails) userDetailsService.loadUserByUsername(claims.get().username());
+        } catch (AuthenticationException e) {
+            log.warn("토큰 재발급 거부 - username={}, message={}", claims.get().username(), e.getMessage());
+            revocationList.revoke(claims.get().jti(), claims.get().expiresAt());
+            tokenCookies.clear(httpResponse);
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                    .body(Map.of("ok", false, "message", e.getMessage()));
+        }
+        if (!user.getId().equals(claims.get().userId())) {
+            // 같은 아이디로 다시 가입한 다른 계정
+            tokenCookies.clear(httpResponse);
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                    .body(Map.of("ok", false, "message", "다시 로그인해주세요."));
+        }
+
+        revocationList.revoke(claims.get().jti(), claims.get().expiresAt());
+        JwtTokenService.TokenPair tokens = jwtTokenService.issue(user);
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("ok", true);
+        response.put("accessToken", tokens.accessToken());
+        response.put("accessTokenExpiresAt", tokens.accessExpiresAt().toString());
+        if (bodyToken != null) {
+            // 쿠키를 쓰지 않는 클라이언트에만 새 refresh 토큰 전달
+            response.put("refreshToken", tokens.refreshToken());
+            response.put("refreshTokenExpiresAt", tokens.refreshExpiresAt().toString());
+        } else {
+            tokenCookies.write(httpResponse, tokens, jwtTokenService.getAccessTtl(), jwtTokenService.getRefreshTtl());
+        }
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 로그아웃 - 현재 access/refresh 토큰을 폐기하고 쿠키 삭제
+     */
+    @PostMapping("/revoke")
+    public ResponseEntity<?> revoke(@RequestBody(required = false) Map<String, String> request,
+                                    HttpServletRequest httpRequest,
+                                    HttpServletResponse httpResponse) {
+        if (jwtTokenService.isEnabled()) {
+            jwtTokenService.verify(tokenCookies.resolveAccessToken(httpRequest), JwtTokenService.TYPE_ACCESS)
+                    .ifPresent(c -> revocationList.revoke(c.jti(), c.expiresAt()));
+            String bodyToken = request != null ? request.get("refreshToken") : null;
+            String refreshToken = bodyToken != null ? bodyToken : tokenCookies.resolveRefreshToken(httpRequest);
+            jwtTokenService.verify(refreshToken, JwtTokenService.TYPE_REFRESH)
+                    .ifPresent(c -> revocationList.revoke(c.jti(), c.expiresAt()));
+        }
+        tokenCookies.clear(httpResponse);
+        return ResponseEntity.ok(Map.of("ok", true));
+    }
+}
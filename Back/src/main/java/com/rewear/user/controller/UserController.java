@@ -2,9 +2,14 @@ package com.rewear.user.controller;
 
 import com.rewear.common.enums.Role;
 import com.rewear.organ.service.OrganService;
+import com.rewear.user.details.CustomUserDetails;
+import com.rewear.user.details.PrincipalCache;
+import com.rewear.user.login.LoginAttemptLimiter;
 import com.rewear.user.entity.User;
 import com.rewear.user.repository.UserRepository;
 import com.rewear.user.service.UserServiceImpl;
+import com.rewear.user.token.JwtTokenService;
+import com.rewear.user.token.TokenCookies;
 import lombok.Data;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -17,13 +22,15 @@ import org.springframework.security.authentication.UsernamePasswordAuthenticatio
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.context.HttpSessionSecurityContextRepository;
 import org.springframework.web.bind.annotation.*;
 
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import java.security.Principal;
 import java.util.EnumSet;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -37,7 +44,7 @@ public class UserController {
     private final UserRepository userRepository;
     private final OrganService organService;
     private final com.rewear.email.service.EmailVerifiedService emailVerifiedService;
-    private final BCryptPasswordEncoder passwordEncoder;
+    private final PasswordEncoder passwordEncoder;
 
     /**
      * ✅ 일반 회원가입
@@ -159,15 +166,21 @@ public class UserController {
     }
 
     private final AuthenticationManager authenticationManager;
+    private final JwtTokenService jwtTokenService;
+    private final TokenCookies tokenCookies;
+    private final PrincipalCache principalCache;
+    private final LoginAttemptLimiter loginAttemptLimiter;
 
     /**
      * ✅ 로그인
      * - username / password 를 JSON으로 전달
-     * - Spring Security 세션 인증 수행
+     * - Spring Security 세션 인증 수행 (app.auth.jwt.enabled=true이면 세션 대신 access/refresh 토큰 발급)
+     * - 쿠키를 쓰지 않는 클라이언트는 "tokenDelivery": "body"를 함께 보내면 refresh 토큰까지 응답 본문으로 받음
      */
     @PostMapping("/login")
     public ResponseEntity<?> login(@RequestBody Map<String, String> request,
-                                    HttpServletRequest httpRequest) {
+                                    HttpServletRequest httpRequest,
+                                    HttpServletResponse httpResponse) {
         String username = request.get("username");
         String password = request.get("password");
         
@@ -184,6 +197,17 @@ public class UserController {
                 .body(Map.of("ok", false, "message", "비밀번호를 입력해주세요."));
         }
         
+        // 로그인 시도 제한 (잠긴 아이디/IP는 비밀번호 확인 전에 차단)
+        String clientIp = httpRequest.getRemoteAddr();
+        long blockedSeconds = loginAttemptLimiter.blockedSeconds(username, clientIp);
+        if (blockedSeconds > 0) {
+            log.warn("로그인 차단: 시도 횟수 초과 - username={}, ip={}", username, clientIp);
+            return ResponseEntity.status(429)
+                .header("Retry-After", String.valueOf(blockedSeconds))
+                .body(Map.of("ok", false, "message", LoginAttemptLimiter.blockedMessage(blockedSeconds),
+                        "errorType", "TOO_MANY_ATTEMPTS", "retryAfter", blockedSeconds));
+        }
+        
         try {
             log.debug("인증 시도 시작: username={}", username.trim().toLowerCase());
             // Spring Security 인증 수행
@@ -192,16 +216,19 @@ public class UserController {
             
             Authentication authentication = authenticationManager.authenticate(authToken);
             log.info("인증 성공: username={}", username.trim().toLowerCase());
+            loginAttemptLimiter.recordSuccess(username);
             
-            // SecurityContext 생성 및 세션에 저장
+            // SecurityContext 생성 및 세션에 저장 (토큰 인증 모드에서는 세션을 만들지 않고 토큰 발급)
             SecurityContext securityContext = SecurityContextHolder.createEmptyContext();
             securityContext.setAuthentication(authentication);
             SecurityContextHolder.setContext(securityContext);
             
-            httpRequest.getSession().setAttribute(
-                HttpSessionSecurityContextRepository.SPRING_SECURITY_CONTEXT_KEY,
-                securityContext
-            );
+            if (!jwtTokenService.isEnabled()) {
+                httpRequest.getSession().setAttribute(
+                    HttpSessionSecurityContextRepository.SPRING_SECURITY_CONTEXT_KEY,
+                    securityContext
+                );
+            }
             
             // 사용자 정보 조회
             User user = userService.findByUsername(username.trim().toLowerCase())
@@ -231,15 +258,31 @@ public class UserController {
                     ? user.getRoles().iterator().next().name() 
                     : "USER");
             
-            return ResponseEntity.ok(Map.of(
-                "ok", true,
-                "user", user,
-                "role", user.getRoles() != null && !user.getRoles().isEmpty() 
+            Map<String, Object> body = new HashMap<>();
+            body.put("ok", true);
+            body.put("user", user);
+            body.put("role", user.getRoles() != null && !user.getRoles().isEmpty() 
                     ? user.getRoles().iterator().next().name() 
-                    : "USER"
-            ));
+                    : "USER");
+            if (jwtTokenService.isEnabled()
+                    && authentication.getPrincipal() instanceof CustomUserDetails principal) {
+                // 브라우저는 HttpOnly 쿠키, 그 외 클라이언트는 응답의 accessToken을 Authorization 헤더로 사용
+                JwtTokenService.TokenPair tokens = jwtTokenService.issue(principal);
+                body.put("accessToken", tokens.accessToken());
+                body.put("accessTokenExpiresAt", tokens.accessExpiresAt().toString());
+                if ("body".equals(request.get("tokenDelivery"))) {
+                    // 쿠키를 쓰지 않는 클라이언트는 refresh 토큰을 본문으로 받아 /api/auth/token/refresh 본문에 전달
+                    // (브라우저에는 스크립트로 읽을 수 없도록 쿠키로만 전달)
+                    body.put("refreshToken", tokens.refreshToken());
+                    body.put("refreshTokenExpiresAt", tokens.refreshExpiresAt().toString());
+                } else {
+                    tokenCookies.write(httpResponse, tokens, jwtTokenService.getAccessTtl(), jwtTokenService.getRefreshTtl());
+                }
+            }
+            return ResponseEntity.ok(body);
         } catch (BadCredentialsException e) {
             log.warn("로그인 실패: 잘못된 자격증명 - username={}", username);
+            loginAttemptLimiter.recordFailure(username, clientIp);
             return ResponseEntity.status(401)
                 .body(Map.of("ok", false, "message", "아이디 또는 비밀번호가 올바르지 않습니다.", "errorType", "BAD_CREDENTIALS"));
         } catch (LockedException e) {
@@ -264,6 +307,7 @@ public class UserController {
                     .body(Map.of("ok", false, "message", cause.getMessage(), "errorType", "ACCOUNT_LOCKED"));
             } else if (cause instanceof BadCredentialsException) {
                 log.warn("로그인 실패: 잘못된 자격증명 (Internal) - username={}", username);
+                loginAttemptLimiter.recordFailure(username, clientIp);
                 return ResponseEntity.status(401)
                     .body(Map.of("ok", false, "message", "아이디 또는 비밀번호가 올바르지 않습니다.", "errorType", "BAD_CREDENTIALS"));
             } else {
@@ -271,6 +315,11 @@ public class UserController {
                 return ResponseEntity.status(500)
                     .body(Map.of("ok", false, "message", "로그인 중 오류가 발생했습니다.", "errorType", "INTERNAL_ERROR"));
             }
+        } catch (org.springframework.security.authentication.AuthenticationServiceException e) {
+            // 비밀번호 해싱 대기열 포화 (PasswordHashingService)
+            log.warn("로그인 실패: 해싱 대기열 포화 - username={}", username);
+            return ResponseEntity.status(503)
+                .body(Map.of("ok", false, "message", e.getMessage(), "errorType", "BUSY"));
         } catch (IllegalArgumentException e) {
             log.warn("로그인 실패: 사용자 없음 - username={}, message={}", username, e.getMessage());
             return ResponseEntity.status(401)
@@ -593,6 +642,7 @@ public class UserController {
             }
             
             userRepository.save(user);
+            principalCache.invalidate(user.getId());
             
             return ResponseEntity.ok(Map.of(
                 "ok", true,
@@ -2,22 +2,23 @@ package com.rewear.user.details;
 
 import com.rewear.common.enums.OrganStatus;
 import com.rewear.common.enums.WarnStatus;
-import com.rewear.organ.repository.OrganRepository;
 import com.rewear.common.enums.Role;
 import com.rewear.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.DisabledException;
 import org.springframework.security.authentication.LockedException;
 import org.springframework.security.core.userdetails.*;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
-public class CustomUserDetailsService implements UserDetailsService {
+public class CustomUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
 
     private final UserRepository userRepository;
-    private final OrganRepository organRepository;
+    private final PrincipalCache principalCache;
 
     @Override
     @Transactional(readOnly = true)
@@ -30,15 +31,15 @@ public class CustomUserDetailsService implements UserDetailsService {
             throw new LockedException("이용이 정지된 계정입니다.");
         }
 
-        // 2. 기관(Role.ORGAN) 계정이면 Organ 승인여부 확인
+        // 2. 기관(Role.ORGAN) 계정이면 Organ 승인여부 확인 (기관 상태는 PrincipalCache에서 조회, 캐시 미스 시에만 기관 조회)
         if (user.getRoles() != null && user.getRoles().contains(Role.ORGAN)) {
-            var organOpt = organRepository.findByUserId(user.getId());
-            if (organOpt.isEmpty()) {
+            var snapshot = principalCache.snapshotOf(user);
+            if (snapshot.organId() == null) {
                 // Organ row가 없다면 로그인 차단
                 throw new DisabledException("기관 정보가 존재하지 않습니다.");
             }
             
-            var organStatus = organOpt.get().getStatus();
+            var organStatus = snapshot.organStatus();
             if (organStatus == OrganStatus.PENDING) {
                 throw new DisabledException("아직 승인되지 않은 계정입니다. 관리자 승인을 기다려주세요.");
             } else if (organStatus == OrganStatus.REJECTED) {
@@ -55,4 +56,25 @@ public class CustomUserDetailsService implements UserDetailsService {
                 true  // 여기까지 왔으면 enabled = true
         );
     }
+
+    /**
+     * 로그인 성공 시 저장된 해시가 현재 설정보다 약하면 다시 해싱한 값으로 교체
+     * (DaoAuthenticationProvider가 PasswordEncoder.upgradeEncoding()이 true일 때 호출, newPassword는 이미 인코딩된 값)
+     */
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails userDetails, String newPassword) {
+        userRepository.findByUsername(userDetails.getUsername()).ifPresent(user -> {
+            user.setPassword(newPassword);
+            log.info("비밀번호 해시 갱신: username={}", user.getUsername());
+        });
+        CustomUserDetails details = (CustomUserDetails) userDetails;
+        return new CustomUserDetails(
+                details.getId(),
+                details.getUsername(),
+                newPassword,
+                details.getRoles(),
+                details.isEnabled()
+        );
+    }
 }
@@ -0,0 +1,177 @@
+package com.rewear.user.details;
+
+import com.rewear.common.enums.OrganStatus;
+import com.rewear.common.enums.Role;
+import com.rewear.common.enums.WarnStatus;
+import com.rewear.organ.entity.Organ;
+import com.rewear.organ.repository.OrganRepository;
+import com.rewear.user.entity.User;
+import com.rewear.user.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 로그인 사용자 정보 캐시 (키: 사용자 ID)
+ * - 사용자 기본 정보, 역할, 정지 여부와 기관 ID/기관명/승인 상태를 변경 불가능한 스냅샷으로 보관
+ * - 핸들러는 사용자/기관을 다시 조회하지 않고 스냅샷의 ID로 엔티티 참조(getReferenceById, 쿼리 없음)를 사용
+ * - 캐시에 없거나 TTL이 지나면 DB에서 다시 읽음
+ * - 프로필, 역할, 정지, 기관 승인 상태가 바뀌면 invalidate() (트랜잭션 안이면 커밋 이후 반영)
+ * - 최대 개수를 넘으면 만료된 항목을 정리하고, 그래도 가득 차 있으면 캐시하지 않고 조회 값만 반환
+ */
+@Component
+@RequiredArgsConstructor
+public class PrincipalCache {
+
+    private final UserRepository userRepository;
+    private final OrganRepository organRepository;
+
+    @Value("${app.auth.principal-cache.ttl-ms:300000}")
+    private long ttlMs;
+
+    @Value("${app.auth.principal-cache.max-size:10000}")
+    private int maxSize;
+
+    private final Map<Long, Entry> cache = new ConcurrentHashMap<>();
+
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+    private final AtomicLong invalidationCount = new AtomicLong();
+
+    /**
+     * 사용자 스냅샷 (기관 회원이 아니거나 기관 정보가 없으면 organId는 null)
+     */
+    public record PrincipalSnapshot(Long userId, String username, String nickname, Set<Role> roles,
+                                    WarnStatus status, Long organId, String organName, OrganStatus organStatus) {
+
+        public boolean hasRole(Role role) {
+            return roles.contains(role);
+        }
+    }
+
+    private record Entry(PrincipalSnapshot snapshot, long loadedAt) {
+    }
+
+    /**
+     * 사용자 스냅샷 (캐시 미스 시 DB 조회)
+     */
+    public Optional<PrincipalSnapshot> find(Long userId) {
+        if (userId == null) {
+            return Optional.empty();
+        }
+        long now = System.currentTimeMillis();
+        Entry entry = cache.get(userId);
+        if (entry != null && now - entry.loadedAt() < ttlMs) {
+            hitCount.incrementAndGet();
+            return Optional.of(entry.snapshot());
+        }
+        missCount.incrementAndGet();
+        return userRepository.findById(userId).map(user -> load(user, now));
+    }
+
+    /**
+     * 로그인 사용자 스냅샷
+     * @throws IllegalStateException 탈퇴 등으로 사용자가 없는 경우
+     */
+    public PrincipalSnapshot get(CustomUserDetails principal) {
+        return find(principal.getId())
+                .orElseThrow(() -> new IllegalStateException("사용자를 찾을 수 없습니다."));
+    }
+
+    /**
+     * 이미 조회한 사용자 엔티티의 스냅샷 (로그인 시 - 캐시에 없을 때만 기관 조회)
+     */
+    public PrincipalSnapshot snapshotOf(User user) {
+        long now = System.currentTimeMillis();
+        Entry entry = cache.get(user.getId());
+        if (entry != null && now - entry.loadedAt() < ttlMs) {
+            hitCount.incrementAndGet();
+            return entry.snapshot();
+        }
+        missCount.incrementAndGet();
+        return load(user, now);
+    }
+
+    /**
+     * 로그인 사용자 엔티티 참조 (쿼리 없이 ID만 가진 프록시 - 다른 필드에 접근하면 그때 조회)
+     */
+    public User userReference(CustomUserDetails principal) {
+        return userRepository.getReferenceById(get(principal).userId());
+    }
+
+    /**
+     * 로그인 사용자의 기관 엔티티 참조 (기관 정보가 없으면 empty)
+     */
+    public Optional<Organ> organReference(CustomUserDetails principal) {
+        PrincipalSnapshot snapshot = get(principal);
+        return snapshot.organId() != null
+                ? Optional.of(organRepository.getReferenceById(snapshot.organId()))
+                : Optional.empty();
+    }
+
+    /**
+     * 사용자 정보가 바뀐 경우 (트랜잭션 안이면 커밋 이후 제거)
+     */
+    public void invalidate(Long userId) {
+        if (userId == null) {
+            return;
+        }
+        invalidationCount.incrementAndGet();
+        // 커밋 전에 다른 요청이 이전 값을 다시 캐시할 수 있으므로 지금과 커밋 이후 모두 제거
+        cache.remove(userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.remove(userId);
+                }
+            });
+        }
+    }
+
+    public Map<String, Object> getMetrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("size", cache.size());
+        metrics.put("maxSize", maxSize);
+        metrics.put("ttlMs", ttlMs);
+        metrics.put("hits", hitCount.get());
+        metrics.put("misses", missCount.get());
+        metrics.put("invalidations", invalidationCount.get());
+        return metrics;
+    }
+
+    private PrincipalSnapshot load(User user, long now) {
+        Set<Role> roles = user.getRoles() == null || user.getRoles().isEmpty()
+                ? EnumSet.noneOf(Role.class)
+                : EnumSet.copyOf(user.getRoles());
+        Organ organ = roles.contains(Role.ORGAN)
+                ? organRepository.findByUserId(user.getId()).orElse(null)
+                : null;
+        PrincipalSnapshot snapshot = new PrincipalSnapshot(
+                user.getId(),
+                user.getUsername(),
+                user.getNickname(),
+                Set.copyOf(roles),
+                user.getStatus(),
+                organ != null ? organ.getId() : null,
+                organ != null ? organ.getOrgName() : null,
+                organ != null ? organ.getStatus() : null);
+        if (cache.size() >= maxSize) {
+            cache.values().removeIf(e -> now - e.loadedAt() >= ttlMs);
+        }
+        if (cache.containsKey(user.getId()) || cache.size() < maxSize) {
+            cache.put(user.getId(), new Entry(snapshot, now));
+        }
+        return snapshot;
+    }
+}
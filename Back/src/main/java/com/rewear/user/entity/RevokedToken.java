@@ -0,0 +1,35 @@
+package com.rewear.user.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 폐기된 JWT (로그아웃, refresh 토큰 재발급)
+ * - TokenRevocationList가 JDBC로 기록/조회하며, 만료 시각이 지난 행은 정리 작업에서 삭제
+ */
+@Entity
+@Table(name = "revoked_tokens", indexes = {
+        @Index(name = "uk_revoked_tokens_jti", columnList = "jti", unique = true),
+        @Index(name = "idx_revoked_tokens_expires", columnList = "expires_at")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class RevokedToken {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "jti", nullable = false, length = 36)
+    private String jti;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt; // 토큰 만료 시각 (이후에는 폐기 목록에서 제외)
+
+    @Column(name = "revoked_at", nullable = false)
+    private LocalDateTime revokedAt;
+}
@@ -0,0 +1,316 @@
+package com.rewear.user.login;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 로그인 시도 제한 (아이디별, IP별 슬라이딩 윈도우)
+ * - 비밀번호 해싱과 DB 조회 전에 blockedSeconds()로 차단 여부를 먼저 확인
+ * - 아이디: window 안에서 username-max-failures번 실패하면 lock-ms 동안 잠금 (성공하면 초기화)
+ * - IP: window 안의 실패가 ip-max-failures 이상이면 차단 (여러 아이디를 돌아가며 시도하는 경우)
+ *   차단 시간은 오래된 실패가 빠져 기준 아래로 내려갈 때까지
+ * - IP는 request.getRemoteAddr() - 프록시(Nginx) 뒤에서는 server.forward-headers-strategy=native로
+ *   X-Forwarded-For의 실제 클라이언트 IP가 되어야 함 (아니면 모든 사용자가 프록시 IP 하나로 집계되어 함께 차단됨)
+ * - 카운터와 잠금은 메모리에만 있으므로 서버마다 따로 집계되고 재시작하면 초기화됨
+ *   (그래서 users.is_locked는 쓰지 않음 - 재시작 후 풀리지 않은 값이 남지 않도록)
+ * - users.login_fail_count는 모아 두었다가 flush-ms마다 JDBC 배치로 반영 (로그인 요청은 DB에 쓰지 않음)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LoginAttemptLimiter {
+
+    private static final String ADD_FAILURES_SQL =
+            "UPDATE users SET login_fail_count = login_fail_count + ? WHERE username = ?";
+    private static final String RESET_FAILURES_SQL =
+            "UPDATE users SET login_fail_count = ? WHERE username = ?";
+
+    // 윈도우를 나누는 구간 수 (구간 단위로 오래된 실패가 빠짐)
+    private static final int BUCKETS = 10;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${app.auth.login-throttle.window-ms:900000}")
+    private long windowMs;
+
+    @Value("${app.auth.login-throttle.username-max-failures:5}")
+    private int usernameMaxFailures;
+
+    @Value("${app.auth.login-throttle.ip-max-failures:30}")
+    private int ipMaxFailures;
+
+    @Value("${app.auth.login-throttle.lock-ms:900000}")
+    private long lockMs;
+
+    @Value("${app.auth.login-throttle.max-keys:100000}")
+    private int maxKeys;
+
+    private final Map<String, SlidingWindow> usernameWindows = new ConcurrentHashMap<>();
+    private final Map<String, SlidingWindow> ipWindows = new ConcurrentHashMap<>();
+    // 아이디 → 잠금 해제 시각 (ms)
+    private final Map<String, Long> lockedUntil = new ConcurrentHashMap<>();
+    // 아이디 → DB 반영 대기 중인 변경
+    private final Map<String, PendingUpdate> pending = new ConcurrentHashMap<>();
+
+    // 지표
+    private final AtomicLong failureCount = new AtomicLong();
+    private final AtomicLong blockedCount = new AtomicLong();
+    private final AtomicLong lockCount = new AtomicLong();
+    private final AtomicLong untrackedCount = new AtomicLong();
+    private final AtomicLong flushedCount = new AtomicLong();
+
+    /**
+     * DB 반영 대기 중인 변경
+     * @param reset true이면 실패 횟수를 failures로 덮어씀 (로그인 성공 이후), false이면 failures만큼 더함
+     */
+    private record PendingUpdate(int failures, boolean reset) {
+    }
+
+    /**
+     * 차단 여부 확인 (비밀번호 확인 전에 호출)
+     * @return 남은 차단 시간 (초), 차단되지 않았으면 0
+     */
+    public long blockedSeconds(String username, String ip) {
+        long now = System.currentTimeMillis();
+        long remainingMs = 0;
+        String key = normalize(username);
+        if (key != null) {
+            Long until = lockedUntil.get(key);
+            if (until != null && until > now) {
+                remainingMs = until - now;
+            }
+        }
+        if (ip != null) {
+            SlidingWindow window = ipWindows.get(ip);
+            if (window != null) {
+                remainingMs = Math.max(remainingMs, window.millisUntilBelow(ipMaxFailures, now));
+            }
+        }
+        if (remainingMs > 0) {
+            blockedCount.incrementAndGet();
+            return (remainingMs + 999) / 1000;
+        }
+        return 0;
+    }
+
+    /**
+     * 잘못된 아이디/비밀번호 (정지, 기관 미승인 등은 호출하지 않음)
+     */
+    public void recordFailure(String username, String ip) {
+        long now = System.currentTimeMillis();
+        failureCount.incrementAndGet();
+        if (ip != null) {
+            SlidingWindow window = windowFor(ipWindows, ip);
+            if (window != null) {
+                window.add(now);
+            }
+        }
+        String key = normalize(username);
+        if (key == null) {
+            return;
+        }
+        SlidingWindow window = windowFor(usernameWindows, key);
+        if (window == null) {
+            return;
+        }
+        window.add(now);
+        boolean locked = false;
+        if (window.count(now) >= usernameMaxFailures) {
+            Long previous = lockedUntil.put(key, now + lockMs);
+            locked = previous == null || previous <= now;
+        }
+        if (locked) {
+            lockCount.incrementAndGet();
+            log.warn("로그인 실패 누적으로 아이디 잠금: username={}, lockMs={}", key, lockMs);
+        }
+        pending.merge(key, new PendingUpdate(1, false), LoginAttemptLimiter::merge);
+    }
+
+    /**
+     * 로그인 성공 - 아이디 실패 기록과 잠금 초기화 (IP 기록은 유지)
+     */
+    public void recordSuccess(String username) {
+        String key = normalize(username);
+        if (key == null) {
+            return;
+        }
+        SlidingWindow window = usernameWindows.remove(key);
+        lockedUntil.remove(key);
+        if (window != null) {
+            // 실패 기록이 있던 아이디만 DB 반영
+            pending.merge(key, new PendingUpdate(0, true), LoginAttemptLimiter::merge);
+        }
+    }
+
+    /**
+     * 대기 중인 실패 횟수를 DB에 반영하고, 만료된 잠금과 사용하지 않는 윈도우 정리
+     */
+    @Scheduled(fixedDelayString = "${app.auth.login-throttle.flush-ms:5000}")
+    public void flush() {
+        long now = System.currentTimeMillis();
+        lockedUntil.values().removeIf(until -> until <= now);
+        usernameWindows.values().removeIf(window -> window.isIdle(now));
+        ipWindows.values().removeIf(window -> window.isIdle(now));
+
+        if (pending.isEmpty()) {
+            return;
+        }
+        List<Object[]> additions = new ArrayList<>();
+        List<Object[]> resets = new ArrayList<>();
+        for (String key : pending.keySet()) {
+            PendingUpdate update = pending.remove(key);
+            if (update == null) {
+                continue;
+            }
+            if (update.reset()) {
+                resets.add(new Object[]{update.failures(), key});
+            } else {
+                additions.add(new Object[]{update.failures(), key});
+            }
+        }
+        try {
+            if (!resets.isEmpty()) {
+                jdbcTemplate.batchUpdate(RESET_FAILURES_SQL, resets);
+            }
+            if (!additions.isEmpty()) {
+                jdbcTemplate.batchUpdate(ADD_FAILURES_SQL, additions);
+            }
+            flushedCount.addAndGet(resets.size() + additions.size());
+        } catch (Exception e) {
+            // 통계용 값이므로 다시 시도하지 않음 (차단은 메모리 카운터로 동작)
+            log.warn("로그인 실패 횟수 저장 실패: {}건, {}", resets.size() + additions.size(), e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        flush();
+    }
+
+    public Map<String, Object> getMetrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("failures", failureCount.get());
+        metrics.put("blocked", blockedCount.get());
+        metrics.put("locks", lockCount.get());
+        metrics.put("lockedUsernames", lockedUntil.size());
+        metrics.put("trackedUsernames", usernameWindows.size());
+        metrics.put("trackedIps", ipWindows.size());
+        metrics.put("untracked", untrackedCount.get());
+        metrics.put("pendingWrites", pending.size());
+        metrics.put("flushed", flushedCount.get());
+        return metrics;
+    }
+
+    /**
+     * 로그인 제한 안내 문구
+     */
+    public static String blockedMessage(long seconds) {
+        long minutes = Math.max(1, (seconds + 59) / 60);
+        return "로그인 시도가 너무 많습니다. " + minutes + "분 후 다시 시도해주세요.";
+    }
+
+    private SlidingWindow windowFor(Map<String, SlidingWindow> windows, String key) {
+        SlidingWindow window = windows.get(key);
+        if (window != null) {
+            return window;
+        }
+        if (usernameWindows.size() + ipWindows.size() >= maxKeys) {
+            // 임의의 아이디/IP로 메모리를 채우는 경우 새 키는 집계하지 않음 (다음 정리 이후 다시 집계)
+            untrackedCount.incrementAndGet();
+            return null;
+        }
+        return windows.computeIfAbsent(key, k -> new SlidingWindow(windowMs / BUCKETS));
+    }
+
+    private static String normalize(String username) {
+        if (username == null || username.isBlank()) {
+            return null;
+        }
+        // UserController와 같이 소문자로 비교
+        return username.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static PendingUpdate merge(PendingUpdate previous, PendingUpdate next) {
+        if (next.reset()) {
+            return next;
+        }
+        return new PendingUpdate(previous.failures() + next.failures(), previous.reset());
+    }
+
+    /**
+     * 고정 구간 BUCKETS개로 나눈 슬라이딩 윈도우 카운터 (락 없이 원자 연산만 사용)
+     * - 구간이 바뀌는 순간 동시에 들어온 실패 일부가 빠질 수 있으나 제한 용도로는 충분
+     */
+    static final class SlidingWindow {
+
+        private final long bucketMs;
+        private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+        // 각 칸이 담고 있는 구간 번호 (시각 / bucketMs)
+        private final AtomicLongArray slices = new AtomicLongArray(BUCKETS);
+        private volatile long lastUpdatedMs;
+
+        SlidingWindow(long bucketMs) {
+            this.bucketMs = Math.max(1, bucketMs);
+        }
+
+        void add(long now) {
+            long slice = now / bucketMs;
+            int index = (int) (slice % BUCKETS);
+            long current = slices.get(index);
+            if (current != slice && slices.compareAndSet(index, current, slice)) {
+                // 이전 구간 값 제거
+                counts.set(index, 0);
+            }
+            counts.incrementAndGet(index);
+            lastUpdatedMs = now;
+        }
+
+        long count(long now) {
+            long oldest = now / bucketMs - BUCKETS + 1;
+            long total = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                if (slices.get(i) >= oldest) {
+                    total += counts.get(i);
+                }
+            }
+            return total;
+        }
+
+        /**
+         * 오래된 구간이 빠져 합계가 limit 아래로 내려갈 때까지 남은 시간 (ms), 이미 아래면 0
+         */
+        long millisUntilBelow(long limit, long now) {
+            long current = now / bucketMs;
+            long total = count(now);
+            for (long slice = current - BUCKETS + 1; slice <= current && total >= limit; slice++) {
+                int index = (int) Math.floorMod(slice, BUCKETS);
+                if (slices.get(index) == slice) {
+                    total -= counts.get(index);
+                }
+                if (total < limit) {
+                    // 이 구간은 (slice + BUCKETS) * bucketMs 시점에 윈도우에서 빠짐
+                    return (slice + BUCKETS) * bucketMs - now;
+                }
+            }
+            return total < limit ? 0 : bucketMs * BUCKETS;
+        }
+
+        boolean isIdle(long now) {
+            return now - lastUpdatedMs >= bucketMs * BUCKETS;
+        }
+    }
+}
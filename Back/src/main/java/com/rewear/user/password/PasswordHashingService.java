@@ -0,0 +1,246 @@
+package com.rewear.user.password;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.authentication.AuthenticationServiceException;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 비밀번호 해싱 (애플리케이션의 PasswordEncoder 빈)
+ * - BCrypt cost는 app.auth.password.bcrypt-cost, 0이면 기동 시 target-ms에 가장 가까운 cost를 측정하여 결정
+ *   (서버마다 측정값이 다를 수 있으므로 여러 서버로 운영할 때는 값을 고정 권장)
+ * - 저장 형식은 {bcrypt}$2a$... (DelegatingPasswordEncoder), 접두사 없는 기존 해시도 BCrypt로 검증
+ * - 현재 cost보다 낮거나 접두사 없는 해시는 upgradeEncoding()이 true를 반환하여 로그인 성공 시 다시 해싱
+ *   (DaoAuthenticationProvider → CustomUserDetailsService.updatePassword)
+ * - encode/matches는 전용 스레드 풀(passwordHashingExecutor)에서 실행하고, 풀이 가득 차면 즉시 거절
+ * - benchmark는 로그인 해싱과 분리된 passwordBenchmarkExecutor에서 한 번에 하나만 실행
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PasswordHashingService implements PasswordEncoder {
+
+    private static final String ENCODING_ID = "bcrypt";
+    private static final String CALIBRATION_PASSWORD = "rewear-calibration";
+    private static final String BUSY_MESSAGE = "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.";
+
+    @Qualifier("passwordHashingExecutor")
+    private final ExecutorService executor;
+
+    @Qualifier("passwordBenchmarkExecutor")
+    private final ExecutorService benchmarkExecutor;
+
+    @Value("${app.auth.password.bcrypt-cost:0}")
+    private int configuredCost;
+
+    @Value("${app.auth.password.target-ms:250}")
+    private long targetMs;
+
+    @Value("${app.auth.password.min-cost:10}")
+    private int minCost;
+
+    @Value("${app.auth.password.max-cost:14}")
+    private int maxCost;
+
+    @Value("${app.auth.password.timeout-ms:5000}")
+    private long timeoutMs;
+
+    @Value("${app.auth.password.benchmark-timeout-ms:120000}")
+    private long benchmarkTimeoutMs;
+
+    private PasswordEncoder delegate;
+    private int cost;
+    private long calibratedMs;
+
+    // 지표
+    private final AtomicLong encodeCount = new AtomicLong();
+    private final AtomicLong matchCount = new AtomicLong();
+    private final AtomicLong rejectedCount = new AtomicLong();
+    private final AtomicLong totalHashNanos = new AtomicLong();
+
+    @PostConstruct
+    void init() {
+        cost = configuredCost > 0 ? configuredCost : calibrate();
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(cost);
+        DelegatingPasswordEncoder encoder = new DelegatingPasswordEncoder(ENCODING_ID, Map.of(ENCODING_ID, bcrypt));
+        // 접두사 없는 기존 해시($2a$...)
+        encoder.setDefaultPasswordEncoderForMatches(bcrypt);
+        delegate = encoder;
+        log.info("비밀번호 해싱 - BCrypt cost: {}{}", cost,
+                configuredCost > 0 ? " (설정값)" : " (측정, 목표 " + targetMs + "ms, 측정 " + calibratedMs + "ms)");
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        encodeCount.incrementAndGet();
+        return execute(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        matchCount.incrementAndGet();
+        return execute(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    public int getCost() {
+        return cost;
+    }
+
+    /**
+     * cost별 해싱 시간 측정 (전용 스레드에서 실행 - 로그인 해싱 풀과 timeout-ms에 영향 없음)
+     * - BCrypt 계산 자체는 중단할 수 없으므로 시간 초과 시 진행 중인 한 번이 끝난 뒤 멈춤
+     * @return cost → 평균 ms
+     * @throws IllegalStateException 이미 측정 중이거나 benchmark-timeout-ms 초과
+     */
+    public Map<Integer, Long> benchmark(int fromCost, int toCost, int samples) {
+        Future<Map<Integer, Long>> future;
+        try {
+            future = benchmarkExecutor.submit(() -> measure(fromCost, toCost, samples));
+        } catch (RejectedExecutionException e) {
+            throw new IllegalStateException("이미 해싱 시간을 측정하고 있습니다.", e);
+        }
+        try {
+            return future.get(benchmarkTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw new IllegalStateException("해싱 시간 측정이 " + benchmarkTimeoutMs + "ms 안에 끝나지 않았습니다.", e);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("해싱 시간 측정이 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    public Map<String, Object> getMetrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("cost", cost);
+        metrics.put("calibrated", configuredCost <= 0);
+        metrics.put("calibratedMs", calibratedMs);
+        metrics.put("targetMs", targetMs);
+        metrics.put("encoded", encodeCount.get());
+        metrics.put("matched", matchCount.get());
+        metrics.put("rejected", rejectedCount.get());
+        long operations = encodeCount.get() + matchCount.get() - rejectedCount.get();
+        metrics.put("avgHashMs", operations > 0 ? TimeUnit.NANOSECONDS.toMillis(totalHashNanos.get()) / operations : 0);
+        if (executor instanceof ThreadPoolExecutor pool) {
+            metrics.put("threads", pool.getMaximumPoolSize());
+            metrics.put("active", pool.getActiveCount());
+            metrics.put("queued", pool.getQueue().size());
+        }
+        return metrics;
+    }
+
+    /**
+     * 최소 cost로 측정한 시간에서 cost가 1 오를 때마다 두 배가 되는 것으로 계산하여 target-ms 이하인 가장 큰 cost 선택
+     */
+    private int calibrate() {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(minCost);
+        encoder.encode(CALIBRATION_PASSWORD);  // 워밍업 (JIT)
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < 3; i++) {
+            long started = System.nanoTime();
+            encoder.encode(CALIBRATION_PASSWORD);
+            best = Math.min(best, System.nanoTime() - started);
+        }
+        double minCostMs = Math.max(best / 1_000_000.0, 0.001);
+        int selected = minCost;
+        double estimatedMs = minCostMs;
+        while (selected < maxCost && estimatedMs * 2 <= targetMs) {
+            selected++;
+            estimatedMs *= 2;
+        }
+        calibratedMs = Math.round(estimatedMs);
+        return selected;
+    }
+
+    private Map<Integer, Long> measure(int fromCost, int toCost, int samples) throws InterruptedException {
+        Map<Integer, Long> result = new LinkedHashMap<>();
+        for (int c = Math.max(4, fromCost); c <= Math.min(toCost, 31); c++) {
+            BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(c);
+            encoder.encode(CALIBRATION_PASSWORD);  // 워밍업
+            long started = System.nanoTime();
+            for (int i = 0; i < samples; i++) {
+                if (Thread.interrupted()) {
+                    // 시간 초과로 취소됨
+                    throw new InterruptedException();
+                }
+                encoder.encode(CALIBRATION_PASSWORD);
+            }
+            result.put(c, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started) / samples);
+        }
+        return result;
+    }
+
+    private <T> T execute(Callable<T> task) {
+        if (Thread.currentThread().getName().startsWith("password-hashing-")) {
+            // 이미 해싱 스레드에서 호출된 경우 (풀 안에서 다시 제출하면 교착될 수 있음)
+            return call(task);
+        }
+        Future<T> future;
+        try {
+            future = executor.submit(() -> call(task));
+        } catch (RejectedExecutionException e) {
+            rejectedCount.incrementAndGet();
+            log.warn("비밀번호 해싱 대기열이 가득 차 요청 거절");
+            throw new AuthenticationServiceException(BUSY_MESSAGE, e);
+        }
+        try {
+            return future.get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            rejectedCount.incrementAndGet();
+            throw new AuthenticationServiceException(BUSY_MESSAGE, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AuthenticationServiceException(BUSY_MESSAGE, e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    private <T> T call(Callable<T> task) throws RuntimeException {
+        long started = System.nanoTime();
+        try {
+            return task.call();
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        } finally {
+            totalHashNanos.addAndGet(System.nanoTime() - started);
+        }
+    }
+}
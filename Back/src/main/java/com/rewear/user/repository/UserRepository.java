@@ -1,9 +1,14 @@
 package com.rewear.user.repository;
 
 
+import com.rewear.common.enums.OrganStatus;
 import com.rewear.user.entity.User;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -27,4 +32,16 @@ public interface UserRepository extends JpaRepository<User, Long> {
     @EntityGraph(attributePaths = "roles")
     Optional<User> findByUsernameAndEmail(String username, String email);
 
+    // 관리자 회원 목록: 승인되지 않은 기관 계정 제외 + 아이디/이름/이메일/닉네임 검색 (빈 문자열이면 전체)
+    @Query(value = "SELECT u FROM User u " +
+           "WHERE NOT EXISTS (SELECT o FROM Organ o WHERE o.user = u AND o.status <> :approved) " +
+           "AND (u.username LIKE %:keyword% OR u.name LIKE %:keyword% " +
+           "OR u.email LIKE %:keyword% OR u.nickname LIKE %:keyword%)",
+           countQuery = "SELECT COUNT(u) FROM User u " +
+           "WHERE NOT EXISTS (SELECT o FROM Organ o WHERE o.user = u AND o.status <> :approved) " +
+           "AND (u.username LIKE %:keyword% OR u.name LIKE %:keyword% " +
+           "OR u.email LIKE %:keyword% OR u.nickname LIKE %:keyword%)")
+    Page<User> searchForAdmin(@Param("keyword") String keyword,
+                              @Param("approved") OrganStatus approved,
+                              Pageable pageable);
 }
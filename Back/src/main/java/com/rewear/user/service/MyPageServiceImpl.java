@@ -1,19 +1,21 @@
 package com.rewear.user.service;
 
+import com.rewear.user.details.PrincipalCache;
 import com.rewear.user.entity.MyPageInfo;
 import com.rewear.user.entity.User;
 import com.rewear.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
 
 @Service
 @RequiredArgsConstructor
 public class MyPageServiceImpl implements MyPageService {
 
     private final UserRepository userRepository;
-    private final BCryptPasswordEncoder passwordEncoder;
+    private final PasswordEncoder passwordEncoder;
+    private final PrincipalCache principalCache;
 
     @Override
     public MyPageInfo getMyPageInfo(String userId) {
@@ -75,6 +77,7 @@ public class MyPageServiceImpl implements MyPageService {
         user.setAddress(updatedInfo.getAddress());
 
         userRepository.save(user);
+        principalCache.invalidate(user.getId());
     }
 
     @Override
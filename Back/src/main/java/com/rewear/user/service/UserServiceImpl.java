@@ -3,6 +3,7 @@ package com.rewear.user.service;
 
 import com.rewear.common.enums.Role;
 import com.rewear.common.enums.WarnStatus;
+import com.rewear.user.details.PrincipalCache;
 import com.rewear.user.entity.User;
 import com.rewear.user.repository.UserRepository;
 import com.rewear.notification.repository.NotificationRepository;
@@ -11,7 +12,7 @@ import com.rewear.donation.repository.DonationRepository;
 import com.rewear.organ.repository.OrganRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.stereotype.Service;
 
@@ -26,7 +27,8 @@ import java.util.Optional;
 public class UserServiceImpl implements UserService{
 
     private final UserRepository userRepository;
-    private final BCryptPasswordEncoder passwordEncoder;
+    private final PasswordEncoder passwordEncoder;
+    private final PrincipalCache principalCache;
     private final NotificationRepository notificationRepository;
     private final PostRepository postRepository;
     private final DonationRepository donationRepository;
@@ -158,6 +160,7 @@ public class UserServiceImpl implements UserService{
             
             // 5. 사용자 삭제
             userRepository.deleteById(id);
+            principalCache.invalidate(id);
             log.info("사용자 삭제 완료 - userId: {}, username: {}", id, user.getUsername());
             
         } catch (Exception e) {
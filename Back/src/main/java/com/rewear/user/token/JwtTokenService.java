@@ -0,0 +1,202 @@
+package com.rewear.user.token;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rewear.common.enums.Role;
+import com.rewear.user.details.CustomUserDetails;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * /api/** 무상태 인증용 JWT (HS256) 발급/검증
+ * - access 토큰: 사용자 ID, 사용자명, 역할을 담아 DB 조회 없이 인증 (유효 시간 짧게)
+ * - refresh 토큰: access 토큰 재발급용, 재발급 시 계정 상태를 다시 확인하고 기존 토큰은 폐기 (회전)
+ * - 서명 키는 app.auth.jwt.secret (여러 서버가 같은 값을 사용해야 함)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class JwtTokenService {
+
+    public static final String TYPE_ACCESS = "access";
+    public static final String TYPE_REFRESH = "refresh";
+
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+    private static final String HEADER = encode("{\"alg\":\"HS256\",\"typ\":\"JWT\"}".getBytes(StandardCharsets.UTF_8));
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final ObjectMapper objectMapper;
+
+    @Value("${app.auth.jwt.enabled:false}")
+    private boolean enabled;
+
+    @Value("${app.auth.jwt.secret:}")
+    private String secret;
+
+    @Value("${app.auth.jwt.issuer:rewear}")
+    private String issuer;
+
+    @Value("${app.auth.jwt.access-ttl-minutes:15}")
+    private long accessTtlMinutes;
+
+    @Value("${app.auth.jwt.refresh-ttl-days:14}")
+    private long refreshTtlDays;
+
+    private SecretKeySpec signingKey;
+
+    /**
+     * 토큰 내용
+     * @param jti 토큰 ID (폐기 목록 키)
+     */
+    public record TokenClaims(String jti, String type, Long userId, String username, Set<Role> roles,
+                              Instant expiresAt) {
+
+        public CustomUserDetails toUserDetails() {
+            return new CustomUserDetails(userId, username, null, roles, true);
+        }
+    }
+
+    /**
+     * 발급된 access/refresh 토큰
+     */
+    public record TokenPair(String accessToken, Instant accessExpiresAt,
+                            String refreshToken, Instant refreshExpiresAt) {
+    }
+
+    @PostConstruct
+    void init() {
+        byte[] key;
+        if (secret == null || secret.isBlank()) {
+            // 서버마다 키가 달라지므로 단일 서버 개발 환경에서만 사용
+            key = new byte[32];
+            new SecureRandom().nextBytes(key);
+            if (enabled) {
+                log.warn("app.auth.jwt.secret이 설정되지 않아 임시 서명 키를 사용합니다. 재시작하거나 서버가 여러 대이면 토큰이 무효가 됩니다.");
+            }
+        } else {
+            key = secret.getBytes(StandardCharsets.UTF_8);
+            if (key.length < 32) {
+                throw new IllegalStateException("app.auth.jwt.secret은 32바이트 이상이어야 합니다.");
+            }
+        }
+        signingKey = new SecretKeySpec(key, HMAC_ALGORITHM);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public Duration getAccessTtl() {
+        return Duration.ofMinutes(accessTtlMinutes);
+    }
+
+    public Duration getRefreshTtl() {
+        return Duration.ofDays(refreshTtlDays);
+    }
+
+    public TokenPair issue(CustomUserDetails user) {
+        Instant now = Instant.now();
+        Instant accessExpiresAt = now.plus(getAccessTtl());
+        Instant refreshExpiresAt = now.plus(getRefreshTtl());
+        return new TokenPair(
+                sign(user, TYPE_ACCESS, now, accessExpiresAt), accessExpiresAt,
+                sign(user, TYPE_REFRESH, now, refreshExpiresAt), refreshExpiresAt);
+    }
+
+    /**
+     * 서명, 발급자, 만료 시각, 토큰 종류 확인
+     * @return 유효하지 않으면 empty (폐기 여부는 TokenRevocationList에서 확인)
+     */
+    public Optional<TokenClaims> verify(String token, String expectedType) {
+        if (token == null || token.isEmpty()) {
+            return Optional.empty();
+        }
+        int firstDot = token.indexOf('.');
+        int lastDot = token.lastIndexOf('.');
+        if (firstDot <= 0 || lastDot == firstDot) {
+            return Optional.empty();
+        }
+        try {
+            String signingInput = token.substring(0, lastDot);
+            byte[] expected = mac(signingInput);
+            byte[] actual = DECODER.decode(token.substring(lastDot + 1));
+            if (!MessageDigest.isEqual(expected, actual)
+                    || !HEADER.equals(token.substring(0, firstDot))) {
+                return Optional.empty();
+            }
+            Map<String, Object> payload = objectMapper.readValue(
+                    DECODER.decode(token.substring(firstDot + 1, lastDot)), new TypeReference<>() { });
+            Instant expiresAt = Instant.ofEpochSecond(((Number) payload.get("exp")).longValue());
+            if (!issuer.equals(payload.get("iss")) || !expectedType.equals(payload.get("typ"))
+                    || !expiresAt.isAfter(Instant.now())) {
+                return Optional.empty();
+            }
+            Set<Role> roles = EnumSet.noneOf(Role.class);
+            Object roleNames = payload.get("roles");
+            if (roleNames instanceof List<?> names) {
+                for (Object name : names) {
+                    roles.add(Role.valueOf(String.valueOf(name)));
+                }
+            }
+            return Optional.of(new TokenClaims(
+                    (String) payload.get("jti"),
+                    expectedType,
+                    ((Number) payload.get("uid")).longValue(),
+                    (String) payload.get("sub"),
+                    roles,
+                    expiresAt));
+        } catch (Exception e) {
+            log.debug("토큰 검증 실패: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private String sign(CustomUserDetails user, String type, Instant issuedAt, Instant expiresAt) {
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("iss", issuer);
+        payload.put("sub", user.getUsername());
+        payload.put("uid", user.getId());
+        payload.put("roles", user.getRoles().stream().map(Role::name).toList());
+        payload.put("typ", type);
+        payload.put("jti", UUID.randomUUID().toString());
+        payload.put("iat", issuedAt.getEpochSecond());
+        payload.put("exp", expiresAt.getEpochSecond());
+        try {
+            String signingInput = HEADER + "." + encode(objectMapper.writeValueAsBytes(payload));
+            return signingInput + "." + encode(mac(signingInput));
+        } catch (Exception e) {
+            throw new IllegalStateException("토큰을 발급할 수 없습니다.", e);
+        }
+    }
+
+    private byte[] mac(String signingInput) throws GeneralSecurityException {
+        // Mac은 스레드 안전하지 않으므로 호출마다 생성
+        Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+        mac.init(signingKey);
+        return mac.doFinal(signingInput.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    private static String encode(byte[] bytes) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+}
@@ -0,0 +1,82 @@
+package com.rewear.user.token;
+
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 토큰 쿠키 (HttpOnly - 브라우저 스크립트에서 읽을 수 없음)
+ * - access 토큰은 /api 경로에만, refresh 토큰은 재발급/폐기 경로에만 전송되도록 Path 제한
+ * - 프론트엔드의 기존 fetch(credentials: 'include') 호출을 그대로 사용할 수 있음
+ */
+@Component
+public class TokenCookies {
+
+    public static final String ACCESS_COOKIE = "REWEAR_AT";
+    public static final String REFRESH_COOKIE = "REWEAR_RT";
+    private static final String ACCESS_PATH = "/api";
+    private static final String REFRESH_PATH = "/api/auth/token";
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    @Value("${server.servlet.session.cookie.secure:false}")
+    private boolean secure;
+
+    @Value("${server.servlet.session.cookie.same-site:lax}")
+    private String sameSite;
+
+    public void write(HttpServletResponse response, JwtTokenService.TokenPair tokens,
+                      Duration accessTtl, Duration refreshTtl) {
+        add(response, ACCESS_COOKIE, tokens.accessToken(), ACCESS_PATH, accessTtl);
+        add(response, REFRESH_COOKIE, tokens.refreshToken(), REFRESH_PATH, refreshTtl);
+    }
+
+    public void clear(HttpServletResponse response) {
+        add(response, ACCESS_COOKIE, "", ACCESS_PATH, Duration.ZERO);
+        add(response, REFRESH_COOKIE, "", REFRESH_PATH, Duration.ZERO);
+    }
+
+    /**
+     * Authorization: Bearer 헤더 또는 access 토큰 쿠키
+     */
+    public String resolveAccessToken(HttpServletRequest request) {
+        String authorization = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (authorization != null && authorization.startsWith(BEARER_PREFIX)) {
+            return authorization.substring(BEARER_PREFIX.length()).trim();
+        }
+        return cookie(request, ACCESS_COOKIE);
+    }
+
+    public String resolveRefreshToken(HttpServletRequest request) {
+        return cookie(request, REFRESH_COOKIE);
+    }
+
+    private String cookie(HttpServletRequest request, String name) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return null;
+        }
+        for (Cookie cookie : cookies) {
+            if (name.equals(cookie.getName()) && !cookie.getValue().isEmpty()) {
+                return cookie.getValue();
+            }
+        }
+        return null;
+    }
+
+    private void add(HttpServletResponse response, String name, String value, String path, Duration maxAge) {
+        ResponseCookie cookie = ResponseCookie.from(name, value)
+                .httpOnly(true)
+                .secure(secure)
+                .sameSite(sameSite)
+                .path(path)
+                .maxAge(maxAge)
+                .build();
+        response.addHeader(HttpHeaders.SET_COOKIE, cookie.toString());
+    }
+}
@@ -0,0 +1,108 @@
+package com.rewear.user.token;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 폐기된 JWT 목록 (revoked_tokens 테이블 + 메모리 캐시)
+ * - 요청마다 DB를 조회하지 않도록 isRevoked()는 메모리 캐시만 확인
+ * - 다른 서버에서 폐기한 토큰은 주기적으로 마지막으로 읽은 ID 이후 행만 가져와 반영
+ *   (반영 전까지 최대 refresh-ms 동안 허용될 수 있으므로 access 토큰 유효 시간을 짧게 유지)
+ * - 만료 시각이 지난 토큰은 서명 검증에서 거부되므로 캐시와 테이블에서 정리
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TokenRevocationList {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO revoked_tokens (jti, expires_at, revoked_at) VALUES (?, ?, ?)";
+    private static final String SELECT_SINCE_SQL =
+            "SELECT id, jti, expires_at FROM revoked_tokens WHERE id > ? AND expires_at > ? ORDER BY id";
+    private static final String DELETE_EXPIRED_SQL =
+            "DELETE FROM revoked_tokens WHERE expires_at <= ?";
+
+    // 동시에 INSERT된 행은 ID 순서와 커밋 순서가 다를 수 있어 마지막 ID 이전 일부 구간을 다시 읽음
+    private static final long REREAD_OVERLAP = 100;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final JwtTokenService jwtTokenService;
+
+    // jti → 토큰 만료 시각
+    private final Map<String, Instant> revoked = new ConcurrentHashMap<>();
+    private volatile long lastSeenId;
+
+    private final AtomicLong revokedCount = new AtomicLong();
+    private final AtomicLong rejectedCount = new AtomicLong();
+
+    /**
+     * 토큰 폐기 (이미 폐기된 토큰이면 무시)
+     */
+    public void revoke(String jti, Instant expiresAt) {
+        if (jti == null || !expiresAt.isAfter(Instant.now())) {
+            return;
+        }
+        if (revoked.putIfAbsent(jti, expiresAt) != null) {
+            return;
+        }
+        try {
+            jdbcTemplate.update(INSERT_SQL, jti, Timestamp.from(expiresAt), Timestamp.from(Instant.now()));
+            revokedCount.incrementAndGet();
+        } catch (DuplicateKeyException e) {
+            // 다른 요청이 먼저 폐기
+        }
+    }
+
+    public boolean isRevoked(String jti) {
+        boolean result = revoked.containsKey(jti);
+        if (result) {
+            rejectedCount.incrementAndGet();
+        }
+        return result;
+    }
+
+    /**
+     * 다른 서버에서 폐기한 토큰 반영, 만료된 항목 정리 (기동 직후 전체 적재)
+     */
+    @Scheduled(fixedDelayString = "${app.auth.jwt.revocation-refresh-ms:10000}")
+    public void refresh() {
+        if (!jwtTokenService.isEnabled()) {
+            return;
+        }
+        try {
+            Instant now = Instant.now();
+            long[] maxId = {lastSeenId};
+            jdbcTemplate.query(SELECT_SINCE_SQL, (RowCallbackHandler) rs -> {
+                maxId[0] = Math.max(maxId[0], rs.getLong(1));
+                revoked.putIfAbsent(rs.getString(2), rs.getTimestamp(3).toInstant());
+            }, Math.max(0, lastSeenId - REREAD_OVERLAP), Timestamp.from(now));
+            lastSeenId = maxId[0];
+
+            revoked.values().removeIf(expiresAt -> !expiresAt.isAfter(now));
+            jdbcTemplate.update(DELETE_EXPIRED_SQL, Timestamp.from(now));
+        } catch (Exception e) {
+            log.warn("토큰 폐기 목록 갱신 실패: {}", e.getMessage());
+        }
+    }
+
+    public Map<String, Object> getMetrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("cached", revoked.size());
+        metrics.put("revoked", revokedCount.get());
+        metrics.put("rejected", rejectedCount.get());
+        metrics.put("lastSeenId", lastSeenId);
+        return metrics;
+    }
+}
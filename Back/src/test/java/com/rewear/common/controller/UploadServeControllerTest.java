@@ -0,0 +1,47 @@
+package com.rewear.common.controller;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UploadServeControllerTest {
+
+    private static final long LENGTH = 1_000;
+
+    @Test
+    void parsesClosedRange() {
+        assertThat(UploadServeController.parseRange("bytes=0-99", LENGTH)).containsExactly(0, 99);
+        assertThat(UploadServeController.parseRange("bytes= 100-199 ", LENGTH)).containsExactly(100, 199);
+    }
+
+    @Test
+    void openEndedRangeRunsToLastByte() {
+        assertThat(UploadServeController.parseRange("bytes=900-", LENGTH)).containsExactly(900, 999);
+    }
+
+    @Test
+    void endBeyondLengthIsClamped() {
+        assertThat(UploadServeController.parseRange("bytes=500-5000", LENGTH)).containsExactly(500, 999);
+    }
+
+    @Test
+    void suffixRangeReturnsLastBytes() {
+        assertThat(UploadServeController.parseRange("bytes=-100", LENGTH)).containsExactly(900, 999);
+        assertThat(UploadServeController.parseRange("bytes=-5000", LENGTH)).containsExactly(0, 999);
+    }
+
+    @Test
+    void unsatisfiableRangeReturnsNull() {
+        assertThat(UploadServeController.parseRange("bytes=1000-", LENGTH)).isNull();
+        assertThat(UploadServeController.parseRange("bytes=500-100", LENGTH)).isNull();
+        assertThat(UploadServeController.parseRange("bytes=-0", LENGTH)).isNull();
+    }
+
+    @Test
+    void unsupportedOrMalformedRangeServesWholeFile() {
+        assertThat(UploadServeController.parseRange("items=0-10", LENGTH)).isEmpty();
+        assertThat(UploadServeController.parseRange("bytes=0-10,20-30", LENGTH)).isEmpty();
+        assertThat(UploadServeController.parseRange("bytes=10", LENGTH)).isEmpty();
+        assertThat(UploadServeController.parseRange("bytes=a-b", LENGTH)).isEmpty();
+    }
+}
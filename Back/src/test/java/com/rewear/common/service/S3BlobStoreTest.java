@@ -0,0 +1,181 @@
+package com.rewear.common.service;
+
+import com.rewear.common.controller.UploadServeController;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * S3BlobStore를 JDK HttpServer로 만든 로컬 S3 호환 서버에 연결하여
+ * 업로드 PUT, 업로드 실패 시 처리, 서명된 다운로드 리다이렉트 URL을 확인
+ */
+class S3BlobStoreTest {
+
+    private static final byte[] CONTENT = "not really a png".getBytes(StandardCharsets.UTF_8);
+
+    private record RecordedRequest(String method, String path, String contentType, String authorization, byte[] body) {
+    }
+
+    @TempDir
+    Path uploadDir;
+
+    @TempDir
+    Path tempDir;
+
+    private final List<RecordedRequest> requests = new CopyOnWriteArrayList<>();
+    private volatile int responseStatus = 200;
+
+    private HttpServer server;
+    private S3BlobStore blobStore;
+    private UploadFileIndex uploadFileIndex;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/", exchange -> {
+            byte[] body = exchange.getRequestBody().readAllBytes();
+            requests.add(new RecordedRequest(exchange.getRequestMethod(), exchange.getRequestURI().getRawPath(),
+                    exchange.getRequestHeaders().getFirst("Content-Type"),
+                    exchange.getRequestHeaders().getFirst("Authorization"), body));
+            exchange.sendResponseHeaders(responseStatus, -1);
+            exchange.close();
+        });
+        server.start();
+
+        blobStore = new S3BlobStore();
+        ReflectionTestUtils.setField(blobStore, "endpoint", "http://127.0.0.1:" + server.getAddress().getPort());
+        ReflectionTestUtils.setField(blobStore, "publicEndpoint", "https://files.example.com");
+        ReflectionTestUtils.setField(blobStore, "region", "us-east-1");
+        ReflectionTestUtils.setField(blobStore, "bucket", "rewear");
+        ReflectionTestUtils.setField(blobStore, "accessKey", "test-access");
+        ReflectionTestUtils.setField(blobStore, "secretKey", "test-secret");
+        ReflectionTestUtils.setField(blobStore, "prefix", "uploads/");
+        ReflectionTestUtils.setField(blobStore, "pathStyle", true);
+        ReflectionTestUtils.setField(blobStore, "timeoutSeconds", 5L);
+        blobStore.init();
+
+        uploadFileIndex = mock(UploadFileIndex.class);
+    }
+
+    @AfterEach
+    void stopServer() {
+        server.stop(0);
+    }
+
+    @Test
+    void putSendsSignedObjectToBucketPath() throws IOException {
+        Path file = Files.write(tempDir.resolve("source.png"), CONTENT);
+
+        blobStore.put("a.png", file, "image/png");
+
+        assertThat(requests).hasSize(1);
+        RecordedRequest request = requests.get(0);
+        assertThat(request.method()).isEqualTo("PUT");
+        assertThat(request.path()).isEqualTo("/rewear/uploads/a.png");
+        assertThat(request.contentType()).isEqualTo("image/png");
+        assertThat(request.authorization()).startsWith("AWS4-HMAC-SHA256 Credential=test-access/");
+        assertThat(request.body()).isEqualTo(CONTENT);
+    }
+
+    @Test
+    void storeUsesContentTypeOfStoredExtensionInsteadOfRequestHeader() throws IOException {
+        UploadStorageService storage = uploadStorageService();
+
+        String png = storage.store(new MockMultipartFile("file", "cat.png", "image/svg+xml", CONTENT), "");
+        String svg = storage.store(new MockMultipartFile("file", "cat.svg", "image/svg+xml", CONTENT), "");
+
+        assertThat(png).endsWith(".png");
+        assertThat(svg).doesNotContain(".");
+        assertThat(requests).extracting(RecordedRequest::contentType)
+                .containsExactly("image/png", "application/octet-stream");
+        verify(uploadFileIndex).add(png);
+        verify(uploadFileIndex).add(svg);
+    }
+
+    @Test
+    void storeDiscardsLocalFileWhenPutFails() throws IOException {
+        responseStatus = 503;
+        UploadStorageService storage = uploadStorageService();
+
+        assertThatThrownBy(() -> storage.store(new MockMultipartFile("file", "cat.png", "image/png", CONTENT), ""))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("503");
+
+        assertThat(requests).extracting(RecordedRequest::method).containsExactly("PUT");
+        try (Stream<Path> files = Files.list(uploadDir)) {
+            assertThat(files).isEmpty();
+        }
+        verify(uploadFileIndex, never()).add(anyString());
+    }
+
+    @Test
+    void redirectSignsResponseTypeForRasterImages() throws IOException {
+        MockHttpServletResponse response = getUpload("a.png");
+
+        assertThat(response.getStatus()).isEqualTo(302);
+        assertThat(response.getRedirectedUrl())
+                .startsWith("https://files.example.com/rewear/uploads/a.png?")
+                .contains("response-content-type=image%2Fpng")
+                .doesNotContain("response-content-disposition")
+                .contains("X-Amz-Signature=");
+        assertThat(requests).isEmpty();
+    }
+
+    @Test
+    void redirectServesOtherTypesAsAttachment() throws IOException {
+        MockHttpServletResponse response = getUpload("b.svg");
+
+        assertThat(response.getRedirectedUrl())
+                .contains("response-content-type=application%2Foctet-stream")
+                .contains("response-content-disposition=attachment%3B%20filename%3D%22b.svg%22");
+    }
+
+    private UploadStorageService uploadStorageService() throws IOException {
+        ContentAddressedStore contentStore = mock(ContentAddressedStore.class);
+        when(contentStore.newTempFile()).thenAnswer(invocation -> Files.createTempFile(tempDir, "upload-", ".tmp"));
+        // 업로드 디렉토리에 파일명으로 등록하는 부분만 흉내 (해시 blob 링크 대신 이동)
+        when(contentStore.storeFile(any(Path.class), anyString())).thenAnswer(invocation -> {
+            Path temp = invocation.getArgument(0);
+            Files.move(temp, uploadDir.resolve(invocation.<String>getArgument(1)));
+            return new ContentAddressedStore.StoredBlob("sha256", false);
+        });
+        UploadStorageService storage = new UploadStorageService(
+                uploadFileIndex, mock(ImageDerivativeService.class), contentStore, blobStore);
+        ReflectionTestUtils.setField(storage, "uploadDir", uploadDir.toString());
+        return storage;
+    }
+
+    private MockHttpServletResponse getUpload(String filename) throws IOException {
+        UploadServeController controller = new UploadServeController(mock(ImageDerivativeService.class), blobStore);
+        ReflectionTestUtils.setField(controller, "uploadDir", uploadDir.toString());
+        ReflectionTestUtils.setField(controller, "presignTtlMinutes", 10L);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        controller.getFile(filename, new MockHttpServletRequest("GET", "/uploads/" + filename), response);
+        return response;
+    }
+}
@@ -0,0 +1,114 @@
+package com.rewear.donation.state;
+
+import com.rewear.common.enums.AdminDecision;
+import com.rewear.common.enums.DonationStatus;
+import com.rewear.donation.entity.Donation;
+import com.rewear.donation.event.DonationStateChangedEvent;
+import com.rewear.donation.repository.DonationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class DonationStateMachineTest {
+
+    private static final Long DONATION_ID = 1L;
+
+    @Mock
+    private DonationRepository donationRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private DonationStateMachine stateMachine;
+
+    @BeforeEach
+    void setUp() {
+        stateMachine = new DonationStateMachine(donationRepository, eventPublisher, transactionTemplate);
+        ReflectionTestUtils.setField(stateMachine, "maxAttempts", 3);
+        ReflectionTestUtils.setField(stateMachine, "retryBackoffMs", 0L);
+        // 콜백을 바로 실행 (트랜잭션 없이)
+        when(transactionTemplate.execute(any())).thenAnswer(
+                invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    }
+
+    @Test
+    void conflictIsRetriedWithFreshState() {
+        when(donationRepository.findForTransition(DONATION_ID))
+                .thenReturn(Optional.of(donation(DonationStatus.PENDING, AdminDecision.PENDING)))
+                .thenReturn(Optional.of(donation(DonationStatus.PENDING, AdminDecision.PENDING)));
+        when(donationRepository.saveAndFlush(any(Donation.class)))
+                .thenThrow(new ObjectOptimisticLockingFailureException(Donation.class, DONATION_ID))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+
+        Donation result = stateMachine.apply(DONATION_ID, DonationTransition.ADMIN_APPROVE);
+
+        assertThat(result.getStatus()).isEqualTo(DonationStatus.IN_PROGRESS);
+        assertThat(result.getAdminDecision()).isEqualTo(AdminDecision.APPROVED);
+        verify(donationRepository, times(2)).findForTransition(DONATION_ID);
+        // 실패한 시도는 이벤트를 발행하지 않음
+        ArgumentCaptor<DonationStateChangedEvent> event = ArgumentCaptor.forClass(DonationStateChangedEvent.class);
+        verify(eventPublisher, times(1)).publishEvent(event.capture());
+        assertThat(event.getValue().type()).isEqualTo(DonationStateChangedEvent.Type.ADMIN_APPROVED);
+        assertThat(stateMachine.getMetrics()).containsEntry("conflicts", 1L).containsEntry("applied", 1L);
+    }
+
+    @Test
+    void retryRevalidatesAgainstLatestState() {
+        // 첫 시도는 충돌, 그 사이 다른 요청이 기부를 완료 처리
+        when(donationRepository.findForTransition(DONATION_ID))
+                .thenReturn(Optional.of(donation(DonationStatus.IN_PROGRESS, AdminDecision.APPROVED)))
+                .thenReturn(Optional.of(donation(DonationStatus.COMPLETED, AdminDecision.APPROVED)));
+        when(donationRepository.saveAndFlush(any(Donation.class)))
+                .thenThrow(new ObjectOptimisticLockingFailureException(Donation.class, DONATION_ID));
+
+        assertThatThrownBy(() -> stateMachine.apply(DONATION_ID, DonationTransition.ADMIN_REJECT))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage(DonationTransition.ADMIN_REJECT.getRejectMessage());
+        verify(donationRepository, times(1)).saveAndFlush(any(Donation.class));
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    @Test
+    void givesUpAfterMaxAttempts() {
+        when(donationRepository.findForTransition(DONATION_ID))
+                .thenAnswer(invocation -> Optional.of(donation(DonationStatus.PENDING, AdminDecision.PENDING)));
+        when(donationRepository.saveAndFlush(any(Donation.class)))
+                .thenThrow(new ObjectOptimisticLockingFailureException(Donation.class, DONATION_ID));
+
+        assertThatThrownBy(() -> stateMachine.apply(DONATION_ID, DonationTransition.ADMIN_APPROVE))
+                .isInstanceOf(IllegalStateException.class)
+                .hasCauseInstanceOf(ObjectOptimisticLockingFailureException.class);
+        verify(donationRepository, times(3)).saveAndFlush(any(Donation.class));
+        assertThat(stateMachine.getMetrics()).containsEntry("conflicts", 3L);
+    }
+
+    private static Donation donation(DonationStatus status, AdminDecision decision) {
+        Donation donation = new Donation();
+        donation.setId(DONATION_ID);
+        donation.setStatus(status);
+        donation.setAdminDecision(decision);
+        return donation;
+    }
+}
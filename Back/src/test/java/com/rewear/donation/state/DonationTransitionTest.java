@@ -0,0 +1,57 @@
+package com.rewear.donation.state;
+
+import com.rewear.common.enums.AdminDecision;
+import com.rewear.common.enums.DonationStatus;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DonationTransitionTest {
+
+    @ParameterizedTest
+    @EnumSource(AdminDecision.class)
+    void completedDonationAllowsNoTransition(AdminDecision decision) {
+        for (DonationTransition transition : DonationTransition.values()) {
+            assertThat(transition.allows(DonationStatus.COMPLETED, decision))
+                    .as("%s from COMPLETED/%s", transition, decision)
+                    .isFalse();
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(AdminDecision.class)
+    void cancelledDonationCanOnlyBeReopenedOrCancelledAgain(AdminDecision decision) {
+        for (DonationTransition transition : DonationTransition.values()) {
+            assertThat(transition.allows(DonationStatus.CANCELLED, decision))
+                    .as("%s from CANCELLED/%s", transition, decision)
+                    .isEqualTo(transition == DonationTransition.RESET_TO_PENDING
+                            || transition == DonationTransition.CANCEL);
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = DonationStatus.class, names = {"PENDING", "IN_PROGRESS", "SHIPPED"})
+    void adminTransitionsAllowedWhileActive(DonationStatus status) {
+        for (AdminDecision decision : AdminDecision.values()) {
+            assertThat(DonationTransition.ADMIN_APPROVE.allows(status, decision)).isTrue();
+            assertThat(DonationTransition.ADMIN_REJECT.allows(status, decision)).isTrue();
+            assertThat(DonationTransition.RESET_TO_PENDING.allows(status, decision)).isTrue();
+            assertThat(DonationTransition.DELIVERY_COMPLETE.allows(status, decision)).isTrue();
+        }
+    }
+
+    @Test
+    void organTransitionsRejectAdminRejectedDonation() {
+        assertThat(DonationTransition.ORGAN_MATCH.allows(DonationStatus.PENDING, AdminDecision.REJECTED)).isFalse();
+        assertThat(DonationTransition.ORGAN_APPROVE.allows(DonationStatus.IN_PROGRESS, AdminDecision.REJECTED)).isFalse();
+        assertThat(DonationTransition.ORGAN_REJECT.allows(DonationStatus.IN_PROGRESS, AdminDecision.REJECTED)).isFalse();
+    }
+
+    @Test
+    void organTransitionsRejectShippedDonation() {
+        assertThat(DonationTransition.ORGAN_MATCH.allows(DonationStatus.SHIPPED, AdminDecision.APPROVED)).isFalse();
+        assertThat(DonationTransition.ORGAN_APPROVE.allows(DonationStatus.SHIPPED, AdminDecision.APPROVED)).isFalse();
+    }
+}
@@ -0,0 +1,126 @@
+package com.rewear.user.login;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class LoginAttemptLimiterTest {
+
+    // 구간 1초 × 10 = 10초 윈도우, 구간 경계에서 시작
+    private static final long BUCKET_MS = 1_000;
+    private static final long START = 1_700_000_000_000L;
+
+    @Nested
+    class SlidingWindowTest {
+
+        private final LoginAttemptLimiter.SlidingWindow window = new LoginAttemptLimiter.SlidingWindow(BUCKET_MS);
+
+        @Test
+        void countsFailuresInsideWindow() {
+            window.add(START);
+            window.add(START + 500);
+            window.add(START + 9_999);
+
+            assertThat(window.count(START + 9_999)).isEqualTo(3);
+        }
+
+        @Test
+        void dropsOldestBucketWhenWindowSlides() {
+            window.add(START);
+            window.add(START + 1_000);
+
+            // 첫 구간은 START + 10초에 빠짐
+            assertThat(window.count(START + 9_999)).isEqualTo(2);
+            assertThat(window.count(START + 10_000)).isEqualTo(1);
+            assertThat(window.count(START + 11_000)).isZero();
+        }
+
+        @Test
+        void reusedSlotStartsFromZero() {
+            window.add(START);
+            window.add(START);
+            // 같은 칸 (10구간 뒤) 재사용 시 이전 값 제거
+            window.add(START + 10_000);
+
+            assertThat(window.count(START + 10_000)).isEqualTo(1);
+        }
+
+        @Test
+        void millisUntilBelowWaitsForEnoughBucketsToExpire() {
+            window.add(START);
+            window.add(START + 2_000);
+            window.add(START + 2_000);
+            window.add(START + 5_000);
+
+            long now = START + 6_000;
+            assertThat(window.millisUntilBelow(5, now)).isZero();
+            // 4 → 3: START 구간이 빠지는 START + 10초
+            assertThat(window.millisUntilBelow(4, now)).isEqualTo(4_000);
+            // 4 → 1: START + 2초 구간까지 빠지는 START + 12초
+            assertThat(window.millisUntilBelow(2, now)).isEqualTo(6_000);
+            // 모두 빠지는 START + 15초
+            assertThat(window.millisUntilBelow(1, now)).isEqualTo(9_000);
+        }
+
+        @Test
+        void idleAfterFullWindowWithoutUpdates() {
+            window.add(START);
+
+            assertThat(window.isIdle(START + 9_999)).isFalse();
+            assertThat(window.isIdle(START + 10_000)).isTrue();
+        }
+    }
+
+    @Nested
+    class BlockedSecondsTest {
+
+        private LoginAttemptLimiter limiter;
+
+        @BeforeEach
+        void setUp() {
+            limiter = new LoginAttemptLimiter(mock(JdbcTemplate.class));
+            ReflectionTestUtils.setField(limiter, "windowMs", 600_000L);
+            ReflectionTestUtils.setField(limiter, "usernameMaxFailures", 3);
+            ReflectionTestUtils.setField(limiter, "ipMaxFailures", 5);
+            ReflectionTestUtils.setField(limiter, "lockMs", 300_000L);
+            ReflectionTestUtils.setField(limiter, "maxKeys", 1_000);
+        }
+
+        @Test
+        void locksUsernameAfterMaxFailures() {
+            limiter.recordFailure("Donor", "10.0.0.1");
+            limiter.recordFailure("donor", "10.0.0.1");
+            assertThat(limiter.blockedSeconds("donor", "10.0.0.2")).isZero();
+
+            limiter.recordFailure("donor ", "10.0.0.1");
+
+            assertThat(limiter.blockedSeconds("DONOR", "10.0.0.2")).isBetween(299L, 300L);
+        }
+
+        @Test
+        void successClearsUsernameLock() {
+            for (int i = 0; i < 3; i++) {
+                limiter.recordFailure("donor", null);
+            }
+            limiter.recordSuccess("donor");
+
+            assertThat(limiter.blockedSeconds("donor", null)).isZero();
+        }
+
+        @Test
+        void ipRetryAfterCoversRemainingWindow() {
+            for (int i = 0; i < 5; i++) {
+                limiter.recordFailure("user" + i, "10.0.0.1");
+            }
+
+            // 실패가 윈도우(600초)에서 빠질 때까지 차단 (구간 1개 길이인 60초가 아님)
+            assertThat(limiter.blockedSeconds(null, "10.0.0.1")).isGreaterThan(60L).isLessThanOrEqualTo(600L);
+            assertThat(limiter.blockedSeconds(null, "10.0.0.2")).isZero();
+        }
+    }
+}
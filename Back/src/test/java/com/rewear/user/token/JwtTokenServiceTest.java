@@ -0,0 +1,121 @@
+package com.rewear.user.token;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rewear.common.enums.Role;
+import com.rewear.user.details.CustomUserDetails;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.EnumSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JwtTokenServiceTest {
+
+    private static final String SECRET = "test-secret-that-is-at-least-32-bytes-long";
+    private static final CustomUserDetails USER =
+            new CustomUserDetails(7L, "donor", null, EnumSet.of(Role.USER), true);
+
+    private JwtTokenService service;
+
+    @BeforeEach
+    void setUp() {
+        service = newService(15);
+    }
+
+    @Test
+    void acceptsIssuedToken() {
+        JwtTokenService.TokenPair pair = service.issue(USER);
+
+        assertThat(service.verify(pair.accessToken(), JwtTokenService.TYPE_ACCESS))
+                .hasValueSatisfying(claims -> {
+                    assertThat(claims.userId()).isEqualTo(7L);
+                    assertThat(claims.username()).isEqualTo("donor");
+                    assertThat(claims.roles()).containsExactly(Role.USER);
+                });
+    }
+
+    @Test
+    void rejectsTamperedSignature() {
+        String token = service.issue(USER).accessToken();
+        int signatureStart = token.lastIndexOf('.') + 1;
+        char first = token.charAt(signatureStart);
+        String tampered = token.substring(0, signatureStart) + (first == 'A' ? 'B' : 'A')
+                + token.substring(signatureStart + 1);
+
+        assertThat(service.verify(tampered, JwtTokenService.TYPE_ACCESS)).isEmpty();
+    }
+
+    @Test
+    void rejectsTamperedPayload() {
+        String token = service.issue(USER).accessToken();
+        String[] parts = token.split("\\.");
+        String payload = new String(Base64.getUrlDecoder().decode(parts[1]), StandardCharsets.UTF_8)
+                .replace("\"USER\"", "\"ADMIN\"");
+        String tampered = parts[0] + "." + encode(payload) + "." + parts[2];
+
+        assertThat(service.verify(tampered, JwtTokenService.TYPE_ACCESS)).isEmpty();
+    }
+
+    @Test
+    void rejectsWrongTokenType() {
+        JwtTokenService.TokenPair pair = service.issue(USER);
+
+        assertThat(service.verify(pair.refreshToken(), JwtTokenService.TYPE_ACCESS)).isEmpty();
+        assertThat(service.verify(pair.accessToken(), JwtTokenService.TYPE_REFRESH)).isEmpty();
+    }
+
+    @Test
+    void rejectsExpiredToken() {
+        JwtTokenService expiring = newService(-1);
+        String token = expiring.issue(USER).accessToken();
+
+        assertThat(expiring.verify(token, JwtTokenService.TYPE_ACCESS)).isEmpty();
+    }
+
+    @Test
+    void rejectsOtherHeaderEvenWithValidSignature() throws Exception {
+        String token = service.issue(USER).accessToken();
+        String payload = token.split("\\.")[1];
+        // alg 변경 (서명은 같은 키로 올바르게 계산)
+        String signingInput = encode("{\"alg\":\"none\",\"typ\":\"JWT\"}") + "." + payload;
+        String forged = signingInput + "." + hmac(signingInput);
+
+        assertThat(service.verify(forged, JwtTokenService.TYPE_ACCESS)).isEmpty();
+    }
+
+    @Test
+    void rejectsMalformedToken() {
+        assertThat(service.verify(null, JwtTokenService.TYPE_ACCESS)).isEmpty();
+        assertThat(service.verify("", JwtTokenService.TYPE_ACCESS)).isEmpty();
+        assertThat(service.verify("abc", JwtTokenService.TYPE_ACCESS)).isEmpty();
+        assertThat(service.verify("a.b", JwtTokenService.TYPE_ACCESS)).isEmpty();
+    }
+
+    private static JwtTokenService newService(long accessTtlMinutes) {
+        JwtTokenService service = new JwtTokenService(new ObjectMapper());
+        ReflectionTestUtils.setField(service, "enabled", true);
+        ReflectionTestUtils.setField(service, "secret", SECRET);
+        ReflectionTestUtils.setField(service, "issuer", "rewear");
+        ReflectionTestUtils.setField(service, "accessTtlMinutes", accessTtlMinutes);
+        ReflectionTestUtils.setField(service, "refreshTtlDays", 14L);
+        ReflectionTestUtils.invokeMethod(service, "init");
+        return service;
+    }
+
+    private static String hmac(String signingInput) throws Exception {
+        Mac mac = Mac.getInstance("HmacSHA256");
+        mac.init(new SecretKeySpec(SECRET.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(mac.doFinal(signingInput.getBytes(StandardCharsets.US_ASCII)));
+    }
+
+    private static String encode(String json) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -51,6 +51,7 @@ import './styles/category-menu.css'
 import './styles/donation-status.css'
 import { ADMIN_FAQ_SEED } from './constants/adminFaqData'
 import { formatPhoneNumber, stripPhoneNumber } from './utils/phone'
+import { authFetch, refreshTokens, revokeTokens } from './utils/authFetch'
 
 const INITIAL_ACCOUNTS = {}
 const INITIAL_PROFILES = {}
@@ -69,6 +70,9 @@ const PENDING_ORGS_KEY = 'rewearPendingOrganizations'
 const DONATIONS_KEY = 'rewearDonations'
 const BOARD_POSTS_KEY = 'rewearBoardPosts'
 const BOARD_NOTICES_KEY = 'rewearBoardNotices'
+// 알림 스트림이 오류 응답으로 닫혔을 때 다시 연결하기까지의 간격 (실패할 때마다 두 배, 최대값까지)
+const SSE_RETRY_MIN_MS = 1000
+const SSE_RETRY_MAX_MS = 60000
 
 const hasSeenLanding = () => {
   if (typeof window === 'undefined') return false
@@ -298,6 +302,49 @@ export default function App() {
     }))
   }, [])
 
+  // 로그인 상태에서 실시간 알림 구독 (SSE) - 읽지 않은 알림 개수를 서버에서 바로 받음
+  // 네트워크 끊김은 브라우저가 알아서 재연결하지만, 401 등 오류 응답을 받으면 EventSource가 닫히고 다시 시도하지 않으므로
+  // (토큰 모드에서 access 토큰이 스트림 유지 시간보다 먼저 만료된 경우) 토큰을 재발급한 뒤 새로 연결
+  useEffect(() => {
+    if (typeof window === 'undefined' || !currentUser || typeof EventSource === 'undefined') return
+    let source = null
+    let retryTimer = null
+    let retryDelay = SSE_RETRY_MIN_MS
+    let stopped = false
+
+    const connect = () => {
+      source = new EventSource('/api/notifications/stream', { withCredentials: true })
+      source.addEventListener('open', () => {
+        retryDelay = SSE_RETRY_MIN_MS
+      })
+      source.addEventListener('unread-count', event => {
+        try {
+          const data = JSON.parse(event.data)
+          setUnreadCount(data.unreadCount || 0)
+        } catch (error) {
+          console.error('Unread count event error:', error)
+        }
+      })
+      source.addEventListener('error', () => {
+        if (source.readyState !== EventSource.CLOSED || stopped) return
+        source.close()
+        // 재발급에 실패해도(세션 모드, 서버 재시작 등) 간격을 늘려 가며 다시 연결
+        retryTimer = setTimeout(async () => {
+          await refreshTokens()
+          if (!stopped) connect()
+        }, retryDelay)
+        retryDelay = Math.min(retryDelay * 2, SSE_RETRY_MAX_MS)
+      })
+    }
+
+    connect()
+    return () => {
+      stopped = true
+      clearTimeout(retryTimer)
+      if (source) source.close()
+    }
+  }, [currentUser?.username])
+
   const goToMain = async (path = '/main', options = {}) => {
     const { push = true, replace = false } = options
     setShowLanding(false)
@@ -560,7 +607,7 @@ export default function App() {
   // 읽지 않은 알림 개수 조회
   const fetchUnreadCount = async () => {
     try {
-      const response = await fetch('/api/notifications/unread-count', {
+      const response = await authFetch('/api/notifications/unread-count', {
         method: 'GET',
         headers: {
           'Content-Type': 'application/json',
@@ -591,7 +638,7 @@ export default function App() {
   // 현재 로그인한 사용자 정보를 백엔드에서 가져오기
   const fetchCurrentUser = async () => {
     try {
-      const response = await fetch('/api/users/me', {
+      const response = await authFetch('/api/users/me', {
         method: 'GET',
         headers: {
           'Content-Type': 'application/json',
@@ -747,7 +794,7 @@ export default function App() {
       const normalizedId = username.trim().toLowerCase()
       const trimmedPw = password.trim()
 
-      const response = await fetch('/api/users/login', {
+      const response = await authFetch('/api/users/login', {
         method: 'POST',
         headers: {
           'Content-Type': 'application/json',
@@ -904,6 +951,7 @@ export default function App() {
   }
 
   const handleLogout = () => {
+    revokeTokens()
     setCurrentUser(null)
     setUnreadCount(0) // 로그아웃 시 알림 횟수 초기화
     if (typeof window !== 'undefined') {
@@ -914,7 +962,7 @@ export default function App() {
 
   const handleForgotPasswordSubmit = async ({ username, email }) => {
     try {
-      const response = await fetch('/api/users/find-password', {
+      const response = await authFetch('/api/users/find-password', {
         method: 'POST',
         headers: {
           'Content-Type': 'application/json',
@@ -947,7 +995,7 @@ export default function App() {
 
   const handleForgotIdSubmit = async ({ name, email }) => {
     try {
-      const response = await fetch('/api/users/find-id', {
+      const response = await authFetch('/api/users/find-id', {
         method: 'POST',
         headers: {
           'Content-Type': 'application/json',
@@ -988,7 +1036,7 @@ export default function App() {
         return { success: false, message: '인증 정보가 만료되었습니다. 다시 시도해주세요.' }
       }
 
-      const response = await fetch('/api/users/reset-password', {
+      const response = await authFetch('/api/users/reset-password', {
         method: 'POST',
         headers: {
           'Content-Type': 'application/json',
@@ -1025,7 +1073,7 @@ export default function App() {
     try {
       const formattedPhone = formatPhoneNumber(stripPhoneNumber(updates.phone || ''))
       
-      const response = await fetch('/api/users/me/profile', {
+      const response = await authFetch('/api/users/me/profile', {
         method: 'PUT',
         headers: {
           'Content-Type': 'application/json',
@@ -1078,7 +1126,7 @@ export default function App() {
     }
     
     try {
-      const response = await fetch('/api/users/me/password', {
+      const response = await authFetch('/api/users/me/password', {
         method: 'PUT',
         headers: {
           'Content-Type': 'application/json',
@@ -1109,7 +1157,7 @@ export default function App() {
     }
     
     try {
-      const response = await fetch('/api/users/me/email', {
+      const response = await authFetch('/api/users/me/email', {
         method: 'PUT',
         headers: {
           'Content-Type': 'application/json',
@@ -1146,7 +1194,7 @@ export default function App() {
     }
     
     try {
-      const response = await fetch('/api/users/me', {
+      const response = await authFetch('/api/users/me', {
         method: 'DELETE',
         headers: {
           'Content-Type': 'application/json',
@@ -1648,7 +1696,7 @@ export default function App() {
           return
         }
 
-        const response = await fetch('/api/users/signup/organ', {
+        const response = await authFetch('/api/users/signup/organ', {
           method: 'POST',
           headers: {
             'Content-Type': 'application/json',
@@ -1677,7 +1725,7 @@ export default function App() {
         goToLogin()
       } else {
         // 일반 회원 가입
-        const response = await fetch('/api/users/signup', {
+        const response = await authFetch('/api/users/signup', {
           method: 'POST',
           headers: {
             'Content-Type': 'application/json',
@@ -2328,7 +2376,7 @@ export default function App() {
               try {
                 // 인증 코드 재발송
                 if (recoveryContext.type === 'id') {
-                  await fetch('/api/users/find-id', {
+                  await authFetch('/api/users/find-id', {
                     method: 'POST',
                     headers: { 'Content-Type': 'application/json' },
                     credentials: 'include',
@@ -2338,7 +2386,7 @@ export default function App() {
                     }),
                   })
                 } else if (recoveryContext.type === 'password') {
-                  await fetch('/api/users/find-password', {
+                  await authFetch('/api/users/find-password', {
                     method: 'POST',
                     headers: { 'Content-Type': 'application/json' },
                     credentials: 'include',
@@ -2348,7 +2396,7 @@ export default function App() {
                     }),
                   })
                 } else if (recoveryContext.email) {
-                  await fetch('/api/auth/send-verification', {
+                  await authFetch('/api/auth/send-verification', {
                     method: 'POST',
                     headers: { 'Content-Type': 'application/json' },
                     credentials: 'include',
@@ -1,5 +1,7 @@
 import { useEffect, useState } from 'react'
 import '../styles/admin-manage.css'
+import { authFetch } from '../utils/authFetch'
+import { adminQueueUrl, nextQueueCursor } from '../utils/adminQueue'
 
 export default function AdminDeliveryInputPage({
   onNavigateHome,
@@ -17,6 +19,8 @@ export default function AdminDeliveryInputPage({
   const [error, setError] = useState(null)
   const [toast, setToast] = useState(null)
   const [deliveryInfo, setDeliveryInfo] = useState({})
+  const [nextCursor, setNextCursor] = useState(null)
+  const [loadingMore, setLoadingMore] = useState(false)
 
   // 기관이 승인한 택배 배송 기부 목록 조회
   useEffect(() => {
@@ -30,7 +34,7 @@ export default function AdminDeliveryInputPage({
         setLoading(true)
         setError(null)
         
-        const response = await fetch('/api/admin/donations/delivery/input', {
+        const response = await authFetch(adminQueueUrl('/api/admin/donations/delivery/input'), {
           method: 'GET',
           headers: {
             'Content-Type': 'application/json',
@@ -53,11 +57,13 @@ export default function AdminDeliveryInputPage({
         const responseText = await response.text()
         if (!responseText || responseText.trim() === '') {
           setDonations([])
+          setNextCursor(null)
           return
         }
 
         const data = JSON.parse(responseText)
         setDonations(data.donations || [])
+        setNextCursor(nextQueueCursor(data))
       } catch (err) {
         console.error('기부 목록 조회 실패:', err)
         setError(err.message)
@@ -75,6 +81,34 @@ export default function AdminDeliveryInputPage({
     setTimeout(() => setToast(null), 2000)
   }
 
+  // 다음 페이지 조회
+  const loadMoreDonations = async () => {
+    if (!nextCursor) return
+    try {
+      setLoadingMore(true)
+      const response = await authFetch(adminQueueUrl('/api/admin/donations/delivery/input', nextCursor), {
+        method: 'GET',
+        headers: {
+          'Content-Type': 'application/json',
+        },
+        credentials: 'include'
+      })
+
+      if (!response.ok) {
+        throw new Error('기부 목록을 불러오는데 실패했습니다.')
+      }
+
+      const data = await response.json()
+      setDonations(prev => [...prev, ...(data.donations || [])])
+      setNextCursor(nextQueueCursor(data))
+    } catch (err) {
+      console.error('기부 목록 조회 실패:', err)
+      showToast(err.message || '기부 목록을 불러오는데 실패했습니다.')
+    } finally {
+      setLoadingMore(false)
+    }
+  }
+
   // 택배 정보 업데이트
   const handleUpdateDelivery = async (donationId) => {
     const deliveryData = deliveryInfo[donationId] || {}
@@ -85,7 +119,7 @@ export default function AdminDeliveryInputPage({
     }
 
     try {
-      const response = await fetch(`/api/admin/donations/${donationId}/delivery-info`, {
+      const response = await authFetch(`/api/admin/donations/${donationId}/delivery-info`, {
         method: 'PUT',
         headers: {
           'Content-Type': 'application/json',
@@ -113,7 +147,7 @@ export default function AdminDeliveryInputPage({
       })
 
       // 목록 새로고침
-      const refreshResponse = await fetch('/api/admin/donations/delivery/input', {
+      const refreshResponse = await authFetch(adminQueueUrl('/api/admin/donations/delivery/input'), {
         method: 'GET',
         headers: {
           'Content-Type': 'application/json',
@@ -124,6 +158,7 @@ export default function AdminDeliveryInputPage({
       if (refreshResponse.ok) {
         const refreshData = await refreshResponse.json()
         setDonations(refreshData.donations || [])
+        setNextCursor(nextQueueCursor(refreshData))
       }
     } catch (err) {
       console.error('택배 정보 업데이트 오류:', err)
@@ -295,6 +330,18 @@ export default function AdminDeliveryInputPage({
               ))}
             </div>
           )}
+          {!loading && nextCursor && (
+            <div style={{ textAlign: 'center', marginTop: '1rem' }}>
+              <button
+                type="button"
+                className="small-btn"
+                onClick={loadMoreDonations}
+                disabled={loadingMore}
+              >
+                {loadingMore ? '불러오는 중...' : '더 보기'}
+              </button>
+            </div>
+          )}
         </div>
   )
 }
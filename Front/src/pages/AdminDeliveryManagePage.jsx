@@ -1,6 +1,7 @@
 import { useEffect, useState } from 'react'
 import HeaderLanding from '../components/HeaderLanding'
 import '../styles/admin-manage.css'
+import { authFetch } from '../utils/authFetch'
 
 export default function AdminDeliveryManagePage({
   onNavigateHome,
@@ -66,7 +67,7 @@ export default function AdminDeliveryManagePage({
         
         // 백엔드 페이지로 리다이렉트하거나 API를 사용
         // 일단 백엔드 API를 직접 호출
-        const response = await fetch('/api/admin/deliveries', {
+        const response = await authFetch('/api/admin/deliveries', {
           method: 'GET',
           headers: {
             'Content-Type': 'application/json',
@@ -124,7 +125,7 @@ export default function AdminDeliveryManagePage({
   // 배송 상세 조회
   const handleViewDetail = async (deliveryId) => {
     try {
-      const response = await fetch(`/api/admin/deliveries/${deliveryId}`, {
+      const response = await authFetch(`/api/admin/deliveries/${deliveryId}`, {
         method: 'GET',
         headers: {
           'Content-Type': 'application/json',
@@ -153,7 +154,7 @@ export default function AdminDeliveryManagePage({
   // 배송 상태 업데이트
   const handleUpdateStatus = async (deliveryId, newStatus) => {
     try {
-      const response = await fetch(`/api/admin/deliveries/${deliveryId}`, {
+      const response = await authFetch(`/api/admin/deliveries/${deliveryId}`, {
         method: 'PUT',
         headers: {
           'Content-Type': 'application/json',
@@ -169,7 +170,7 @@ export default function AdminDeliveryManagePage({
       }
 
       // 목록 새로고침
-      const refreshResponse = await fetch('/api/admin/deliveries', {
+      const refreshResponse = await authFetch('/api/admin/deliveries', {
         method: 'GET',
         headers: {
           'Content-Type': 'application/json',
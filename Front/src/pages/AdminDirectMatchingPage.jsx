@@ -1,5 +1,7 @@
 import { useEffect, useState, useMemo } from 'react';
 import '../styles/admin-manage.css';
+import { authFetch } from '../utils/authFetch'
+import { adminQueueUrl, nextQueueCursor } from '../utils/adminQueue'
 
 export default function AdminDirectMatchingPage({
   donationItems = [],
@@ -16,6 +18,8 @@ export default function AdminDirectMatchingPage({
   const [detailModal, setDetailModal] = useState(null);
   const [detailLoading, setDetailLoading] = useState(false);
   const [deliveryInfo, setDeliveryInfo] = useState({}); // 택배 정보 저장 (item.id를 키로 사용)
+  const [nextCursor, setNextCursor] = useState(null);
+  const [loadingMore, setLoadingMore] = useState(false);
 
   // API에서 직접 매칭 대기 목록 조회
   useEffect(() => {
@@ -25,7 +29,7 @@ export default function AdminDirectMatchingPage({
         setError(null);
         
         // 직접 매칭 목록 조회
-        const response = await fetch('/api/admin/donations/direct-match', {
+        const response = await authFetch(adminQueueUrl('/api/admin/donations/direct-match'), {
           method: 'GET',
           headers: {
             'Content-Type': 'application/json',
@@ -61,6 +65,7 @@ export default function AdminDirectMatchingPage({
         if (!responseText || responseText.trim() === '') {
           console.warn('직접 매칭 목록 응답이 비어있습니다.');
           setApiDonationItems([]);
+          setNextCursor(null);
         } else {
           try {
             const data = JSON.parse(responseText);
@@ -69,6 +74,7 @@ export default function AdminDirectMatchingPage({
               owner: item.owner || 'unknown'
             }));
             setApiDonationItems(directMatchItems);
+            setNextCursor(nextQueueCursor(data));
           } catch (parseError) {
             console.error('JSON 파싱 오류:', parseError, '응답 내용:', responseText.substring(0, 200));
             throw new Error('서버 응답 형식이 올바르지 않습니다.');
@@ -76,7 +82,7 @@ export default function AdminDirectMatchingPage({
         }
         
         // 기관 목록 조회
-        const orgResponse = await fetch('/api/admin/donations/organs', {
+        const orgResponse = await authFetch('/api/admin/donations/organs', {
           method: 'GET',
           headers: {
             'Content-Type': 'application/json',
@@ -138,7 +144,7 @@ export default function AdminDirectMatchingPage({
 
   const handleApprove = async (item) => {
     try {
-      const response = await fetch(`/api/admin/donations/${item.id}/approve`, {
+      const response = await authFetch(`/api/admin/donations/${item.id}/approve`, {
         method: 'POST',
         headers: {
           'Content-Type': 'application/json'
@@ -180,7 +186,7 @@ export default function AdminDirectMatchingPage({
 
     try {
       setDetailLoading(true);
-      const response = await fetch(`/api/admin/donations/${item.id}`, {
+      const response = await authFetch(`/api/admin/donations/${item.id}`, {
         method: 'GET',
         headers: {
           'Content-Type': 'application/json'
@@ -208,7 +214,7 @@ export default function AdminDirectMatchingPage({
 
   const handleReject = async (item, reason) => {
     try {
-      const response = await fetch(`/api/admin/donations/${item.id}/reject`, {
+      const response = await authFetch(`/api/admin/donations/${item.id}/reject`, {
         method: 'POST',
         headers: {
           'Content-Type': 'application/json'
@@ -238,12 +244,45 @@ export default function AdminDirectMatchingPage({
     }
   };
 
+  // 직접 매칭 대기 목록 다음 페이지 조회
+  const loadMoreDonations = async () => {
+    if (!nextCursor) return;
+    try {
+      setLoadingMore(true);
+      const response = await authFetch(adminQueueUrl('/api/admin/donations/direct-match', nextCursor), {
+        method: 'GET',
+        headers: {
+          'Content-Type': 'application/json',
+          'Accept': 'application/json'
+        },
+        credentials: 'include'
+      });
+      
+      if (!response.ok) {
+        throw new Error(`직접 매칭 목록 조회에 실패했습니다. (상태 코드: ${response.status})`);
+      }
+      
+      const data = await response.json();
+      const moreItems = (data.donations || []).map(item => ({
+        ...item,
+        owner: item.owner || 'unknown'
+      }));
+      setApiDonationItems(prev => [...prev, ...moreItems]);
+      setNextCursor(nextQueueCursor(data));
+    } catch (err) {
+      console.error('직접 매칭 목록 조회 오류:', err);
+      showToast(err.message || '직접 매칭 목록을 불러오는데 실패했습니다.');
+    } finally {
+      setLoadingMore(false);
+    }
+  };
+
   const openDetailModal = async (item) => {
     setDetailModal(item);
     setDetailLoading(true);
     
     try {
-      const response = await fetch(`/api/admin/donations/${item.id}`, {
+      const response = await authFetch(`/api/admin/donations/${item.id}`, {
         method: 'GET',
         headers: {
           'Content-Type': 'application/json'
@@ -498,6 +537,18 @@ export default function AdminDirectMatchingPage({
             })}
           </div>
         )}
+        {!loading && !error && nextCursor && (
+          <div style={{ textAlign: 'center', marginTop: '1rem' }}>
+            <button
+              type="button"
+              className="small-btn"
+              onClick={loadMoreDonations}
+              disabled={loadingMore}
+            >
+              {loadingMore ? '불러오는 중...' : '더 보기'}
+            </button>
+          </div>
+        )}
       </section>
 
       {/* 상세 정보 모달 */}
@@ -1,5 +1,6 @@
 import { useState, useEffect } from 'react'
 import HeaderLanding from '../components/HeaderLanding'
+import { authFetch } from '../utils/authFetch'
 
 export default function AdminFaqPage({
   onNavigateHome,
@@ -28,12 +29,12 @@ export default function AdminFaqPage({
       setLoading(true)
       try {
         // 사용자 질문 목록 조회
-        const questionsResponse = await fetch('/api/admin/faq/questions', {
+        const questionsResponse = await authFetch('/api/admin/faq/questions', {
           credentials: 'include'
         })
         
         // 공개 FAQ 목록 조회 (published 엔드포인트가 작동하지 않으면 all에서 필터링)
-        const publishedResponse = await fetch('/api/admin/faq/all', {
+        const publishedResponse = await authFetch('/api/admin/faq/all', {
           credentials: 'include'
         })
         
@@ -118,7 +119,7 @@ export default function AdminFaqPage({
 
     try {
       // API로 답변 등록
-      const response = await fetch(`/api/admin/faq/${id}/answer`, {
+      const response = await authFetch(`/api/admin/faq/${id}/answer`, {
         method: 'POST',
         headers: {
           'Content-Type': 'application/json'
@@ -136,7 +137,7 @@ export default function AdminFaqPage({
         setResponses(prev => ({ ...prev, [id]: '' }))
         
         // 목록 새로고침
-        const refreshResponse = await fetch('/api/admin/faq/questions', {
+        const refreshResponse = await authFetch('/api/admin/faq/questions', {
           credentials: 'include'
         })
         if (refreshResponse.ok) {
@@ -177,7 +178,7 @@ export default function AdminFaqPage({
     }
 
     try {
-      const response = await fetch(`/api/admin/faq/${id}`, {
+      const response = await authFetch(`/api/admin/faq/${id}`, {
         method: 'PUT',
         headers: {
           'Content-Type': 'application/json'
@@ -197,7 +198,7 @@ export default function AdminFaqPage({
         setEditForm({ question: '', answer: '' })
         
         // 목록 새로고침
-        const refreshResponse = await fetch('/api/admin/faq/all', {
+        const refreshResponse = await authFetch('/api/admin/faq/all', {
           credentials: 'include'
         })
         if (refreshResponse.ok) {
@@ -239,7 +240,7 @@ export default function AdminFaqPage({
     }
 
     try {
-      const response = await fetch(`/api/admin/faq/${id}`, {
+      const response = await authFetch(`/api/admin/faq/${id}`, {
         method: 'DELETE',
         credentials: 'include'
       })
@@ -248,7 +249,7 @@ export default function AdminFaqPage({
         window.alert('FAQ가 삭제되었습니다.')
         
         // 목록 새로고침
-        const refreshResponse = await fetch('/api/admin/faq/all', {
+        const refreshResponse = await authFetch('/api/admin/faq/all', {
           credentials: 'include'
         })
         if (refreshResponse.ok) {
@@ -286,7 +287,7 @@ export default function AdminFaqPage({
   // FAQ 등록 핸들러
   const handleRegister = async id => {
     try {
-      const response = await fetch(`/api/admin/faq/${id}/register`, {
+      const response = await authFetch(`/api/admin/faq/${id}/register`, {
         method: 'POST',
         credentials: 'include'
       })
@@ -294,7 +295,7 @@ export default function AdminFaqPage({
       if (response.ok) {
         window.alert('FAQ에 등록되었습니다.')
         // 목록 새로고침
-        const refreshResponse = await fetch('/api/admin/faq/questions', {
+        const refreshResponse = await authFetch('/api/admin/faq/questions', {
           credentials: 'include'
         })
         if (refreshResponse.ok) {
@@ -335,7 +336,7 @@ export default function AdminFaqPage({
     }
 
     try {
-      const response = await fetch('/api/admin/faq', {
+      const response = await authFetch('/api/admin/faq', {
         method: 'POST',
         headers: {
           'Content-Type': 'application/json'
@@ -355,7 +356,7 @@ export default function AdminFaqPage({
         setCreateForm({ question: '', answer: '' })
         
         // 목록 새로고침
-        const refreshResponse = await fetch('/api/admin/faq/all', {
+        const refreshResponse = await authFetch('/api/admin/faq/all', {
           credentials: 'include'
         })
         if (refreshResponse.ok) {
@@ -1,5 +1,7 @@
 import { useEffect, useState, useMemo } from 'react';
 import '../styles/admin-manage.css';
+import { authFetch } from '../utils/authFetch'
+import { adminQueueUrl, nextQueueCursor } from '../utils/adminQueue'
 
 export default function AdminItemApprovalPage({
   donationItems = [],
@@ -14,50 +16,61 @@ export default function AdminItemApprovalPage({
   const [reasonText, setReasonText] = useState('');
   const [pendingItemUpdates, setPendingItemUpdates] = useState({});
   const [activeFilter, setActiveFilter] = useState('pending'); // 'pending', 'approved', 'rejected'
+  const [nextCursor, setNextCursor] = useState(null);
+  const [loadingMore, setLoadingMore] = useState(false);
 
   const allowedAdminStatuses = new Set(['승인대기', '매칭대기', '매칭됨', '거절됨']);
 
-  // API에서 기부 목록 조회
-  useEffect(() => {
-    const fetchDonationData = async () => {
-      try {
+  const getQueueEndpoint = () => {
+    if (activeFilter === 'approved') {
+      return '/api/admin/donations/approved';
+    }
+    if (activeFilter === 'rejected') {
+      return '/api/admin/donations/rejected';
+    }
+    return '/api/admin/donations/pending';
+  };
+
+  // API에서 기부 목록 조회 (cursor가 있으면 다음 페이지를 이어서 조회)
+  const fetchDonationData = async (cursor = null) => {
+    try {
+      if (cursor) {
+        setLoadingMore(true);
+      } else {
         setLoading(true);
-        setError(null);
-        
-        let apiEndpoint = '/api/admin/donations/pending';
-        if (activeFilter === 'approved') {
-          apiEndpoint = '/api/admin/donations/approved';
-        } else if (activeFilter === 'rejected') {
-          apiEndpoint = '/api/admin/donations/rejected';
-        }
-        
-        const response = await fetch(apiEndpoint, {
-          method: 'GET',
-          headers: {
-            'Content-Type': 'application/json'
-          },
-          credentials: 'include'
-        });
-        
-        if (!response.ok) {
-          throw new Error('기부 목록 조회에 실패했습니다.');
-        }
-        
-        const data = await response.json();
-        const items = (data.donations || []).map(item => ({
-          ...item,
-          owner: item.owner || 'unknown'
-        }));
-        
-        setApiDonationItems(items);
-      } catch (err) {
-        console.error('기부 목록 조회 오류:', err);
-        setError(err.message);
-      } finally {
-        setLoading(false);
       }
-    };
-    
+      setError(null);
+      
+      const response = await authFetch(adminQueueUrl(getQueueEndpoint(), cursor), {
+        method: 'GET',
+        headers: {
+          'Content-Type': 'application/json'
+        },
+        credentials: 'include'
+      });
+      
+      if (!response.ok) {
+        throw new Error('기부 목록 조회에 실패했습니다.');
+      }
+      
+      const data = await response.json();
+      const items = (data.donations || []).map(item => ({
+        ...item,
+        owner: item.owner || 'unknown'
+      }));
+      
+      setApiDonationItems(prev => (cursor ? [...prev, ...items] : items));
+      setNextCursor(nextQueueCursor(data));
+    } catch (err) {
+      console.error('기부 목록 조회 오류:', err);
+      setError(err.message);
+    } finally {
+      setLoading(false);
+      setLoadingMore(false);
+    }
+  };
+
+  useEffect(() => {
     fetchDonationData();
   }, [activeFilter]);
 
@@ -91,7 +104,7 @@ export default function AdminItemApprovalPage({
   const handleDonationAction = async (item, nextStatus, options = {}) => {
     try {
       if (nextStatus === '매칭대기') {
-        const response = await fetch(`/api/admin/donations/${item.id}/approve`, {
+        const response = await authFetch(`/api/admin/donations/${item.id}/approve`, {
           method: 'POST',
           headers: {
             'Content-Type': 'application/json'
@@ -116,17 +129,10 @@ export default function AdminItemApprovalPage({
     }
   };
 
-  // 목록 새로고침 함수
+  // 목록 새로고침 함수 (첫 페이지부터 다시 조회)
   const refreshDonationList = async () => {
     try {
-      let apiEndpoint = '/api/admin/donations/pending';
-      if (activeFilter === 'approved') {
-        apiEndpoint = '/api/admin/donations/approved';
-      } else if (activeFilter === 'rejected') {
-        apiEndpoint = '/api/admin/donations/rejected';
-      }
-      
-      const response = await fetch(apiEndpoint, {
+      const response = await authFetch(adminQueueUrl(getQueueEndpoint()), {
         method: 'GET',
         headers: {
           'Content-Type': 'application/json'
@@ -145,6 +151,7 @@ export default function AdminItemApprovalPage({
       }));
       
       setApiDonationItems(refreshedItems);
+      setNextCursor(nextQueueCursor(data));
     } catch (err) {
       console.error('목록 새로고침 오류:', err);
       showToast('목록을 새로고침하는 중 오류가 발생했습니다.');
@@ -196,7 +203,7 @@ export default function AdminItemApprovalPage({
 
     if (reasonModal.type === 'item') {
       try {
-        const response = await fetch(`/api/admin/donations/${reasonModal.item.id}/reject`, {
+        const response = await authFetch(`/api/admin/donations/${reasonModal.item.id}/reject`, {
           method: 'POST',
           headers: {
             'Content-Type': 'application/json'
@@ -326,7 +333,7 @@ export default function AdminItemApprovalPage({
                       <td className="item-image-cell">
                         {item.images?.length && item.images[0] ? (
                           (() => {
-                            let imageUrl = item.images[0].dataUrl || item.images[0].url || item.images[0];
+                            let imageUrl = item.images[0].thumbnailUrl || item.images[0].dataUrl || item.images[0].url || item.images[0];
                             const hasValidUrl = imageUrl && typeof imageUrl === 'string' && imageUrl.trim().length > 0;
                             
                             if (!hasValidUrl) {
@@ -472,7 +479,7 @@ export default function AdminItemApprovalPage({
                                         className="small-btn pending-btn"
                                         onClick={async () => {
                                           try {
-                                            const response = await fetch(`/api/admin/donations/${item.id}/reset-to-pending`, {
+                                            const response = await authFetch(`/api/admin/donations/${item.id}/reset-to-pending`, {
                                               method: 'POST',
                                               headers: {
                                                 'Content-Type': 'application/json'
@@ -515,7 +522,7 @@ export default function AdminItemApprovalPage({
                                       className="small-btn pending-btn"
                                       onClick={async () => {
                                         try {
-                                          const response = await fetch(`/api/admin/donations/${item.id}/reset-to-pending`, {
+                                          const response = await authFetch(`/api/admin/donations/${item.id}/reset-to-pending`, {
                                             method: 'POST',
                                             headers: {
                                               'Content-Type': 'application/json'
@@ -556,6 +563,18 @@ export default function AdminItemApprovalPage({
             </table>
           </div>
         )}
+        {!loading && !error && nextCursor && (
+          <div style={{ textAlign: 'center', marginTop: '1rem' }}>
+            <button
+              type="button"
+              className="small-btn"
+              onClick={() => fetchDonationData(nextCursor)}
+              disabled={loadingMore}
+            >
+              {loadingMore ? '불러오는 중...' : '더 보기'}
+            </button>
+          </div>
+        )}
       </section>
 
       {imageModal && (
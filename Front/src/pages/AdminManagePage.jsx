@@ -1,5 +1,7 @@
 import { useEffect, useMemo, useState } from 'react';
 import '../styles/admin-manage.css';
+import { authFetch } from '../utils/authFetch'
+import { adminQueueUrl } from '../utils/adminQueue'
 
 export default function AdminManagePage({
   accounts,
@@ -45,8 +47,11 @@ const [showModal, setShowModal] = useState(false);
   const [sortDirection, setSortDirection] = useState('asc');
 
   // 페이지네이션
+  // 회원 목록은 서버에서 페이지 단위로 조회 (page는 1부터, API page는 0부터)
   const [page, setPage] = useState(1);
   const itemsPerPage = 5;
+  const [userTotalPages, setUserTotalPages] = useState(1);
+  const [userKeyword, setUserKeyword] = useState('');
   const [activePanel, setActivePanel] = useState(initialPanel || 'members');
   const [matchSelections, setMatchSelections] = useState({});
   const [pendingItemUpdates, setPendingItemUpdates] = useState({});
@@ -65,7 +70,7 @@ const [showModal, setShowModal] = useState(false);
         setError(null);
         
         // 승인 대기 목록 조회
-        const pendingResponse = await fetch('/api/admin/donations/pending', {
+        const pendingResponse = await authFetch(adminQueueUrl('/api/admin/donations/pending'), {
           method: 'GET',
           headers: {
             'Content-Type': 'application/json'
@@ -84,7 +89,7 @@ const [showModal, setShowModal] = useState(false);
         }));
         
         // 자동 매칭 대기 목록 조회
-        const autoMatchResponse = await fetch('/api/admin/donations/auto-match', {
+        const autoMatchResponse = await authFetch(adminQueueUrl('/api/admin/donations/auto-match'), {
           method: 'GET',
           headers: {
             'Content-Type': 'application/json'
@@ -111,7 +116,7 @@ const [showModal, setShowModal] = useState(false);
         setApiDonationItems(uniqueItems);
         
         // 기관 목록 조회
-        const organsResponse = await fetch('/api/admin/donations/organs', {
+        const organsResponse = await authFetch('/api/admin/donations/organs', {
           method: 'GET',
           headers: {
             'Content-Type': 'application/json'
@@ -134,39 +139,63 @@ const [showModal, setShowModal] = useState(false);
     fetchDonationData();
   }, [activePanel]);
 
-  // API에서 사용자 목록 및 통계 정보 조회
-  useEffect(() => {
-    const fetchUsers = async () => {
-      if (activePanel !== 'members') return;
+  // API에서 사용자 목록 및 통계 정보 조회 (현재 페이지만)
+  const fetchUsers = async () => {
+    try {
+      setLoading(true);
+      const params = new URLSearchParams({
+        page: String(page - 1),
+        size: String(itemsPerPage)
+      });
+      if (userKeyword) {
+        params.set('keyword', userKeyword);
+      }
+      const response = await authFetch(`/api/admin/users/with-stats?${params}`, {
+        method: 'GET',
+        headers: {
+          'Content-Type': 'application/json'
+        },
+        credentials: 'include'
+      });
       
-      try {
-        setLoading(true);
-        const response = await fetch('/api/admin/users/with-stats', {
-          method: 'GET',
-          headers: {
-            'Content-Type': 'application/json'
-          },
-          credentials: 'include'
-        });
-        
-        if (!response.ok) {
-          throw new Error('사용자 목록 조회에 실패했습니다.');
-        }
-        
-        const data = await response.json();
-        const users = data.data || data || []; // ApiResponse 구조에 따라 조정
-        setApiUsers(users);
-      } catch (err) {
-        console.error('사용자 목록 조회 오류:', err);
-        setError(err.message);
-        setApiUsers([]);
-      } finally {
-        setLoading(false);
+      if (!response.ok) {
+        throw new Error('사용자 목록 조회에 실패했습니다.');
       }
-    };
-    
+      
+      const data = await response.json();
+      const users = data.data || data || []; // ApiResponse 구조에 따라 조정
+      setApiUsers(users);
+      const totalPages = Math.max(1, Number(response.headers.get('X-Total-Pages')) || 1);
+      setUserTotalPages(totalPages);
+      if (page > totalPages) {
+        // 마지막 페이지의 회원이 삭제된 경우
+        setPage(totalPages);
+      }
+    } catch (err) {
+      console.error('사용자 목록 조회 오류:', err);
+      setError(err.message);
+      setApiUsers([]);
+    } finally {
+      setLoading(false);
+    }
+  };
+
+  useEffect(() => {
+    if (activePanel !== 'members') return;
     fetchUsers();
-  }, [activePanel]);
+  }, [activePanel, page, userKeyword]);
+
+  // 검색어는 입력이 멈춘 뒤 서버 검색으로 반영하고 첫 페이지부터 조회
+  useEffect(() => {
+    const timer = setTimeout(() => {
+      const keyword = searchText.trim();
+      if (keyword !== userKeyword) {
+        setUserKeyword(keyword);
+        setPage(1);
+      }
+    }, 300);
+    return () => clearTimeout(timer);
+  }, [searchText]);
 
   // API에서 게시물 목록 조회
   useEffect(() => {
@@ -178,7 +207,7 @@ const [showModal, setShowModal] = useState(false);
         setError(null);
         
         // 모든 게시물 조회 (타입 필터 없이)
-        const response = await fetch('/api/posts?page=0&size=100', {
+        const response = await authFetch('/api/posts?page=0&size=100', {
           method: 'GET',
           headers: {
             'Content-Type': 'application/json'
@@ -209,7 +238,7 @@ const [showModal, setShowModal] = useState(false);
   // 게시물 상세 조회
   const handleViewPost = async (postId) => {
     try {
-      const response = await fetch(`/api/posts/${postId}`, {
+      const response = await authFetch(`/api/posts/${postId}`, {
         method: 'GET',
         headers: {
           'Content-Type': 'application/json'
@@ -234,7 +263,7 @@ const [showModal, setShowModal] = useState(false);
     if (!window.confirm('정말 이 게시물을 삭제하시겠습니까?')) return;
     
     try {
-      const response = await fetch(`/api/posts/${postId}`, {
+      const response = await authFetch(`/api/posts/${postId}`, {
         method: 'DELETE',
         headers: {
           'Content-Type': 'application/json'
@@ -293,7 +322,7 @@ const [showModal, setShowModal] = useState(false);
     }
   }
 
-  // 🔍 검색 + 필터 적용된 rows (API 데이터 기반)
+  // 🔍 역할 필터 적용된 rows (검색어는 서버에서 적용된 현재 페이지 기준)
   const rows = useMemo(() => {
     // API에서 가져온 사용자 데이터 사용
     if (apiUsers.length === 0) {
@@ -310,18 +339,8 @@ const [showModal, setShowModal] = useState(false);
         unread: user.unreadNotificationCount || 0,
         donationCount: user.donationCount || 0
       }))
-      .filter((row) => {
-        const text = searchText.toLowerCase();
-        const match =
-          row.username.toLowerCase().includes(text) ||
-          row.nickname.toLowerCase().includes(text) ||
-          row.email.toLowerCase().includes(text) ||
-          row.role.toLowerCase().includes(text);
-
-        const roleMatch = roleFilter === '전체' || roleFilter === row.role;
-        return match && roleMatch;
-      });
-  }, [apiUsers, searchText, roleFilter]);
+      .filter((row) => roleFilter === '전체' || roleFilter === row.role);
+  }, [apiUsers, roleFilter]);
 
   // 🔽 정렬 기능 적용
   const sortedRows = useMemo(() => {
@@ -335,11 +354,8 @@ const [showModal, setShowModal] = useState(false);
     });
   }, [rows, sortField, sortDirection]);
 
-  // 📄 페이지네이션 rows
-  const paginatedRows = useMemo(() => {
-    const start = (page - 1) * itemsPerPage;
-    return sortedRows.slice(start, start + itemsPerPage);
-  }, [sortedRows, page]);
+  // 📄 서버에서 받은 현재 페이지 rows
+  const paginatedRows = sortedRows;
 
   const orgRequests = Array.isArray(pendingOrganizations) ? pendingOrganizations : [];
   const allowedAdminStatuses = new Set(['승인대기', '매칭대기', '매칭됨', '거절됨']);
@@ -406,7 +422,7 @@ const [showModal, setShowModal] = useState(false);
     }
 
     try {
-      const response = await fetch(`/api/admin/users/${user.id}/reset-password`, {
+      const response = await authFetch(`/api/admin/users/${user.id}/reset-password`, {
         method: 'PUT',
         headers: {
           'Content-Type': 'application/json',
@@ -422,20 +438,8 @@ const [showModal, setShowModal] = useState(false);
 
       showToast(result.message || `${username} 비밀번호 초기화 완료!`);
       
-      // 사용자 목록 새로고침
-      const refreshResponse = await fetch('/api/admin/users/with-stats', {
-        method: 'GET',
-        headers: {
-          'Content-Type': 'application/json'
-        },
-        credentials: 'include'
-      });
-      
-      if (refreshResponse.ok) {
-        const refreshData = await refreshResponse.json();
-        const refreshedUsers = refreshData.data || refreshData || [];
-        setApiUsers(refreshedUsers);
-      }
+      // 사용자 목록 새로고침 (현재 페이지)
+      await fetchUsers();
       
       // 기존 콜백도 호출 (하위 호환성)
       if (typeof onResetPassword === 'function') {
@@ -458,7 +462,7 @@ const [showModal, setShowModal] = useState(false);
     }
 
     try {
-      const response = await fetch(`/api/admin/users/${user.id}`, {
+      const response = await authFetch(`/api/admin/users/${user.id}`, {
         method: 'DELETE',
         headers: {
           'Content-Type': 'application/json',
@@ -474,20 +478,8 @@ const [showModal, setShowModal] = useState(false);
 
       showToast(result.message || `${username} 계정 삭제됨`);
       
-      // 사용자 목록 새로고침
-      const refreshResponse = await fetch('/api/admin/users/with-stats', {
-        method: 'GET',
-        headers: {
-          'Content-Type': 'application/json'
-        },
-        credentials: 'include'
-      });
-      
-      if (refreshResponse.ok) {
-        const refreshData = await refreshResponse.json();
-        const refreshedUsers = refreshData.data || refreshData || [];
-        setApiUsers(refreshedUsers);
-      }
+      // 사용자 목록 새로고침 (현재 페이지)
+      await fetchUsers();
       
       // 기존 콜백도 호출 (하위 호환성)
       if (typeof onDeleteUser === 'function') {
@@ -519,7 +511,7 @@ const [showModal, setShowModal] = useState(false);
     try {
       if (nextStatus === '매칭대기') {
         // 승인 API 호출
-        const response = await fetch(`/api/admin/donations/${item.id}/approve`, {
+        const response = await authFetch(`/api/admin/donations/${item.id}/approve`, {
           method: 'POST',
           headers: {
             'Content-Type': 'application/json'
@@ -550,7 +542,7 @@ const [showModal, setShowModal] = useState(false);
         }));
         
         // API 데이터 새로고침 (백그라운드)
-        const refreshResponse = await fetch('/api/admin/donations/pending', {
+        const refreshResponse = await authFetch(adminQueueUrl('/api/admin/donations/pending'), {
           method: 'GET',
           headers: {
             'Content-Type': 'application/json'
@@ -597,7 +589,7 @@ const [showModal, setShowModal] = useState(false);
   // 배송 상태 업데이트 함수
   const handleUpdateDeliveryStatus = async (deliveryId, status) => {
     try {
-      const response = await fetch(`/api/admin/deliveries/${deliveryId}`, {
+      const response = await authFetch(`/api/admin/deliveries/${deliveryId}`, {
         method: 'PUT',
         headers: {
           'Content-Type': 'application/json',
@@ -639,7 +631,7 @@ const [showModal, setShowModal] = useState(false);
       }
       
       // 기관 할당 API 호출
-      const response = await fetch(`/api/admin/donations/${item.id}/assign`, {
+      const response = await authFetch(`/api/admin/donations/${item.id}/assign`, {
         method: 'POST',
         headers: {
           'Content-Type': 'application/json'
@@ -660,7 +652,7 @@ const [showModal, setShowModal] = useState(false);
       setMatchSelections(prev => ({ ...prev, [item.id]: '' }));
       
       // API 데이터 새로고침
-      const refreshResponse = await fetch('/api/admin/donations/auto-match', {
+      const refreshResponse = await authFetch(adminQueueUrl('/api/admin/donations/auto-match'), {
         method: 'GET',
         headers: {
           'Content-Type': 'application/json'
@@ -730,7 +722,7 @@ const [showModal, setShowModal] = useState(false);
     } else if (reasonModal.type === 'item') {
       try {
         // 기부 반려 API 호출
-        const response = await fetch(`/api/admin/donations/${reasonModal.item.id}/reject`, {
+        const response = await authFetch(`/api/admin/donations/${reasonModal.item.id}/reject`, {
           method: 'POST',
           headers: {
             'Content-Type': 'application/json'
@@ -765,7 +757,7 @@ const [showModal, setShowModal] = useState(false);
         }));
         
         // API 데이터 새로고침 (백그라운드)
-        const refreshResponse = await fetch('/api/admin/donations/pending', {
+        const refreshResponse = await authFetch(adminQueueUrl('/api/admin/donations/pending'), {
           method: 'GET',
           headers: {
             'Content-Type': 'application/json'
@@ -924,8 +916,8 @@ const [showModal, setShowModal] = useState(false);
             <button onClick={() => setPage((prev) => Math.max(1, prev - 1))} disabled={page === 1}>
           이전
         </button>
-            <span>{page}</span>
-            <button onClick={() => setPage((prev) => prev + 1)} disabled={paginatedRows.length < itemsPerPage}>
+            <span>{page} / {userTotalPages}</span>
+            <button onClick={() => setPage((prev) => Math.min(userTotalPages, prev + 1))} disabled={page >= userTotalPages}>
               다음
             </button>
           </div>
@@ -1,5 +1,7 @@
 import { useEffect, useState, useMemo } from 'react';
 import '../styles/admin-manage.css';
+import { authFetch } from '../utils/authFetch'
+import { adminQueueUrl, nextQueueCursor } from '../utils/adminQueue'
 
 export default function AdminMatchingPage({
   donationItems = [],
@@ -16,6 +18,8 @@ export default function AdminMatchingPage({
   const [matchSelections, setMatchSelections] = useState({});
   const [detailModal, setDetailModal] = useState(null);
   const [detailLoading, setDetailLoading] = useState(false);
+  const [nextCursor, setNextCursor] = useState(null);
+  const [loadingMore, setLoadingMore] = useState(false);
 
   // API에서 자동 매칭 대기 목록 조회
   useEffect(() => {
@@ -24,7 +28,7 @@ export default function AdminMatchingPage({
         setLoading(true);
         setError(null);
         
-        const autoMatchResponse = await fetch('/api/admin/donations/auto-match', {
+        const autoMatchResponse = await authFetch(adminQueueUrl('/api/admin/donations/auto-match'), {
           method: 'GET',
           headers: {
             'Content-Type': 'application/json'
@@ -54,9 +58,10 @@ export default function AdminMatchingPage({
         });
         
         setApiDonationItems(autoMatchItems);
+        setNextCursor(nextQueueCursor(autoMatchData));
         
         // 기관 목록 조회
-        const organsResponse = await fetch('/api/admin/donations/organs', {
+        const organsResponse = await authFetch('/api/admin/donations/organs', {
           method: 'GET',
           headers: {
             'Content-Type': 'application/json'
@@ -79,6 +84,38 @@ export default function AdminMatchingPage({
     fetchDonationData();
   }, []);
 
+  // 자동 매칭 대기 목록 다음 페이지 조회
+  const loadMoreDonations = async () => {
+    if (!nextCursor) return;
+    try {
+      setLoadingMore(true);
+      const response = await authFetch(adminQueueUrl('/api/admin/donations/auto-match', nextCursor), {
+        method: 'GET',
+        headers: {
+          'Content-Type': 'application/json'
+        },
+        credentials: 'include'
+      });
+      
+      if (!response.ok) {
+        throw new Error('자동 매칭 목록 조회에 실패했습니다.');
+      }
+      
+      const data = await response.json();
+      const moreItems = (data.donations || []).map(i => ({
+        ...i,
+        owner: i.owner || 'unknown'
+      }));
+      setApiDonationItems(prev => [...prev, ...moreItems]);
+      setNextCursor(nextQueueCursor(data));
+    } catch (err) {
+      console.error('자동 매칭 목록 조회 오류:', err);
+      showToast(err.message || '자동 매칭 목록 조회에 실패했습니다.');
+    } finally {
+      setLoadingMore(false);
+    }
+  };
+
   // 기관 옵션 병합
   const mergedOrganizationOptions = useMemo(() => {
     if (apiOrganizations.length > 0) {
@@ -116,7 +153,7 @@ export default function AdminMatchingPage({
 
     try {
       setDetailLoading(true);
-      const response = await fetch(`/api/admin/donations/${item.id}`, {
+      const response = await authFetch(`/api/admin/donations/${item.id}`, {
         method: 'GET',
         headers: {
           'Content-Type': 'application/json'
@@ -159,7 +196,7 @@ export default function AdminMatchingPage({
       }
       
       // 기관 할당만 수행 (택배 정보는 별도 페이지에서 입력)
-      const response = await fetch(`/api/admin/donations/${item.id}/assign`, {
+      const response = await authFetch(`/api/admin/donations/${item.id}/assign`, {
         method: 'POST',
         headers: {
           'Content-Type': 'application/json'
@@ -180,7 +217,7 @@ export default function AdminMatchingPage({
       setMatchSelections(prev => ({ ...prev, [item.id]: '' }));
       
       // 목록 새로고침 (할당된 항목은 자동으로 제외됨)
-      const refreshResponse = await fetch('/api/admin/donations/auto-match', {
+      const refreshResponse = await authFetch(adminQueueUrl('/api/admin/donations/auto-match'), {
         method: 'GET',
         headers: {
           'Content-Type': 'application/json'
@@ -195,6 +232,7 @@ export default function AdminMatchingPage({
           owner: i.owner || 'unknown'
         }));
         setApiDonationItems(refreshedItems);
+        setNextCursor(nextQueueCursor(refreshData));
       }
     } catch (err) {
       console.error('기관 할당 오류:', err);
@@ -310,6 +348,18 @@ export default function AdminMatchingPage({
             ))}
           </div>
         )}
+        {!loading && !error && nextCursor && (
+          <div style={{ textAlign: 'center', marginTop: '1rem' }}>
+            <button
+              type="button"
+              className="small-btn"
+              onClick={loadMoreDonations}
+              disabled={loadingMore}
+            >
+              {loadingMore ? '불러오는 중...' : '더 보기'}
+            </button>
+          </div>
+        )}
 
         <h2>기관 응답 현황</h2>
         {pendingInviteList.length === 0 ? (
@@ -1,5 +1,6 @@
 import { useState, useEffect } from 'react';
 import '../styles/admin-manage.css';
+import { authFetch } from '../utils/authFetch'
 
 export default function AdminOrgApprovalPage({
   pendingOrganizations = [],
@@ -18,7 +19,7 @@ export default function AdminOrgApprovalPage({
     const fetchPendingOrgs = async () => {
       try {
         setLoading(true);
-        const response = await fetch('/api/admin/orgs/pending', {
+        const response = await authFetch('/api/admin/orgs/pending', {
           method: 'GET',
           headers: {
             'Content-Type': 'application/json',
@@ -64,7 +65,7 @@ export default function AdminOrgApprovalPage({
 
   const handleApproveOrg = async (requestId) => {
     try {
-      const response = await fetch(`/api/admin/orgs/${requestId}/approve`, {
+      const response = await authFetch(`/api/admin/orgs/${requestId}/approve`, {
         method: 'POST',
         headers: {
           'Content-Type': 'application/json',
@@ -108,7 +109,7 @@ export default function AdminOrgApprovalPage({
 
     if (reasonModal.type === 'org') {
       try {
-        const response = await fetch(`/api/admin/orgs/${reasonModal.requestId}/reject`, {
+        const response = await authFetch(`/api/admin/orgs/${reasonModal.requestId}/reject`, {
           method: 'POST',
           headers: {
             'Content-Type': 'application/json',
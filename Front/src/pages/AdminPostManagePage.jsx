@@ -1,5 +1,6 @@
 import { useEffect, useState } from 'react';
 import '../styles/admin-manage.css';
+import { authFetch } from '../utils/authFetch'
 
 export default function AdminPostManagePage({
   onNavigateHome,
@@ -26,7 +27,7 @@ export default function AdminPostManagePage({
         setLoading(true);
         setError(null);
         
-        const response = await fetch('/api/posts?page=0&size=100', {
+        const response = await authFetch('/api/posts?page=0&size=100', {
           method: 'GET',
           headers: {
             'Content-Type': 'application/json'
@@ -63,7 +64,7 @@ export default function AdminPostManagePage({
   // 게시물 상세 조회
   const handleViewPost = async (postId) => {
     try {
-      const response = await fetch(`/api/posts/${postId}`, {
+      const response = await authFetch(`/api/posts/${postId}`, {
         method: 'GET',
         headers: {
           'Content-Type': 'application/json'
@@ -138,7 +139,7 @@ export default function AdminPostManagePage({
       
       const allImages = [...existingImageUrls, ...base64Images];
       
-      const response = await fetch(`/api/posts/${viewingPost.id}`, {
+      const response = await authFetch(`/api/posts/${viewingPost.id}`, {
         method: 'PUT',
         headers: {
           'Content-Type': 'application/json'
@@ -166,7 +167,7 @@ export default function AdminPostManagePage({
       setViewingPost(updatedPost);
       
       // 목록 새로고침
-      const refreshResponse = await fetch('/api/posts?page=0&size=100', {
+      const refreshResponse = await authFetch('/api/posts?page=0&size=100', {
         method: 'GET',
         headers: {
           'Content-Type': 'application/json'
@@ -264,7 +265,7 @@ export default function AdminPostManagePage({
     if (!window.confirm('정말 이 게시물을 삭제하시겠습니까?')) return;
     
     try {
-      const response = await fetch(`/api/posts/${postId}`, {
+      const response = await authFetch(`/api/posts/${postId}`, {
         method: 'DELETE',
         headers: {
           'Content-Type': 'application/json'
@@ -292,7 +293,7 @@ export default function AdminPostManagePage({
   // 게시물 고정/고정 해제 핸들러
   const handleTogglePin = async (postId, isPinned) => {
     try {
-      const response = await fetch(`/api/posts/${postId}/pin`, {
+      const response = await authFetch(`/api/posts/${postId}/pin`, {
         method: 'PUT',
         headers: {
           'Content-Type': 'application/json'
@@ -310,7 +311,7 @@ export default function AdminPostManagePage({
       showToast(data.message || (isPinned ? '게시물이 고정되었습니다.' : '게시물 고정이 해제되었습니다.'));
       
       // 목록 새로고침
-      const refreshResponse = await fetch('/api/posts?page=0&size=100', {
+      const refreshResponse = await authFetch('/api/posts?page=0&size=100', {
         method: 'GET',
         headers: {
           'Content-Type': 'application/json'
@@ -329,7 +330,7 @@ export default function AdminPostManagePage({
       
       // 상세보기 중인 게시물이면 업데이트
       if (viewingPost && viewingPost.id === postId) {
-        const detailResponse = await fetch(`/api/posts/${postId}`, {
+        const detailResponse = await authFetch(`/api/posts/${postId}`, {
           method: 'GET',
           headers: {
             'Content-Type': 'application/json'
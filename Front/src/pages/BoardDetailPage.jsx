@@ -2,6 +2,7 @@ import { useState, useEffect, useRef } from 'react'
 import HeaderLanding from '../components/HeaderLanding'
 import { getNavLinksForRole } from '../constants/landingData'
 import '../styles/board-detail.css'
+import { authFetch } from '../utils/authFetch'
 
 export default function BoardDetailPage({
   onNavigateHome = () => {},
@@ -48,7 +49,7 @@ export default function BoardDetailPage({
       if (viewedPostId.current !== postId) {
         try {
           // API로 조회수 증가
-          const response = await fetch(`/api/posts/${postIdNum}/view`, {
+          const response = await authFetch(`/api/posts/${postIdNum}/view`, {
             method: 'PUT',
             credentials: 'include'
           })
@@ -108,7 +109,7 @@ export default function BoardDetailPage({
           return
         }
 
-        const response = await fetch(`/api/posts/${postIdNum}`, {
+        const response = await authFetch(`/api/posts/${postIdNum}`, {
           credentials: 'include'
         })
 
@@ -228,7 +229,7 @@ export default function BoardDetailPage({
         return
       }
 
-      const response = await fetch(`/api/posts/${postIdNum}`, {
+      const response = await authFetch(`/api/posts/${postIdNum}`, {
         method: 'DELETE',
         credentials: 'include'
       })
@@ -1,6 +1,7 @@
 import { useState, useMemo, useEffect } from 'react'
 import HeaderLanding from '../components/HeaderLanding'
 import { getNavLinksForRole, boardTabs } from '../constants/landingData'
+import { authFetch } from '../utils/authFetch'
 
 // 게시글에 content 필드 추가 (임시)
 const getPostContent = (post) => {
@@ -51,7 +52,7 @@ export default function BoardPage({
     setLoading(true)
     try {
       // 전체 게시글 가져오기 (고정된 게시글 추출용)
-      const allPostsResponse = await fetch('/api/posts?page=0&size=1000', {
+      const allPostsResponse = await authFetch('/api/posts?page=0&size=1000', {
         credentials: 'include'
       })
       if (allPostsResponse.ok) {
@@ -75,7 +76,7 @@ export default function BoardPage({
       }
 
       // 기부 후기 목록 (DONATION_REVIEW 타입만)
-      const reviewResponse = await fetch('/api/posts?type=DONATION_REVIEW&page=0&size=100')
+      const reviewResponse = await authFetch('/api/posts?type=DONATION_REVIEW&page=0&size=100')
       if (reviewResponse.ok) {
         const reviewData = await reviewResponse.json()
         const reviewPosts = (reviewData.content || []).map(post => ({
@@ -94,7 +95,7 @@ export default function BoardPage({
       }
 
       // 요청 게시판 목록 (ORGAN_REQUEST 타입만, 모든 기관의 게시물)
-      const requestResponse = await fetch('/api/posts?type=ORGAN_REQUEST&page=0&size=100', {
+      const requestResponse = await authFetch('/api/posts?type=ORGAN_REQUEST&page=0&size=100', {
         credentials: 'include'
       })
       if (requestResponse.ok) {
@@ -1,6 +1,7 @@
 import { useEffect, useState } from 'react'
 import HeaderLanding from '../components/HeaderLanding'
 import '../styles/board-write.css'
+import { authFetch } from '../utils/authFetch'
 
 export default function BoardWritePage({
   onNavigateHome = () => {},
@@ -108,7 +109,7 @@ export default function BoardWritePage({
         }
       }
       
-      const response = await fetch('/api/posts', {
+      const response = await authFetch('/api/posts', {
         method: 'POST',
         headers: {
           'Content-Type': 'application/json'
@@ -214,7 +215,7 @@ export default function BoardWritePage({
         formData.append('files', file)
       })
 
-      const response = await fetch('/api/upload/multiple', {
+      const response = await authFetch('/api/upload/multiple', {
         method: 'POST',
         credentials: 'include',
         body: formData
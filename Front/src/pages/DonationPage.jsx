@@ -1,6 +1,37 @@
 import { useEffect, useState } from 'react'
 import HeaderLanding from '../components/HeaderLanding'
 import { formatPhoneNumber, stripPhoneNumber } from '../utils/phone'
+import { authFetch } from '../utils/authFetch'
+
+// 저장소 직접 업로드 (원격 저장소를 쓰는 서버에서만 지원)
+// 지원하지 않거나 실패하면 null을 반환하여 multipart 전송으로 대체
+async function uploadDirect(files) {
+  const urls = []
+  for (const file of files) {
+    const presignResponse = await authFetch(
+      `/api/upload/presign?contentType=${encodeURIComponent(file.type)}&size=${file.size}`,
+      { method: 'POST', credentials: 'include' }
+    )
+    if (!presignResponse.ok) return null
+    const presign = await presignResponse.json()
+    if (!presign.supported) return null
+
+    const putResponse = await fetch(presign.uploadUrl, {
+      method: presign.method,
+      headers: presign.headers,
+      body: file
+    })
+    if (!putResponse.ok) return null
+
+    const completeResponse = await authFetch(
+      `/api/upload/presign/complete?filename=${encodeURIComponent(presign.filename)}`,
+      { method: 'POST', credentials: 'include' }
+    )
+    if (!completeResponse.ok) return null
+    urls.push(presign.url)
+  }
+  return urls
+}
 
 const ITEM_CATEGORIES = [
   '남성 의류',
@@ -70,7 +101,7 @@ export default function DonationPage({
   useEffect(() => {
     const fetchOrganizations = async () => {
       try {
-        const response = await fetch('/api/organs', {
+        const response = await authFetch('/api/organs', {
           method: 'GET',
           headers: {
             'Content-Type': 'application/json',
@@ -159,33 +190,6 @@ export default function DonationPage({
     }
   }
 
-  // 이미지 파일 업로드 API 호출
-  const uploadImages = async (files) => {
-    try {
-      const formData = new FormData()
-      files.forEach(file => {
-        formData.append('files', file)
-      })
-
-      const response = await fetch('/api/upload/multiple', {
-        method: 'POST',
-        credentials: 'include',
-        body: formData
-      })
-
-      if (!response.ok) {
-        const errorData = await response.json()
-        throw new Error(errorData.message || '이미지 업로드에 실패했습니다.')
-      }
-
-      const result = await response.json()
-      return result.files || []
-    } catch (error) {
-      console.error('이미지 업로드 실패:', error)
-      throw error
-    }
-  }
-
   const validateForm = () => {
     const newErrors = {}
 
@@ -289,18 +293,26 @@ export default function DonationPage({
     try {
       const formattedContact = formatPhoneNumber(contact)
       
-      // 이미지 파일 업로드
-      let imageUrls = []
-      const filesToUpload = images
+      // 이미지 파일은 기부 신청과 함께 multipart로 전송
+      let filesToUpload = images
         .map(img => img.file)
         .filter(file => file != null)
-      
+      // 파일이 없는 이미지는 기존 Base64 방식 사용 (하위 호환성)
+      const imageUrls = images
+        .filter(img => img.file == null)
+        .map(img => img.dataUrl || img)
+
+      // 원격 저장소를 쓰면 파일을 저장소에 직접 올리고 파일 URL만 전송
       if (filesToUpload.length > 0) {
-        const uploadedFiles = await uploadImages(filesToUpload)
-        imageUrls = uploadedFiles.map(file => file.url || file.dataUrl)
-      } else {
-        // 파일이 없으면 기존 Base64 방식 사용 (하위 호환성)
-        imageUrls = images.map(img => img.dataUrl || img)
+        try {
+          const directUrls = await uploadDirect(filesToUpload)
+          if (directUrls) {
+            imageUrls.push(...directUrls)
+            filesToUpload = []
+          }
+        } catch (error) {
+          console.warn('직접 업로드 실패 - multipart로 전송합니다.', error)
+        }
       }
       
       // 기부 신청 데이터 준비
@@ -349,15 +361,27 @@ export default function DonationPage({
       
       console.log('전송할 requestData:', requestData)
 
-      // REST API 호출
-      const response = await fetch('/api/donations', {
-        method: 'POST',
-        headers: {
-          'Content-Type': 'application/json'
-        },
-        credentials: 'include', // 세션 쿠키 포함
-        body: JSON.stringify(requestData)
-      })
+      // REST API 호출 (이미지 파일이 있으면 multipart/form-data)
+      let requestInit
+      if (filesToUpload.length > 0) {
+        const formData = new FormData()
+        formData.append(
+          'donation',
+          new Blob([JSON.stringify(requestData)], { type: 'application/json' })
+        )
+        filesToUpload.forEach(file => formData.append('files', file))
+        requestInit = { method: 'POST', credentials: 'include', body: formData }
+      } else {
+        requestInit = {
+          method: 'POST',
+          headers: {
+            'Content-Type': 'application/json'
+          },
+          credentials: 'include', // 세션 쿠키 포함
+          body: JSON.stringify(requestData)
+        }
+      }
+      const response = await authFetch('/api/donations', requestInit)
 
       if (!response.ok) {
         let errorMessage = '기부 신청에 실패했습니다.'
@@ -3,6 +3,7 @@ import HeaderLanding from '../components/HeaderLanding'
 import jsPDF from 'jspdf'
 import 'jspdf-autotable'
 import { loadKoreanFont } from '../utils/koreanFont'
+import { authFetch } from '../utils/authFetch'
 
 export default function DonationStatusPage({
   onNavigateHome,
@@ -64,7 +65,7 @@ export default function DonationStatusPage({
         setError(null)
         console.log('기부 상태 조회 시작...')
         
-        const response = await fetch('/api/donations/status', {
+        const response = await authFetch('/api/donations/status', {
           method: 'GET',
           headers: {
             'Content-Type': 'application/json'
@@ -238,7 +239,7 @@ export default function DonationStatusPage({
     if (!confirmed) return
 
     try {
-      const response = await fetch(`/api/donations/${itemId}/cancel`, {
+      const response = await authFetch(`/api/donations/${itemId}/cancel`, {
         method: 'PUT',
         headers: {
           'Content-Type': 'application/json'
@@ -251,7 +252,7 @@ export default function DonationStatusPage({
       if (result.success) {
         window.alert('기부 신청이 취소되었습니다.')
         // 데이터 새로고침
-        const refreshResponse = await fetch('/api/donations/status', {
+        const refreshResponse = await authFetch('/api/donations/status', {
           method: 'GET',
           headers: {
             'Content-Type': 'application/json'
@@ -321,7 +322,7 @@ export default function DonationStatusPage({
 
     try {
       setDeliveryLoading(true)
-      const response = await fetch(`/api/deliveries/${deliveryId}`, {
+      const response = await authFetch(`/api/deliveries/${deliveryId}`, {
         method: 'GET',
         headers: {
           'Content-Type': 'application/json',
@@ -354,7 +355,7 @@ export default function DonationStatusPage({
 
     try {
       setDetailLoading(true)
-      const response = await fetch(`/api/donations/${itemId}`, {
+      const response = await authFetch(`/api/donations/${itemId}`, {
         method: 'GET',
         headers: {
           'Content-Type': 'application/json'
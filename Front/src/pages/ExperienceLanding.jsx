@@ -1,6 +1,7 @@
 import { useEffect, useState } from 'react'
 import HeaderLanding from '../components/HeaderLanding'
 import { getNavLinksForRole } from '../constants/landingData'
+import { authFetch } from '../utils/authFetch'
 
 export default function ExperienceLanding({
   onLogin = () => {},
@@ -26,7 +27,7 @@ export default function ExperienceLanding({
       // sessionStorage에 사용자 정보가 있으면 백엔드에서 최신 정보 가져오기
       if (typeof window !== 'undefined' && window.sessionStorage.getItem('rewearUser')) {
         try {
-          const response = await fetch('/api/users/me', {
+          const response = await authFetch('/api/users/me', {
             method: 'GET',
             headers: {
               'Content-Type': 'application/json',
@@ -64,7 +65,7 @@ export default function ExperienceLanding({
   useEffect(() => {
     const fetchStatistics = async () => {
       try {
-        const response = await fetch('/api/statistics/public', {
+        const response = await authFetch('/api/statistics/public', {
           method: 'GET',
           headers: {
             'Content-Type': 'application/json',
@@ -1,5 +1,6 @@
 import { useState, useEffect } from 'react'
 import HeaderLanding from '../components/HeaderLanding'
+import { authFetch } from '../utils/authFetch'
 
 export default function FaqPage({
   onNavLink,
@@ -28,7 +29,7 @@ export default function FaqPage({
       setLoading(true)
       try {
         console.log('FAQ 목록 조회 시작...')
-        const response = await fetch('/api/faq', {
+        const response = await authFetch('/api/faq', {
           credentials: 'include'
         })
         
@@ -83,7 +84,7 @@ export default function FaqPage({
     }
 
     try {
-      const response = await fetch('/api/faq/question', {
+      const response = await authFetch('/api/faq/question', {
         method: 'POST',
         headers: {
           'Content-Type': 'application/json'
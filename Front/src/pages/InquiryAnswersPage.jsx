@@ -1,5 +1,6 @@
 import { useState, useEffect } from 'react'
 import HeaderLanding from '../components/HeaderLanding'
+import { authFetch } from '../utils/authFetch'
 
 export default function InquiryAnswersPage({
   onNavigateHome,
@@ -26,7 +27,7 @@ export default function InquiryAnswersPage({
 
       setLoading(true)
       try {
-        const response = await fetch('/api/faq/my-questions', {
+        const response = await authFetch('/api/faq/my-questions', {
           credentials: 'include'
         })
         
@@ -1,6 +1,7 @@
 import { useEffect, useState } from 'react'
 import { formatPhoneNumber, stripPhoneNumber } from '../utils/phone'
 import Logo from '../components/Logo'
+import { authFetch } from '../utils/authFetch'
 
 export default function MyPage({
   user,
@@ -147,7 +148,7 @@ export default function MyPage({
     setWithdrawVerification(prev => ({ ...prev, isSending: true, message: '' }))
 
     try {
-      const response = await fetch('/api/users/me/withdraw/send-verification', {
+      const response = await authFetch('/api/users/me/withdraw/send-verification', {
         method: 'POST',
         headers: {
           'Content-Type': 'application/json',
@@ -190,7 +191,7 @@ export default function MyPage({
     }
 
     try {
-      const response = await fetch('/api/users/me/withdraw/verify', {
+      const response = await authFetch('/api/users/me/withdraw/verify', {
         method: 'POST',
         headers: {
           'Content-Type': 'application/json',
@@ -266,7 +267,7 @@ export default function MyPage({
     setEmailVerification(prev => ({ ...prev, isSending: true, message: '' }))
 
     try {
-      const response = await fetch('/api/users/me/email/send-verification', {
+      const response = await authFetch('/api/users/me/email/send-verification', {
         method: 'POST',
         headers: {
           'Content-Type': 'application/json',
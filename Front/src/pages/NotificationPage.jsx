@@ -1,5 +1,6 @@
 import { useState, useEffect } from 'react'
 import Logo from '../components/Logo'
+import { authFetch } from '../utils/authFetch'
 
 const ICONS = {
   alert: '⚠️',
@@ -17,13 +18,22 @@ export default function NotificationPage({
   const [notifications, setNotifications] = useState([])
   const [loading, setLoading] = useState(true)
   const [error, setError] = useState(null)
+  const [nextCursor, setNextCursor] = useState(null)
+  const [loadingMore, setLoadingMore] = useState(false)
 
-  // 알림 목록 조회
-  const fetchNotifications = async () => {
+  // 알림 목록 조회 (cursor가 있으면 다음 페이지를 이어서 조회)
+  const fetchNotifications = async (cursor = null) => {
     try {
-      setLoading(true)
+      if (cursor) {
+        setLoadingMore(true)
+      } else {
+        setLoading(true)
+      }
       setError(null)
-      const response = await fetch('/api/notifications', {
+      const url = cursor
+        ? `/api/notifications?cursor=${encodeURIComponent(cursor)}`
+        : '/api/notifications'
+      const response = await authFetch(url, {
         method: 'GET',
         headers: {
           'Content-Type': 'application/json',
@@ -52,7 +62,8 @@ export default function NotificationPage({
         relatedType: notif.relatedType
       }))
 
-      setNotifications(notificationList)
+      setNotifications(prev => (cursor ? [...prev, ...notificationList] : notificationList))
+      setNextCursor(data.hasNext ? data.nextCursor : null)
       
       // 읽지 않은 알림 개수 변경 콜백 호출
       if (onUnreadCountChange && data.unreadCount !== undefined) {
@@ -61,9 +72,12 @@ export default function NotificationPage({
     } catch (err) {
       console.error('알림 목록 조회 실패:', err)
       setError(err.message)
-      setNotifications([])
+      if (!cursor) {
+        setNotifications([])
+      }
     } finally {
       setLoading(false)
+      setLoadingMore(false)
     }
   }
 
@@ -74,7 +88,7 @@ export default function NotificationPage({
   // 개별 알림 읽음 처리
   const handleMarkRead = async (notificationId) => {
     try {
-      const response = await fetch(`/api/notifications/${notificationId}/read`, {
+      const response = await authFetch(`/api/notifications/${notificationId}/read`, {
         method: 'POST',
         headers: {
           'Content-Type': 'application/json',
@@ -108,7 +122,7 @@ export default function NotificationPage({
   // 전체 알림 읽음 처리
   const handleMarkAllRead = async () => {
     try {
-      const response = await fetch('/api/notifications/read-all', {
+      const response = await authFetch('/api/notifications/read-all', {
         method: 'POST',
         headers: {
           'Content-Type': 'application/json',
@@ -199,6 +213,26 @@ export default function NotificationPage({
               )}
             </ul>
           )}
+          {!loading && !error && nextCursor && (
+            <button
+              type="button"
+              onClick={() => fetchNotifications(nextCursor)}
+              disabled={loadingMore}
+              style={{
+                display: 'block',
+                margin: '1rem auto 0',
+                padding: '0.5rem 1rem',
+                background: 'white',
+                color: '#2f261c',
+                border: '1px solid #2f261c',
+                borderRadius: '4px',
+                cursor: loadingMore ? 'not-allowed' : 'pointer',
+                fontSize: '14px'
+              }}
+            >
+              {loadingMore ? '불러오는 중...' : '이전 알림 더 보기'}
+            </button>
+          )}
         </div>
       </div>
     </div>
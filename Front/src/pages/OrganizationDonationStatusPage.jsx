@@ -1,5 +1,30 @@
 import { useMemo, useState, useEffect } from 'react'
 import HeaderLanding from '../components/HeaderLanding'
+import { authFetch } from '../utils/authFetch'
+
+// 기관 기부 목록은 페이지 단위(page/size)로 내려오므로 마지막 페이지까지 이어서 조회
+const PAGE_SIZE = 200
+
+async function fetchAllDonationPages(url) {
+  const donations = []
+  for (let page = 0; ; page++) {
+    const response = await authFetch(`${url}?page=${page}&size=${PAGE_SIZE}`, {
+      method: 'GET',
+      headers: {
+        'Content-Type': 'application/json'
+      },
+      credentials: 'include'
+    })
+    if (!response.ok) {
+      return page === 0 ? null : donations
+    }
+    const data = await response.json()
+    donations.push(...(data.donations || []))
+    if (page + 1 >= (data.totalPages || 0)) {
+      return donations
+    }
+  }
+}
 
 export default function OrganizationDonationStatusPage({
   onNavigateHome,
@@ -63,22 +88,11 @@ export default function OrganizationDonationStatusPage({
         setLoading(true)
         setError(null)
         
-        const response = await fetch('/api/organs/donations', {
-          method: 'GET',
-          headers: {
-            'Content-Type': 'application/json'
-          },
-          credentials: 'include'
-        })
-        
-        if (!response.ok) {
+        const donations = await fetchAllDonationPages('/api/organs/donations')
+        if (!donations) {
           throw new Error('기부 목록 조회에 실패했습니다.')
         }
-        
-        const data = await response.json()
-        if (data.donations) {
-          setApiDonations(data.donations)
-        }
+        setApiDonations(donations)
       } catch (err) {
         console.error('기부 목록 조회 오류:', err)
         setError(err.message)
@@ -96,22 +110,11 @@ export default function OrganizationDonationStatusPage({
       try {
         setLoadingCompleted(true)
         
-        const response = await fetch('/api/organs/donations/completed', {
-          method: 'GET',
-          headers: {
-            'Content-Type': 'application/json'
-          },
-          credentials: 'include'
-        })
-        
-        if (!response.ok) {
+        const donations = await fetchAllDonationPages('/api/organs/donations/completed')
+        if (!donations) {
           throw new Error('완료된 기부 목록 조회에 실패했습니다.')
         }
-        
-        const data = await response.json()
-        if (data.donations) {
-          setCompletedDonations(data.donations)
-        }
+        setCompletedDonations(donations)
       } catch (err) {
         console.error('완료된 기부 목록 조회 오류:', err)
       } finally {
@@ -290,7 +293,7 @@ export default function OrganizationDonationStatusPage({
 
   const handleApproveDonation = async (donationId) => {
     try {
-      const response = await fetch(`/api/organs/donations/${donationId}/approve`, {
+      const response = await authFetch(`/api/organs/donations/${donationId}/approve`, {
         method: 'POST',
         headers: {
           'Content-Type': 'application/json'
@@ -306,35 +309,15 @@ export default function OrganizationDonationStatusPage({
       }
 
       // 목록 새로고침
-      const refreshResponse = await fetch('/api/organs/donations', {
-        method: 'GET',
-        headers: {
-          'Content-Type': 'application/json'
-        },
-        credentials: 'include'
-      })
-
-      if (refreshResponse.ok) {
-        const refreshData = await refreshResponse.json()
-        if (refreshData.donations) {
-          setApiDonations(refreshData.donations)
-        }
+      const refreshedDonations = await fetchAllDonationPages('/api/organs/donations')
+      if (refreshedDonations) {
+        setApiDonations(refreshedDonations)
       }
 
       // 완료된 기부 목록도 새로고침
-      const completedResponse = await fetch('/api/organs/donations/completed', {
-        method: 'GET',
-        headers: {
-          'Content-Type': 'application/json'
-        },
-        credentials: 'include'
-      })
-
-      if (completedResponse.ok) {
-        const completedData = await completedResponse.json()
-        if (completedData.donations) {
-          setCompletedDonations(completedData.donations)
-        }
+      const refreshedCompleted = await fetchAllDonationPages('/api/organs/donations/completed')
+      if (refreshedCompleted) {
+        setCompletedDonations(refreshedCompleted)
       }
 
       alert(result.message || '기부를 승인했습니다.')
@@ -352,7 +335,7 @@ export default function OrganizationDonationStatusPage({
     if (invite && invite.itemId) {
       // API 기반 invite 처리
       try {
-        const response = await fetch(`/api/organs/donations/${invite.itemId}/reject`, {
+        const response = await authFetch(`/api/organs/donations/${invite.itemId}/reject`, {
           method: 'POST',
           headers: {
             'Content-Type': 'application/json'
@@ -370,19 +353,9 @@ export default function OrganizationDonationStatusPage({
         }
 
         // 목록 새로고침
-        const refreshResponse = await fetch('/api/organs/donations', {
-          method: 'GET',
-          headers: {
-            'Content-Type': 'application/json'
-          },
-          credentials: 'include'
-        })
-
-        if (refreshResponse.ok) {
-          const refreshData = await refreshResponse.json()
-          if (refreshData.donations) {
-            setApiDonations(refreshData.donations)
-          }
+        const refreshedDonations = await fetchAllDonationPages('/api/organs/donations')
+        if (refreshedDonations) {
+          setApiDonations(refreshedDonations)
         }
 
         alert(result.message || '기부를 거부했습니다.')
@@ -419,7 +392,7 @@ export default function OrganizationDonationStatusPage({
 
     try {
       setDeliveryLoading(true)
-      const response = await fetch(`/api/deliveries/${deliveryId}`, {
+      const response = await authFetch(`/api/deliveries/${deliveryId}`, {
         method: 'GET',
         headers: {
           'Content-Type': 'application/json',
@@ -674,7 +647,7 @@ export default function OrganizationDonationStatusPage({
                                       })
                                     }
                                   >
-                                    <img src={img.dataUrl || img.url || img} alt="기부 물품" />
+                                    <img src={img.thumbnailUrl || img.dataUrl || img.url || img} alt="기부 물품" />
                                   </button>
                                 ))}
                               </div>
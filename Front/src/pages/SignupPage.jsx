@@ -1,6 +1,7 @@
 import { useEffect, useMemo, useState } from 'react'
 import HeaderLanding from '../components/HeaderLanding'
 import { getNavLinksForRole, membershipOptions, membershipForms } from '../constants/landingData'
+import { authFetch } from '../utils/authFetch'
 
 const EyeIcon = ({ crossed = false }) => (
   <svg viewBox="0 0 24 24" aria-hidden="true">
@@ -101,7 +102,7 @@ export default function SignupPage({
     }
     
     try {
-      const response = await fetch('/api/auth/send-verification', {
+      const response = await authFetch('/api/auth/send-verification', {
         method: 'POST',
         headers: {
           'Content-Type': 'application/json',
@@ -140,7 +141,7 @@ export default function SignupPage({
     }
     
     try {
-      const response = await fetch('/api/auth/verify-code', {
+      const response = await authFetch('/api/auth/verify-code', {
         method: 'POST',
         headers: {
           'Content-Type': 'application/json',
@@ -1,5 +1,6 @@
 import { useEffect, useMemo, useRef, useState } from 'react'
 import Logo from '../components/Logo'
+import { authFetch } from '../utils/authFetch'
 
 const CODE_LENGTH = 6
 
@@ -99,7 +100,7 @@ export default function VerificationPage({
       let response
       if (context.type === 'id') {
         // 아이디 찾기 인증
-        response = await fetch('/api/users/find-id/verify', {
+        response = await authFetch('/api/users/find-id/verify', {
           method: 'POST',
           headers: {
             'Content-Type': 'application/json',
@@ -113,7 +114,7 @@ export default function VerificationPage({
         })
       } else if (context.type === 'password') {
         // 비밀번호 찾기 인증 (인증 코드만 확인)
-        response = await fetch('/api/auth/verify-code', {
+        response = await authFetch('/api/auth/verify-code', {
           method: 'POST',
           headers: {
             'Content-Type': 'application/json',
@@ -126,7 +127,7 @@ export default function VerificationPage({
         })
       } else {
         // 기존 방식 (회원가입 등)
-        response = await fetch('/api/auth/verify-code', {
+        response = await authFetch('/api/auth/verify-code', {
           method: 'POST',
           headers: {
             'Content-Type': 'application/json',
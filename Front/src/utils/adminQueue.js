@@ -0,0 +1,14 @@
+// 관리자 기부 큐(/api/admin/donations/...)는 커서 페이지 단위로 응답함
+// 응답의 hasNext가 true이면 nextCursor를 다음 요청의 cursor로 넘겨 이어서 조회
+
+export const ADMIN_QUEUE_PAGE_SIZE = 50
+
+export const adminQueueUrl = (endpoint, cursor = null) => {
+  const params = new URLSearchParams({ size: String(ADMIN_QUEUE_PAGE_SIZE) })
+  if (cursor) {
+    params.set('cursor', cursor)
+  }
+  return `${endpoint}?${params}`
+}
+
+export const nextQueueCursor = data => (data.hasNext ? data.nextCursor : null)
@@ -0,0 +1,45 @@
+// 토큰 인증 모드(app.auth.jwt.enabled)에서 access 토큰이 만료되어 API가 401을 반환하면
+// refresh 토큰 쿠키로 한 번 재발급한 뒤 원래 요청을 다시 보냄 (세션 모드에서는 재발급 요청이 실패하여 그대로 401 반환)
+// 전역 fetch는 바꾸지 않으므로 API 호출부에서 fetch 대신 authFetch를 사용
+
+const REFRESH_URL = '/api/auth/token/refresh'
+
+let refreshing = null
+
+const isRetryable = (input, init) => {
+  // Request 객체나 스트림 본문은 한 번 읽으면 다시 보낼 수 없으므로 재시도하지 않음
+  if (typeof input !== 'string' && !(input instanceof URL)) {
+    return false
+  }
+  if (typeof ReadableStream !== 'undefined' && init?.body instanceof ReadableStream) {
+    return false
+  }
+  const path = new URL(String(input), window.location.origin).pathname
+  return path.startsWith('/api/') && !path.startsWith('/api/auth/') && path !== '/api/users/login'
+}
+
+// access 토큰 재발급 (재발급되었으면 true) - fetch를 거치지 않는 EventSource 재연결 전에도 사용
+export const refreshTokens = () => {
+  // 동시에 여러 요청이 401을 받아도 재발급은 한 번만
+  if (!refreshing) {
+    refreshing = fetch(REFRESH_URL, { method: 'POST', credentials: 'include' })
+      .then(res => res.ok)
+      .catch(() => false)
+      .finally(() => {
+        refreshing = null
+      })
+  }
+  return refreshing
+}
+
+export const authFetch = async (input, init) => {
+  const response = await fetch(input, init)
+  if (response.status !== 401 || !isRetryable(input, init)) {
+    return response
+  }
+  const refreshed = await refreshTokens()
+  return refreshed ? fetch(input, init) : response
+}
+
+export const revokeTokens = () =>
+  fetch('/api/auth/token/revoke', { method: 'POST', credentials: 'include' }).catch(() => {})